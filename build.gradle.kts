@@ -1,4 +1,7 @@
+import java.awt.RenderingHints
+import java.awt.image.BufferedImage
 import java.io.File
+import javax.imageio.ImageIO
 
 // Constante centralizada para a versão da aplicação
 val appVersion = "1.4.0"
@@ -67,6 +70,7 @@ dependencies {
     //micrometer e blockhound
     implementation(platform("io.micrometer:micrometer-bom:1.15.2"))
     implementation("io.micrometer:micrometer-observation")
+    implementation("io.micrometer:micrometer-core") // métricas exportadas pelo MetricsFileExporter
     implementation("io.micrometer:context-propagation:1.1.3") // substitui micrometer-context
     implementation("io.projectreactor.tools:blockhound:1.0.9.RELEASE") // versão compatível
     implementation("com.fasterxml:classmate:1.5.1")
@@ -157,6 +161,101 @@ tasks.getByName<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar
     archiveClassifier.set("app")
 }
 
+// Atlas de ícones (opcional): junta todos os emoji em uma única imagem, lida pelo IconAtlas.
+// Habilitado com -PiconAtlas=true; sem ele, os ícones continuam sendo lidos um arquivo por vez.
+val iconAtlasDir = layout.buildDirectory.dir("generated/icon-atlas")
+
+tasks.register("generateIconAtlas") {
+    description = "Gera o atlas de sprites com todos os ícones emoji"
+    val emojiDir = file("src/main/resources/icons/emoji")
+    val iconList = file("src/main/resources/icon_list.txt")
+    inputs.dir(emojiDir)
+    inputs.file(iconList)
+    outputs.dir(iconAtlasDir)
+
+    doLast {
+        val cellSize = 32
+        val columns = 64
+        val codes = iconList.readLines().map { it.trim() }
+            .filter { it.isNotEmpty() && File(emojiDir, "$it.png").exists() }
+        val rows = (codes.size + columns - 1) / columns
+        val atlas = BufferedImage(columns * cellSize, maxOf(rows, 1) * cellSize,
+            BufferedImage.TYPE_INT_ARGB)
+        val graphics = atlas.createGraphics()
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+            RenderingHints.VALUE_INTERPOLATION_BICUBIC)
+        val index = StringBuilder("# codigo x y largura altura\n")
+        codes.forEachIndexed { i, code ->
+            val x = (i % columns) * cellSize
+            val y = (i / columns) * cellSize
+            val icon = ImageIO.read(File(emojiDir, "$code.png"))
+            graphics.drawImage(icon, x, y, cellSize, cellSize, null)
+            index.append("$code $x $y $cellSize $cellSize\n")
+        }
+        graphics.dispose()
+
+        val outputDir = iconAtlasDir.get().dir("icons").asFile
+        outputDir.mkdirs()
+        ImageIO.write(atlas, "png", File(outputDir, "emoji-atlas.png"))
+        File(outputDir, "emoji-atlas.txt").writeText(index.toString())
+    }
+}
+
+if (project.findProperty("iconAtlas") == "true") {
+    tasks.processResources {
+        dependsOn("generateIconAtlas")
+        from(iconAtlasDir)
+    }
+}
+
+// Benchmarks JMH (src/jmh/java), fora do build normal. Executar com: ./gradlew jmh
+// Opcional: -PjmhInclude=<regex> filtra os benchmarks; -PjmhArgs="..." repassa opções ao JMH.
+// Os resultados ficam em build/reports/jmh/results.json, para comparar versões.
+val jmhVersion = "1.37"
+
+val jmhSourceSet = sourceSets.create("jmh") {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations.named(jmhSourceSet.implementationConfigurationName) {
+    extendsFrom(configurations.implementation.get())
+}
+configurations.named(jmhSourceSet.runtimeOnlyConfigurationName) {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Executa os benchmarks JMH e grava os resultados em JSON"
+    group = "verification"
+    classpath = jmhSourceSet.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    // Os forks do JMH herdam os argumentos desta JVM; o log INFO no console dominaria as medições
+    jvmArgs("-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+    args("-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+    (project.findProperty("jmhArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+    (project.findProperty("jmhInclude") as String?)?.let { args(it) }
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+}
+
+tasks.register<JavaExec>("generateWorkload") {
+    description = "Gera uma base sintética grande (ex.: -PworkloadArgs=\"--home=/tmp/carga --profile=large\")"
+    group = "application"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.desviante.WorkloadGeneratorApplication")
+    (project.findProperty("workloadArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
+
 // Configuração de testes cross-platform
 tasks.withType<Test> {
     useJUnitPlatform()
@@ -0,0 +1,142 @@
+package org.desviante.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.desviante.util.SyntheticWorkloadGenerator;
+import org.desviante.util.WorkloadProfile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Banco H2 em memória com o schema da aplicação e dados para os benchmarks.
+ *
+ * <p>Cada instância cria um banco próprio a partir do {@code schema.sql},
+ * preenchido pelo {@link SyntheticWorkloadGenerator} com a quantidade de quadros
+ * e cards da {@link Scale} escolhida. Cada quadro tem as três colunas padrão,
+ * os cards têm datas de agendamento e vencimento, checklists e eventos de
+ * calendário, e a semente fixa garante a mesma base em todas as execuções.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    /**
+     * Escalas de dados usadas nos benchmarks.
+     */
+    public enum Scale {
+        /** 10 quadros, 1.000 cards. */
+        SMALL(10, 1_000),
+        /** 100 quadros, 10.000 cards. */
+        MEDIUM(100, 10_000),
+        /** 1.000 quadros, 100.000 cards. */
+        LARGE(1_000, 100_000);
+
+        private final int boards;
+        private final int cards;
+
+        Scale(int boards, int cards) {
+            this.boards = boards;
+            this.cards = cards;
+        }
+
+        public int boards() {
+            return boards;
+        }
+
+        public int cards() {
+            return cards;
+        }
+
+        /**
+         * Perfil de carga da escala, com os cards divididos igualmente entre os
+         * quadros para que os resultados de escalas diferentes sejam comparáveis.
+         *
+         * @return perfil usado pelo {@link SyntheticWorkloadGenerator}
+         */
+        public WorkloadProfile profile() {
+            return WorkloadProfile.builder()
+                    .boardGroups(Math.max(1, boards / 10))
+                    .boards(boards)
+                    .cards(cards)
+                    .boardSizeSkew(0)
+                    .build();
+        }
+    }
+
+    private final HikariDataSource dataSource;
+    private final List<Long> boardIds;
+    private final List<List<Long>> columnIdsByBoard;
+
+    private BenchmarkDatabase(HikariDataSource dataSource, List<Long> boardIds, List<List<Long>> columnIdsByBoard) {
+        this.dataSource = dataSource;
+        this.boardIds = boardIds;
+        this.columnIdsByBoard = columnIdsByBoard;
+    }
+
+    /**
+     * Cria e popula um banco na escala informada.
+     *
+     * @param scale quantidade de quadros e cards
+     * @return banco pronto para uso
+     */
+    public static BenchmarkDatabase create(Scale scale) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=LEGACY");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        HikariDataSource dataSource = new HikariDataSource(config);
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // O schema cria um quadro de exemplo; os benchmarks usam apenas os quadros gerados
+        jdbc.update("DELETE FROM boards");
+
+        new SyntheticWorkloadGenerator(dataSource).generate(scale.profile());
+        List<Long> boardIds = jdbc.queryForList("SELECT id FROM boards ORDER BY id", Long.class);
+        List<List<Long>> columnIdsByBoard = new ArrayList<>();
+        for (Long boardId : boardIds) {
+            columnIdsByBoard.add(jdbc.queryForList(
+                    "SELECT id FROM board_columns WHERE board_id = ? ORDER BY order_index", Long.class, boardId));
+        }
+
+        return new BenchmarkDatabase(dataSource, boardIds, columnIdsByBoard);
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return IDs dos quadros gerados, em ordem de criação
+     */
+    public List<Long> boardIds() {
+        return boardIds;
+    }
+
+    /**
+     * @param boardIndex posição do quadro em {@link #boardIds()}
+     * @return IDs das colunas do quadro, em ordem
+     */
+    public List<Long> columnIds(int boardIndex) {
+        return columnIdsByBoard.get(boardIndex);
+    }
+
+    @Override
+    public void close() {
+        // DB_CLOSE_DELAY=-1 mantém o banco em memória até um SHUTDOWN explícito
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        dataSource.close();
+    }
+}
@@ -0,0 +1,111 @@
+package org.desviante.benchmark;
+
+import org.desviante.model.Card;
+import org.desviante.repository.CardRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das operações mais usadas do {@link CardRepository}.
+ *
+ * <ul>
+ *   <li>{@code findByBoardColumnIdIn}: cards de todas as colunas de um quadro,
+ *       como na abertura do quadro</li>
+ *   <li>{@code save}: inserção de um card novo e atualização de um existente</li>
+ *   <li>{@code swapCardPositions}: troca de posição de dois cards na coluna</li>
+ * </ul>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see BenchmarkDatabase
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardRepositoryBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkDatabase.Scale scale;
+
+    private BenchmarkDatabase database;
+    private CardRepository cardRepository;
+    private List<Long> columnIds;
+    private Card existingCard;
+    private Card firstCard;
+    private Card secondCard;
+    private boolean swapped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create(scale);
+        cardRepository = new CardRepository(database.dataSource());
+        columnIds = database.columnIds(0);
+        List<Card> cards = cardRepository.findByBoardColumnIdIn(List.of(columnIds.get(0)));
+        firstCard = cards.get(0);
+        secondCard = cards.get(1);
+        existingCard = cards.get(cards.size() - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Card> findByBoardColumnIdIn() {
+        return cardRepository.findByBoardColumnIdIn(columnIds);
+    }
+
+    @Benchmark
+    public Card saveNewCard() {
+        LocalDateTime now = LocalDateTime.now();
+        Card card = Card.builder()
+                .title("Card do benchmark")
+                .description("Inserido pelo benchmark")
+                .creationDate(now)
+                .lastUpdateDate(now)
+                .boardColumnId(columnIds.get(0))
+                .cardTypeId(1L)
+                .orderIndex(Integer.MAX_VALUE / 2)
+                .build();
+        return cardRepository.save(card);
+    }
+
+    @Benchmark
+    public Card updateExistingCard() {
+        existingCard.setLastUpdateDate(LocalDateTime.now());
+        return cardRepository.save(existingCard);
+    }
+
+    @Benchmark
+    public void swapCardPositions() {
+        // Alterna entre as posições originais e trocadas, mantendo a coluna estável
+        swapped = !swapped;
+        int first = firstCard.getOrderIndex();
+        int second = secondCard.getOrderIndex();
+        if (swapped) {
+            cardRepository.swapCardPositions(firstCard.getId(), second, secondCard.getId(), first);
+        } else {
+            cardRepository.swapCardPositions(firstCard.getId(), first, secondCard.getId(), second);
+        }
+    }
+}
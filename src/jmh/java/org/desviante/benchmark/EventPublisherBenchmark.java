@@ -0,0 +1,89 @@
+package org.desviante.benchmark;
+
+import org.desviante.integration.event.DomainEvent;
+import org.desviante.integration.event.EventObserver;
+import org.desviante.integration.event.SimpleEventPublisher;
+import org.desviante.integration.event.card.CardScheduledEvent;
+import org.desviante.model.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do custo de despacho do {@link SimpleEventPublisher} no modo síncrono.
+ *
+ * <p>Os observadores apenas consomem o evento, de modo que o resultado mede a
+ * seleção dos observadores compatíveis e a chamada dos handlers, em função da
+ * quantidade de observadores inscritos.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPublisherBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int observers;
+
+    private SimpleEventPublisher publisher;
+    private CardScheduledEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        publisher = new SimpleEventPublisher();
+        for (int i = 0; i < observers; i++) {
+            String name = "Observador" + i;
+            int priority = i;
+            publisher.subscribe(new EventObserver<CardScheduledEvent>() {
+                @Override
+                public void handle(CardScheduledEvent event) {
+                    blackhole.consume(event);
+                }
+
+                @Override
+                public boolean canHandle(DomainEvent event) {
+                    return event instanceof CardScheduledEvent;
+                }
+
+                @Override
+                public int getPriority() {
+                    return priority;
+                }
+
+                @Override
+                public String getObserverName() {
+                    return name;
+                }
+            });
+        }
+        Card card = Card.builder().id(1L).title("Card do benchmark").build();
+        event = CardScheduledEvent.builder()
+                .card(card)
+                .scheduledDate(LocalDateTime.of(2025, 6, 10, 9, 0))
+                .build();
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(event);
+    }
+}
@@ -0,0 +1,44 @@
+package org.desviante.benchmark;
+
+import org.desviante.util.IconSearchMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da busca de ícones usada no seletor de ícones.
+ *
+ * <p>Os termos vão de um prefixo curto, que corresponde a muitos ícones, a
+ * termos longos e sem correspondência.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconSearchMapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IconSearchBenchmark {
+
+    @Param({"a", "livro", "coracao vermelho", "1f4bb", "termoinexistente"})
+    private String searchTerm;
+
+    @Benchmark
+    public List<String> searchIcons() {
+        return IconSearchMapper.searchIcons(searchTerm);
+    }
+}
@@ -0,0 +1,88 @@
+package org.desviante.benchmark;
+
+import org.desviante.repository.BoardColumnRepository;
+import org.desviante.repository.BoardRepository;
+import org.desviante.repository.CardRepository;
+import org.desviante.repository.CardTypeRepository;
+import org.desviante.service.BoardColumnService;
+import org.desviante.service.BoardService;
+import org.desviante.service.CardService;
+import org.desviante.service.CardTypeService;
+import org.desviante.service.TaskManagerFacade;
+import org.desviante.service.dto.BoardDetailDTO;
+import org.desviante.service.dto.BoardSummaryDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das consultas da {@link TaskManagerFacade} usadas pela tela principal.
+ *
+ * <p>A fachada é montada com os serviços reais de quadros, colunas e cards
+ * sobre o banco do benchmark; as dependências que essas consultas não usam
+ * (integrações, metadados) ficam nulas.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see BenchmarkDatabase
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskManagerFacadeBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkDatabase.Scale scale;
+
+    private BenchmarkDatabase database;
+    private TaskManagerFacade facade;
+    private Long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create(scale);
+        var dataSource = database.dataSource();
+        var boardRepository = new BoardRepository(dataSource);
+        var cardRepository = new CardRepository(dataSource);
+        var columnRepository = new BoardColumnRepository(dataSource);
+        var cardTypeService = new CardTypeService(new CardTypeRepository(dataSource), cardRepository, null);
+        var cardService = new CardService(cardRepository, columnRepository, cardTypeService, null);
+
+        facade = new TaskManagerFacade(new BoardService(boardRepository),
+                new BoardColumnService(columnRepository, boardRepository),
+                cardService, null, null, null, cardTypeService, null, null, null, null, null);
+        boardId = database.boardIds().get(database.boardIds().size() / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<BoardSummaryDTO> getAllBoardSummaries() {
+        return facade.getAllBoardSummaries();
+    }
+
+    @Benchmark
+    public BoardDetailDTO getBoardDetails() {
+        return facade.getBoardDetails(boardId);
+    }
+}
@@ -1,11 +1,20 @@
 package org.desviante;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import org.desviante.event.MainWindowShownEvent;
+import org.desviante.util.StartupTimeline;
 import org.desviante.util.WindowManager;
+import org.desviante.view.BoardViewController;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.stereotype.Component;
 
@@ -29,6 +38,13 @@ import org.springframework.stereotype.Component;
  * <p>A classe obtém o contexto Spring através de {@link SimpleTaskBoardManagerApplication}
  * e utiliza o {@link WindowManager} para gerenciar janelas secundárias da aplicação.</p>
  * 
+ * <p><strong>Inicialização Rápida:</strong></p>
+ * <p>Quando o contexto Spring ainda está subindo em paralelo
+ * ({@link SimpleTaskBoardManagerApplication#isFastStartup()}), a janela exibe
+ * uma tela de carregamento e troca para o quadro assim que o contexto fica
+ * pronto. Os beans da janela principal são criados antes, fora da thread da
+ * interface, para que o carregamento do FXML não pague por eles.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -68,8 +84,12 @@ public class MainApp extends Application {
      */
     @Override
     public void init() {
-        this.springContext = SimpleTaskBoardManagerApplication.getSpringContext();
-        this.windowManager = springContext.getBean(WindowManager.class);
+        StartupTimeline.shared().mark(StartupTimeline.JAVAFX_STARTED);
+        // Na inicialização rápida o contexto ainda pode estar subindo; ele é obtido em start()
+        if (!SimpleTaskBoardManagerApplication.isFastStartup()) {
+            this.springContext = SimpleTaskBoardManagerApplication.getSpringContext();
+            this.windowManager = springContext.getBean(WindowManager.class);
+        }
     }
 
     /**
@@ -92,16 +112,8 @@ public class MainApp extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws Exception {
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/view/board-view.fxml"));
-        fxmlLoader.setControllerFactory(springContext::getBean);
-
-        Parent root = fxmlLoader.load();
         primaryStage.setTitle("Simple Task Board Manager");
-        primaryStage.setScene(new Scene(root, 1200, 800));
-        
-        // Iniciar a aplicação maximizada
-        primaryStage.setMaximized(true);
-        
+
         // Configurar listener para fechar todas as janelas secundárias quando a principal for fechada
         primaryStage.setOnCloseRequest(event -> {
             // Fechar todas as janelas secundárias antes de sair
@@ -109,8 +121,94 @@ public class MainApp extends Application {
                 windowManager.closeAllSecondaryWindows();
             }
         });
+
+        if (springContext != null) {
+            showMainWindow(primaryStage);
+            return;
+        }
+
+        // Inicialização rápida: tela de carregamento enquanto o Spring sobe
+        primaryStage.setScene(createSplashScene());
+        primaryStage.show();
+        StartupTimeline.shared().mark(StartupTimeline.SPLASH_SHOWN);
+
+        SimpleTaskBoardManagerApplication.getSpringContextFuture().whenComplete((context, error) -> {
+            if (error != null) {
+                Platform.runLater(() -> showStartupError(error));
+                return;
+            }
+            try {
+                // Cria o grafo de beans da janela principal ainda nesta thread
+                context.getBean(BoardViewController.class);
+                WindowManager manager = context.getBean(WindowManager.class);
+                Platform.runLater(() -> {
+                    this.springContext = context;
+                    this.windowManager = manager;
+                    try {
+                        showMainWindow(primaryStage);
+                    } catch (Exception e) {
+                        showStartupError(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> showStartupError(e));
+            }
+        });
+    }
+
+    /**
+     * Carrega o quadro principal e o exibe na janela.
+     * 
+     * @param primaryStage palco principal da aplicação JavaFX
+     * @throws Exception se houver erro ao carregar o FXML
+     */
+    private void showMainWindow(Stage primaryStage) throws Exception {
+        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/view/board-view.fxml"));
+        fxmlLoader.setControllerFactory(springContext::getBean);
+
+        Parent root = fxmlLoader.load();
+        primaryStage.setScene(new Scene(root, 1200, 800));
+        
+        // Iniciar a aplicação maximizada
+        primaryStage.setMaximized(true);
         
         primaryStage.show();
+        StartupTimeline.shared().mark(StartupTimeline.MAIN_WINDOW_SHOWN);
+        
+        // Tarefas de inicialização adiadas rodam depois que a janela aparece, fora da thread da interface
+        ConfigurableApplicationContext context = springContext;
+        Thread deferred = new Thread(() -> {
+            StartupTimeline.shared().report();
+            context.publishEvent(new MainWindowShownEvent(this));
+        }, "Startup-Deferred");
+        deferred.setDaemon(true);
+        deferred.start();
+    }
+
+    /**
+     * Cria a cena exibida enquanto o contexto Spring é inicializado.
+     * 
+     * @return cena de carregamento
+     */
+    private Scene createSplashScene() {
+        VBox content = new VBox(15, new ProgressIndicator(), new Label("Carregando Simple Task Board Manager..."));
+        content.setAlignment(Pos.CENTER);
+        return new Scene(content, 420, 220);
+    }
+
+    /**
+     * Informa a falha na inicialização e encerra a aplicação.
+     * 
+     * @param error erro ocorrido ao inicializar o contexto ou a janela principal
+     */
+    private void showStartupError(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Erro na inicialização");
+        alert.setHeaderText("Não foi possível iniciar o Simple Task Board Manager");
+        alert.setContentText(cause.getMessage());
+        alert.showAndWait();
+        Platform.exit();
     }
 
     /**
@@ -133,6 +231,11 @@ public class MainApp extends Application {
             windowManager.closeAllSecondaryWindows();
         }
         
-        springContext.close();
+        // Na inicialização rápida a janela pode ser fechada antes do contexto ficar pronto
+        ConfigurableApplicationContext context = springContext != null
+                ? springContext : SimpleTaskBoardManagerApplication.getSpringContext();
+        if (context != null) {
+            context.close();
+        }
     }
 }
\ No newline at end of file
@@ -2,9 +2,13 @@ package org.desviante;
 
 import javafx.application.Application;
 import lombok.Getter;
+import org.desviante.util.StartupTimeline;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Classe principal de inicialização da aplicação Simple Task Board Manager.
  * 
@@ -27,6 +31,14 @@ import org.springframework.context.ConfigurableApplicationContext;
  * estejam prontos antes de lançar a interface gráfica. Isso evita problemas
  * de timing e garante que a injeção de dependências funcione corretamente.</p>
  * 
+ * <p><strong>Inicialização Rápida:</strong></p>
+ * <p>Por padrão, o contexto Spring é inicializado em uma thread separada, com
+ * inicialização preguiçosa dos beans, enquanto o JavaFX exibe uma tela de
+ * carregamento; a janela principal aparece quando o contexto fica pronto
+ * (veja {@link #getSpringContextFuture()}). A inicialização sequencial
+ * anterior pode ser restaurada com {@code -Dapp.startup.fast=false}.
+ * Cada fase é registrada em {@link StartupTimeline}.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -52,11 +64,25 @@ public class SimpleTaskBoardManagerApplication {
      *   <li>Utilizado por {@link MainApp} para injeção de dependências</li>
      * </ul>
      * 
+     * <p>Na inicialização rápida, permanece nulo até o contexto ficar pronto;
+     * use {@link #getSpringContextFuture()} para aguardá-lo.</p>
+     * 
      * @see ConfigurableApplicationContext
      * @see MainApp
      */
     @Getter
-    private static ConfigurableApplicationContext springContext;
+    private static volatile ConfigurableApplicationContext springContext;
+
+    /**
+     * Propriedade de sistema que ativa ou desativa a inicialização rápida.
+     */
+    public static final String FAST_STARTUP_PROPERTY = "app.startup.fast";
+
+    /**
+     * Contexto Spring em inicialização, concluído quando o contexto fica pronto
+     * ou excepcionalmente quando a inicialização falha.
+     */
+    private static final CompletableFuture<ConfigurableApplicationContext> springContextFuture = new CompletableFuture<>();
     
     /**
      * Construtor padrão da classe SimpleTaskBoardManagerApplication.
@@ -90,20 +116,68 @@ public class SimpleTaskBoardManagerApplication {
      * @see ConfigurableApplicationContext
      */
     public static void main(String[] args) {
-        // A mágica acontece aqui:
-        // 1. O SpringApplication.run() é chamado de forma NÃO-BLOQUEANTE.
-        // 2. Ele retorna o contexto da aplicação totalmente inicializado.
-        // 3. Nós o armazenamos para que a classe JavaFX possa usá-lo.
-        //
-        // NOTA: Usamos um inicializador (builder) para garantir que a aplicação
-        // não seja "headless" (sem interface gráfica), o que é importante para o JavaFX.
-        springContext = new org.springframework.boot.builder.SpringApplicationBuilder(SimpleTaskBoardManagerApplication.class)
-                .headless(false)
-                .run(args);
+        StartupTimeline.shared().mark(StartupTimeline.MAIN_STARTED);
 
+        if (isFastStartup()) {
+            // O Spring sobe em paralelo; o MainApp exibe a tela de carregamento
+            // e aguarda o contexto através de getSpringContextFuture().
+            Thread springThread = new Thread(() -> {
+                try {
+                    startSpring(args, true);
+                } catch (RuntimeException e) {
+                    // Já registrado pelo Spring e entregue à interface pelo futuro
+                }
+            }, "Spring-Startup");
+            springThread.setDaemon(true);
+            springThread.start();
+        } else {
+            // Inicialização sequencial: o contexto fica totalmente pronto antes do JavaFX.
+            startSpring(args, false);
+        }
 
-
-        // Agora que o Spring está pronto, lançamos a aplicação JavaFX.
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Indica se a inicialização rápida está ativa.
+     * 
+     * <p>Ativa por padrão; desativada com {@code -Dapp.startup.fast=false}.</p>
+     * 
+     * @return {@code true} se o Spring deve subir em paralelo com o JavaFX
+     */
+    public static boolean isFastStartup() {
+        return Boolean.parseBoolean(System.getProperty(FAST_STARTUP_PROPERTY, "true"));
+    }
+
+    /**
+     * Obtém o contexto Spring em inicialização.
+     * 
+     * @return futuro concluído com o contexto pronto, ou excepcionalmente se a inicialização falhar
+     */
+    public static CompletableFuture<ConfigurableApplicationContext> getSpringContextFuture() {
+        return springContextFuture;
+    }
+
+    /**
+     * Inicializa o contexto Spring e conclui o futuro do contexto.
+     * 
+     * <p>Usamos um inicializador (builder) para garantir que a aplicação
+     * não seja "headless" (sem interface gráfica), o que é importante para o JavaFX.</p>
+     * 
+     * @param args argumentos da linha de comando
+     * @param lazy se os beans devem ser criados apenas no primeiro uso
+     */
+    private static void startSpring(String[] args, boolean lazy) {
+        try {
+            springContext = new SpringApplicationBuilder(SimpleTaskBoardManagerApplication.class)
+                    .headless(false)
+                    .lazyInitialization(lazy)
+                    .run(args);
+            StartupTimeline.shared().mark(StartupTimeline.CONTEXT_READY);
+            springContextFuture.complete(springContext);
+        } catch (RuntimeException e) {
+            springContextFuture.completeExceptionally(e);
+            throw e;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package org.desviante;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.desviante.config.DataConfig;
+import org.desviante.util.SyntheticWorkloadGenerator;
+import org.desviante.util.WorkloadProfile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ponto de entrada sem interface gráfica que gera uma base sintética grande.
+ *
+ * <p>Cria (ou complementa) um banco H2 em arquivo com o schema da aplicação e
+ * o preenche com o {@link SyntheticWorkloadGenerator}. Serve para reproduzir
+ * problemas de escala, alimentar benchmarks e testar a interface com muitos
+ * dados. Exemplo pela tarefa do Gradle:</p>
+ * <pre>{@code
+ * ./gradlew generateWorkload -PworkloadArgs="--home=/tmp/carga --profile=large --seed=7"
+ * }</pre>
+ *
+ * <p>Com {@code --home=<dir>} o banco é criado em {@code <dir>/myboards/board_h2_db},
+ * o mesmo caminho que a aplicação usa; basta iniciá-la com
+ * {@code -Duser.home=<dir>} para abrir a base gerada sem tocar nos dados reais.
+ * Com {@code --db=<arquivo>} o caminho do banco é informado diretamente (sem a
+ * extensão {@code .mv.db}).</p>
+ *
+ * <p>Opções do perfil: {@code --profile=small|medium|large}, {@code --seed},
+ * {@code --groups}, {@code --boards}, {@code --cards}, {@code --skew},
+ * {@code --scheduled-ratio}, {@code --due-ratio}, {@code --checklist-ratio},
+ * {@code --max-checklist-items}, {@code --calendar-ratio},
+ * {@code --reference-date=AAAA-MM-DD} e {@code --window-days}. O banco real do
+ * usuário só é aceito com {@code --force}.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see WorkloadProfile
+ */
+public final class WorkloadGeneratorApplication {
+
+    private WorkloadGeneratorApplication() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            Path database = databasePath(options);
+            WorkloadProfile profile = profile(options);
+
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl("jdbc:h2:file:" + database + ";AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1");
+            config.setUsername(DataConfig.DB_USERNAME);
+            config.setPassword(DataConfig.DB_PASSWORD);
+            config.setMaximumPoolSize(2);
+            try (HikariDataSource dataSource = new HikariDataSource(config)) {
+                new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+                SyntheticWorkloadGenerator.WorkloadSummary summary =
+                        new SyntheticWorkloadGenerator(dataSource).generate(profile);
+                System.out.printf("Banco: %s.mv.db%n", database);
+                System.out.printf("Grupos: %d, quadros: %d, colunas: %d, cards: %d, itens de checklist: %d, eventos: %d%n",
+                        summary.boardGroups(), summary.boards(), summary.columns(), summary.cards(),
+                        summary.checklistItems(), summary.calendarEvents());
+                System.out.printf("Tempo: %.1f s%n", summary.elapsed().toMillis() / 1000.0);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+
+    static Path databasePath(Map<String, String> options) {
+        Path database;
+        if (options.containsKey("db")) {
+            database = Path.of(options.get("db"));
+        } else if (options.containsKey("home")) {
+            database = Path.of(options.get("home"), "myboards", "board_h2_db");
+        } else {
+            throw new IllegalArgumentException("Informe --home=<diretório> ou --db=<arquivo>");
+        }
+        database = database.toAbsolutePath().normalize();
+        Path userDatabase = Path.of(System.getProperty("user.home"), "myboards", "board_h2_db").toAbsolutePath().normalize();
+        if (database.equals(userDatabase) && !options.containsKey("force")) {
+            throw new IllegalArgumentException("O destino é o banco real do usuário; use --force para confirmar");
+        }
+        return database;
+    }
+
+    static WorkloadProfile profile(Map<String, String> options) {
+        WorkloadProfile.WorkloadProfileBuilder builder =
+                WorkloadProfile.named(options.getOrDefault("profile", "small")).toBuilder();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            String value = option.getValue();
+            switch (option.getKey()) {
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "groups" -> builder.boardGroups(Integer.parseInt(value));
+                case "boards" -> builder.boards(Integer.parseInt(value));
+                case "cards" -> builder.cards(Integer.parseInt(value));
+                case "skew" -> builder.boardSizeSkew(Double.parseDouble(value));
+                case "scheduled-ratio" -> builder.scheduledRatio(Double.parseDouble(value));
+                case "due-ratio" -> builder.dueRatio(Double.parseDouble(value));
+                case "checklist-ratio" -> builder.checklistRatio(Double.parseDouble(value));
+                case "max-checklist-items" -> builder.maxChecklistItems(Integer.parseInt(value));
+                case "calendar-ratio" -> builder.calendarEventRatio(Double.parseDouble(value));
+                case "reference-date" -> builder.referenceDate(LocalDate.parse(value));
+                case "window-days" -> builder.dateWindowDays(Integer.parseInt(value));
+                case "profile", "home", "db", "force" -> {
+                    // Já tratadas
+                }
+                default -> throw new IllegalArgumentException("Opção desconhecida: --" + option.getKey());
+            }
+        }
+        return builder.build();
+    }
+}
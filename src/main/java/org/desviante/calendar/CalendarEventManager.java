@@ -5,7 +5,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.desviante.repository.CalendarEventRepository;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -80,6 +82,20 @@ public class CalendarEventManager {
         return calendarEventRepository.findAll();
     }
 
+    /**
+     * Lista os eventos cujo início está entre duas datas (inclusive).
+     * 
+     * <p>A filtragem é feita no banco por faixa de start_date_time, evitando
+     * carregar todos os eventos para filtrá-los em memória.</p>
+     * 
+     * @param start primeiro dia do período
+     * @param end último dia do período
+     * @return lista de eventos do período ordenados pela data de início
+     */
+    public List<CalendarEvent> findByDateRange(LocalDate start, LocalDate end) {
+        return calendarEventRepository.findByDateRange(start.atStartOfDay(), end.atTime(LocalTime.MAX));
+    }
+
     /**
      * Remove um evento por ID.
      * 
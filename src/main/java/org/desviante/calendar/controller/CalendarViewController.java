@@ -3,6 +3,7 @@ package org.desviante.calendar.controller;
 import com.calendarfx.model.Calendar;
 import com.calendarfx.model.CalendarSource;
 import com.calendarfx.view.CalendarView;
+import jakarta.annotation.PreDestroy;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
@@ -18,10 +19,15 @@ import org.springframework.stereotype.Component;
 
 import java.net.URL;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Controller para visualização do calendário (somente leitura).
@@ -52,6 +58,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CalendarViewController implements Initializable {
 
+    /**
+     * Quantidade de meses exibidos antes e depois do mês atual.
+     */
+    private static final int VISIBLE_MONTHS_AROUND = 2;
+
+    /**
+     * Distância máxima, em meses, para manter um mês no cache antes de descartá-lo.
+     */
+    private static final int CACHED_MONTHS_AROUND = VISIBLE_MONTHS_AROUND + 2;
+
     private final CalendarService calendarService;
     private final CalendarFXAdapter calendarFXAdapter;
     
@@ -65,9 +81,26 @@ public class CalendarViewController implements Initializable {
     private CalendarSource calendarSource;
     private LocalDate currentDate = LocalDate.now();
 
+    /**
+     * Eventos já carregados, agrupados pelo mês consultado.
+     * Permite que a navegação entre meses reutilize os dados já buscados.
+     */
+    private final Map<YearMonth, List<CalendarEventDTO>> eventsByMonth = new ConcurrentHashMap<>();
+
+    /**
+     * Thread daemon que pré-carrega os meses vizinhos; encerrada com o contexto.
+     */
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Calendar-Prefetch");
+        t.setDaemon(true);
+        return t;
+    });
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         log.info("Inicializando CalendarViewController como tela de visualização");
+        // A janela pode ter sido reaberta após alterações nos cards; descartar o cache anterior
+        eventsByMonth.clear();
         initializeCalendarView();
         loadEventsForCurrentPeriod();
         updateStatusLabel();
@@ -121,11 +154,21 @@ public class CalendarViewController implements Initializable {
         try {
             // Expandir o período para incluir 2 meses antes e 2 meses depois
             // Isso garante que eventos próximos sejam sempre visíveis
-            LocalDate startDate = currentDate.minusMonths(2).withDayOfMonth(1);
-            LocalDate endDate = currentDate.plusMonths(2).withDayOfMonth(currentDate.plusMonths(2).lengthOfMonth());
+            YearMonth currentMonth = YearMonth.from(currentDate);
+            YearMonth firstMonth = currentMonth.minusMonths(VISIBLE_MONTHS_AROUND);
+            YearMonth lastMonth = currentMonth.plusMonths(VISIBLE_MONTHS_AROUND);
+            LocalDate startDate = firstMonth.atDay(1);
+            LocalDate endDate = lastMonth.atEndOfMonth();
             
             log.info("Carregando eventos para período expandido: {} a {}", startDate, endDate);
-            List<CalendarEventDTO> events = calendarService.getEventsForDateRange(startDate, endDate);
+            // Meses já em cache não são consultados novamente. Eventos de cards entram
+            // só no mês em que começam, mas eventos personalizados entram em todo mês
+            // em que estão ativos; distinct() (igualdade do DTO) deixa uma cópia só
+            List<CalendarEventDTO> events = Stream.iterate(firstMonth, month -> !month.isAfter(lastMonth), month -> month.plusMonths(1))
+                    .flatMap(month -> getEventsForMonth(month).stream())
+                    .distinct()
+                    .sorted((e1, e2) -> e1.getStartDateTime().compareTo(e2.getStartDateTime()))
+                    .toList();
             
             // Limpar eventos existentes
             clearAllCalendars();
@@ -151,12 +194,60 @@ public class CalendarViewController implements Initializable {
             // Atualizar status
             updateStatusLabel();
             
+            evictDistantMonths(currentMonth);
+            prefetchAdjacentMonths(firstMonth.minusMonths(1), lastMonth.plusMonths(1));
+            
         } catch (Exception e) {
             log.error("Erro ao carregar eventos para o período atual", e);
             statusLabel.setText("Erro ao carregar eventos: " + e.getMessage());
         }
     }
 
+    /**
+     * Obtém os eventos de um mês, consultando o banco apenas se o mês
+     * ainda não estiver em cache.
+     * 
+     * @param month mês desejado
+     * @return eventos do mês
+     */
+    private List<CalendarEventDTO> getEventsForMonth(YearMonth month) {
+        return eventsByMonth.computeIfAbsent(month,
+                m -> calendarService.getEventsForDateRange(m.atDay(1), m.atEndOfMonth()));
+    }
+
+    /**
+     * Carrega em segundo plano os meses imediatamente fora do período exibido,
+     * para que a próxima navegação para frente ou para trás use o cache.
+     * 
+     * @param months meses a serem pré-carregados
+     */
+    private void prefetchAdjacentMonths(YearMonth... months) {
+        for (YearMonth month : months) {
+            if (eventsByMonth.containsKey(month)) {
+                continue;
+            }
+            prefetchExecutor.submit(() -> {
+                try {
+                    getEventsForMonth(month);
+                } catch (Exception e) {
+                    log.warn("Falha ao pré-carregar eventos do mês {}", month, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove do cache os meses distantes do mês atual, limitando o uso de memória
+     * em navegações longas.
+     * 
+     * @param currentMonth mês atualmente exibido
+     */
+    private void evictDistantMonths(YearMonth currentMonth) {
+        YearMonth oldest = currentMonth.minusMonths(CACHED_MONTHS_AROUND);
+        YearMonth newest = currentMonth.plusMonths(CACHED_MONTHS_AROUND);
+        eventsByMonth.keySet().removeIf(month -> month.isBefore(oldest) || month.isAfter(newest));
+    }
+
     /**
      * Atualiza o label de status.
      */
@@ -209,10 +300,19 @@ public class CalendarViewController implements Initializable {
      * Atualiza a visualização do calendário.
      */
     public void refreshCalendar() {
+        eventsByMonth.clear();
         loadEventsForCurrentPeriod();
         log.info("Calendário atualizado");
     }
 
+    /**
+     * Interrompe os pré-carregamentos pendentes ao encerrar a aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
     /**
      * Obtém a data atual selecionada.
      */
@@ -49,20 +49,8 @@ public class CardCalendarEventProvider implements CalendarEventProvider {
     public List<CalendarEventDTO> getEventsForDateRange(LocalDate start, LocalDate end) {
         System.out.println("🔧 CARD CALENDAR EVENT PROVIDER - getEventsForDateRange chamado para período: " + start + " a " + end);
         
-        // Buscar eventos do CalendarEventManager (agora persistido no banco)
-        List<CalendarEvent> events = calendarEventManager.findAll();
-        System.out.println("🔧 CARD CALENDAR EVENT PROVIDER - Total de eventos no CalendarEventManager: " + events.size());
-        
-        // Filtrar eventos por período e converter para DTO
-        List<CalendarEventDTO> result = events.stream()
-                .filter(event -> {
-                    LocalDate eventDate = event.getStartDateTime().toLocalDate();
-                    boolean inRange = !eventDate.isBefore(start) && !eventDate.isAfter(end);
-                    System.out.println("🔧 CARD CALENDAR EVENT PROVIDER - Evento: " + event.getTitle() + " (" + eventDate + ") - Em período: " + inRange);
-                    System.out.println("🔧 CARD CALENDAR EVENT PROVIDER - Período solicitado: " + start + " a " + end);
-                    System.out.println("🔧 CARD CALENDAR EVENT PROVIDER - Comparação: " + eventDate + " >= " + start + " && " + eventDate + " <= " + end);
-                    return inRange;
-                })
+        // Buscar apenas os eventos do período, filtrados no banco pelo índice de data de início
+        List<CalendarEventDTO> result = calendarEventManager.findByDateRange(start, end).stream()
                 .map(this::convertEventToDTO)
                 .collect(Collectors.toList());
         
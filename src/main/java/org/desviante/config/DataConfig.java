@@ -2,6 +2,7 @@ package org.desviante.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -37,6 +38,12 @@ import java.util.logging.Logger;
 public class DataConfig {
 
     private static final String DB_FILE_PATH = System.getProperty("user.home") + "/myboards/board_h2_db";
+
+    /** Usuário do banco H2 da aplicação, também usado por ferramentas que abrem o mesmo arquivo. */
+    public static final String DB_USERNAME = "myboarduser";
+
+    /** Senha do banco H2 da aplicação. */
+    public static final String DB_PASSWORD = "myboardpassword";
     private static final Logger logger = Logger.getLogger(DataConfig.class.getName());
 
     /**
@@ -63,8 +70,8 @@ public class DataConfig {
     public DataSource dataSource() {
         HikariConfig config = new HikariConfig();
         config.setJdbcUrl("jdbc:h2:file:" + DB_FILE_PATH + ";AUTO_SERVER=TRUE;DB_CLOSE_DELAY=-1");
-        config.setUsername("myboarduser");
-        config.setPassword("myboardpassword"); // Considere usar uma senha mais forte ou externa no futuro
+        config.setUsername(DB_USERNAME);
+        config.setPassword(DB_PASSWORD); // Considere usar uma senha mais forte ou externa no futuro
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
@@ -87,6 +94,20 @@ public class DataConfig {
         return new DataSourceTransactionManager(dataSource);
     }
 
+    /**
+     * Mantém o inicializador do banco fora da inicialização preguiçosa.
+     *
+     * <p>Nenhum bean depende do {@link DataSourceInitializer}; com a inicialização
+     * rápida (beans preguiçosos), o schema.sql deixaria de rodar em um banco novo.</p>
+     *
+     * @return filtro que força a criação antecipada do inicializador
+     * @see org.desviante.SimpleTaskBoardManagerApplication#isFastStartup()
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter dataSourceInitializerLazyExclusion() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSourceInitializer.class);
+    }
+
     /**
      * Configura o inicializador automático do banco de dados com preservação de dados.
      *
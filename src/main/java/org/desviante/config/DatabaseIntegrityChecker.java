@@ -1,9 +1,9 @@
 package org.desviante.config;
 
+import org.desviante.event.MainWindowShownEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -20,7 +20,7 @@ import java.util.List;
  * Verificador de integridade do banco de dados.
  * 
  * <p>Esta classe verifica a integridade e estrutura do banco de dados
- * após a aplicação estar pronta, incluindo verificação de tabelas,
+ * após a exibição da janela principal, incluindo verificação de tabelas,
  * estrutura e dados de exemplo.</p>
  * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
@@ -51,15 +51,15 @@ public class DatabaseIntegrityChecker {
     }
 
     /**
-     * Verifica a integridade do banco de dados após a aplicação estar pronta.
+     * Verifica a integridade do banco de dados após a janela principal aparecer.
      *
-     * <p>Esta verificação é executada automaticamente após o Spring Boot
-     * ter inicializado completamente, incluindo as migrações do Liquibase.</p>
+     * <p>A verificação não é necessária para exibir o quadro, por isso roda
+     * depois da primeira exibição, fora da thread da interface.</p>
      *
-     * @param event evento de inicialização da aplicação
+     * @param event evento de exibição da janela principal
      */
-    @EventListener(ApplicationReadyEvent.class)
-    public void checkDatabaseIntegrity(ApplicationReadyEvent event) {
+    @EventListener(MainWindowShownEvent.class)
+    public void checkDatabaseIntegrity(MainWindowShownEvent event) {
         logger.info("Iniciando verificação de integridade do banco de dados...");
         
         try {
@@ -1,6 +1,7 @@
 package org.desviante.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.desviante.repository.SchemaVersionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -30,6 +31,11 @@ import java.sql.ResultSet;
  * <p><strong>Segurança:</strong> Todas as migrações são idempotentes e podem ser
  * executadas múltiplas vezes sem causar erros ou duplicação de dados.</p>
  * 
+ * <p><strong>Versão do Esquema:</strong> Depois que todas as migrações são
+ * confirmadas, a versão {@link #SCHEMA_VERSION} é registrada em
+ * {@link SchemaVersionRepository} e as verificações deixam de rodar nas
+ * próximas inicializações.</p>
+ * 
  * <p><strong>Tratamento de Erros:</strong> Falhas durante migrações são registradas
  * no log mas não interrompem a inicialização da aplicação.</p>
  * 
@@ -56,16 +62,30 @@ public class DatabaseMigrationConfig implements CommandLineRunner {
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Registro das versões de esquema, usado para executar as verificações uma única vez.
+     */
+    private final SchemaVersionRepository schemaVersionRepository;
+
+    /**
+     * Componente e versão destas migrações em {@code schema_versions}.
+     */
+    static final String SCHEMA_COMPONENT = "cards.manual-migrations";
+    static final int SCHEMA_VERSION = 1;
+
     /**
      * Construtor que injeta as dependências necessárias para execução das migrações.
      * 
      * @param dataSource fonte de dados para conexão com o banco
      * @param jdbcTemplate template JDBC para execução de comandos SQL
+     * @param schemaVersionRepository registro das versões de esquema aplicadas
      */
     @Autowired
-    public DatabaseMigrationConfig(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    public DatabaseMigrationConfig(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                   SchemaVersionRepository schemaVersionRepository) {
         this.dataSource = dataSource;
         this.jdbcTemplate = jdbcTemplate;
+        this.schemaVersionRepository = schemaVersionRepository;
     }
 
     /**
@@ -95,6 +115,15 @@ public class DatabaseMigrationConfig implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
+        schemaVersionRepository.runOnce(SCHEMA_COMPONENT, SCHEMA_VERSION, this::applyMigrations);
+    }
+
+    /**
+     * Executa as migrações pendentes e confirma o resultado.
+     * 
+     * @return {@code true} se todas as colunas e tabelas das migrações existem ao final
+     */
+    private boolean applyMigrations() {
         log.info("Verificando migrações necessárias...");
         
         // Verifica se a coluna order_index existe
@@ -120,6 +149,10 @@ public class DatabaseMigrationConfig implements CommandLineRunner {
         } else {
             log.info("Migração checklist_items já foi executada anteriormente");
         }
+
+        return columnExists("CARDS", "ORDER_INDEX")
+                && columnExists("CARDS", "PROGRESS_TYPE")
+                && tableExists("CHECKLIST_ITEMS");
     }
 
     /**
@@ -3,8 +3,7 @@ package org.desviante.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.desviante.integration.event.EventPublisher;
-import org.desviante.integration.observer.CalendarSyncObserver;
-import org.desviante.integration.observer.GoogleTasksSyncObserver;
+import org.desviante.integration.observer.IntegrationOutboxObserver;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
@@ -15,6 +14,11 @@ import org.springframework.context.event.EventListener;
  * <p>Esta classe configura automaticamente o registro de observers
  * no EventPublisher quando a aplicação é inicializada.</p>
  * 
+ * <p>Os observadores de sincronização (Google Tasks e calendário) não são
+ * registrados diretamente: o {@link IntegrationOutboxObserver} enfileira a
+ * sincronização e o {@link org.desviante.integration.sync.IntegrationOutboxWorker}
+ * a entrega fora da alteração do card.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -25,8 +29,7 @@ import org.springframework.context.event.EventListener;
 public class EventConfig {
     
     private final EventPublisher eventPublisher;
-    private final GoogleTasksSyncObserver googleTasksSyncObserver;
-    private final CalendarSyncObserver calendarSyncObserver;
+    private final IntegrationOutboxObserver integrationOutboxObserver;
     
     /**
      * Registra automaticamente os observers no EventPublisher quando o contexto Spring é inicializado.
@@ -39,13 +42,9 @@ public class EventConfig {
         log.info("🔧 EVENT CONFIG - Registrando observers no EventPublisher...");
         
         try {
-            // Registrar GoogleTasksSyncObserver
-            eventPublisher.subscribe(googleTasksSyncObserver);
-            log.info("✅ GoogleTasksSyncObserver registrado com sucesso");
-            
-            // Registrar CalendarSyncObserver
-            eventPublisher.subscribe(calendarSyncObserver);
-            log.info("✅ CalendarSyncObserver registrado com sucesso");
+            // Registrar IntegrationOutboxObserver (Google Tasks e calendário via fila de integração)
+            eventPublisher.subscribe(integrationOutboxObserver);
+            log.info("✅ IntegrationOutboxObserver registrado com sucesso");
             
             log.info("🎉 Todos os observers foram registrados com sucesso! Total: {}", eventPublisher.getObserverCount());
             
@@ -0,0 +1,75 @@
+package org.desviante.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.desviante.repository.BoardRepository;
+import org.desviante.repository.CalendarEventRepository;
+import org.desviante.repository.CardRepository;
+import org.desviante.service.TaskManagerFacade;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Configuração das métricas da aplicação (Micrometer).
+ *
+ * <p>Mantém um único {@link MeterRegistry} em memória, usado por:</p>
+ * <ul>
+ *   <li>{@link TimedMethodsPostProcessor}: tempo de cada chamada aos repositórios
+ *       de cards, quadros e eventos ({@value #REPOSITORY_TIMER}) e ao
+ *       {@link TaskManagerFacade} ({@value #FACADE_TIMER})</li>
+ *   <li>{@link org.desviante.integration.event.SimpleEventPublisher}: latência de cada observador</li>
+ *   <li>{@link org.desviante.integration.retry.RetryExecutor}: tentativas e resultados de retry</li>
+ *   <li>{@link org.desviante.integration.coordinator.DefaultIntegrationCoordinator}: estatísticas de integração</li>
+ * </ul>
+ *
+ * <p>O conteúdo do registro é gravado em arquivo pelo
+ * {@link org.desviante.service.MetricsFileExporter}.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Timer das chamadas aos repositórios.
+     */
+    public static final String REPOSITORY_TIMER = "repository.calls";
+
+    /**
+     * Timer das chamadas à fachada de serviços.
+     */
+    public static final String FACADE_TIMER = "facade.calls";
+
+    /**
+     * Registro de métricas da aplicação.
+     *
+     * @return registro em memória
+     */
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    /**
+     * Pós-processador que mede as chamadas aos repositórios e à fachada.
+     *
+     * <p>Declarado como estático para ser criado antes dos beans que mede, sem
+     * antecipar a criação desta configuração.</p>
+     *
+     * @param meterRegistry registro de métricas, obtido na primeira chamada medida
+     * @return pós-processador de beans
+     */
+    @Bean
+    public static TimedMethodsPostProcessor timedMethodsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TimedMethodsPostProcessor(meterRegistry::getObject, Map.of(
+                CardRepository.class, REPOSITORY_TIMER,
+                BoardRepository.class, REPOSITORY_TIMER,
+                CalendarEventRepository.class, REPOSITORY_TIMER,
+                TaskManagerFacade.class, FACADE_TIMER));
+    }
+}
@@ -1,5 +1,6 @@
 package org.desviante.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.desviante.integration.retry.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -78,10 +79,13 @@ public class RetryConfig {
      * que é adequada para a maioria das operações de integração com Google Tasks.</p>
      * 
      * @param strategy estratégia de retry a ser usada
+     * @param meterRegistry registro onde as tentativas são contadas
      * @return executor de retry configurado
      */
     @Bean
-    public RetryExecutor retryExecutor(FixedDelayRetryStrategy strategy) {
-        return new RetryExecutor(strategy);
+    public RetryExecutor retryExecutor(FixedDelayRetryStrategy strategy, MeterRegistry meterRegistry) {
+        RetryExecutor executor = new RetryExecutor(strategy);
+        executor.setMeterRegistry(meterRegistry);
+        return executor;
     }
 }
@@ -2,6 +2,8 @@ package org.desviante.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.desviante.repository.CardRepository;
+import org.desviante.repository.SchemaVersionRepository;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -13,6 +15,10 @@ import org.springframework.stereotype.Component;
  * <p>Esta classe garante que as colunas scheduled_date e due_date sejam criadas
  * no banco de dados, mesmo que o Liquibase não execute a migração.</p>
  * 
+ * <p>Compartilha com o {@link CardRepository} a versão registrada em
+ * {@link SchemaVersionRepository}: quem garantir as colunas primeiro registra
+ * a versão, e a verificação não se repete nas próximas inicializações.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy
  * @version 1.0
  * @since 1.0
@@ -23,9 +29,15 @@ import org.springframework.stereotype.Component;
 public class SchedulingMigrationConfig implements ApplicationRunner {
 
     private final JdbcTemplate jdbcTemplate;
+    private final SchemaVersionRepository schemaVersionRepository;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
+        schemaVersionRepository.runOnce(CardRepository.SCHEDULING_SCHEMA_COMPONENT,
+                CardRepository.SCHEDULING_SCHEMA_VERSION, this::applySchedulingColumns);
+    }
+
+    private boolean applySchedulingColumns() {
         log.info("🔄 SCHEDULING MIGRATION CONFIG - Iniciando verificação das colunas de agendamento...");
         log.info("🔄 SCHEDULING MIGRATION CONFIG - JdbcTemplate disponível: {}", jdbcTemplate != null);
         
@@ -73,10 +85,12 @@ public class SchedulingMigrationConfig implements ApplicationRunner {
             }
             
             log.info("🎉 SCHEDULING MIGRATION CONFIG - Migração das colunas de agendamento concluída com sucesso!");
+            return true;
             
         } catch (Exception e) {
             log.error("❌ SCHEDULING MIGRATION CONFIG - Erro ao aplicar migração das colunas de agendamento: {}", e.getMessage(), e);
             // Não relançar a exceção para não impedir o startup da aplicação
+            return false;
         }
     }
 }
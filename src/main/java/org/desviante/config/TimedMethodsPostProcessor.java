@@ -0,0 +1,149 @@
+package org.desviante.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Mede o tempo de todos os métodos públicos dos beans de tipos selecionados.
+ *
+ * <p>Cada bean cujo tipo está em {@code timedTypes} recebe um proxy (por
+ * subclasse, como os proxies transacionais) que registra um {@link Timer}
+ * por chamada, com o nome associado ao tipo e as tags {@code class},
+ * {@code method} e {@code exception}. Os timers publicam os percentis 50, 95
+ * e 99 e um histograma com os limites de {@link #SERVICE_LEVEL_OBJECTIVES}.</p>
+ *
+ * <p>O registro de métricas é obtido apenas na primeira chamada medida, para
+ * que este pós-processador possa ser criado antes dos demais beans.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see MetricsConfig
+ */
+public class TimedMethodsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    /**
+     * Limites do histograma de latência das chamadas medidas.
+     */
+    static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final transient Supplier<MeterRegistry> meterRegistry;
+    private final transient Map<Class<?>, String> timedTypes;
+
+    /**
+     * Cria o pós-processador.
+     *
+     * <p>O advisor é montado em {@link #setBeanFactory(BeanFactory)}, antes de
+     * qualquer bean ser processado.</p>
+     *
+     * @param meterRegistry fornecedor do registro onde os timers são criados
+     * @param timedTypes tipos medidos, associados ao nome do timer de cada um
+     */
+    public TimedMethodsPostProcessor(Supplier<MeterRegistry> meterRegistry, Map<Class<?>, String> timedTypes) {
+        this.meterRegistry = meterRegistry;
+        this.timedTypes = Map.copyOf(timedTypes);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+        this.advisor = new DefaultPointcutAdvisor(new TimedTypesPointcut(timedTypes),
+                new TimingInterceptor(meterRegistry, timedTypes));
+    }
+
+    /**
+     * Seleciona os métodos públicos, declarados fora de {@link Object}, dos tipos medidos.
+     */
+    private static final class TimedTypesPointcut extends StaticMethodMatcherPointcut {
+
+        TimedTypesPointcut(Map<Class<?>, String> types) {
+            setClassFilter(clazz -> types.keySet().stream().anyMatch(type -> type.isAssignableFrom(clazz)));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers())
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getDeclaringClass() != Object.class;
+        }
+    }
+
+    /**
+     * Registra a duração de cada chamada no timer do tipo do bean.
+     */
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final Supplier<MeterRegistry> registrySupplier;
+        private final Map<Class<?>, String> types;
+        private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+        private volatile MeterRegistry registry;
+
+        TimingInterceptor(Supplier<MeterRegistry> registrySupplier, Map<Class<?>, String> types) {
+            this.registrySupplier = registrySupplier;
+            this.types = types;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            Class<?> targetClass = ClassUtils.getUserClass(invocation.getThis().getClass());
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                successTimers.computeIfAbsent(method, m -> timer(targetClass, m, NO_EXCEPTION))
+                        .record(Duration.ofNanos(System.nanoTime() - start));
+                return result;
+            } catch (Throwable e) {
+                timer(targetClass, method, e.getClass().getSimpleName()).record(Duration.ofNanos(System.nanoTime() - start));
+                throw e;
+            }
+        }
+
+        private Timer timer(Class<?> targetClass, Method method, String exception) {
+            Class<?> timedType = types.keySet().stream()
+                    .filter(type -> type.isAssignableFrom(targetClass))
+                    .findFirst()
+                    .orElse(targetClass);
+            return Timer.builder(types.getOrDefault(timedType, "method.calls"))
+                    .tag("class", timedType.getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("exception", exception)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                    .register(registry());
+        }
+
+        private MeterRegistry registry() {
+            MeterRegistry current = registry;
+            if (current == null) {
+                current = Objects.requireNonNull(registrySupplier.get(), "Registro de métricas não disponível");
+                registry = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.desviante.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Evento publicado quando a janela principal da aplicação é exibida.
+ * 
+ * <p>Permite adiar para depois da abertura da interface as tarefas de
+ * inicialização que não precisam estar prontas antes dela, como a
+ * reconciliação dos eventos do calendário.</p>
+ * 
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see ApplicationEvent
+ */
+public class MainWindowShownEvent extends ApplicationEvent {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Construtor do evento de janela principal exibida.
+     * 
+     * @param source objeto que publicou o evento
+     */
+    public MainWindowShownEvent(Object source) {
+        super(source);
+    }
+}
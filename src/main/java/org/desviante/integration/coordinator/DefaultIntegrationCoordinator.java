@@ -1,6 +1,8 @@
 package org.desviante.integration.coordinator;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.desviante.integration.event.EventPublisher;
 import org.desviante.integration.event.card.CardScheduledEvent;
@@ -8,11 +10,11 @@ import org.desviante.integration.event.card.CardUnscheduledEvent;
 import org.desviante.integration.event.card.CardUpdatedEvent;
 import org.desviante.model.Card;
 import org.desviante.service.DatabaseMigrationService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementação padrão do IntegrationCoordinator.
@@ -30,6 +32,10 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>Tratamento de erros robusto</li>
  * </ul>
  * 
+ * <p>As estatísticas são contadores do Micrometer
+ * ({@value #OPERATIONS_METRIC} por operação e {@value #RESULTS_METRIC} por
+ * resultado), exportados junto com as demais métricas da aplicação.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -37,13 +43,65 @@ import java.util.concurrent.atomic.AtomicLong;
  * @see EventPublisher
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
     
+    /**
+     * Contador de integrações coordenadas, por operação.
+     */
+    public static final String OPERATIONS_METRIC = "integration.coordinator.operations";
+    
+    /**
+     * Contador de integrações coordenadas, por resultado.
+     */
+    public static final String RESULTS_METRIC = "integration.coordinator.results";
+    
     private final EventPublisher eventPublisher;
     private final DatabaseMigrationService migrationService;
     
+    // Contadores thread-safe para estatísticas
+    private final Counter successfulIntegrations;
+    private final Counter failedIntegrations;
+    private final Counter scheduledIntegrations;
+    private final Counter unscheduledIntegrations;
+    private final Counter updateIntegrations;
+    private final Counter moveIntegrations;
+    private final Counter deleteIntegrations;
+    
+    private volatile LocalDateTime lastIntegrationTime;
+    private final LocalDateTime startTime = LocalDateTime.now();
+    
+    /**
+     * Cria o coordenador com contadores próprios, fora do registro de métricas da aplicação.
+     * 
+     * @param eventPublisher publicador de eventos
+     * @param migrationService serviço de migração do banco
+     */
+    public DefaultIntegrationCoordinator(EventPublisher eventPublisher, DatabaseMigrationService migrationService) {
+        this(eventPublisher, migrationService, new SimpleMeterRegistry());
+    }
+    
+    /**
+     * Cria o coordenador registrando os contadores no registro de métricas informado.
+     * 
+     * @param eventPublisher publicador de eventos
+     * @param migrationService serviço de migração do banco
+     * @param meterRegistry registro de métricas
+     */
+    @Autowired
+    public DefaultIntegrationCoordinator(EventPublisher eventPublisher, DatabaseMigrationService migrationService,
+                                         MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.migrationService = migrationService;
+        this.successfulIntegrations = meterRegistry.counter(RESULTS_METRIC, "result", "success");
+        this.failedIntegrations = meterRegistry.counter(RESULTS_METRIC, "result", "failure");
+        this.scheduledIntegrations = meterRegistry.counter(OPERATIONS_METRIC, "operation", "scheduled");
+        this.unscheduledIntegrations = meterRegistry.counter(OPERATIONS_METRIC, "operation", "unscheduled");
+        this.updateIntegrations = meterRegistry.counter(OPERATIONS_METRIC, "operation", "updated");
+        this.moveIntegrations = meterRegistry.counter(OPERATIONS_METRIC, "operation", "moved");
+        this.deleteIntegrations = meterRegistry.counter(OPERATIONS_METRIC, "operation", "deleted");
+    }
+    
     /**
      * Garante que a tabela de sincronização existe antes de executar operações.
      */
@@ -56,18 +114,6 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
         }
     }
     
-    // Contadores thread-safe para estatísticas
-    private final AtomicLong successfulIntegrations = new AtomicLong(0);
-    private final AtomicLong failedIntegrations = new AtomicLong(0);
-    private final AtomicLong scheduledIntegrations = new AtomicLong(0);
-    private final AtomicLong unscheduledIntegrations = new AtomicLong(0);
-    private final AtomicLong updateIntegrations = new AtomicLong(0);
-    private final AtomicLong moveIntegrations = new AtomicLong(0);
-    private final AtomicLong deleteIntegrations = new AtomicLong(0);
-    
-    private volatile LocalDateTime lastIntegrationTime;
-    private final LocalDateTime startTime = LocalDateTime.now();
-    
     @Override
     public void onCardScheduled(Card card) {
         if (card == null) {
@@ -96,14 +142,14 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
             eventPublisher.publish(event);
             
             // Atualizar estatísticas
-            scheduledIntegrations.incrementAndGet();
-            successfulIntegrations.incrementAndGet();
+            scheduledIntegrations.increment();
+            successfulIntegrations.increment();
             lastIntegrationTime = LocalDateTime.now();
             
             log.debug("Integrações de agendamento coordenadas com sucesso para card: {}", card.getId());
             
         } catch (Exception e) {
-            failedIntegrations.incrementAndGet();
+            failedIntegrations.increment();
             log.error("Erro ao coordenar integrações de agendamento para card {}: {}", 
                      card.getId(), e.getMessage(), e);
             throw new RuntimeException(
@@ -134,14 +180,14 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
             eventPublisher.publish(event);
             
             // Atualizar estatísticas
-            unscheduledIntegrations.incrementAndGet();
-            successfulIntegrations.incrementAndGet();
+            unscheduledIntegrations.increment();
+            successfulIntegrations.increment();
             lastIntegrationTime = LocalDateTime.now();
             
             log.debug("Integrações de desagendamento coordenadas com sucesso para card: {}", card.getId());
             
         } catch (Exception e) {
-            failedIntegrations.incrementAndGet();
+            failedIntegrations.increment();
             log.error("Erro ao coordenar integrações de desagendamento para card {}: {}", 
                      card.getId(), e.getMessage(), e);
             throw new RuntimeException(
@@ -176,15 +222,15 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
             eventPublisher.publish(event);
             
             // Atualizar estatísticas
-            updateIntegrations.incrementAndGet();
-            successfulIntegrations.incrementAndGet();
+            updateIntegrations.increment();
+            successfulIntegrations.increment();
             lastIntegrationTime = LocalDateTime.now();
             
             log.debug("Integrações de atualização coordenadas com sucesso para card: {} (campos: {})", 
                      card.getId(), changedFields);
             
         } catch (Exception e) {
-            failedIntegrations.incrementAndGet();
+            failedIntegrations.increment();
             log.error("Erro ao coordenar integrações de atualização para card {}: {}", 
                      card.getId(), e.getMessage(), e);
             throw new RuntimeException(
@@ -209,12 +255,12 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
             onCardUpdated(card, null);
             
             // Atualizar estatísticas específicas de movimentação
-            moveIntegrations.incrementAndGet();
+            moveIntegrations.increment();
             
             log.debug("Integrações de movimentação coordenadas com sucesso para card: {}", card.getId());
             
         } catch (Exception e) {
-            failedIntegrations.incrementAndGet();
+            failedIntegrations.increment();
             log.error("Erro ao coordenar integrações de movimentação para card {}: {}", 
                      card.getId(), e.getMessage(), e);
             throw new RuntimeException(
@@ -243,12 +289,12 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
             onCardUnscheduled(deletedCard);
             
             // Atualizar estatísticas específicas de exclusão
-            deleteIntegrations.incrementAndGet();
+            deleteIntegrations.increment();
             
             log.debug("Integrações de exclusão coordenadas com sucesso para card: {}", cardId);
             
         } catch (Exception e) {
-            failedIntegrations.incrementAndGet();
+            failedIntegrations.increment();
             log.error("Erro ao coordenar integrações de exclusão para card {}: {}", 
                      cardId, e.getMessage(), e);
             throw new RuntimeException(
@@ -265,13 +311,13 @@ public class DefaultIntegrationCoordinator implements IntegrationCoordinator {
     @Override
     public IntegrationStats getStats() {
         return IntegrationStats.builder()
-                .successfulIntegrations(successfulIntegrations.get())
-                .failedIntegrations(failedIntegrations.get())
-                .scheduledIntegrations(scheduledIntegrations.get())
-                .unscheduledIntegrations(unscheduledIntegrations.get())
-                .updateIntegrations(updateIntegrations.get())
-                .moveIntegrations(moveIntegrations.get())
-                .deleteIntegrations(deleteIntegrations.get())
+                .successfulIntegrations((long) successfulIntegrations.count())
+                .failedIntegrations((long) failedIntegrations.count())
+                .scheduledIntegrations((long) scheduledIntegrations.count())
+                .unscheduledIntegrations((long) unscheduledIntegrations.count())
+                .updateIntegrations((long) updateIntegrations.count())
+                .moveIntegrations((long) moveIntegrations.count())
+                .deleteIntegrations((long) deleteIntegrations.count())
                 .lastIntegrationTime(lastIntegrationTime)
                 .startTime(startTime)
                 .build();
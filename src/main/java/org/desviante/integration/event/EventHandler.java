@@ -0,0 +1,22 @@
+package org.desviante.integration.event;
+
+/**
+ * Função que processa um tipo específico de evento de domínio.
+ * 
+ * @param <E> tipo do evento processado
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see EventHandlers
+ */
+@FunctionalInterface
+public interface EventHandler<E extends DomainEvent> {
+    
+    /**
+     * Processa o evento.
+     * 
+     * @param event evento a ser processado
+     * @throws Exception se ocorrer erro durante o processamento
+     */
+    void handle(E event) throws Exception;
+}
@@ -0,0 +1,121 @@
+package org.desviante.integration.event;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Conjunto de handlers de um observador, indexado pelo tipo de evento.
+ * 
+ * <p>Permite que um observador declare um método para cada tipo de evento
+ * que trata, sem que o {@link EventPublisher} precise conhecer a classe
+ * concreta do observador. O publicador resolve o handler uma vez por tipo
+ * de evento e reutiliza o resultado nas publicações seguintes.</p>
+ * 
+ * <pre>{@code
+ * public EventHandlers getEventHandlers() {
+ *     return EventHandlers.create()
+ *             .on(CardScheduledEvent.class, this::handle)
+ *             .on(CardUnscheduledEvent.class, this::handleUnscheduledEvent);
+ * }
+ * }</pre>
+ * 
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see EventObserver#getEventHandlers()
+ */
+public final class EventHandlers {
+    
+    private static final EventHandlers EMPTY = new EventHandlers(Collections.emptyMap());
+    
+    private final Map<Class<? extends DomainEvent>, EventHandler<DomainEvent>> handlers;
+    
+    private EventHandlers(Map<Class<? extends DomainEvent>, EventHandler<DomainEvent>> handlers) {
+        this.handlers = handlers;
+    }
+    
+    /**
+     * Cria um conjunto vazio para registro de handlers.
+     * 
+     * @return novo conjunto de handlers
+     */
+    public static EventHandlers create() {
+        return new EventHandlers(new LinkedHashMap<>());
+    }
+    
+    /**
+     * Conjunto sem handlers: o observador é chamado pelo seu método {@code handle}.
+     * 
+     * @return conjunto vazio compartilhado
+     */
+    public static EventHandlers none() {
+        return EMPTY;
+    }
+    
+    /**
+     * Registra o handler de um tipo de evento (e de seus subtipos).
+     * 
+     * @param eventType tipo do evento
+     * @param handler função que processa o evento
+     * @param <E> tipo do evento
+     * @return este conjunto, para encadeamento
+     */
+    public <E extends DomainEvent> EventHandlers on(Class<E> eventType, EventHandler<? super E> handler) {
+        if (this == EMPTY) {
+            throw new UnsupportedOperationException("Use EventHandlers.create() para registrar handlers");
+        }
+        handlers.put(eventType, event -> handler.handle(eventType.cast(event)));
+        return this;
+    }
+    
+    /**
+     * Indica se nenhum handler foi registrado.
+     * 
+     * @return true se o conjunto está vazio
+     */
+    public boolean isEmpty() {
+        return handlers.isEmpty();
+    }
+    
+    /**
+     * Resolve o handler mais específico para uma classe de evento, percorrendo
+     * primeiro as superclasses e depois as interfaces implementadas.
+     * 
+     * @param eventClass classe concreta do evento
+     * @return handler registrado para a classe ou um de seus supertipos
+     */
+    public Optional<EventHandler<DomainEvent>> resolve(Class<?> eventClass) {
+        if (handlers.isEmpty()) {
+            return Optional.empty();
+        }
+        for (Class<?> type = eventClass; type != null; type = type.getSuperclass()) {
+            EventHandler<DomainEvent> handler = handlers.get(type);
+            if (handler != null) {
+                return Optional.of(handler);
+            }
+        }
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> type = eventClass; type != null; type = type.getSuperclass()) {
+            Collections.addAll(pending, type.getInterfaces());
+        }
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            EventHandler<DomainEvent> handler = handlers.get(type);
+            if (handler != null) {
+                return Optional.of(handler);
+            }
+            Collections.addAll(pending, type.getInterfaces());
+        }
+        return Optional.empty();
+    }
+}
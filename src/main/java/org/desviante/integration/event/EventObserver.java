@@ -95,4 +95,35 @@ public interface EventObserver<T extends DomainEvent> {
     default String getObserverName() {
         return this.getClass().getSimpleName();
     }
+    
+    /**
+     * Indica se o observador deve rodar sempre na thread de quem publica.
+     * 
+     * <p>Observadores que gravam dados que precisam ser confirmados junto com a
+     * alteração que gerou o evento (ex.: uma fila de saída) devem retornar
+     * true: mesmo com o despacho em virtual threads, o publicador os executa
+     * na thread e, portanto, na transação de quem publica.</p>
+     * 
+     * @return true se o observador exige despacho síncrono (padrão: false)
+     */
+    default boolean requiresSynchronousDispatch() {
+        return false;
+    }
+    
+    /**
+     * Obtém os handlers específicos por tipo de evento deste observador.
+     * 
+     * <p>Observadores que tratam vários tipos de evento com métodos distintos
+     * devem registrá-los aqui; o EventPublisher chama o handler do tipo mais
+     * específico do evento. Quando nenhum handler é registrado (padrão), ou
+     * nenhum corresponde ao evento, o publicador chama {@link #handle}.</p>
+     * 
+     * <p>O resultado é lido uma vez por tipo de evento e mantido em cache
+     * enquanto o observador estiver registrado.</p>
+     * 
+     * @return handlers indexados por tipo de evento
+     */
+    default EventHandlers getEventHandlers() {
+        return EventHandlers.none();
+    }
 }
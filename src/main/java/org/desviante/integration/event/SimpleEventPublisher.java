@@ -1,17 +1,29 @@
 package org.desviante.integration.event;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.desviante.integration.event.card.CardScheduledEvent;
-import org.desviante.integration.event.card.CardUnscheduledEvent;
-import org.desviante.integration.event.card.CardUpdatedEvent;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementação simples do EventPublisher para o sistema de eventos.
@@ -24,11 +36,35 @@ import java.util.concurrent.Executors;
  * <ul>
  *   <li>Thread-safe usando CopyOnWriteArrayList</li>
  *   <li>Ordenação de observadores por prioridade</li>
+ *   <li>Registro de observadores indexado por tipo de evento, com o
+ *       handler de cada observador resolvido uma única vez por tipo</li>
  *   <li>Tratamento de erros isolado por observador</li>
  *   <li>Execução assíncrona com thread pool dedicado</li>
  *   <li>Logging detalhado para debugging</li>
  * </ul>
  * 
+ * <p><strong>Modos de despacho</strong> (propriedade {@code integration.events.dispatch-mode}):</p>
+ * <ul>
+ *   <li>{@link DispatchMode#SYNCHRONOUS} (padrão): os observadores rodam na thread
+ *       de quem publica, em ordem de prioridade e dentro da sua transação</li>
+ *   <li>{@link DispatchMode#VIRTUAL_THREADS}: cada observador processa o evento em
+ *       uma virtual thread, sem bloquear quem publica. Eventos da mesma entidade
+ *       (ex.: o mesmo card) são entregues em ordem a cada observador, e cada
+ *       observador tem uma fila limitada. Com a fila cheia, quem publica espera
+ *       no máximo {@link #DEFAULT_QUEUE_TIMEOUT} (ou o tempo configurado) por
+ *       uma vaga; se ela não surgir, o evento é descartado para aquele
+ *       observador e o future falha. Eventos são publicados pelos controllers
+ *       na thread do JavaFX, que nunca pode ficar bloqueada esperando a fila</li>
+ * </ul>
+ * 
+ * <p>Observadores que retornam true em
+ * {@link EventObserver#requiresSynchronousDispatch()} rodam na thread de quem
+ * publica em qualquer modo de despacho.</p>
+ * 
+ * <p>O tempo de cada observador em cada evento é registrado no timer
+ * {@value #OBSERVER_TIMER}, com as tags {@code observer}, {@code event} e
+ * {@code outcome}, em qualquer modo de despacho.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -40,6 +76,31 @@ import java.util.concurrent.Executors;
 @Slf4j
 public class SimpleEventPublisher implements EventPublisher {
     
+    /**
+     * Capacidade padrão da fila de eventos pendentes de cada observador.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    
+    /**
+     * Espera máxima padrão por uma vaga na fila de um observador.
+     */
+    public static final Duration DEFAULT_QUEUE_TIMEOUT = Duration.ofMillis(100);
+    
+    /**
+     * Timer com a latência de processamento de cada observador.
+     */
+    public static final String OBSERVER_TIMER = "event.observer.duration";
+    
+    /**
+     * Forma como os observadores são executados ao publicar um evento.
+     */
+    public enum DispatchMode {
+        /** Observadores executados na thread de quem publica. */
+        SYNCHRONOUS,
+        /** Observadores executados em virtual threads, com ordem por entidade. */
+        VIRTUAL_THREADS
+    }
+    
     /**
      * Lista thread-safe de observadores registrados.
      * 
@@ -48,25 +109,144 @@ public class SimpleEventPublisher implements EventPublisher {
      */
     private final List<EventObserver<?>> observers = new CopyOnWriteArrayList<>();
     
+    /**
+     * Observadores já ordenados por prioridade e com o handler resolvido,
+     * indexados pela classe concreta do evento.
+     * 
+     * <p>Montado sob demanda na primeira publicação de cada tipo de evento e
+     * substituído por um mapa vazio sempre que a lista de observadores muda.</p>
+     */
+    private volatile Map<Class<?>, ObserverBinding[]> bindingsByEventType = new ConcurrentHashMap<>();
+    
     /**
      * Executor para processamento assíncrono de eventos.
      */
+    private final AtomicInteger asyncThreadCounter = new AtomicInteger();
     private final Executor asyncExecutor = Executors.newFixedThreadPool(5, r -> {
-        Thread thread = new Thread(r, "EventPublisher-Async");
+        Thread thread = new Thread(r, "EventPublisher-Async-" + asyncThreadCounter.incrementAndGet());
         thread.setDaemon(true);
         return thread;
     });
     
+    private final DispatchMode dispatchMode;
+    private final int queueCapacity;
+    private final Duration queueTimeout;
+    
+    /**
+     * Executor de virtual threads usado no modo {@link DispatchMode#VIRTUAL_THREADS}.
+     * Criado apenas quando esse modo está ativo.
+     */
+    private final ExecutorService virtualExecutor;
+    
+    /**
+     * Último processamento enfileirado por observador e entidade.
+     * O próximo evento da mesma entidade só executa após o anterior terminar.
+     */
+    private final Map<LaneKey, CompletableFuture<Void>> laneTails = new ConcurrentHashMap<>();
+    
+    /**
+     * Vagas disponíveis na fila de cada observador (contrapressão).
+     */
+    private final Map<EventObserver<?>, Semaphore> observerPermits = new ConcurrentHashMap<>();
+    
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+    
+    /**
+     * Cria um publicador no modo síncrono.
+     */
+    public SimpleEventPublisher() {
+        this(DispatchMode.SYNCHRONOUS, DEFAULT_QUEUE_CAPACITY);
+    }
+    
+    /**
+     * Cria um publicador com o modo de despacho informado e a espera padrão
+     * por vagas na fila.
+     * 
+     * @param dispatchMode modo de execução dos observadores
+     * @param queueCapacity máximo de eventos pendentes por observador no modo assíncrono
+     */
+    public SimpleEventPublisher(DispatchMode dispatchMode, int queueCapacity) {
+        this(dispatchMode, queueCapacity, DEFAULT_QUEUE_TIMEOUT.toMillis());
+    }
+    
+    /**
+     * Cria um publicador com o modo de despacho informado.
+     * 
+     * @param dispatchMode modo de execução dos observadores
+     * @param queueCapacity máximo de eventos pendentes por observador no modo assíncrono
+     * @param queueTimeoutMillis espera máxima, em milissegundos, por uma vaga na fila cheia
+     */
+    @Autowired
+    public SimpleEventPublisher(
+            @Value("${integration.events.dispatch-mode:SYNCHRONOUS}") DispatchMode dispatchMode,
+            @Value("${integration.events.queue-capacity:" + DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity,
+            @Value("${integration.events.queue-timeout-ms:100}") long queueTimeoutMillis) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Capacidade da fila deve ser positiva");
+        }
+        if (queueTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Espera pela fila não pode ser negativa");
+        }
+        this.dispatchMode = Objects.requireNonNull(dispatchMode, "Modo de despacho não pode ser null");
+        this.queueCapacity = queueCapacity;
+        this.queueTimeout = Duration.ofMillis(queueTimeoutMillis);
+        this.virtualExecutor = dispatchMode == DispatchMode.VIRTUAL_THREADS
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("EventPublisher-Virtual-", 0).factory())
+                : null;
+        log.info("EVENT PUBLISHER - Modo de despacho: {} (fila por observador: {})", dispatchMode, queueCapacity);
+    }
+    
+    /**
+     * Obtém o modo de despacho em uso.
+     * 
+     * @return modo de despacho
+     */
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+    
+    /**
+     * Define o registro onde a latência dos observadores é medida.
+     * 
+     * @param meterRegistry registro de métricas
+     */
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>No modo {@link DispatchMode#VIRTUAL_THREADS} o método apenas enfileira o
+     * evento e retorna, exceto para os observadores que exigem despacho
+     * síncrono; erros dos observadores são registrados no log. Use
+     * {@link #publishAsync(DomainEvent)} para acompanhar a conclusão.</p>
+     */
     @Override
     public void publish(DomainEvent event) {
         if (event == null) {
             throw new IllegalArgumentException("Evento não pode ser null");
         }
         
+        if (dispatchMode == DispatchMode.VIRTUAL_THREADS) {
+            dispatchToLanes(event);
+            return;
+        }
+        
+        publishSynchronously(event);
+    }
+    
+    /**
+     * Notifica os observadores compatíveis na thread atual, em ordem de prioridade.
+     * 
+     * @param event evento a ser publicado
+     */
+    private void publishSynchronously(DomainEvent event) {
         log.info("🚀 EVENT PUBLISHER - Publicando evento: {} para {} observadores", 
                  event.getClass().getSimpleName(), observers.size());
         
-        List<EventObserver<?>> compatibleObservers = findCompatibleObservers(event);
+        List<ObserverBinding> compatibleObservers = findCompatibleObservers(event);
         
         if (compatibleObservers.isEmpty()) {
             log.warn("⚠️ EVENT PUBLISHER - Nenhum observador compatível encontrado para evento: {}", event.getClass().getSimpleName());
@@ -76,16 +256,15 @@ public class SimpleEventPublisher implements EventPublisher {
         log.info("✅ EVENT PUBLISHER - Encontrados {} observadores compatíveis para evento: {}", 
                  compatibleObservers.size(), event.getClass().getSimpleName());
         
-        // Ordenar observadores por prioridade (maior primeiro)
-        compatibleObservers.sort((o1, o2) -> Integer.compare(o2.getPriority(), o1.getPriority()));
-        
         List<Exception> errors = new ArrayList<>();
         
-        for (EventObserver<?> observer : compatibleObservers) {
+        // Observadores já vêm ordenados por prioridade (maior primeiro)
+        for (ObserverBinding binding : compatibleObservers) {
+            EventObserver<?> observer = binding.observer();
             try {
                 log.info("📢 EVENT PUBLISHER - Notificando observador: {} para evento: {}", 
                          observer.getObserverName(), event.getClass().getSimpleName());
-                handleEvent(observer, event);
+                handleEvent(binding, event);
                 log.info("✅ EVENT PUBLISHER - Observador {} processou evento {} com sucesso", 
                          observer.getObserverName(), event.getClass().getSimpleName());
             } catch (Exception e) {
@@ -105,6 +284,13 @@ public class SimpleEventPublisher implements EventPublisher {
                  event.getEventType(), compatibleObservers.size());
     }
     
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>No modo {@link DispatchMode#VIRTUAL_THREADS} o future só é concluído
+     * quando todos os observadores compatíveis terminarem de processar o evento,
+     * e falha com {@link EventPublishingException} se algum deles falhar.</p>
+     */
     @Override
     public CompletableFuture<Void> publishAsync(DomainEvent event) {
         if (event == null) {
@@ -113,9 +299,13 @@ public class SimpleEventPublisher implements EventPublisher {
         
         log.debug("Publicando evento assincronamente: {}", event.getEventType());
         
+        if (dispatchMode == DispatchMode.VIRTUAL_THREADS) {
+            return dispatchToLanes(event);
+        }
+        
         return CompletableFuture.runAsync(() -> {
             try {
-                publish(event);
+                publishSynchronously(event);
             } catch (Exception e) {
                 log.error("Erro durante publicação assíncrona do evento {}: {}", 
                          event.getEventType(), e.getMessage(), e);
@@ -132,6 +322,7 @@ public class SimpleEventPublisher implements EventPublisher {
         
         if (!observers.contains(observer)) {
             observers.add(observer);
+            resetBindings();
             log.debug("Observador {} registrado com sucesso", observer.getObserverName());
         } else {
             log.debug("Observador {} já estava registrado", observer.getObserverName());
@@ -141,6 +332,7 @@ public class SimpleEventPublisher implements EventPublisher {
     @Override
     public void unsubscribe(EventObserver<?> observer) {
         if (observers.remove(observer)) {
+            resetBindings();
             log.debug("Observador {} removido com sucesso", observer.getObserverName());
         } else {
             log.debug("Observador {} não estava registrado", observer.getObserverName());
@@ -160,24 +352,182 @@ public class SimpleEventPublisher implements EventPublisher {
     @Override
     public void clearObservers() {
         observers.clear();
+        resetBindings();
         log.debug("Todos os observadores foram removidos");
     }
     
     /**
-     * Encontra observadores compatíveis com o evento.
+     * Enfileira o evento na fila de cada observador compatível.
+     * 
+     * <p>Cada par (observador, entidade do evento) forma uma fila serial: o evento
+     * só começa a ser processado quando o evento anterior da mesma entidade
+     * terminou naquele observador, mesmo que o anterior tenha falhado. Filas de
+     * entidades ou observadores diferentes executam em paralelo.</p>
+     * 
+     * <p>Se a fila de um observador estiver cheia, a chamada aguarda uma vaga
+     * por no máximo {@code queueTimeout}, limitando a memória usada por rajadas
+     * de eventos sem travar quem publica (em geral a thread do JavaFX). Sem
+     * vaga, o evento não é entregue àquele observador e o future dele falha.</p>
+     * 
+     * <p>Observadores que exigem despacho síncrono não usam fila: são executados
+     * aqui mesmo, na thread de quem publica, na ordem de prioridade.</p>
+     * 
+     * @param event evento a ser despachado
+     * @return future concluído quando todos os observadores terminarem
+     */
+    private CompletableFuture<Void> dispatchToLanes(DomainEvent event) {
+        List<ObserverBinding> compatibleObservers = findCompatibleObservers(event);
+        if (compatibleObservers.isEmpty()) {
+            log.warn("⚠️ EVENT PUBLISHER - Nenhum observador compatível encontrado para evento: {}", event.getClass().getSimpleName());
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        // Enfileirar primeiro nos observadores de maior prioridade (ordem já garantida pelo registro)
+        List<CompletableFuture<Void>> results = new ArrayList<>(compatibleObservers.size());
+        for (ObserverBinding binding : compatibleObservers) {
+            results.add(binding.observer().requiresSynchronousDispatch()
+                    ? runInline(binding, event)
+                    : enqueue(binding, event));
+        }
+        
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> {
+                    Throwable cause = error;
+                    while (cause instanceof CompletionException && cause.getCause() != null) {
+                        cause = cause.getCause();
+                    }
+                    throw new EventPublishingException(
+                            "Erros ocorreram durante a publicação do evento " + event.getEventType(),
+                            cause, event);
+                });
+    }
+    
+    /**
+     * Enfileira o processamento de um evento na fila serial de um observador.
+     * 
+     * <p>A espera por vaga é limitada: a thread do JavaFX nunca deve ficar
+     * parada aqui aguardando um observador lento (ex.: Google Tasks pela rede).
+     * As entregas às integrações externas não se perdem com o descarte, pois
+     * são feitas pela fila de integração (outbox), alimentada por um observador
+     * síncrono.</p>
+     * 
+     * @param binding observador que processará o evento, com seu handler
+     * @param event evento a ser processado
+     * @return future do processamento deste evento neste observador
+     */
+    private CompletableFuture<Void> enqueue(ObserverBinding binding, DomainEvent event) {
+        EventObserver<?> observer = binding.observer();
+        Semaphore permits = observerPermits.computeIfAbsent(observer, o -> new Semaphore(queueCapacity));
+        try {
+            if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("⚠️ EVENT PUBLISHER - Fila do observador {} cheia ({} eventos); evento {} descartado para ele",
+                        observer.getObserverName(), queueCapacity, event.getClass().getSimpleName());
+                return CompletableFuture.failedFuture(new EventPublishingException(
+                        "Fila do observador " + observer.getObserverName() + " cheia", event));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new EventPublishingException(
+                    "Publicação interrompida aguardando a fila do observador " + observer.getObserverName(),
+                    e, event));
+        }
+        
+        LaneKey key = new LaneKey(observer, laneIdOf(event));
+        CompletableFuture<Void> task = laneTails.compute(key, (k, previous) -> {
+            CompletableFuture<Void> predecessor = previous != null
+                    ? previous.handle((result, error) -> null)
+                    : CompletableFuture.completedFuture(null);
+            return predecessor.thenRunAsync(() -> runObserver(binding, event), virtualExecutor);
+        });
+        
+        task.whenComplete((result, error) -> {
+            permits.release();
+            // Remover a fila quando não há mais eventos pendentes para a entidade
+            laneTails.remove(key, task);
+        });
+        return task;
+    }
+    
+    /**
+     * Executa um observador na thread atual, devolvendo o resultado como future.
+     */
+    private CompletableFuture<Void> runInline(ObserverBinding binding, DomainEvent event) {
+        try {
+            runObserver(binding, event);
+            return CompletableFuture.completedFuture(null);
+        } catch (CompletionException e) {
+            return CompletableFuture.failedFuture(e.getCause());
+        }
+    }
+    
+    /**
+     * Executa um observador, registrando falhas no log e propagando-as ao future.
+     */
+    private void runObserver(ObserverBinding binding, DomainEvent event) {
+        EventObserver<?> observer = binding.observer();
+        try {
+            log.debug("📢 EVENT PUBLISHER - Notificando observador: {} para evento: {}", 
+                     observer.getObserverName(), event.getClass().getSimpleName());
+            handleEvent(binding, event);
+        } catch (Exception e) {
+            log.error("❌ EVENT PUBLISHER - Erro ao processar evento {} no observador {}: {}", 
+                     event.getClass().getSimpleName(), observer.getObserverName(), e.getMessage(), e);
+            throw new CompletionException(e);
+        }
+    }
+    
+    /**
+     * Identifica a entidade do evento para fins de ordenação.
+     * Eventos sem entidade compartilham uma única fila por observador.
+     */
+    private static Object laneIdOf(DomainEvent event) {
+        Long entityId = event.getEntityId();
+        if (entityId == null) {
+            return "global";
+        }
+        return event.getEntityType() + ":" + entityId;
+    }
+    
+    /**
+     * Chave da fila serial de um observador para uma entidade.
+     */
+    private record LaneKey(EventObserver<?> observer, Object entity) {
+    }
+    
+    /**
+     * Observador registrado e o handler resolvido para um tipo de evento.
+     */
+    private record ObserverBinding(EventObserver<?> observer, EventHandler<DomainEvent> handler) {
+    }
+    
+    /**
+     * Descarta o registro por tipo de evento após mudança nos observadores.
+     * 
+     * <p>Um novo mapa é criado em vez de limpar o atual, para que uma
+     * montagem em andamento com a lista antiga não seja gravada no novo registro.</p>
+     */
+    private void resetBindings() {
+        bindingsByEventType = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Encontra observadores compatíveis com o evento, já ordenados por prioridade.
+     * 
+     * <p>A ordenação e a resolução dos handlers acontecem uma vez por tipo de
+     * evento; a cada publicação resta apenas consultar {@code canHandle}, que
+     * pode depender do conteúdo do evento.</p>
      * 
      * @param event evento para verificação de compatibilidade
      * @return lista de observadores compatíveis
      */
-    private List<EventObserver<?>> findCompatibleObservers(DomainEvent event) {
-        List<EventObserver<?>> compatible = observers.stream()
-                .filter(observer -> {
-                    boolean canHandle = observer.canHandle(event);
-                    log.debug("Observador {} pode lidar com evento {}: {}", 
-                             observer.getObserverName(), event.getClass().getSimpleName(), canHandle);
-                    return canHandle;
-                })
-                .collect(java.util.stream.Collectors.toList());
+    private List<ObserverBinding> findCompatibleObservers(DomainEvent event) {
+        ObserverBinding[] bindings = bindingsByEventType.computeIfAbsent(event.getClass(), this::buildBindings);
+        List<ObserverBinding> compatible = new ArrayList<>(bindings.length);
+        for (ObserverBinding binding : bindings) {
+            if (binding.observer().canHandle(event)) {
+                compatible.add(binding);
+            }
+        }
         
         log.debug("Encontrados {} observadores compatíveis para evento {}", 
                  compatible.size(), event.getClass().getSimpleName());
@@ -185,41 +535,60 @@ public class SimpleEventPublisher implements EventPublisher {
     }
     
     /**
-     * Processa um evento em um observador específico.
+     * Monta o registro de um tipo de evento: todos os observadores em ordem
+     * de prioridade (maior primeiro, mantendo a ordem de registro em empates),
+     * cada um com o handler correspondente ao tipo.
      * 
-     * <p>Usa reflection para chamar o método handle() com o tipo correto,
-     * garantindo type-safety em tempo de execução.</p>
+     * @param eventClass classe concreta do evento
+     * @return observadores com seus handlers
+     */
+    private ObserverBinding[] buildBindings(Class<?> eventClass) {
+        log.debug("Montando registro de observadores para evento {}", eventClass.getSimpleName());
+        return observers.stream()
+                .sorted(Comparator.comparingInt((EventObserver<?> observer) -> observer.getPriority()).reversed())
+                .map(observer -> new ObserverBinding(observer, resolveHandler(observer, eventClass)))
+                .toArray(ObserverBinding[]::new);
+    }
+    
+    /**
+     * Resolve o handler de um observador para um tipo de evento. Sem handler
+     * específico registrado, usa o método {@code handle} do observador.
+     */
+    @SuppressWarnings("unchecked")
+    private static EventHandler<DomainEvent> resolveHandler(EventObserver<?> observer, Class<?> eventClass) {
+        return observer.getEventHandlers()
+                .resolve(eventClass)
+                .orElse(((EventObserver<DomainEvent>) observer)::handle);
+    }
+    
+    /**
+     * Processa um evento em um observador específico, pelo handler resolvido
+     * para o tipo do evento.
      * 
-     * @param observer observador que deve processar o evento
+     * @param binding observador e handler que devem processar o evento
      * @param event evento a ser processado
      */
-    @SuppressWarnings("unchecked")
-    private void handleEvent(EventObserver<?> observer, DomainEvent event) throws Exception {
+    private void handleEvent(ObserverBinding binding, DomainEvent event) throws Exception {
+        long start = System.nanoTime();
+        String outcome = "error";
         try {
-            // Tratar diferentes tipos de eventos baseado no tipo específico
-            if (event instanceof CardScheduledEvent && observer instanceof org.desviante.integration.observer.CalendarSyncObserver) {
-                ((org.desviante.integration.observer.CalendarSyncObserver) observer).handle((CardScheduledEvent) event);
-            } else if (event instanceof CardUnscheduledEvent && observer instanceof org.desviante.integration.observer.CalendarSyncObserver) {
-                ((org.desviante.integration.observer.CalendarSyncObserver) observer).handleUnscheduledEvent((CardUnscheduledEvent) event);
-            } else if (event instanceof CardUpdatedEvent && observer instanceof org.desviante.integration.observer.CalendarSyncObserver) {
-                ((org.desviante.integration.observer.CalendarSyncObserver) observer).handleUpdatedEvent((CardUpdatedEvent) event);
-            } else if (event instanceof CardScheduledEvent && observer instanceof org.desviante.integration.observer.GoogleTasksSyncObserver) {
-                ((org.desviante.integration.observer.GoogleTasksSyncObserver) observer).handle((CardScheduledEvent) event);
-            } else if (event instanceof CardUnscheduledEvent && observer instanceof org.desviante.integration.observer.GoogleTasksSyncObserver) {
-                ((org.desviante.integration.observer.GoogleTasksSyncObserver) observer).handleUnscheduledEvent((CardUnscheduledEvent) event);
-            } else if (event instanceof CardUpdatedEvent && observer instanceof org.desviante.integration.observer.GoogleTasksSyncObserver) {
-                // GoogleTasksSyncObserver não precisa processar eventos de atualização
-                log.debug("GoogleTasksSyncObserver ignorando evento CardUpdatedEvent");
-            } else {
-                // Fallback para cast genérico
-                ((EventObserver<DomainEvent>) observer).handle(event);
-            }
+            binding.handler().handle(event);
+            outcome = "success";
         } catch (ClassCastException e) {
             log.error("Erro de tipo ao processar evento {} no observador {}: {}", 
-                     event.getEventType(), observer.getObserverName(), e.getMessage());
+                     event.getEventType(), binding.observer().getObserverName(), e.getMessage());
             throw new EventPublishingException(
-                "Erro de tipo ao processar evento no observador " + observer.getObserverName(),
+                "Erro de tipo ao processar evento no observador " + binding.observer().getObserverName(),
                 e, event);
+        } finally {
+            Timer.builder(OBSERVER_TIMER)
+                    .tag("observer", Objects.toString(binding.observer().getObserverName(),
+                            binding.observer().getClass().getSimpleName()))
+                    .tag("event", event.getClass().getSimpleName())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 }
@@ -7,6 +7,7 @@ import org.desviante.calendar.CalendarEventPriority;
 import org.desviante.calendar.CalendarEventType;
 import org.desviante.calendar.CalendarService;
 import org.desviante.calendar.dto.CalendarEventDTO;
+import org.desviante.integration.event.EventHandlers;
 import org.desviante.integration.event.EventObserver;
 import org.desviante.integration.event.card.CardScheduledEvent;
 import org.desviante.integration.event.card.CardUnscheduledEvent;
@@ -130,6 +131,14 @@ public class CalendarSyncObserver implements EventObserver<CardScheduledEvent> {
                event instanceof CardUpdatedEvent;
     }
     
+    @Override
+    public EventHandlers getEventHandlers() {
+        return EventHandlers.create()
+                .on(CardScheduledEvent.class, this::handle)
+                .on(CardUnscheduledEvent.class, this::handleUnscheduledEvent)
+                .on(CardUpdatedEvent.class, this::handleUpdatedEvent);
+    }
+    
     @Override
     public int getPriority() {
         return 20; // Prioridade alta para calendário (mais alta que Google Tasks)
@@ -2,6 +2,7 @@ package org.desviante.integration.observer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.desviante.integration.event.EventHandlers;
 import org.desviante.integration.event.EventObserver;
 import org.desviante.integration.event.DomainEvent;
 import org.desviante.integration.event.card.CardScheduledEvent;
@@ -10,12 +11,16 @@ import org.desviante.integration.event.card.CardUpdatedEvent;
 import org.desviante.model.Card;
 import org.desviante.model.Task;
 import org.desviante.service.TaskService;
+import org.desviante.service.dto.CreateTaskRequest;
 import org.desviante.service.BoardService;
 import org.desviante.service.BoardColumnService;
 import org.desviante.integration.retry.RetryExecutor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Observador responsável pela sincronização com Google Tasks.
@@ -174,6 +179,14 @@ public class GoogleTasksSyncObserver implements EventObserver<DomainEvent> {
                event instanceof CardUpdatedEvent;
     }
     
+    @Override
+    public EventHandlers getEventHandlers() {
+        return EventHandlers.create()
+                .on(CardScheduledEvent.class, this::handleScheduledEvent)
+                .on(CardUnscheduledEvent.class, this::handleUnscheduledEvent)
+                // Eventos de atualização não precisam ser processados pelo Google Tasks
+                .on(CardUpdatedEvent.class, event -> log.debug("GoogleTasksSyncObserver ignorando evento CardUpdatedEvent"));
+    }
     
     @Override
     public int getPriority() {
@@ -254,6 +267,27 @@ public class GoogleTasksSyncObserver implements EventObserver<DomainEvent> {
         log.info("GOOGLE TASKS OBSERVER - Task criada com sucesso! ID local: {}, Google ID: {}", createdTask.getId(), createdTask.getGoogleTaskId());
     }
     
+    /**
+     * Cria as tasks de vários cards agendados em requisições em lote.
+     * 
+     * <p>Usado pela fila de integração para entregar de uma vez os primeiros
+     * agendamentos de um lote, em vez de uma requisição por card. Cada card é
+     * tratado como em {@link #handleScheduledEvent} na primeira vez em que é
+     * agendado; a falha de um card não impede a criação dos demais.</p>
+     * 
+     * @param cards cards agendados que ainda não têm task
+     * @return mensagem de erro de cada card cuja task não foi criada, pelo ID do card
+     */
+    public Map<Long, String> createGoogleTasks(List<Card> cards) {
+        Map<Long, CreateTaskRequest> requests = new LinkedHashMap<>();
+        for (Card card : cards) {
+            requests.put(card.getId(), new CreateTaskRequest(
+                    getBoardTitleForCard(card), card.getTitle(), buildTaskNotes(card), card.getScheduledDate()));
+        }
+        log.info("GOOGLE TASKS OBSERVER - Criando {} tasks em lote", requests.size());
+        return taskService.createTasks(requests);
+    }
+    
     /**
      * Remove uma task do Google Tasks quando um card é desagendado com retry automático.
      * 
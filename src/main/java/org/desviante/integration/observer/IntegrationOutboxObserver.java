@@ -0,0 +1,173 @@
+package org.desviante.integration.observer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.desviante.integration.event.DomainEvent;
+import org.desviante.integration.event.EventHandlers;
+import org.desviante.integration.event.EventObserver;
+import org.desviante.integration.event.card.CardScheduledEvent;
+import org.desviante.integration.event.card.CardUnscheduledEvent;
+import org.desviante.integration.event.card.CardUpdatedEvent;
+import org.desviante.integration.sync.IntegrationOutboxWorker;
+import org.desviante.integration.sync.IntegrationSyncRepository;
+import org.desviante.integration.sync.IntegrationType;
+import org.desviante.model.Card;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Observador que enfileira a sincronização de cards na fila de integração.
+ *
+ * <p>Substitui a chamada direta ao Google Tasks e ao calendário durante a
+ * alteração do card: cada evento apenas grava ou reaproveita o registro em
+ * {@code integration_sync_status}, e o {@link IntegrationOutboxWorker} faz a
+ * entrega depois. O observador exige despacho síncrono
+ * ({@link #requiresSynchronousDispatch()}): mesmo com o publicador em virtual
+ * threads, o registro é gravado na thread e na transação de quem publicou o
+ * evento, e o worker só é acordado depois da confirmação.</p>
+ *
+ * <p>Eventos de atualização só afetam o calendário, como antes: o
+ * {@link GoogleTasksSyncObserver} ignora esses eventos.</p>
+ *
+ * <p>Um card excluído não pode ter registro na fila (a chave estrangeira
+ * remove o registro junto com o card); nesse caso a remoção é entregue
+ * imediatamente aos observadores de sincronização.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IntegrationOutboxWorker
+ * @see IntegrationSyncRepository#enqueue
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IntegrationOutboxObserver implements EventObserver<DomainEvent> {
+
+    private final IntegrationSyncRepository syncRepository;
+    private final GoogleTasksSyncObserver googleTasksSyncObserver;
+    private final CalendarSyncObserver calendarSyncObserver;
+    private final ObjectProvider<IntegrationOutboxWorker> outboxWorker;
+
+    @Override
+    public void handle(DomainEvent event) throws Exception {
+        if (event instanceof CardScheduledEvent scheduledEvent) {
+            handleScheduledEvent(scheduledEvent);
+        } else if (event instanceof CardUnscheduledEvent unscheduledEvent) {
+            handleUnscheduledEvent(unscheduledEvent);
+        } else if (event instanceof CardUpdatedEvent updatedEvent) {
+            handleUpdatedEvent(updatedEvent);
+        }
+    }
+
+    /**
+     * Enfileira a criação ou atualização da tarefa e do evento de um card agendado.
+     *
+     * @param event evento de agendamento
+     */
+    public void handleScheduledEvent(CardScheduledEvent event) {
+        if (event.getCard() == null) {
+            return;
+        }
+        enqueue(event.getCard(), IntegrationType.GOOGLE_TASKS, IntegrationType.CALENDAR);
+    }
+
+    /**
+     * Enfileira a remoção da tarefa e do evento de um card desagendado.
+     *
+     * @param event evento de desagendamento
+     * @throws Exception se a entrega imediata de um card excluído falhar
+     */
+    public void handleUnscheduledEvent(CardUnscheduledEvent event) throws Exception {
+        if (event.getCard() == null) {
+            return;
+        }
+        if (!enqueue(event.getCard(), IntegrationType.GOOGLE_TASKS, IntegrationType.CALENDAR)) {
+            log.debug("Card {} não existe mais, entregando a remoção imediatamente", event.getCard().getId());
+            googleTasksSyncObserver.handleUnscheduledEvent(event);
+            calendarSyncObserver.handleUnscheduledEvent(event);
+        }
+    }
+
+    /**
+     * Enfileira a atualização do evento no calendário de um card agendado.
+     *
+     * @param event evento de atualização
+     */
+    public void handleUpdatedEvent(CardUpdatedEvent event) {
+        Card card = event.getCard();
+        if (card == null || !event.requiresExternalSync()) {
+            return;
+        }
+        Card previousCard = event.getPreviousCard();
+        boolean wasScheduled = previousCard != null && previousCard.getScheduledDate() != null;
+        if (card.getScheduledDate() != null || wasScheduled) {
+            enqueue(card, IntegrationType.CALENDAR);
+        }
+    }
+
+    @Override
+    public boolean canHandle(DomainEvent event) {
+        return event instanceof CardScheduledEvent ||
+               event instanceof CardUnscheduledEvent ||
+               event instanceof CardUpdatedEvent;
+    }
+
+    @Override
+    public EventHandlers getEventHandlers() {
+        return EventHandlers.create()
+                .on(CardScheduledEvent.class, this::handleScheduledEvent)
+                .on(CardUnscheduledEvent.class, this::handleUnscheduledEvent)
+                .on(CardUpdatedEvent.class, this::handleUpdatedEvent);
+    }
+
+    @Override
+    public int getPriority() {
+        return 20;
+    }
+
+    @Override
+    public String getObserverName() {
+        return "IntegrationOutboxObserver";
+    }
+
+    /**
+     * O registro na fila precisa ser confirmado junto com a alteração do card.
+     *
+     * @return sempre true
+     */
+    @Override
+    public boolean requiresSynchronousDispatch() {
+        return true;
+    }
+
+    private boolean enqueue(Card card, IntegrationType... integrationTypes) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean queued = false;
+        for (IntegrationType integrationType : integrationTypes) {
+            queued |= syncRepository.enqueue(card.getId(), integrationType, now);
+        }
+        if (queued) {
+            log.debug("Sincronização do card {} enfileirada", card.getId());
+            wakeWorkerAfterCommit();
+        }
+        return queued;
+    }
+
+    private void wakeWorkerAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxWorker.ifAvailable(IntegrationOutboxWorker::wakeUp);
+                }
+            });
+        } else {
+            outboxWorker.ifAvailable(IntegrationOutboxWorker::wakeUp);
+        }
+    }
+}
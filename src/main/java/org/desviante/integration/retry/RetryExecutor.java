@@ -1,5 +1,7 @@
 package org.desviante.integration.retry;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,6 +26,10 @@ import java.util.function.Supplier;
  *   <li><strong>DIP:</strong> Depende de abstrações (RetryStrategy, Supplier)</li>
  * </ul>
  * 
+ * <p>Cada tentativa incrementa o contador {@value #ATTEMPTS_METRIC} e cada
+ * execução o contador {@value #RESULTS_METRIC}, ambos com as tags
+ * {@code operation}, {@code integration} e {@code outcome}.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -35,8 +41,29 @@ import java.util.function.Supplier;
 @Slf4j
 public class RetryExecutor {
     
+    /**
+     * Contador de tentativas executadas.
+     */
+    public static final String ATTEMPTS_METRIC = "retry.attempts";
+    
+    /**
+     * Contador de execuções concluídas, com ou sem sucesso.
+     */
+    public static final String RESULTS_METRIC = "retry.results";
+    
     private final RetryStrategy strategy;
     
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+    
+    /**
+     * Define o registro onde as tentativas e os resultados são contados.
+     * 
+     * @param meterRegistry registro de métricas
+     */
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
     /**
      * Executa uma operação com retry automático.
      * 
@@ -119,6 +146,7 @@ public class RetryExecutor {
         
         log.info("Execução com retry finalizada para operação {} (ID: {}): {}", 
                 context.getOperationType(), context.getRetryId(), result.getSummary());
+        count(RESULTS_METRIC, context, result.isSuccessful());
         
         return result;
     }
@@ -189,15 +217,24 @@ public class RetryExecutor {
             Object operationResult = operation.get();
             attempt.markAsSuccessful(LocalDateTime.now());
             context.addAttempt(attempt);
+            count(ATTEMPTS_METRIC, context, true);
             return operationResult;
             
         } catch (Exception e) {
             attempt.markAsFailed(e, LocalDateTime.now());
             context.addAttempt(attempt);
+            count(ATTEMPTS_METRIC, context, false);
             throw e;
         }
     }
     
+    private void count(String metric, RetryContext context, boolean success) {
+        meterRegistry.counter(metric,
+                "operation", String.valueOf(context.getOperationType()),
+                "integration", String.valueOf(context.getIntegrationType()),
+                "outcome", success ? "success" : "failure").increment();
+    }
+    
     /**
      * Registra uma tentativa falhada.
      * 
@@ -0,0 +1,309 @@
+package org.desviante.integration.sync;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.desviante.event.MainWindowShownEvent;
+import org.desviante.integration.event.card.CardScheduledEvent;
+import org.desviante.integration.event.card.CardUnscheduledEvent;
+import org.desviante.integration.observer.CalendarSyncObserver;
+import org.desviante.integration.observer.GoogleTasksSyncObserver;
+import org.desviante.integration.retry.RetryConfig;
+import org.desviante.model.Card;
+import org.desviante.repository.CardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker da fila de integração (outbox) baseada em {@code integration_sync_status}.
+ *
+ * <p>As alterações de cards apenas enfileiram registros {@code PENDING} na
+ * mesma transação da escrita, pelo
+ * {@link org.desviante.integration.observer.IntegrationOutboxObserver}, que
+ * roda na thread de quem publica em qualquer modo de despacho (ver
+ * {@link IntegrationSyncRepository#enqueue}).
+ * Este worker reserva esses registros em lotes e os entrega ao Google Tasks e
+ * ao calendário em um pool de threads daemon, usando o estado atual do card:
+ * card agendado cria ou atualiza a tarefa/evento, card sem agendamento os remove.
+ * As tarefas do Google Tasks a criar pela primeira vez em um lote são enviadas
+ * juntas, em requisições em lote
+ * ({@link GoogleTasksSyncObserver#createGoogleTasks(List)}).</p>
+ *
+ * <p>Cada entrega já passa pelo {@link org.desviante.integration.retry.RetryExecutor}
+ * dos observadores. Se ainda assim falhar, o registro volta para a fila como
+ * {@code RETRY} com espera exponencial ({@link #BACKOFF}), até o máximo de
+ * tentativas do registro, quando fica como {@code ERROR}. Reservas de entregas
+ * interrompidas (por exemplo, a aplicação foi encerrada) expiram após
+ * {@link #CLAIM_TIMEOUT} e são entregues de novo.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IntegrationSyncRepository
+ * @see GoogleTasksSyncObserver
+ * @see CalendarSyncObserver
+ */
+@Service
+@Profile("!test")
+@Slf4j
+public class IntegrationOutboxWorker {
+
+    /**
+     * Quantidade máxima de registros reservados por lote.
+     */
+    static final int BATCH_SIZE = 20;
+
+    /**
+     * Quantidade de threads que entregam os registros de um lote.
+     */
+    static final int WORKER_THREADS = 2;
+
+    /**
+     * Intervalo entre verificações da fila quando ninguém a acorda.
+     */
+    static final Duration POLL_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * Tempo após o qual a reserva de um registro é considerada abandonada.
+     */
+    static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    /**
+     * Espera entre as tentativas de entrega de um mesmo registro.
+     */
+    static final RetryConfig BACKOFF = RetryConfig.builder()
+            .initialDelay(Duration.ofSeconds(30))
+            .maxDelay(Duration.ofMinutes(30))
+            .backoffMultiplier(2.0)
+            .enableJitter(false)
+            .build();
+
+    private final IntegrationSyncRepository syncRepository;
+    private final CardRepository cardRepository;
+    private final GoogleTasksSyncObserver googleTasksSyncObserver;
+    private final CalendarSyncObserver calendarSyncObserver;
+    private final Clock clock;
+
+    private ScheduledExecutorService poller;
+    private ExecutorService workers;
+
+    /**
+     * Cria o worker usando o relógio do sistema.
+     *
+     * @param syncRepository repositório da fila de integração
+     * @param cardRepository repositório de cards
+     * @param googleTasksSyncObserver entrega ao Google Tasks
+     * @param calendarSyncObserver entrega ao calendário
+     */
+    @Autowired
+    public IntegrationOutboxWorker(IntegrationSyncRepository syncRepository,
+                                   CardRepository cardRepository,
+                                   GoogleTasksSyncObserver googleTasksSyncObserver,
+                                   CalendarSyncObserver calendarSyncObserver) {
+        this(syncRepository, cardRepository, googleTasksSyncObserver, calendarSyncObserver, Clock.systemDefaultZone());
+    }
+
+    IntegrationOutboxWorker(IntegrationSyncRepository syncRepository,
+                            CardRepository cardRepository,
+                            GoogleTasksSyncObserver googleTasksSyncObserver,
+                            CalendarSyncObserver calendarSyncObserver,
+                            Clock clock) {
+        this.syncRepository = syncRepository;
+        this.cardRepository = cardRepository;
+        this.googleTasksSyncObserver = googleTasksSyncObserver;
+        this.calendarSyncObserver = calendarSyncObserver;
+        this.clock = clock;
+    }
+
+    /**
+     * Inicia o processamento da fila depois que a janela principal é exibida.
+     *
+     * @param event evento de janela principal exibida
+     */
+    @EventListener(MainWindowShownEvent.class)
+    public synchronized void start(MainWindowShownEvent event) {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Integration-Outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger workerCounter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(WORKER_THREADS, r -> {
+            Thread thread = new Thread(r, "Integration-Outbox-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::drain, 0, POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Fila de integração iniciada ({} threads, lotes de {})", WORKER_THREADS, BATCH_SIZE);
+    }
+
+    /**
+     * Interrompe o processamento da fila.
+     *
+     * <p>Registros reservados e não concluídos são entregues de novo na próxima
+     * inicialização, depois que a reserva expirar.</p>
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            workers.shutdownNow();
+            poller = null;
+            workers = null;
+        }
+    }
+
+    /**
+     * Antecipa a próxima verificação da fila, sem esperar o intervalo.
+     *
+     * <p>Chamado depois que uma transação com registros enfileirados é confirmada.
+     * Não faz nada enquanto o worker não foi iniciado.</p>
+     */
+    public synchronized void wakeUp() {
+        if (poller != null && !poller.isShutdown()) {
+            poller.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (processBatch() == BATCH_SIZE) {
+                // Lote cheio: ainda pode haver registros prontos na fila
+            }
+        } catch (Exception e) {
+            log.error("Erro ao processar a fila de integração: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reserva um lote da fila e entrega seus registros.
+     *
+     * @return quantidade de registros reservados
+     */
+    int processBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String claimToken = UUID.randomUUID().toString();
+        List<IntegrationSyncStatus> batch = syncRepository.claimBatch(claimToken, BATCH_SIZE, now, now.minus(CLAIM_TIMEOUT));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        log.debug("Fila de integração: {} registros reservados", batch.size());
+
+        Map<Long, Card> cards = new HashMap<>();
+        for (IntegrationSyncStatus status : batch) {
+            cardRepository.findById(status.getCardId()).ifPresent(card -> cards.put(card.getId(), card));
+        }
+        List<IntegrationSyncStatus> newTasks = new ArrayList<>();
+        List<IntegrationSyncStatus> others = new ArrayList<>();
+        for (IntegrationSyncStatus status : batch) {
+            Card card = cards.get(status.getCardId());
+            boolean newTask = status.getIntegrationType() == IntegrationType.GOOGLE_TASKS
+                    && status.getLastSyncDate() == null
+                    && card != null && card.getScheduledDate() != null;
+            (newTask ? newTasks : others).add(status);
+        }
+
+        Executor executor = workers != null ? workers : Runnable::run;
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        if (!newTasks.isEmpty()) {
+            deliveries.add(CompletableFuture.runAsync(() -> createGoogleTasks(newTasks, cards, claimToken), executor));
+        }
+        others.forEach(status -> deliveries.add(CompletableFuture.runAsync(
+                () -> process(status, cards.get(status.getCardId()), claimToken), executor)));
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+        return batch.size();
+    }
+
+    private void process(IntegrationSyncStatus status, Card card, String claimToken) {
+        try {
+            if (card != null) {
+                deliver(status, card);
+            }
+            complete(status, claimToken);
+        } catch (Exception e) {
+            fail(status, claimToken, e.getMessage());
+        }
+    }
+
+    /**
+     * Cria em lote as tarefas do Google Tasks dos cards agendados pela primeira
+     * vez. Só os registros cujas tarefas falharam voltam para a fila.
+     */
+    private void createGoogleTasks(List<IntegrationSyncStatus> statuses, Map<Long, Card> cards, String claimToken) {
+        Map<Long, String> errors;
+        try {
+            errors = googleTasksSyncObserver.createGoogleTasks(
+                    statuses.stream().map(status -> cards.get(status.getCardId())).toList());
+        } catch (Exception e) {
+            statuses.forEach(status -> fail(status, claimToken, e.getMessage()));
+            return;
+        }
+        for (IntegrationSyncStatus status : statuses) {
+            if (errors.containsKey(status.getCardId())) {
+                fail(status, claimToken, errors.get(status.getCardId()));
+            } else {
+                complete(status, claimToken);
+            }
+        }
+    }
+
+    private void complete(IntegrationSyncStatus status, String claimToken) {
+        if (!syncRepository.completeClaim(status.getId(), claimToken, LocalDateTime.now(clock))) {
+            // O card mudou durante a entrega: liberar para entregar o estado atual
+            syncRepository.releaseClaim(status.getId());
+        }
+    }
+
+    private void fail(IntegrationSyncStatus status, String claimToken, String errorMessage) {
+        int attempt = status.getRetryCount() + 1;
+        LocalDateTime nextAttemptAt = LocalDateTime.now(clock).plus(BACKOFF.calculateDelay(attempt));
+        log.warn("Falha na entrega de {} para o card {} (tentativa {}/{}): {}",
+                status.getIntegrationType(), status.getCardId(), attempt, status.getMaxRetries(), errorMessage);
+        if (!syncRepository.failClaim(status.getId(), claimToken, errorMessage, nextAttemptAt)) {
+            syncRepository.releaseClaim(status.getId());
+        }
+    }
+
+    private void deliver(IntegrationSyncStatus status, Card card) throws Exception {
+        if (card.getScheduledDate() != null) {
+            // Sem entrega anterior, a tarefa/evento ainda precisa ser criado
+            CardScheduledEvent event = CardScheduledEvent.builder()
+                    .card(card)
+                    .scheduledDate(card.getScheduledDate())
+                    .previousScheduledDate(status.getLastSyncDate() == null ? null : card.getScheduledDate())
+                    .build();
+            switch (status.getIntegrationType()) {
+                case GOOGLE_TASKS -> googleTasksSyncObserver.handleScheduledEvent(event);
+                case CALENDAR -> calendarSyncObserver.handle(event);
+            }
+        } else {
+            CardUnscheduledEvent event = CardUnscheduledEvent.builder()
+                    .card(card)
+                    .build();
+            switch (status.getIntegrationType()) {
+                case GOOGLE_TASKS -> googleTasksSyncObserver.handleUnscheduledEvent(event);
+                case CALENDAR -> calendarSyncObserver.handleUnscheduledEvent(event);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.desviante.integration.sync;
 
+import org.desviante.repository.SchemaVersionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -39,8 +41,15 @@ import java.util.Optional;
 @Repository
 public class IntegrationSyncRepository {
     
+    /**
+     * Componente e versão das colunas da fila de integração em {@code schema_versions}.
+     */
+    public static final String OUTBOX_SCHEMA_COMPONENT = "integration_sync_status.outbox-columns";
+    public static final int OUTBOX_SCHEMA_VERSION = 1;
+    
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
+    private final DataSource dataSource;
     
     /**
      * Construtor que inicializa os templates JDBC necessários.
@@ -54,6 +63,30 @@ public class IntegrationSyncRepository {
                 .usingColumns("card_id", "integration_type", "external_id", "sync_status", 
                              "last_sync_date", "error_message", "retry_count", "max_retries")
                 .usingGeneratedKeyColumns("id");
+        this.dataSource = dataSource;
+        
+        // Garantir que as colunas da fila de integração existam (apenas uma vez por versão do esquema)
+        new SchemaVersionRepository(dataSource)
+                .runOnce(OUTBOX_SCHEMA_COMPONENT, OUTBOX_SCHEMA_VERSION, this::ensureOutboxColumnsExist);
+    }
+    
+    /**
+     * Adiciona as colunas da fila de integração em bancos criados antes dela.
+     * 
+     * @return true se as colunas e o índice foram garantidos
+     */
+    private boolean ensureOutboxColumnsExist() {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        try {
+            template.execute("ALTER TABLE integration_sync_status ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP");
+            template.execute("ALTER TABLE integration_sync_status ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP");
+            template.execute("ALTER TABLE integration_sync_status ADD COLUMN IF NOT EXISTS claim_token VARCHAR(36)");
+            template.execute("CREATE INDEX IF NOT EXISTS idx_integration_sync_outbox ON integration_sync_status(sync_status, next_attempt_at)");
+            return true;
+        } catch (Exception e) {
+            // A tabela pode ainda não existir; a verificação se repete na próxima inicialização
+            return false;
+        }
     }
     
     /**
@@ -82,6 +115,11 @@ public class IntegrationSyncRepository {
         status.setRetryCount(rs.getInt("retry_count"));
         status.setMaxRetries(rs.getInt("max_retries"));
         
+        Timestamp nextAttemptTimestamp = rs.getTimestamp("next_attempt_at");
+        if (nextAttemptTimestamp != null) {
+            status.setNextAttemptAt(nextAttemptTimestamp.toLocalDateTime());
+        }
+        
         Timestamp createdAtTimestamp = rs.getTimestamp("created_at");
         if (createdAtTimestamp != null) {
             status.setCreatedAt(createdAtTimestamp.toLocalDateTime());
@@ -236,6 +274,163 @@ public class IntegrationSyncRepository {
         return jdbcTemplate.query(sql, syncStatusRowMapper);
     }
     
+    /**
+     * Enfileira a sincronização de um card com um sistema externo.
+     * 
+     * <p>Cria o registro de sincronização, ou reaproveita o existente, como
+     * {@code PENDING} com o contador de tentativas zerado. Vários enfileiramentos
+     * do mesmo card se acumulam em uma única entrega, que usa o estado do card
+     * no momento em que for processada. Quando o card não existe (por exemplo,
+     * já foi excluído), nada é gravado.</p>
+     * 
+     * <p>Roda na transação de quem chama, para que o registro seja gravado
+     * junto com a alteração do card.</p>
+     * 
+     * @param cardId ID do card
+     * @param integrationType tipo de integração
+     * @param now momento a partir do qual o registro pode ser entregue
+     * @return true se o registro foi gravado
+     */
+    public boolean enqueue(Long cardId, IntegrationType integrationType, LocalDateTime now) {
+        // Uma entrega em andamento mantém a reserva; o token limpo indica que
+        // ela ficou desatualizada e a linha deve voltar para a fila
+        String sql = """
+                MERGE INTO integration_sync_status t
+                USING (SELECT id FROM cards WHERE id = :card_id) c
+                ON t.card_id = c.id AND t.integration_type = :integration_type
+                WHEN MATCHED THEN UPDATE SET
+                    sync_status = 'PENDING',
+                    retry_count = 0,
+                    error_message = NULL,
+                    next_attempt_at = :now,
+                    claim_token = NULL,
+                    updated_at = CURRENT_TIMESTAMP
+                WHEN NOT MATCHED THEN INSERT (card_id, integration_type, sync_status, retry_count, next_attempt_at)
+                    VALUES (c.id, :integration_type, 'PENDING', 0, :now)
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("card_id", cardId)
+                .addValue("integration_type", integrationType.name())
+                .addValue("now", now);
+        return jdbcTemplate.update(sql, params) > 0;
+    }
+    
+    /**
+     * Reserva um lote de registros da fila de integração prontos para entrega.
+     * 
+     * <p>São reservados os registros {@code PENDING} ou {@code RETRY} enfileirados
+     * pela fila, cujo horário de entrega já chegou e que não estão reservados, em
+     * ordem de horário de entrega. Reservas mais antigas que {@code staleBefore}
+     * são consideradas abandonadas (por exemplo, a aplicação foi encerrada durante
+     * a entrega) e podem ser reservadas de novo.</p>
+     * 
+     * @param claimToken identificador do lote, usado para concluir cada entrega
+     * @param limit quantidade máxima de registros
+     * @param now momento atual
+     * @param staleBefore limite a partir do qual uma reserva é considerada abandonada
+     * @return registros reservados
+     */
+    public List<IntegrationSyncStatus> claimBatch(String claimToken, int limit, LocalDateTime now, LocalDateTime staleBefore) {
+        String sql = """
+                UPDATE integration_sync_status SET
+                    claim_token = :claim_token,
+                    claimed_at = :now
+                WHERE id IN (
+                    SELECT id FROM integration_sync_status
+                    WHERE sync_status IN ('PENDING', 'RETRY')
+                    AND retry_count < max_retries
+                    AND next_attempt_at <= :now
+                    AND (claimed_at IS NULL OR claimed_at < :stale_before)
+                    ORDER BY next_attempt_at, id
+                    LIMIT :limit
+                )
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("claim_token", claimToken)
+                .addValue("now", now)
+                .addValue("stale_before", staleBefore)
+                .addValue("limit", limit);
+        if (jdbcTemplate.update(sql, params) == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT * FROM integration_sync_status WHERE claim_token = :claim_token ORDER BY next_attempt_at, id",
+                params, syncStatusRowMapper);
+    }
+    
+    /**
+     * Conclui com sucesso a entrega de um registro reservado.
+     * 
+     * @param id ID do registro
+     * @param claimToken identificador do lote que reservou o registro
+     * @param now momento da entrega
+     * @return true se o registro foi concluído; false se ele foi enfileirado
+     *         de novo durante a entrega
+     */
+    public boolean completeClaim(Long id, String claimToken, LocalDateTime now) {
+        String sql = """
+                UPDATE integration_sync_status SET
+                    sync_status = 'SYNCED',
+                    last_sync_date = :now,
+                    error_message = NULL,
+                    retry_count = 0,
+                    next_attempt_at = NULL,
+                    claimed_at = NULL,
+                    claim_token = NULL,
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = :id AND claim_token = :claim_token
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("claim_token", claimToken)
+                .addValue("now", now);
+        return jdbcTemplate.update(sql, params) > 0;
+    }
+    
+    /**
+     * Registra a falha na entrega de um registro reservado.
+     * 
+     * <p>O registro volta para a fila como {@code RETRY} no horário informado,
+     * ou fica como {@code ERROR} quando atinge o máximo de tentativas.</p>
+     * 
+     * @param id ID do registro
+     * @param claimToken identificador do lote que reservou o registro
+     * @param errorMessage mensagem de erro
+     * @param nextAttemptAt horário da próxima tentativa
+     * @return true se a falha foi registrada; false se o registro foi
+     *         enfileirado de novo durante a entrega
+     */
+    public boolean failClaim(Long id, String claimToken, String errorMessage, LocalDateTime nextAttemptAt) {
+        String sql = """
+                UPDATE integration_sync_status SET
+                    sync_status = CASE WHEN retry_count + 1 >= max_retries THEN 'ERROR' ELSE 'RETRY' END,
+                    retry_count = retry_count + 1,
+                    error_message = :error_message,
+                    next_attempt_at = :next_attempt_at,
+                    claimed_at = NULL,
+                    claim_token = NULL,
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = :id AND claim_token = :claim_token
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("claim_token", claimToken)
+                .addValue("error_message", errorMessage)
+                .addValue("next_attempt_at", nextAttemptAt);
+        return jdbcTemplate.update(sql, params) > 0;
+    }
+    
+    /**
+     * Libera a reserva de um registro enfileirado de novo durante a entrega,
+     * para que ele seja entregue outra vez com o estado atual do card.
+     * 
+     * @param id ID do registro
+     */
+    public void releaseClaim(Long id) {
+        String sql = "UPDATE integration_sync_status SET claimed_at = NULL WHERE id = :id AND claim_token IS NULL";
+        jdbcTemplate.update(sql, new MapSqlParameterSource("id", id));
+    }
+    
     /**
      * Remove um status de sincronização por ID.
      * 
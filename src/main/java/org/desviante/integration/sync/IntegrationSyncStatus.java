@@ -101,6 +101,15 @@ public class IntegrationSyncStatus {
     @Builder.Default
     private Integer maxRetries = 3;
     
+    /**
+     * Data e hora a partir da qual a fila de integração pode entregar o registro.
+     * 
+     * <p>Null em registros que não foram enfileirados pela fila de integração.</p>
+     * 
+     * @see IntegrationOutboxWorker
+     */
+    private LocalDateTime nextAttemptAt;
+    
     /**
      * Data e hora de criação do registro.
      */
@@ -0,0 +1,23 @@
+package org.desviante.model;
+
+/**
+ * Projeção mínima de um card com apenas os dados de posicionamento.
+ * 
+ * <p>Usada nas operações de reordenação (mover para cima/baixo e verificação
+ * de vizinhos), que só precisam saber onde o card está, evitando carregar
+ * título, descrição e datas de cada linha consultada.</p>
+ * 
+ * @param id identificador do card
+ * @param boardColumnId coluna onde o card está
+ * @param orderIndex posição do card dentro da coluna
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see Card
+ */
+public record CardPosition(
+        Long id,
+        Long boardColumnId,
+        Integer orderIndex
+) {
+}
@@ -0,0 +1,33 @@
+package org.desviante.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contagens de cards abertos por faixa de urgência, calculadas em uma única consulta.
+ *
+ * <p>As faixas seguem os níveis de urgência do repositório: vencidos (4),
+ * vencendo hoje (3), em até um dia (2) e em até três dias (1). Como as faixas
+ * dependem do horário atual, {@link #nextChange()} indica o primeiro instante
+ * em que alguma contagem pode mudar sem que nenhum card seja alterado: a
+ * virada do dia ou a entrada de um card em outra faixa.</p>
+ *
+ * @param overdue cards vencidos e não concluídos
+ * @param nearDue cards que vencem entre agora e o limite de "próximo do vencimento"
+ * @param highUrgency cards que vencem hoje (nível 3)
+ * @param mediumUrgency cards que vencem em até um dia, a partir de amanhã (nível 2)
+ * @param lowUrgency cards que vencem em até três dias (nível 1)
+ * @param nextChange instante a partir do qual as contagens precisam ser recalculadas
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see Card
+ */
+public record CardUrgencyCounts(
+        int overdue,
+        int nearDue,
+        int highUrgency,
+        int mediumUrgency,
+        int lowUrgency,
+        LocalDateTime nextChange
+) {
+}
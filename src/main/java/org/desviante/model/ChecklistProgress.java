@@ -0,0 +1,35 @@
+package org.desviante.model;
+
+/**
+ * Resumo do progresso do checklist de um card.
+ * 
+ * <p>Obtido por uma única consulta agregada (ou a partir dos itens já
+ * carregados), evitando uma contagem de itens e outra de itens concluídos
+ * para cada card.</p>
+ * 
+ * @param total quantidade de itens do checklist
+ * @param completed quantidade de itens concluídos
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see CheckListItem
+ */
+public record ChecklistProgress(
+        int total,
+        int completed
+) {
+
+    /**
+     * Progresso de um card sem itens de checklist.
+     */
+    public static final ChecklistProgress EMPTY = new ChecklistProgress(0, 0);
+
+    /**
+     * Calcula o percentual de conclusão.
+     * 
+     * @return percentual de itens concluídos (0-100), ou 0 sem itens
+     */
+    public double percentage() {
+        return total == 0 ? 0.0 : (double) completed / total * 100.0;
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -293,6 +294,79 @@ public class CalendarEventRepository {
         return deleted;
     }
 
+    /**
+     * Remove, em um único comando, os eventos de cards que não existem mais
+     * ou que perderam a data de agendamento.
+     * 
+     * <p>O tipo da entidade é comparado sem diferenciar maiúsculas, pois há
+     * eventos gravados como "CARD" e como "Card".</p>
+     * 
+     * @return número de eventos removidos
+     */
+    @Transactional
+    public int deleteOrphanedCardEvents() {
+        String sql = """
+            DELETE FROM calendar_events
+            WHERE UPPER(related_entity_type) = 'CARD'
+            AND NOT EXISTS (
+                SELECT 1 FROM cards c
+                WHERE c.id = calendar_events.related_entity_id AND c.scheduled_date IS NOT NULL
+            )
+            """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource());
+    }
+
+    /**
+     * Cria, em um único comando, os eventos dos cards agendados que ainda
+     * não têm evento ativo.
+     * 
+     * <p>Título, datas, prioridade e cor seguem as mesmas regras da criação
+     * individual: evento de dia inteiro quando o agendamento é à meia-noite,
+     * e prioridade/cor pela urgência do prazo ({@code Card.getUrgencyLevel()}).</p>
+     * 
+     * @param today data usada no cálculo da urgência
+     * @param now data de criação registrada nos eventos
+     * @return número de eventos criados
+     */
+    @Transactional
+    public int insertMissingCardEvents(LocalDate today, LocalDateTime now) {
+        String sql = """
+            INSERT INTO calendar_events (title, description, start_date_time, end_date_time, all_day,
+                                         event_type, priority, color, related_entity_id, related_entity_type,
+                                         active, created_at, updated_at)
+            SELECT title, description, scheduled_date,
+                   CASE WHEN all_day OR due_date IS NULL THEN DATEADD('HOUR', 1, scheduled_date) ELSE due_date END,
+                   all_day, 'CARD',
+                   CASE urgency WHEN 4 THEN 'URGENT' WHEN 3 THEN 'HIGH' WHEN 2 THEN 'HIGH'
+                                WHEN 1 THEN 'STANDARD' ELSE 'LOW' END,
+                   CASE urgency WHEN 4 THEN '#FF0000' WHEN 3 THEN '#FF6600' WHEN 2 THEN '#FFAA00'
+                                WHEN 1 THEN '#00AAFF' ELSE '#00AA00' END,
+                   id, 'CARD', TRUE, :now, :now
+            FROM (
+                SELECT c.id, c.title, c.description, c.scheduled_date, c.due_date,
+                       (HOUR(c.scheduled_date) = 0 AND MINUTE(c.scheduled_date) = 0) AS all_day,
+                       CASE
+                           WHEN c.due_date IS NULL OR c.completion_date IS NOT NULL THEN 0
+                           WHEN DATEDIFF('DAY', :today, CAST(c.due_date AS DATE)) < 0 THEN 4
+                           WHEN DATEDIFF('DAY', :today, CAST(c.due_date AS DATE)) = 0 THEN 3
+                           WHEN DATEDIFF('DAY', :today, CAST(c.due_date AS DATE)) <= 1 THEN 2
+                           WHEN DATEDIFF('DAY', :today, CAST(c.due_date AS DATE)) <= 3 THEN 1
+                           ELSE 0
+                       END AS urgency
+                FROM cards c
+                WHERE c.scheduled_date IS NOT NULL
+                AND NOT EXISTS (
+                    SELECT 1 FROM calendar_events e
+                    WHERE e.related_entity_id = c.id AND UPPER(e.related_entity_type) = 'CARD' AND e.active = TRUE
+                )
+            ) pending
+            """;
+        var params = new MapSqlParameterSource()
+                .addValue("today", today)
+                .addValue("now", Timestamp.valueOf(now));
+        return jdbcTemplate.update(sql, params);
+    }
+
     /**
      * Verifica se existe um evento com o ID especificado.
      * 
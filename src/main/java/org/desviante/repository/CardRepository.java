@@ -1,6 +1,10 @@
 package org.desviante.repository;
 
 import org.desviante.model.Card;
+import org.desviante.model.CardPosition;
+import org.desviante.model.CardUrgencyCounts;
+import org.desviante.model.enums.BoardColumnKindEnum;
+import org.desviante.util.AsyncDebugLog;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -8,17 +12,20 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.sql.DataSource;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Gerencia as operações de persistência para cards (tarefas).
@@ -46,7 +53,36 @@ public class CardRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
     private final JdbcTemplate simpleJdbcTemplate;
-    private static final String LOG_FILE = System.getProperty("user.home") + "/myboards/card_repository_debug.log";
+    private final AsyncDebugLog debugLog = AsyncDebugLog.getDefault();
+
+    /**
+     * Contador de gravações que podem alterar vencimento, conclusão ou a
+     * existência de cards ({@link #save(Card)} e {@link #deleteById(Long)}).
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    /**
+     * Cards agendados em um intervalo semiaberto {@code [:start, :end)}.
+     * 
+     * <p>As consultas por dia comparam o próprio timestamp com o início do dia e
+     * o início do dia seguinte, em vez de converter a coluna com
+     * {@code CAST(... AS DATE)}, o que permite ao H2 usar {@code idx_cards_scheduled_date}.</p>
+     */
+    static final String SCHEDULED_DATE_RANGE_SQL =
+            "SELECT * FROM cards WHERE scheduled_date >= :start AND scheduled_date < :end ORDER BY scheduled_date ASC";
+
+    /**
+     * Cards com vencimento em um intervalo semiaberto {@code [:start, :end)},
+     * pelo índice {@code idx_cards_due_date}.
+     */
+    static final String DUE_DATE_RANGE_SQL =
+            "SELECT * FROM cards WHERE due_date >= :start AND due_date < :end ORDER BY due_date ASC";
+
+    /**
+     * Componente e versão das colunas de agendamento em {@code schema_versions}.
+     */
+    public static final String SCHEDULING_SCHEMA_COMPONENT = "cards.scheduling-columns";
+    public static final int SCHEDULING_SCHEMA_VERSION = 1;
 
     /**
      * Construtor que inicializa os templates JDBC necessários.
@@ -61,8 +97,9 @@ public class CardRepository {
                 .usingColumns("title", "description", "card_type_id", "total_units", "current_units", "progress_type", "creation_date", "last_update_date", "completion_date", "scheduled_date", "due_date", "board_column_id", "order_index")
                 .usingGeneratedKeyColumns("id");
         
-        // Garantir que as colunas de agendamento existam
-        ensureSchedulingColumnsExist();
+        // Garantir que as colunas de agendamento existam (apenas uma vez por versão do esquema)
+        new SchemaVersionRepository(dataSource)
+                .runOnce(SCHEDULING_SCHEMA_COMPONENT, SCHEDULING_SCHEMA_VERSION, this::ensureSchedulingColumnsExist);
     }
 
     /**
@@ -91,18 +128,7 @@ public class CardRepository {
         card.setCurrentUnits(rs.getObject("current_units", Integer.class));
         
         // Mapear o tipo de progresso
-        String progressTypeStr = rs.getString("progress_type");
-        if (progressTypeStr != null) {
-            try {
-                card.setProgressType(org.desviante.model.enums.ProgressType.valueOf(progressTypeStr));
-            } catch (IllegalArgumentException e) {
-                // Se o valor não for válido, usar NONE como padrão
-                card.setProgressType(org.desviante.model.enums.ProgressType.NONE);
-            }
-        } else {
-            // Se for null, usar NONE como padrão para compatibilidade
-            card.setProgressType(org.desviante.model.enums.ProgressType.NONE);
-        }
+        card.setProgressType(toProgressType(rs.getString("progress_type")));
         
         card.setCreationDate(rs.getTimestamp("creation_date").toLocalDateTime());
         card.setLastUpdateDate(rs.getTimestamp("last_update_date").toLocalDateTime());
@@ -130,6 +156,32 @@ public class CardRepository {
         return card;
     };
 
+    /**
+     * Mapeia apenas as colunas de posicionamento para {@link CardPosition}.
+     */
+    private final RowMapper<CardPosition> cardPositionRowMapper = (ResultSet rs, int rowNum) -> {
+        Integer orderIndex = rs.getObject("order_index", Integer.class);
+        return new CardPosition(
+                rs.getLong("id"),
+                rs.getLong("board_column_id"),
+                orderIndex != null ? orderIndex : 0);
+    };
+
+    /**
+     * Converte o valor da coluna progress_type, usando NONE para valores nulos
+     * ou inválidos por compatibilidade com dados antigos.
+     */
+    private static org.desviante.model.enums.ProgressType toProgressType(String progressTypeStr) {
+        if (progressTypeStr == null) {
+            return org.desviante.model.enums.ProgressType.NONE;
+        }
+        try {
+            return org.desviante.model.enums.ProgressType.valueOf(progressTypeStr);
+        } catch (IllegalArgumentException e) {
+            return org.desviante.model.enums.ProgressType.NONE;
+        }
+    }
+
     /**
      * Busca um card específico pelo ID.
      * 
@@ -166,6 +218,39 @@ public class CardRepository {
         return jdbcTemplate.query(sql, params, cardRowMapper);
     }
 
+    /**
+     * Conta os cards de vários quadros agrupados pelo tipo de coluna.
+     * 
+     * <p>A agregação é feita inteiramente no banco (JOIN com board_columns
+     * e GROUP BY board_id, kind), de modo que nenhum objeto Card é
+     * materializado. Usado para montar os resumos de quadros, que só
+     * precisam das contagens por INITIAL, PENDING e FINAL.</p>
+     * 
+     * <p>Quadros sem cards não aparecem no mapa retornado.</p>
+     * 
+     * @param boardIds lista de identificadores dos quadros
+     * @return mapa board_id → (tipo de coluna → quantidade de cards)
+     */
+    public Map<Long, Map<BoardColumnKindEnum, Long>> countByBoardIdInGroupedByColumnKind(List<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String sql = """
+                SELECT bc.board_id, bc.kind, COUNT(*) AS card_count
+                FROM cards c
+                INNER JOIN board_columns bc ON c.board_column_id = bc.id
+                WHERE bc.board_id IN (:boardIds)
+                GROUP BY bc.board_id, bc.kind
+                """;
+        var params = new MapSqlParameterSource("boardIds", boardIds);
+        Map<Long, Map<BoardColumnKindEnum, Long>> counts = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            counts.computeIfAbsent(rs.getLong("board_id"), id -> new EnumMap<>(BoardColumnKindEnum.class))
+                    .merge(BoardColumnKindEnum.valueOf(rs.getString("kind")), rs.getLong("card_count"), Long::sum);
+        });
+        return counts;
+    }
+
     /**
      * Salva ou atualiza um card no banco de dados.
      * 
@@ -243,24 +328,20 @@ public class CardRepository {
                 String logMsg3 = "🔧 CARD REPOSITORY - Due Date: " + card.getDueDate();
                 String logMsg4 = "🔧 CARD REPOSITORY - Colunas de agendamento existem: " + hasSchedulingColumns;
                 
-                System.out.println(logMsg1);
-                System.out.println(logMsg2);
-                System.out.println(logMsg3);
-                System.out.println(logMsg4);
+                debugLog.debug(logMsg1);
+                debugLog.debug(logMsg2);
+                debugLog.debug(logMsg3);
+                debugLog.debug(logMsg4);
                 
-                logToFile(logMsg1);
-                logToFile(logMsg2);
-                logToFile(logMsg3);
-                logToFile(logMsg4);
-                
-                logToFile("🔧 CARD REPOSITORY - Executando SQL: " + sql);
-                logToFile("🔧 CARD REPOSITORY - Parâmetros: " + params.getValues());
+                if (debugLog.isEnabled(AsyncDebugLog.Level.DEBUG)) {
+                    debugLog.debug("🔧 CARD REPOSITORY - Executando SQL: " + sql);
+                    debugLog.debug("🔧 CARD REPOSITORY - Parâmetros: " + params.getValues());
+                }
                 
                 int rowsAffected = jdbcTemplate.update(sql, params);
                 
                 String successMsg = "✅ CARD REPOSITORY - Card atualizado com sucesso. Linhas afetadas: " + rowsAffected;
-                System.out.println(successMsg);
-                logToFile(successMsg);
+                debugLog.debug(successMsg);
                 
             } catch (Exception e) {
                 String errorMsg1 = "❌ CARD REPOSITORY - Erro ao atualizar card ID " + card.getId() + ": " + e.getMessage();
@@ -271,15 +352,15 @@ public class CardRepository {
                 System.err.println(errorMsg2);
                 System.err.println(errorMsg3);
                 
-                logToFile(errorMsg1);
-                logToFile(errorMsg2);
-                logToFile(errorMsg3);
+                debugLog.error(errorMsg1);
+                debugLog.error(errorMsg2);
+                debugLog.error(errorMsg3);
                 
                 // Tentar fallback: atualizar sem as colunas de agendamento
                 if (hasSchedulingColumns) {
                     String fallbackMsg = "🔄 CARD REPOSITORY - Tentando fallback sem colunas de agendamento...";
                     System.out.println(fallbackMsg);
-                    logToFile(fallbackMsg);
+                    debugLog.warn(fallbackMsg);
                     try {
                         String fallbackSql = """
                                 UPDATE cards SET
@@ -296,13 +377,13 @@ public class CardRepository {
                                 WHERE id = :id
                                 """;
                         
-                        logToFile("🔧 CARD REPOSITORY - Executando fallback SQL: " + fallbackSql);
+                        debugLog.debug("🔧 CARD REPOSITORY - Executando fallback SQL: " + fallbackSql);
                         
                         int rowsAffected = jdbcTemplate.update(fallbackSql, params);
                         
                         String fallbackSuccessMsg = "✅ CARD REPOSITORY - Fallback executado com sucesso. Linhas afetadas: " + rowsAffected;
                         System.out.println(fallbackSuccessMsg);
-                        logToFile(fallbackSuccessMsg);
+                        debugLog.info(fallbackSuccessMsg);
                         
                         // Tentar atualizar as colunas de agendamento separadamente
                         updateSchedulingColumns(card);
@@ -318,6 +399,7 @@ public class CardRepository {
                 }
             }
         }
+        markModified();
         return card;
     }
 
@@ -329,12 +411,11 @@ public class CardRepository {
     private void updateSchedulingColumns(Card card) {
         try {
             String logMsg = "🔧 CARD REPOSITORY - Atualizando colunas de agendamento para card ID: " + card.getId();
-            System.out.println(logMsg);
-            logToFile(logMsg);
+            debugLog.debug(logMsg);
             
             String sql = "UPDATE cards SET scheduled_date = ?, due_date = ? WHERE id = ?";
-            logToFile("🔧 CARD REPOSITORY - SQL agendamento: " + sql);
-            logToFile("🔧 CARD REPOSITORY - Scheduled: " + card.getScheduledDate() + ", Due: " + card.getDueDate());
+            debugLog.debug("🔧 CARD REPOSITORY - SQL agendamento: " + sql);
+            debugLog.debug("🔧 CARD REPOSITORY - Scheduled: " + card.getScheduledDate() + ", Due: " + card.getDueDate());
             
             int rowsAffected = simpleJdbcTemplate.update(sql, 
                 card.getScheduledDate() != null ? Timestamp.valueOf(card.getScheduledDate()) : null,
@@ -342,32 +423,16 @@ public class CardRepository {
                 card.getId());
             
             String successMsg = "✅ CARD REPOSITORY - Colunas de agendamento atualizadas. Linhas afetadas: " + rowsAffected;
-            System.out.println(successMsg);
-            logToFile(successMsg);
+            debugLog.debug(successMsg);
             
         } catch (Exception e) {
             String errorMsg = "❌ CARD REPOSITORY - Erro ao atualizar colunas de agendamento: " + e.getMessage();
             System.err.println(errorMsg);
-            logToFile(errorMsg);
+            debugLog.error(errorMsg);
             e.printStackTrace();
         }
     }
 
-    /**
-     * Escreve uma mensagem de log no arquivo de debug.
-     * 
-     * @param message mensagem a ser logada
-     */
-    private void logToFile(String message) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(LOG_FILE, true))) {
-            writer.println("[" + LocalDateTime.now() + "] " + message);
-            writer.flush();
-        } catch (IOException e) {
-            // Se não conseguir escrever no arquivo, pelo menos imprimir no console
-            System.err.println("Erro ao escrever log: " + e.getMessage());
-        }
-    }
-
     /**
      * Verifica se as colunas de agendamento existem na tabela cards.
      * 
@@ -388,12 +453,14 @@ public class CardRepository {
      * 
      * <p>Este método é executado no construtor para garantir que as colunas
      * scheduled_date e due_date existam antes de qualquer operação com cards.</p>
+     *
+     * @return true se as colunas e os índices foram garantidos
      */
-    private void ensureSchedulingColumnsExist() {
+    private boolean ensureSchedulingColumnsExist() {
         try {
             String logMsg = "🔧 CARD REPOSITORY - Verificando colunas de agendamento...";
             System.out.println(logMsg);
-            logToFile(logMsg);
+            debugLog.info(logMsg);
             
             // Verificar se a coluna scheduled_date existe
             try {
@@ -438,10 +505,12 @@ public class CardRepository {
             }
             
             System.out.println("🎉 CARD REPOSITORY - Verificação de colunas concluída!");
+            return true;
             
         } catch (Exception e) {
             System.err.println("❌ CARD REPOSITORY - Erro ao garantir colunas de agendamento: " + e.getMessage());
             e.printStackTrace();
+            return false;
         }
     }
 
@@ -475,38 +544,54 @@ public class CardRepository {
     }
 
     /**
-     * Busca o próximo card na mesma coluna.
+     * Busca apenas a posição de um card (coluna e order_index).
+     * 
+     * @param id identificador do card
+     * @return Optional contendo a posição do card se existir
+     */
+    public Optional<CardPosition> findPositionById(Long id) {
+        String sql = "SELECT id, board_column_id, order_index FROM cards WHERE id = :id";
+        var params = new MapSqlParameterSource("id", id);
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, cardPositionRowMapper));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Busca a posição do próximo card na mesma coluna.
      * 
      * @param columnId identificador da coluna
      * @param currentOrderIndex order_index do card atual
-     * @return Optional contendo o próximo card se existir
+     * @return Optional contendo a posição do próximo card se existir
      */
-    public Optional<Card> findNextCard(Long columnId, Integer currentOrderIndex) {
-        String sql = "SELECT * FROM cards WHERE board_column_id = :columnId AND order_index > :currentOrderIndex ORDER BY order_index ASC LIMIT 1";
+    public Optional<CardPosition> findNextCardPosition(Long columnId, Integer currentOrderIndex) {
+        String sql = "SELECT id, board_column_id, order_index FROM cards WHERE board_column_id = :columnId AND order_index > :currentOrderIndex ORDER BY order_index ASC LIMIT 1";
         var params = new MapSqlParameterSource()
                 .addValue("columnId", columnId)
                 .addValue("currentOrderIndex", currentOrderIndex);
         try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, cardRowMapper));
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, cardPositionRowMapper));
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
     }
 
     /**
-     * Busca o card anterior na mesma coluna.
+     * Busca a posição do card anterior na mesma coluna.
      * 
      * @param columnId identificador da coluna
      * @param currentOrderIndex order_index do card atual
-     * @return Optional contendo o card anterior se existir
+     * @return Optional contendo a posição do card anterior se existir
      */
-    public Optional<Card> findPreviousCard(Long columnId, Integer currentOrderIndex) {
-        String sql = "SELECT * FROM cards WHERE board_column_id = :columnId AND order_index < :currentOrderIndex ORDER BY order_index DESC LIMIT 1";
+    public Optional<CardPosition> findPreviousCardPosition(Long columnId, Integer currentOrderIndex) {
+        String sql = "SELECT id, board_column_id, order_index FROM cards WHERE board_column_id = :columnId AND order_index < :currentOrderIndex ORDER BY order_index DESC LIMIT 1";
         var params = new MapSqlParameterSource()
                 .addValue("columnId", columnId)
                 .addValue("currentOrderIndex", currentOrderIndex);
         try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, cardRowMapper));
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, cardPositionRowMapper));
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
@@ -515,24 +600,99 @@ public class CardRepository {
     /**
      * Troca a posição de dois cards na mesma coluna.
      * 
+     * <p>As duas posições são gravadas em um único UPDATE, de modo que a
+     * coluna nunca fica com apenas um dos cards movido. A data de atualização
+     * dos dois cards também muda, para que o backup incremental inclua a
+     * nova ordem.</p>
+     * 
      * @param card1Id ID do primeiro card
      * @param card1NewOrder nova ordem do primeiro card
      * @param card2Id ID do segundo card
      * @param card2NewOrder nova ordem do segundo card
      */
     public void swapCardPositions(Long card1Id, Integer card1NewOrder, Long card2Id, Integer card2NewOrder) {
-        // Atualiza o primeiro card
-        String sql = "UPDATE cards SET order_index = :newOrder WHERE id = :cardId";
-        var params1 = new MapSqlParameterSource()
-                .addValue("newOrder", card1NewOrder)
-                .addValue("cardId", card1Id);
-        jdbcTemplate.update(sql, params1);
+        String sql = """
+                UPDATE cards
+                SET order_index = CASE WHEN id = :card1Id THEN :card1NewOrder ELSE :card2NewOrder END,
+                    last_update_date = CURRENT_TIMESTAMP
+                WHERE id IN (:card1Id, :card2Id)
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("card1Id", card1Id)
+                .addValue("card1NewOrder", card1NewOrder)
+                .addValue("card2Id", card2Id)
+                .addValue("card2NewOrder", card2NewOrder);
+        jdbcTemplate.update(sql, params);
+    }
 
-        // Atualiza o segundo card
-        var params2 = new MapSqlParameterSource()
-                .addValue("newOrder", card2NewOrder)
-                .addValue("cardId", card2Id);
-        jdbcTemplate.update(sql, params2);
+    /**
+     * Atualiza apenas a posição de um card dentro da sua coluna.
+     * 
+     * <p>A data de atualização também muda, para que o backup incremental
+     * inclua a nova posição.</p>
+     * 
+     * @param cardId ID do card
+     * @param orderIndex nova posição
+     */
+    public void updateOrderIndex(Long cardId, int orderIndex) {
+        String sql = "UPDATE cards SET order_index = :orderIndex, last_update_date = CURRENT_TIMESTAMP WHERE id = :cardId";
+        var params = new MapSqlParameterSource()
+                .addValue("orderIndex", orderIndex)
+                .addValue("cardId", cardId);
+        jdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * Busca o card imediatamente anterior a um card de referência na coluna.
+     * 
+     * <p>Cards com a mesma posição da referência também são considerados,
+     * para que o chamador perceba que não há intervalo livre entre eles.</p>
+     * 
+     * @param columnId identificador da coluna
+     * @param reference posição do card de referência
+     * @param excludedCardId card ignorado na busca (normalmente o card sendo movido)
+     * @return Optional contendo a posição do card anterior se existir
+     */
+    public Optional<CardPosition> findPositionBefore(Long columnId, CardPosition reference, Long excludedCardId) {
+        String sql = """
+                SELECT id, board_column_id, order_index FROM cards
+                WHERE board_column_id = :columnId AND order_index <= :orderIndex AND id NOT IN (:referenceId, :excludedId)
+                ORDER BY order_index DESC LIMIT 1
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("columnId", columnId)
+                .addValue("orderIndex", reference.orderIndex())
+                .addValue("referenceId", reference.id())
+                .addValue("excludedId", excludedCardId);
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, cardPositionRowMapper));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Renumera os cards de uma coluna com intervalos regulares, mantendo a ordem atual.
+     * 
+     * <p>Como em {@link #updateOrderIndex(Long, int)}, a data de atualização dos
+     * cards renumerados também muda.</p>
+     * 
+     * @param columnId identificador da coluna
+     * @param gap intervalo entre posições consecutivas
+     * @return quantidade de cards renumerados
+     */
+    public int rebalanceColumnOrder(Long columnId, int gap) {
+        String sql = "SELECT id FROM cards WHERE board_column_id = :columnId ORDER BY order_index ASC, creation_date ASC, id ASC";
+        List<Long> ids = jdbcTemplate.queryForList(sql, new MapSqlParameterSource("columnId", columnId), Long.class);
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("orderIndex", (i + 1) * gap)
+                    .addValue("cardId", ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE cards SET order_index = :orderIndex, last_update_date = CURRENT_TIMESTAMP WHERE id = :cardId", batch);
+        return ids.size();
     }
 
     /**
@@ -544,6 +704,38 @@ public class CardRepository {
         String sql = "DELETE FROM cards WHERE id = :id";
         var params = new MapSqlParameterSource("id", id);
         jdbcTemplate.update(sql, params);
+        markModified();
+    }
+
+    /**
+     * Retorna o contador de gravações de cards feitas por este repositório.
+     * 
+     * <p>O valor muda a cada {@link #save(Card)} ou {@link #deleteById(Long)}
+     * e novamente ao fim da transação em que a gravação ocorreu. Serve para
+     * validar resultados em cache: um valor igual ao da leitura anterior indica
+     * que nenhuma gravação foi feita ou confirmada desde então.</p>
+     * 
+     * @return contador de gravações
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Incrementa o contador de gravações agora e, dentro de uma transação, também
+     * ao concluí-la; assim uma leitura feita antes do commit não fica válida
+     * depois dele.
+     */
+    private void markModified() {
+        modificationCount.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    modificationCount.incrementAndGet();
+                }
+            });
+        }
     }
 
     /**
@@ -701,10 +893,22 @@ public class CardRepository {
      * @return lista de cards agendados para a data especificada
      */
     public List<Card> findByScheduledDate(java.time.LocalDate date) {
-        // Usar sintaxe compatível com H2: CAST para DATE ou comparação direta com TIMESTAMP
-        String sql = "SELECT * FROM cards WHERE CAST(scheduled_date AS DATE) = :date ORDER BY scheduled_date ASC";
-        var params = new MapSqlParameterSource("date", date);
-        return jdbcTemplate.query(sql, params, cardRowMapper);
+        return findInDayRange(SCHEDULED_DATE_RANGE_SQL, date, date);
+    }
+
+    /**
+     * Busca apenas os títulos dos cards de um tipo específico.
+     * 
+     * @param cardTypeId identificador do tipo de card
+     * @return títulos dos cards do tipo, mais recentes primeiro
+     */
+    public List<String> findTitlesByCardTypeId(Long cardTypeId) {
+        if (cardTypeId == null) {
+            return List.of();
+        }
+        String sql = "SELECT title FROM cards WHERE card_type_id = :cardTypeId ORDER BY creation_date DESC";
+        var params = new MapSqlParameterSource("cardTypeId", cardTypeId);
+        return jdbcTemplate.queryForList(sql, params, String.class);
     }
 
     /**
@@ -773,6 +977,67 @@ public class CardRepository {
         return jdbcTemplate.query(sql, params, cardRowMapper);
     }
 
+    /**
+     * Conta os cards abertos de todas as faixas de urgência em uma única consulta.
+     * 
+     * <p>Conta os mesmos cards que {@link #findOverdue()}, {@link #findNearDue(int)}
+     * e {@link #findByUrgencyLevel(int)} nos níveis 3, 2 e 1, mas percorre
+     * os cards abertos com vencimento uma só vez, pelo índice
+     * {@code idx_cards_urgency}. A comparação com o dia atual usa o intervalo
+     * {@code [agora, início de amanhã)} em vez de converter o vencimento para data.</p>
+     * 
+     * <p>A mesma consulta obtém os menores vencimentos além de cada limite,
+     * usados para calcular {@link CardUrgencyCounts#nextChange()}: o instante
+     * em que um card muda de faixa apenas pela passagem do tempo, limitado à
+     * virada do dia.</p>
+     * 
+     * @param now instante de referência
+     * @param nearDueDays número de dias para considerar "próximo do vencimento"
+     * @return contagens por faixa e o instante em que precisam ser recalculadas
+     */
+    public CardUrgencyCounts countUrgency(LocalDateTime now, int nearDueDays) {
+        String sql = """
+                SELECT
+                    COUNT(CASE WHEN due_date < :now THEN 1 END) AS overdue_count,
+                    COUNT(CASE WHEN due_date >= :now AND due_date <= :nearDueLimit THEN 1 END) AS near_due_count,
+                    COUNT(CASE WHEN due_date >= :now AND due_date < :tomorrow THEN 1 END) AS high_count,
+                    COUNT(CASE WHEN due_date >= :tomorrow AND due_date <= :oneDay THEN 1 END) AS medium_count,
+                    COUNT(CASE WHEN due_date >= :tomorrow AND due_date > :oneDay AND due_date <= :threeDays THEN 1 END) AS low_count,
+                    MIN(CASE WHEN due_date >= :now THEN due_date END) AS next_overdue,
+                    MIN(CASE WHEN due_date > :oneDay THEN due_date END) AS next_medium,
+                    MIN(CASE WHEN due_date > :threeDays THEN due_date END) AS next_low,
+                    MIN(CASE WHEN due_date > :nearDueLimit THEN due_date END) AS next_near_due
+                FROM cards
+                WHERE completion_date IS NULL
+                AND due_date IS NOT NULL
+                """;
+        LocalDateTime tomorrow = now.toLocalDate().plusDays(1).atStartOfDay();
+        var params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("tomorrow", tomorrow)
+                .addValue("oneDay", now.plusDays(1))
+                .addValue("threeDays", now.plusDays(3))
+                .addValue("nearDueLimit", now.plusDays(nearDueDays));
+        return jdbcTemplate.queryForObject(sql, params, (rs, rowNum) -> {
+            // Cada vencimento seguinte entra na faixa quando "agora + limite" o alcança
+            LocalDateTime nextChange = tomorrow;
+            nextChange = earliest(nextChange, rs.getTimestamp("next_overdue"), 0);
+            nextChange = earliest(nextChange, rs.getTimestamp("next_medium"), 1);
+            nextChange = earliest(nextChange, rs.getTimestamp("next_low"), 3);
+            nextChange = earliest(nextChange, rs.getTimestamp("next_near_due"), nearDueDays);
+            return new CardUrgencyCounts(rs.getInt("overdue_count"), rs.getInt("near_due_count"),
+                    rs.getInt("high_count"), rs.getInt("medium_count"), rs.getInt("low_count"), nextChange);
+        });
+    }
+
+    private static LocalDateTime earliest(LocalDateTime current, Timestamp dueDate, int daysBefore) {
+        if (dueDate == null) {
+            return current;
+        }
+        LocalDateTime candidate = dueDate.toLocalDateTime().minusDays(daysBefore);
+        return candidate.isBefore(current) ? candidate : current;
+    }
+
     /**
      * Busca cards agendados para um período específico.
      * 
@@ -781,17 +1046,7 @@ public class CardRepository {
      * @return lista de cards agendados no período
      */
     public List<Card> findByScheduledDateBetween(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        // Usar sintaxe compatível com H2: CAST para DATE
-        String sql = """
-                SELECT * FROM cards 
-                WHERE scheduled_date IS NOT NULL 
-                AND CAST(scheduled_date AS DATE) BETWEEN :startDate AND :endDate
-                ORDER BY scheduled_date ASC
-                """;
-        var params = new MapSqlParameterSource()
-                .addValue("startDate", startDate)
-                .addValue("endDate", endDate);
-        return jdbcTemplate.query(sql, params, cardRowMapper);
+        return findInDayRange(SCHEDULED_DATE_RANGE_SQL, startDate, endDate);
     }
 
     /**
@@ -802,17 +1057,38 @@ public class CardRepository {
      * @return lista de cards com vencimento no período
      */
     public List<Card> findByDueDateBetween(java.time.LocalDate startDate, java.time.LocalDate endDate) {
-        // Usar sintaxe compatível com H2: CAST para DATE
-        String sql = """
-                SELECT * FROM cards 
-                WHERE due_date IS NOT NULL 
-                AND CAST(due_date AS DATE) BETWEEN :startDate AND :endDate
-                ORDER BY due_date ASC
-                """;
-        var params = new MapSqlParameterSource()
-                .addValue("startDate", startDate)
-                .addValue("endDate", endDate);
-        return jdbcTemplate.query(sql, params, cardRowMapper);
+        return findInDayRange(DUE_DATE_RANGE_SQL, startDate, endDate);
+    }
+
+    /**
+     * Executa uma consulta de intervalo semiaberto cobrindo os dias de
+     * {@code startDate} a {@code endDate}, inclusive.
+     * 
+     * @param sql consulta com os parâmetros {@code :start} e {@code :end}
+     * @param startDate primeiro dia do período
+     * @param endDate último dia do período
+     * @return cards encontrados, ou lista vazia se alguma data for nula
+     */
+    private List<Card> findInDayRange(String sql, java.time.LocalDate startDate, java.time.LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            // Mesmo resultado da comparação com NULL no SQL
+            return List.of();
+        }
+        return jdbcTemplate.query(sql, dayRangeParams(startDate, endDate), cardRowMapper);
+    }
+
+    /**
+     * Parâmetros {@code :start} (início do primeiro dia) e {@code :end} (início
+     * do dia seguinte ao último) de uma consulta de intervalo semiaberto.
+     * 
+     * @param startDate primeiro dia do período
+     * @param endDate último dia do período
+     * @return parâmetros da consulta
+     */
+    static MapSqlParameterSource dayRangeParams(java.time.LocalDate startDate, java.time.LocalDate endDate) {
+        return new MapSqlParameterSource()
+                .addValue("start", startDate.atStartOfDay())
+                .addValue("end", endDate.plusDays(1).atStartOfDay());
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.desviante.repository;
 
 import org.desviante.model.CheckListItem;
+import org.desviante.model.ChecklistProgress;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
@@ -50,6 +51,12 @@ public class CheckListItemRepository {
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Componente e versão da tabela checklist_items em {@code schema_versions}.
+     */
+    static final String SCHEMA_COMPONENT = "checklist_items.table";
+    static final int SCHEMA_VERSION = 1;
+
     /**
      * Construtor que inicializa o repository e cria a tabela se necessário.
      * 
@@ -57,7 +64,8 @@ public class CheckListItemRepository {
      * <ol>
      *   <li>Cria uma instância de {@link JdbcTemplate} com a fonte de dados fornecida</li>
      *   <li>Executa automaticamente {@link #createTableIfNotExists()} para garantir
-     *       que a tabela necessária exista no banco</li>
+     *       que a tabela necessária exista no banco, apenas enquanto a versão
+     *       registrada em {@link SchemaVersionRepository} for menor que {@link #SCHEMA_VERSION}</li>
      * </ol>
      * 
      * <p><strong>Importante:</strong> A criação da tabela é executada de forma
@@ -68,8 +76,9 @@ public class CheckListItemRepository {
      */
     public CheckListItemRepository(DataSource dataSource) {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
-        // Criar tabela checklist_items se não existir
-        createTableIfNotExists();
+        // Criar tabela checklist_items se não existir (apenas uma vez por versão do esquema)
+        new SchemaVersionRepository(dataSource)
+                .runOnce(SCHEMA_COMPONENT, SCHEMA_VERSION, this::createTableIfNotExists);
     }
     
     /**
@@ -93,9 +102,10 @@ public class CheckListItemRepository {
      * com H2 e SQLite.</p>
      * 
      * @see JdbcTemplate#queryForObject(String, Class)
+     * @return true se a tabela existe ou foi criada
      * @see JdbcTemplate#execute(String)
      */
-    private void createTableIfNotExists() {
+    private boolean createTableIfNotExists() {
         try {
             // Verificar se a tabela existe
             String checkTableSQL = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'CHECKLIST_ITEMS'";
@@ -125,9 +135,11 @@ public class CheckListItemRepository {
                 
                 System.out.println("Tabela checklist_items criada com sucesso");
             }
+            return true;
         } catch (Exception e) {
             System.err.println("Erro ao criar tabela checklist_items: " + e.getMessage());
             // Não re-lança a exceção para não impedir a inicialização da aplicação
+            return false;
         }
     }
     
@@ -344,6 +356,48 @@ public class CheckListItemRepository {
         return jdbcTemplate.query(sql, checklistItemRowMapper, cardId);
     }
     
+    /**
+     * Busca em uma única consulta os itens de checklist de todos os cards de um board.
+     * 
+     * <p>Substitui uma consulta por card ao montar o Kanban. Os itens são
+     * retornados agrupados por card ({@code CARD_ID}) e, dentro de cada card,
+     * ordenados por {@code ORDER_INDEX}.</p>
+     * 
+     * @param boardId identificador do board
+     * @return itens dos cards do board (pode estar vazia)
+     * 
+     * @see #findByCardIdOrderByOrderIndex(Long)
+     */
+    public List<CheckListItem> findByBoardIdOrderByCardIdAndOrderIndex(Long boardId) {
+        String sql = """
+            SELECT ci.* FROM checklist_items ci
+            JOIN cards c ON c.id = ci.card_id
+            JOIN board_columns bc ON bc.id = c.board_column_id
+            WHERE bc.board_id = ?
+            ORDER BY ci.card_id, ci.order_index
+            """;
+        return jdbcTemplate.query(sql, checklistItemRowMapper, boardId);
+    }
+    
+    /**
+     * Obtém o total de itens e de itens concluídos de um card em uma única consulta.
+     * 
+     * @param cardId identificador do card
+     * @return progresso do checklist do card ({@link ChecklistProgress#EMPTY} sem itens)
+     * 
+     * @see #countByCardId(Long)
+     * @see #countCompletedByCardId(Long)
+     */
+    public ChecklistProgress countProgressByCardId(Long cardId) {
+        String sql = """
+            SELECT COUNT(*) AS total,
+                   COALESCE(SUM(CASE WHEN COMPLETED = TRUE THEN 1 ELSE 0 END), 0) AS completed
+            FROM checklist_items WHERE CARD_ID = ?
+            """;
+        return jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> new ChecklistProgress(rs.getInt("total"), rs.getInt("completed")), cardId);
+    }
+    
     /**
      * Conta o número total de itens de checklist associados a um card.
      * 
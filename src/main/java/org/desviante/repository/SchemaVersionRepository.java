@@ -0,0 +1,105 @@
+package org.desviante.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Repositório das versões de esquema aplicadas por cada componente.
+ *
+ * <p>As verificações de esquema feitas na inicialização (colunas adicionadas
+ * por ALTER, tabelas criadas fora do schema.sql) consultam o catálogo do
+ * banco a cada execução. Com este repositório, cada componente registra a
+ * versão do esquema que já garantiu na tabela {@code schema_versions}, e as
+ * verificações só rodam de novo quando a versão do código aumenta.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Repository
+public class SchemaVersionRepository {
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS schema_versions (
+                component   VARCHAR(100) PRIMARY KEY,
+                version     INT NOT NULL,
+                applied_at  TIMESTAMP NOT NULL
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Construtor que inicializa o template JDBC.
+     *
+     * @param dataSource fonte de dados para conexão com o banco
+     */
+    public SchemaVersionRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Obtém a versão de esquema registrada para um componente.
+     *
+     * @param component nome do componente
+     * @return versão registrada, ou vazio se o componente nunca registrou
+     */
+    public Optional<Integer> findVersion(String component) {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        List<Integer> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM schema_versions WHERE component = ?", Integer.class, component);
+        return versions.stream().findFirst();
+    }
+
+    /**
+     * Registra a versão de esquema de um componente.
+     *
+     * @param component nome do componente
+     * @param version versão aplicada
+     */
+    public void markApplied(String component, int version) {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.update("MERGE INTO schema_versions (component, version, applied_at) KEY (component) VALUES (?, ?, ?)",
+                component, version, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Executa uma migração apenas se a versão registrada for menor que a informada.
+     *
+     * <p>A versão só é registrada quando a migração informa sucesso, para que
+     * uma falha seja tentada de novo na próxima inicialização.</p>
+     *
+     * @param component nome do componente
+     * @param version versão do esquema garantida pela migração
+     * @param migration migração a executar; retorna {@code true} em caso de sucesso
+     * @return {@code true} se a migração foi executada nesta chamada
+     */
+    public boolean runOnce(String component, int version, BooleanSupplier migration) {
+        try {
+            if (findVersion(component).filter(applied -> applied >= version).isPresent()) {
+                log.debug("Esquema de {} já está na versão {}", component, version);
+                return false;
+            }
+        } catch (Exception e) {
+            // Sem a tabela de versões, a migração roda como antes
+            log.warn("Não foi possível ler a versão de esquema de {}: {}", component, e.getMessage());
+            migration.getAsBoolean();
+            return true;
+        }
+
+        if (migration.getAsBoolean()) {
+            markApplied(component, version);
+            log.info("Esquema de {} atualizado para a versão {}", component, version);
+        }
+        return true;
+    }
+}
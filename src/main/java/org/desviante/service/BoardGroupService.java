@@ -5,15 +5,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.desviante.config.AppMetadataConfig;
 import org.desviante.exception.ResourceNotFoundException;
 import org.desviante.model.Board;
-import org.desviante.model.BoardColumn;
 import org.desviante.model.BoardGroup;
-import org.desviante.model.Card;
+import org.desviante.model.enums.BoardColumnKindEnum;
 import org.desviante.repository.BoardGroupRepository;
 import org.desviante.repository.BoardRepository;
 import org.desviante.service.dto.BoardSummaryDTO;
@@ -53,7 +51,6 @@ public class BoardGroupService {
 
     private final BoardGroupRepository boardGroupRepository;
     private final BoardRepository boardRepository;
-    private final BoardColumnService columnService;
     private final CardService cardService;
     private final AppMetadataConfig appMetadataConfig;
 
@@ -195,8 +192,8 @@ public class BoardGroupService {
      * entre colunas de diferentes tipos (INITIAL, PENDING, FINAL).
      * Também determina o status geral do quadro baseado na distribuição.</p>
      * 
-     * <p>Otimiza consultas através de busca em lote de colunas e cards
-     * para evitar problemas N+1 de performance.</p>
+     * <p>As contagens de cards são agregadas no banco em uma única consulta
+     * para todos os quadros do grupo, sem materializar colunas ou cards.</p>
      * 
      * @param groupId identificador do grupo
      * @return lista de resumos dos quadros do grupo
@@ -217,97 +214,15 @@ public class BoardGroupService {
             return Collections.emptyList();
         }
         
-        // Busca todas as colunas para todos os boards
+        // Contagens de cards por tipo de coluna agregadas no banco, sem carregar cards
         List<Long> boardIds = boards.stream().map(Board::getId).collect(Collectors.toList());
-        List<BoardColumn> allColumns = columnService.getColumnsForBoards(boardIds);
-        
-        // Agrupa colunas por board
-        Map<Long, List<BoardColumn>> columnsByBoardId = allColumns.stream()
-                .collect(Collectors.groupingBy(BoardColumn::getBoardId));
-        
-        // Busca todos os cards para todas as colunas
-        List<Long> columnIds = allColumns.stream().map(BoardColumn::getId).collect(Collectors.toList());
-        List<Card> allCards = cardService.getCardsForColumns(columnIds);
-        
-        // Agrupa cards por coluna
-        Map<Long, List<Card>> cardsByColumnId = allCards.stream()
-                .collect(Collectors.groupingBy(Card::getBoardColumnId));
+        Map<Long, Map<BoardColumnKindEnum, Long>> countsByBoardId = cardService.countCardsByBoardAndColumnKind(boardIds);
         
         // Calcula resumo para cada board
         return boards.stream()
-                .map(board -> calculateBoardSummary(board, columnsByBoardId, cardsByColumnId))
+                .map(board -> BoardSummaryDTO.fromCardCounts(board, countsByBoardId.get(board.getId())))
                 .collect(Collectors.toList());
     }
-    
-    /**
-     * Calcula o resumo estatístico de um quadro específico.
-     * 
-     * <p>Analisa a distribuição de cards entre colunas de diferentes tipos
-     * para determinar percentuais de progresso e status geral do quadro.
-     * Status possíveis: "Vazio", "Não iniciado", "Em andamento", "Concluído".</p>
-     * 
-     * @param board quadro para cálculo do resumo
-     * @param columnsByBoardId mapa de colunas agrupadas por quadro
-     * @param cardsByColumnId mapa de cards agrupados por coluna
-     * @return resumo estatístico do quadro
-     */
-    private BoardSummaryDTO calculateBoardSummary(Board board, Map<Long, List<BoardColumn>> columnsByBoardId, Map<Long, List<Card>> cardsByColumnId) {
-        List<BoardColumn> boardColumns = columnsByBoardId.getOrDefault(board.getId(), Collections.emptyList());
-
-        Map<Long, BoardColumn> columnMap = boardColumns.stream()
-                .collect(Collectors.toMap(BoardColumn::getId, Function.identity()));
-
-        List<Card> boardCards = boardColumns.stream()
-                .flatMap(col -> cardsByColumnId.getOrDefault(col.getId(), Collections.emptyList()).stream())
-                .toList();
-
-        int totalCards = boardCards.size();
-
-        // Regra de negócio: Vazio
-        if (totalCards == 0) {
-            return new BoardSummaryDTO(board.getId(), board.getName(), 0, 0, 0, "Vazio", board.getGroup());
-        }
-
-        long initialCount = 0;
-        long pendingCount = 0;
-        long finalCount = 0;
-
-        for (Card card : boardCards) {
-            BoardColumn parentColumn = columnMap.get(card.getBoardColumnId());
-            if (parentColumn != null) {
-                switch (parentColumn.getKind()) {
-                    case INITIAL -> initialCount++;
-                    case PENDING -> pendingCount++;
-                    case FINAL -> finalCount++;
-                }
-            }
-        }
-
-        // Lógica de status do board
-        String boardStatus;
-        if (initialCount == totalCards) {
-            boardStatus = "Não iniciado";
-        } else if (finalCount == totalCards) {
-            boardStatus = "Concluído";
-        } else {
-            boardStatus = "Em andamento";
-        }
-
-        // Lógica de arredondamento simples por truncamento
-        int percentInitial = (int) (100.0 * initialCount / totalCards);
-        int percentPending = (int) (100.0 * pendingCount / totalCards);
-        int percentFinal = (int) (100.0 * finalCount / totalCards);
-
-        return new BoardSummaryDTO(
-                board.getId(),
-                board.getName(),
-                percentInitial,
-                percentPending,
-                percentFinal,
-                boardStatus,
-                board.getGroup()
-        );
-    }
 
     /**
      * Verifica se existe um grupo com o nome especificado.
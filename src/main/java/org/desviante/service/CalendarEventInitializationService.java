@@ -2,41 +2,42 @@ package org.desviante.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.desviante.calendar.CalendarEvent;
-import org.desviante.calendar.CalendarEventManager;
-import org.desviante.calendar.CalendarEventPriority;
-import org.desviante.calendar.CalendarEventType;
-import org.desviante.model.Card;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.desviante.event.MainWindowShownEvent;
+import org.desviante.repository.CalendarEventRepository;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
- * Serviço de inicialização para carregar eventos do calendário na inicialização do sistema.
+ * Serviço de inicialização para reconciliar os eventos do calendário com os cards agendados.
  * 
- * <p>Este serviço é responsável por carregar automaticamente todos os eventos
- * do calendário baseados nos cards com data de agendamento quando o sistema
- * é inicializado, garantindo que os eventos sejam exibidos corretamente.</p>
+ * <p>Este serviço garante que cada card com data de agendamento tenha um
+ * evento no calendário e que eventos de cards removidos ou desagendados
+ * sejam excluídos.</p>
+ * 
+ * <p>A reconciliação é feita por conjunto: um único DELETE e um único
+ * INSERT ... SELECT com anti-join entre {@code cards} e
+ * {@code calendar_events}, em vez de consultas por card. Ela roda em
+ * segundo plano depois que a janela principal é exibida, para não atrasar
+ * a abertura da aplicação.</p>
  * 
  * <p><strong>Funcionalidades:</strong></p>
  * <ul>
- *   <li>Carregamento automático na inicialização</li>
+ *   <li>Reconciliação automática após a abertura da janela principal</li>
  *   <li>Sincronização com cards existentes</li>
  *   <li>Prevenção de duplicação de eventos</li>
- *   <li>Logging detalhado do processo</li>
+ *   <li>Registro de linhas afetadas e duração no log</li>
  * </ul>
  * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
- * @see CalendarEventManager
- * @see CardService
+ * @see CalendarEventRepository
+ * @see MainWindowShownEvent
  */
 @Service
 @Profile("!test")
@@ -44,152 +45,75 @@ import java.util.List;
 @Slf4j
 public class CalendarEventInitializationService {
 
-    private final CalendarEventManager calendarEventManager;
-    private final CardService cardService;
+    private final CalendarEventRepository calendarEventRepository;
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Carrega automaticamente eventos do calendário na inicialização do sistema.
+     * Resultado de uma reconciliação.
      * 
-     * <p>Este método é executado automaticamente quando a aplicação está pronta
-     * para receber requisições. Ele busca todos os cards com data de agendamento
-     * e cria os eventos correspondentes no calendário.</p>
+     * @param eventsDeleted eventos órfãos removidos
+     * @param eventsCreated eventos criados para cards agendados sem evento
+     * @param durationMillis duração da reconciliação em milissegundos
+     */
+    public record ReconciliationResult(int eventsDeleted, int eventsCreated, long durationMillis) {
+    }
+
+    /**
+     * Dispara a reconciliação dos eventos depois que a janela principal é exibida.
+     * 
+     * <p>O trabalho roda em uma thread daemon, liberando imediatamente a
+     * thread da interface que publicou o evento.</p>
      * 
-     * <p><strong>Processo:</strong></p>
-     * <ol>
-     *   <li>Busca todos os cards com data de agendamento</li>
-     *   <li>Verifica se já existem eventos para cada card</li>
-     *   <li>Cria eventos apenas para cards que não possuem eventos</li>
-     *   <li>Registra o processo no log</li>
-     * </ol>
+     * @param event evento de janela principal exibida
      */
-    @EventListener(ApplicationReadyEvent.class)
-    @Transactional
-    public void loadCalendarEventsOnStartup() {
+    @EventListener(MainWindowShownEvent.class)
+    public void onMainWindowShown(MainWindowShownEvent event) {
         // Verificar se estamos em ambiente de teste
         String activeProfile = System.getProperty("spring.profiles.active");
         if ("test".equals(activeProfile)) {
-            log.info("🔄 Pulando carregamento de eventos do calendário em ambiente de teste");
+            log.info("🔄 Pulando reconciliação de eventos do calendário em ambiente de teste");
             return;
         }
-        log.info("🔄 Iniciando carregamento de eventos do calendário na inicialização...");
-        
+        Thread thread = new Thread(this::loadCalendarEventsOnStartup, "Calendar-Reconciliation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reconcilia os eventos do calendário com os cards agendados, registrando o resultado no log.
+     */
+    public void loadCalendarEventsOnStartup() {
+        log.info("🔄 Iniciando reconciliação de eventos do calendário...");
         try {
             // Garantir que a tabela calendar_events existe
             ensureCalendarEventsTableExists();
-            
-            // Limpar eventos órfãos (eventos sem card correspondente com data de agendamento)
-            cleanupOrphanedEvents();
-            
-            // Buscar todos os cards com data de agendamento
-            List<Card> cardsWithScheduledDate = cardService.getAllCardsWithScheduledDate();
-            log.info("📅 Encontrados {} cards com data de agendamento", cardsWithScheduledDate.size());
-            
-            int eventsCreated = 0;
-            int eventsSkipped = 0;
-            
-            for (Card card : cardsWithScheduledDate) {
-                try {
-                    // Verificar se já existe evento para este card
-                    List<CalendarEvent> existingEvents = calendarEventManager.findByRelatedEntity(
-                            card.getId(), "CARD");
-                    
-                    if (existingEvents.isEmpty()) {
-                        // Criar evento para o card
-                        CalendarEvent event = createCalendarEventFromCard(card);
-                        calendarEventManager.save(event);
-                        eventsCreated++;
-                        log.debug("✅ Evento criado para card: {} - {}", card.getId(), card.getTitle());
-                    } else {
-                        eventsSkipped++;
-                        log.debug("⏭️ Evento já existe para card: {} - {}", card.getId(), card.getTitle());
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("❌ Erro ao processar card {}: {}", card.getId(), e.getMessage(), e);
-                }
-            }
-            
-            log.info("🎉 Carregamento de eventos concluído - Criados: {}, Ignorados: {}", 
-                    eventsCreated, eventsSkipped);
-            
+
+            ReconciliationResult result = reconcileCardEvents(LocalDateTime.now());
+            log.info("🎉 Reconciliação de eventos concluída - Removidos: {}, Criados: {}, Duração: {} ms",
+                    result.eventsDeleted(), result.eventsCreated(), result.durationMillis());
+
         } catch (Exception e) {
-            log.error("❌ Erro durante carregamento de eventos do calendário: {}", e.getMessage(), e);
+            log.error("❌ Erro durante reconciliação de eventos do calendário: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Cria um evento do calendário baseado nas informações de um card.
+     * Remove os eventos órfãos e cria os eventos que faltam, um comando para cada.
      * 
-     * @param card card para criação do evento
-     * @return evento do calendário criado
-     */
-    private CalendarEvent createCalendarEventFromCard(Card card) {
-        LocalDateTime scheduledDate = card.getScheduledDate();
-        LocalDateTime dueDate = card.getDueDate();
-        
-        // Determinar se é evento de dia inteiro (meia-noite)
-        boolean allDay = scheduledDate.getHour() == 0 && scheduledDate.getMinute() == 0;
-        
-        // Calcular prioridade baseada na urgência do card
-        CalendarEventPriority priority = calculateEventPriority(card);
-        
-        // Determinar cor baseada na urgência
-        String color = calculateEventColor(card);
-        
-        CalendarEvent event = new CalendarEvent();
-        event.setTitle(card.getTitle());
-        event.setDescription(card.getDescription());
-        event.setStartDateTime(scheduledDate);
-        event.setEndDateTime(allDay ? scheduledDate.plusHours(1) : 
-                           (dueDate != null ? dueDate : scheduledDate.plusHours(1)));
-        event.setAllDay(allDay);
-        event.setType(CalendarEventType.CARD);
-        event.setPriority(priority);
-        event.setColor(color);
-        event.setRelatedEntityId(card.getId());
-        event.setRelatedEntityType("CARD");
-        event.setActive(true);
-        event.setCreatedAt(LocalDateTime.now());
-        event.setUpdatedAt(LocalDateTime.now());
-        
-        return event;
-    }
-
-    /**
-     * Calcula a prioridade do evento baseada na urgência do card.
-     * 
-     * @param card card para cálculo da prioridade
-     * @return prioridade do evento
-     */
-    private CalendarEventPriority calculateEventPriority(Card card) {
-        int urgencyLevel = card.getUrgencyLevel();
-        
-        return switch (urgencyLevel) {
-            case 4 -> CalendarEventPriority.URGENT;      // Vencido
-            case 3 -> CalendarEventPriority.HIGH;        // Vence hoje
-            case 2 -> CalendarEventPriority.HIGH;        // Vence em 1 dia
-            case 1 -> CalendarEventPriority.STANDARD;    // Vence em 2-3 dias
-            default -> CalendarEventPriority.LOW;        // Sem urgência
-        };
-    }
-
-    /**
-     * Calcula a cor do evento baseada na urgência do card.
+     * <p>Eventos órfãos são eventos que não possuem um card correspondente
+     * com data de agendamento. Isso pode acontecer quando:
+     * - Um card é deletado mas o evento não é removido
+     * - Um card perde sua data de agendamento mas o evento não é removido
+     * - Dados inconsistentes por falhas em operações anteriores</p>
      * 
-     * @param card card para cálculo da cor
-     * @return cor em formato hexadecimal
+     * @param now momento da reconciliação (usado na urgência e nas datas de criação)
+     * @return quantidade de eventos removidos e criados, e a duração
      */
-    private String calculateEventColor(Card card) {
-        int urgencyLevel = card.getUrgencyLevel();
-        
-        return switch (urgencyLevel) {
-            case 4 -> "#FF0000";  // Vermelho - vencido
-            case 3 -> "#FF6600";  // Laranja - vence hoje
-            case 2 -> "#FFAA00";  // Amarelo - vence em 1 dia
-            case 1 -> "#00AAFF";  // Azul - vence em 2-3 dias
-            default -> "#00AA00"; // Verde - sem urgência
-        };
+    public ReconciliationResult reconcileCardEvents(LocalDateTime now) {
+        long start = System.nanoTime();
+        int deleted = calendarEventRepository.deleteOrphanedCardEvents();
+        int created = calendarEventRepository.insertMissingCardEvents(LocalDate.from(now), now);
+        return new ReconciliationResult(deleted, created, (System.nanoTime() - start) / 1_000_000);
     }
 
     /**
@@ -253,75 +177,4 @@ public class CalendarEventInitializationService {
             throw new RuntimeException("Falha ao garantir existência da tabela calendar_events", e);
         }
     }
-
-    /**
-     * Remove eventos órfãos do calendário.
-     * 
-     * <p>Eventos órfãos são eventos que não possuem um card correspondente
-     * com data de agendamento. Isso pode acontecer quando:
-     * - Um card é deletado mas o evento não é removido
-     * - Um card perde sua data de agendamento mas o evento não é removido
-     * - Dados inconsistentes por falhas em operações anteriores</p>
-     */
-    private void cleanupOrphanedEvents() {
-        try {
-            log.info("🧹 Iniciando limpeza de eventos órfãos...");
-            
-            // Buscar todos os eventos ativos do calendário
-            var allEvents = calendarEventManager.findAll();
-            log.info("📊 Total de eventos no calendário: {}", allEvents.size());
-            
-            int orphanedCount = 0;
-            
-            for (var event : allEvents) {
-                log.info("🔍 Verificando evento: {} (ID: {}, Related Entity ID: {}, Type: {})", 
-                        event.getTitle(), event.getId(), event.getRelatedEntityId(), event.getRelatedEntityType());
-                
-                // Verificar se o evento está relacionado a um card
-                if ("Card".equals(event.getRelatedEntityType()) && event.getRelatedEntityId() != null) {
-                    Long cardId = event.getRelatedEntityId();
-                    
-                    // Verificar se o card existe e tem data de agendamento
-                    var cardOpt = cardService.getCardById(cardId);
-                    if (cardOpt.isEmpty()) {
-                        log.warn("⚠️ Card não encontrado para evento: {} (Card ID: {})", event.getTitle(), cardId);
-                        // Evento é órfão - remover
-                        boolean removed = calendarEventManager.deleteById(event.getId());
-                        if (removed) {
-                            orphanedCount++;
-                            log.info("🗑️ Evento órfão removido (card não existe): {} (Card ID: {})", event.getTitle(), cardId);
-                        } else {
-                            log.warn("⚠️ Falha ao remover evento órfão: {} (Card ID: {})", event.getTitle(), cardId);
-                        }
-                    } else {
-                        Card card = cardOpt.get();
-                        log.info("📋 Card encontrado: {} (ID: {}, Scheduled: {})", card.getTitle(), card.getId(), card.getScheduledDate());
-                        
-                        if (card.getScheduledDate() == null) {
-                            log.warn("⚠️ Card sem data de agendamento para evento: {} (Card ID: {})", event.getTitle(), cardId);
-                            // Evento é órfão - remover
-                            boolean removed = calendarEventManager.deleteById(event.getId());
-                            if (removed) {
-                                orphanedCount++;
-                                log.info("🗑️ Evento órfão removido (card sem agendamento): {} (Card ID: {})", event.getTitle(), cardId);
-                            } else {
-                                log.warn("⚠️ Falha ao remover evento órfão: {} (Card ID: {})", event.getTitle(), cardId);
-                            }
-                        } else {
-                            log.info("✅ Evento válido mantido: {} (Card ID: {}, Scheduled: {})", event.getTitle(), cardId, card.getScheduledDate());
-                        }
-                    }
-                } else {
-                    log.warn("⚠️ Evento não relacionado a card: {} (Type: {}, Related ID: {})", 
-                            event.getTitle(), event.getRelatedEntityType(), event.getRelatedEntityId());
-                }
-            }
-            
-            log.info("✅ Limpeza de eventos órfãos concluída - Removidos: {}", orphanedCount);
-            
-        } catch (Exception e) {
-            log.error("❌ Erro durante limpeza de eventos órfãos: {}", e.getMessage(), e);
-            // Não lançar exceção para não interromper a inicialização
-        }
-    }
 }
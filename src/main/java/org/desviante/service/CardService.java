@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.desviante.exception.ResourceNotFoundException;
 import org.desviante.model.BoardColumn;
 import org.desviante.model.Card;
+import org.desviante.model.CardPosition;
 import org.desviante.model.CardType;
+import org.desviante.model.CardUrgencyCounts;
 import org.desviante.model.enums.BoardColumnKindEnum;
 import org.desviante.model.enums.ProgressType;
 
@@ -12,10 +14,16 @@ import org.desviante.repository.BoardColumnRepository;
 import org.desviante.repository.CardRepository;
 import org.desviante.calendar.CalendarEventManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Gerencia as operações de negócio relacionadas aos cards (tarefas).
@@ -34,6 +42,16 @@ import java.util.Optional;
  * <p>Progresso e status estão desacoplados: o progresso é independente da coluna
  * onde o card está localizado, permitindo maior flexibilidade ao usuário.</p>
  * 
+ * <p>As posições dos cards em uma coluna ({@code order_index}) são espaçadas
+ * de {@link #ORDER_GAP} em {@link #ORDER_GAP}, de modo que um card pode ser
+ * colocado entre dois outros atualizando apenas a sua própria linha. A
+ * coluna só é renumerada quando não há mais intervalo livre.</p>
+ * 
+ * <p>As estatísticas de urgência ({@link #getUrgencyStats()}) ficam em cache
+ * até a próxima gravação de card no repositório ou até o primeiro instante
+ * em que alguma contagem mudaria só pela passagem do tempo (no máximo até a
+ * virada do dia).</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -51,6 +69,19 @@ public class CardService {
     private final CardTypeService CardTypeService;
     private final CalendarEventManager calendarEventManager;
 
+    /**
+     * Intervalo entre as posições de cards consecutivos em uma coluna.
+     */
+    public static final int ORDER_GAP = 1024;
+
+    /**
+     * Dias considerados "próximo do vencimento" nas estatísticas de urgência.
+     */
+    private static final int URGENCY_NEAR_DUE_DAYS = 3;
+
+    private final AtomicReference<CachedUrgencyCounts> urgencyCache = new AtomicReference<>();
+    private Clock clock = Clock.systemDefaultZone();
+
     /**
      * Cria um novo card em uma coluna específica.
      * 
@@ -121,7 +152,7 @@ public class CardService {
         // Define o order_index como o próximo valor disponível na coluna
         // Busca o maior order_index existente para evitar race conditions
         Integer maxOrderIndex = cardRepository.findMaxOrderIndexByColumnId(parentColumnId);
-        int nextOrderIndex = (maxOrderIndex != null ? maxOrderIndex : 0) + 1;
+        int nextOrderIndex = (maxOrderIndex != null ? maxOrderIndex : 0) + ORDER_GAP;
         newCard.setOrderIndex(nextOrderIndex);
 
         Card savedCard = cardRepository.save(newCard);
@@ -162,19 +193,98 @@ public class CardService {
         // Define o order_index como o próximo valor disponível na nova coluna
         // Busca o maior order_index existente para evitar race conditions
         Integer maxOrderIndex = cardRepository.findMaxOrderIndexByColumnId(newColumnId);
-        int nextOrderIndex = (maxOrderIndex != null ? maxOrderIndex : 0) + 1;
+        int nextOrderIndex = (maxOrderIndex != null ? maxOrderIndex : 0) + ORDER_GAP;
         card.setOrderIndex(nextOrderIndex);
 
-        // LÓGICA DE CONCLUSÃO REFINADA:
-        // Se a nova coluna for do tipo FINAL, define a data de conclusão.
-        // Caso contrário, garante que a data de conclusão seja nula.
+        applyCompletionRule(card, newColumn);
+
+        return cardRepository.save(card);
+    }
+
+    /**
+     * Move um card para uma posição específica de uma coluna.
+     * 
+     * <p>O card é colocado imediatamente antes de {@code beforeCardId} ou, se
+     * este for null, no fim da coluna. Normalmente apenas a linha do card é
+     * atualizada; quando não há intervalo livre entre os vizinhos, a coluna é
+     * renumerada antes. Se a coluna mudar, aplica a mesma lógica de conclusão
+     * de {@link #moveCardToColumn(Long, Long)}.</p>
+     * 
+     * @param cardId identificador do card a ser movido
+     * @param columnId identificador da coluna de destino
+     * @param beforeCardId card que ficará logo depois do card movido (null para o fim da coluna)
+     * @return card atualizado
+     * @throws ResourceNotFoundException se o card, a coluna ou o card de referência não forem encontrados
+     */
+    @Transactional
+    public Card moveCardToPosition(Long cardId, Long columnId, Long beforeCardId) {
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Card com ID " + cardId + " não encontrado."));
+        if (cardId.equals(beforeCardId)) {
+            return card;
+        }
+
+        int orderIndex = findFreeOrderIndex(cardId, columnId, beforeCardId)
+                .orElseGet(() -> {
+                    // Sem intervalo livre: renumerar a coluna e procurar de novo
+                    cardRepository.rebalanceColumnOrder(columnId, ORDER_GAP);
+                    return findFreeOrderIndex(cardId, columnId, beforeCardId)
+                            .orElseThrow(() -> new IllegalStateException("Não há posição livre na coluna " + columnId));
+                });
+
+        if (columnId.equals(card.getBoardColumnId())) {
+            cardRepository.updateOrderIndex(cardId, orderIndex);
+            card.setOrderIndex(orderIndex);
+            return card;
+        }
+
+        BoardColumn newColumn = columnRepository.findById(columnId)
+                .orElseThrow(() -> new ResourceNotFoundException("Coluna de destino com ID " + columnId + " não encontrada."));
+        card.setBoardColumnId(columnId);
+        card.setLastUpdateDate(LocalDateTime.now());
+        card.setOrderIndex(orderIndex);
+        applyCompletionRule(card, newColumn);
+        return cardRepository.save(card);
+    }
+
+    /**
+     * Calcula a posição livre imediatamente antes do card de referência (ou no fim da coluna).
+     * 
+     * @return posição livre, ou vazio se não houver intervalo entre os vizinhos
+     */
+    private Optional<Integer> findFreeOrderIndex(Long cardId, Long columnId, Long beforeCardId) {
+        if (beforeCardId == null) {
+            Integer maxOrderIndex = cardRepository.findMaxOrderIndexByColumnId(columnId);
+            long next = (long) (maxOrderIndex != null ? maxOrderIndex : 0) + ORDER_GAP;
+            return next <= Integer.MAX_VALUE ? Optional.of((int) next) : Optional.empty();
+        }
+
+        CardPosition before = cardRepository.findPositionById(beforeCardId)
+                .filter(position -> columnId.equals(position.boardColumnId()))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Card de referência com ID " + beforeCardId + " não encontrado na coluna " + columnId + "."));
+        Optional<CardPosition> previous = cardRepository.findPositionBefore(columnId, before, cardId);
+        // No topo, o intervalo livre vai de 0 até o primeiro card, sem índices negativos
+        long lower = previous.map(CardPosition::orderIndex).orElse(0);
+        long gap = (long) before.orderIndex() - lower;
+        if (gap < 2) {
+            return Optional.empty();
+        }
+        return Optional.of((int) (lower + gap / 2));
+    }
+
+    /**
+     * Define a data de conclusão conforme o tipo da coluna de destino.
+     * 
+     * <p>Se a nova coluna for do tipo FINAL, define a data de conclusão.
+     * Caso contrário, garante que a data de conclusão seja nula.</p>
+     */
+    private static void applyCompletionRule(Card card, BoardColumn newColumn) {
         if (newColumn.getKind() == BoardColumnKindEnum.FINAL) {
             card.setCompletionDate(LocalDateTime.now());
         } else {
             card.setCompletionDate(null);
         }
-
-        return cardRepository.save(card);
     }
 
     /**
@@ -355,6 +465,20 @@ public class CardService {
         return cards;
     }
 
+    /**
+     * Conta os cards de vários quadros agrupados por tipo de coluna.
+     * 
+     * <p>Alternativa leve a {@link #getCardsForColumns(List)} para quem só
+     * precisa de totais: a contagem é feita no banco e nenhum card ou
+     * tipo de card é carregado.</p>
+     * 
+     * @param boardIds lista de identificadores dos quadros
+     * @return mapa board_id → (tipo de coluna → quantidade de cards)
+     */
+    public Map<Long, Map<BoardColumnKindEnum, Long>> countCardsByBoardAndColumnKind(List<Long> boardIds) {
+        return cardRepository.countByBoardIdInGroupedByColumnKind(boardIds);
+    }
+
     /**
      * Remove um card do sistema com validação de existência.
      * 
@@ -384,26 +508,28 @@ public class CardService {
      * @return true se o card foi movido, false se já estava no topo
      * @throws ResourceNotFoundException se o card não for encontrado
      */
+    @Transactional
     public boolean moveCardUp(Long cardId) {
-        Card currentCard = getCardById(cardId)
+        // A reordenação só precisa da posição dos cards, não dos dados completos
+        CardPosition currentCard = cardRepository.findPositionById(cardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card com ID " + cardId + " não encontrado."));
 
         // Busca o card anterior na mesma coluna
-        Optional<Card> previousCard = cardRepository.findPreviousCard(
-                currentCard.getBoardColumnId(), 
-                currentCard.getOrderIndex()
+        Optional<CardPosition> previousCard = cardRepository.findPreviousCardPosition(
+                currentCard.boardColumnId(), 
+                currentCard.orderIndex()
         );
 
         if (previousCard.isEmpty()) {
             return false; // Card já está no topo
         }
 
-        Card previous = previousCard.get();
+        CardPosition previous = previousCard.get();
         
         // Troca as posições
         cardRepository.swapCardPositions(
-                currentCard.getId(), previous.getOrderIndex(),
-                previous.getId(), currentCard.getOrderIndex()
+                currentCard.id(), previous.orderIndex(),
+                previous.id(), currentCard.orderIndex()
         );
 
         return true;
@@ -419,26 +545,28 @@ public class CardService {
      * @return true se o card foi movido, false se já estava na base
      * @throws ResourceNotFoundException se o card não for encontrado
      */
+    @Transactional
     public boolean moveCardDown(Long cardId) {
-        Card currentCard = getCardById(cardId)
+        // A reordenação só precisa da posição dos cards, não dos dados completos
+        CardPosition currentCard = cardRepository.findPositionById(cardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card com ID " + cardId + " não encontrado."));
 
         // Busca o próximo card na mesma coluna
-        Optional<Card> nextCard = cardRepository.findNextCard(
-                currentCard.getBoardColumnId(), 
-                currentCard.getOrderIndex()
+        Optional<CardPosition> nextCard = cardRepository.findNextCardPosition(
+                currentCard.boardColumnId(), 
+                currentCard.orderIndex()
         );
 
         if (nextCard.isEmpty()) {
             return false; // Card já está na base
         }
 
-        Card next = nextCard.get();
+        CardPosition next = nextCard.get();
         
         // Troca as posições
         cardRepository.swapCardPositions(
-                currentCard.getId(), next.getOrderIndex(),
-                next.getId(), currentCard.getOrderIndex()
+                currentCard.id(), next.orderIndex(),
+                next.id(), currentCard.orderIndex()
         );
 
         return true;
@@ -451,13 +579,9 @@ public class CardService {
      * @return true se o card pode ser movido para cima, false caso contrário
      */
     public boolean canMoveCardUp(Long cardId) {
-        Optional<Card> cardOpt = getCardById(cardId);
-        if (cardOpt.isEmpty()) {
-            return false;
-        }
-
-        Card card = cardOpt.get();
-        return cardRepository.findPreviousCard(card.getBoardColumnId(), card.getOrderIndex()).isPresent();
+        return cardRepository.findPositionById(cardId)
+                .flatMap(position -> cardRepository.findPreviousCardPosition(position.boardColumnId(), position.orderIndex()))
+                .isPresent();
     }
 
     /**
@@ -467,13 +591,9 @@ public class CardService {
      * @return true se o card pode ser movido para baixo, false caso contrário
      */
     public boolean canMoveCardDown(Long cardId) {
-        Optional<Card> cardOpt = getCardById(cardId);
-        if (cardOpt.isEmpty()) {
-            return false;
-        }
-
-        Card card = cardOpt.get();
-        return cardRepository.findNextCard(card.getBoardColumnId(), card.getOrderIndex()).isPresent();
+        return cardRepository.findPositionById(cardId)
+                .flatMap(position -> cardRepository.findNextCardPosition(position.boardColumnId(), position.orderIndex()))
+                .isPresent();
     }
 
     /**
@@ -672,21 +792,62 @@ public class CardService {
      * @return estatísticas de urgência
      */
     public UrgencyStats getUrgencyStats() {
-        List<Card> overdueCards = getOverdueCards();
-        List<Card> nearDueCards = getCardsNearDue(3);
-        List<Card> highUrgencyCards = getCardsByUrgencyLevel(3);
-        List<Card> mediumUrgencyCards = getCardsByUrgencyLevel(2);
-        List<Card> lowUrgencyCards = getCardsByUrgencyLevel(1);
-        
+        LocalDateTime now = LocalDateTime.now(clock);
+        long modificationCount = cardRepository.getModificationCount();
+        CachedUrgencyCounts cached = urgencyCache.get();
+        CardUrgencyCounts counts;
+        if (cached != null && cached.modificationCount() == modificationCount
+                && now.isBefore(cached.counts().nextChange())) {
+            counts = cached.counts();
+        } else {
+            // Todas as faixas em uma única consulta agregada
+            counts = cardRepository.countUrgency(now, URGENCY_NEAR_DUE_DAYS);
+            urgencyCache.set(new CachedUrgencyCounts(counts, modificationCount));
+        }
         return UrgencyStats.builder()
-                .overdueCount(overdueCards.size())
-                .nearDueCount(nearDueCards.size())
-                .highUrgencyCount(highUrgencyCards.size())
-                .mediumUrgencyCount(mediumUrgencyCards.size())
-                .lowUrgencyCount(lowUrgencyCards.size())
+                .overdueCount(counts.overdue())
+                .nearDueCount(counts.nearDue())
+                .highUrgencyCount(counts.highUrgency())
+                .mediumUrgencyCount(counts.mediumUrgency())
+                .lowUrgencyCount(counts.lowUrgency())
                 .build();
     }
 
+    /**
+     * Descarta as estatísticas de urgência em cache.
+     * 
+     * <p>Gravações feitas pelo {@link CardRepository} já invalidam o cache;
+     * este método cobre remoções de cards que acontecem fora dele, como a
+     * exclusão em cascata ao remover um quadro.</p>
+     */
+    public void invalidateUrgencyStats() {
+        urgencyCache.set(null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Uma leitura antes do commit ainda veria os cards removidos
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    urgencyCache.set(null);
+                }
+            });
+        }
+    }
+
+    /**
+     * Define o relógio usado para calcular a urgência (para testes).
+     * 
+     * @param clock relógio de referência
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Contagens de urgência em cache e o contador de gravações lido antes da consulta.
+     */
+    private record CachedUrgencyCounts(CardUrgencyCounts counts, long modificationCount) {
+    }
+
     /**
      * Remove o evento do calendário associado a um card.
      * 
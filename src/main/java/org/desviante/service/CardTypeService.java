@@ -10,10 +10,15 @@ import org.desviante.repository.CardTypeRepository;
 import org.desviante.repository.CardRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +36,13 @@ import org.slf4j.LoggerFactory;
  * <p>Utiliza transações para garantir consistência dos dados, com operações
  * de leitura marcadas como readOnly para otimização de performance.</p>
  * 
+ * <p>Mantém um cache em memória dos tipos de card consultados por ID, já que
+ * cada card carregado precisa do seu tipo e os tipos raramente mudam. O cache
+ * guarda e devolve cópias, para que quem altera o tipo recebido (ex.: os
+ * diálogos de edição) não altere o cache sem gravar no banco. Ele é invalidado
+ * por qualquer operação de criação, atualização ou remoção, e de novo ao fim
+ * da transação.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -49,6 +61,13 @@ public class CardTypeService {
     private final CardRepository cardRepository;
     private final AppMetadataConfig appMetadataConfig;
 
+    /**
+     * Cache dos tipos de card indexado por ID.
+     */
+    private final Map<Long, CardType> cardTypeCache = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     /**
      * Lista todos os tipos de card disponíveis.
      *
@@ -56,11 +75,18 @@ public class CardTypeService {
      */
     @Transactional(readOnly = true)
     public List<CardType> getAllCardTypes() {
-        return cardTypeRepository.findAll();
+        List<CardType> cardTypes = cardTypeRepository.findAll();
+        // Aproveitar a listagem completa para aquecer o cache por ID
+        cardTypes.forEach(cardType -> cardTypeCache.putIfAbsent(cardType.getId(), copyOf(cardType)));
+        return cardTypes;
     }
 
     /**
      * Busca um tipo de card pelo ID.
+     * 
+     * <p>Consulta primeiro o cache em memória e só acessa o repositório
+     * quando o tipo ainda não foi carregado. IDs inexistentes não são
+     * armazenados no cache. Cada chamada recebe uma cópia própria.</p>
      *
      * @param id identificador do tipo de card
      * @return tipo de card encontrado
@@ -68,10 +94,64 @@ public class CardTypeService {
      */
     @Transactional(readOnly = true)
     public CardType getCardTypeById(Long id) {
+        CardType cached = id != null ? cardTypeCache.get(id) : null;
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return copyOf(cached);
+        }
+        cacheMisses.incrementAndGet();
+        CardType cardType = findCardTypeInRepository(id);
+        cardTypeCache.putIfAbsent(id, copyOf(cardType));
+        return cardType;
+    }
+
+    private static CardType copyOf(CardType cardType) {
+        return new CardType(cardType.getId(), cardType.getName(), cardType.getUnitLabel(),
+                cardType.getCreationDate(), cardType.getLastUpdateDate());
+    }
+
+    /**
+     * Busca um tipo de card diretamente no repositório, sem passar pelo cache.
+     *
+     * @param id identificador do tipo de card
+     * @return tipo de card encontrado
+     * @throws ResourceNotFoundException se o tipo não for encontrado
+     */
+    private CardType findCardTypeInRepository(Long id) {
         return cardTypeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tipo de card com ID " + id + " não encontrado"));
     }
 
+    /**
+     * Descarta todos os tipos de card mantidos em cache.
+     * 
+     * <p>Deve ser chamado sempre que a tabela de tipos for alterada por
+     * outro caminho que não os métodos de escrita deste serviço. Dentro de uma
+     * transação, o cache é descartado de novo ao fim dela.</p>
+     */
+    public void invalidateCache() {
+        cardTypeCache.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Uma leitura antes do commit ainda veria o tipo antigo e o colocaria de volta no cache
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cardTypeCache.clear();
+                }
+            });
+        }
+        log.debug("Cache de tipos de card invalidado");
+    }
+
+    /**
+     * Obtém as estatísticas de uso do cache de tipos de card.
+     *
+     * @return contadores de acertos e falhas e o tamanho atual do cache
+     */
+    public CacheStats getCacheStats() {
+        return new CacheStats(cacheHits.get(), cacheMisses.get(), cardTypeCache.size());
+    }
+
     /**
      * Cria um novo tipo de card
      *
@@ -103,7 +183,9 @@ public class CardTypeService {
                 .unitLabel(unitLabel.trim())
                 .build();
         
-        return cardTypeRepository.save(newType);
+        CardType saved = cardTypeRepository.save(newType);
+        invalidateCache();
+        return saved;
     }
 
     /**
@@ -138,7 +220,9 @@ public class CardTypeService {
                 .build();
         
         // Usa o método seguro que evita conflitos de ID
-        return cardTypeRepository.saveOrGetExisting(newType);
+        CardType saved = cardTypeRepository.saveOrGetExisting(newType);
+        invalidateCache();
+        return saved;
     }
 
     /**
@@ -153,8 +237,8 @@ public class CardTypeService {
      */
     @Transactional
     public CardType updateCardType(Long id, String name, String unitLabel) {
-        // Busca o tipo existente
-        CardType existingType = getCardTypeById(id);
+        // Busca o tipo existente fora do cache, pois a instância será alterada
+        CardType existingType = findCardTypeInRepository(id);
         
         // Validações básicas
         if (name == null || name.trim().isEmpty()) {
@@ -177,7 +261,9 @@ public class CardTypeService {
         existingType.setUnitLabel(unitLabel.trim());
         existingType.setLastUpdateDate(LocalDateTime.now());
         
-        return cardTypeRepository.update(existingType);
+        CardType updated = cardTypeRepository.update(existingType);
+        invalidateCache();
+        return updated;
     }
 
     /**
@@ -227,7 +313,8 @@ public class CardTypeService {
         // Verificar se existem cards usando este tipo antes de remover
         if (cardRepository.existsByCardTypeId(id)) {
             int cardCount = cardRepository.countByCardTypeId(id);
-            List<Card> affectedCards = cardRepository.findByCardTypeId(id);
+            // A mensagem só usa os títulos: não é preciso carregar descrições
+            List<String> affectedCards = cardRepository.findTitlesByCardTypeId(id);
             
             // Construir mensagem detalhada sobre os cards afetados
             StringBuilder message = new StringBuilder();
@@ -238,9 +325,8 @@ public class CardTypeService {
             // Adicionar informações dos primeiros 5 cards para não sobrecarregar a mensagem
             int maxCardsToShow = Math.min(5, affectedCards.size());
             for (int i = 0; i < maxCardsToShow; i++) {
-                Card card = affectedCards.get(i);
                 if (i > 0) message.append(", ");
-                message.append("'").append(card.getTitle()).append("'");
+                message.append("'").append(affectedCards.get(i)).append("'");
             }
             
             if (affectedCards.size() > maxCardsToShow) {
@@ -254,6 +340,7 @@ public class CardTypeService {
         
         // Se não há cards usando o tipo, proceder com a remoção
         boolean deleted = cardTypeRepository.deleteById(id);
+        invalidateCache();
         if (!deleted) {
             throw new ResourceNotFoundException("Tipo de Card com ID " + id + " não encontrado");
         }
@@ -414,6 +501,16 @@ public class CardTypeService {
         }
     }
 
+    /**
+     * Estatísticas do cache de tipos de card.
+     * 
+     * @param hits consultas atendidas pelo cache
+     * @param misses consultas que precisaram acessar o repositório
+     * @param size quantidade de tipos atualmente em cache
+     */
+    public record CacheStats(long hits, long misses, int size) {
+    }
+
     /**
      * Classe interna para representar o resultado da verificação de remoção de tipo de card.
      * 
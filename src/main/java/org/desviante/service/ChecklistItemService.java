@@ -1,11 +1,15 @@
 package org.desviante.service;
 
 import org.desviante.model.CheckListItem;
+import org.desviante.model.ChecklistProgress;
 import org.desviante.repository.CheckListItemRepository;
+import org.desviante.service.dto.BoardChecklistDTO;
 import org.desviante.service.dto.ChecklistItemDTO;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -167,13 +171,32 @@ public class ChecklistItemService {
      * @return percentual de conclusão (0-100)
      */
     public double getProgressPercentage(Long cardId) {
-        int totalItems = getItemCount(cardId);
-        if (totalItems == 0) {
-            return 0.0;
-        }
-        
-        int completedItems = getCompletedItemCount(cardId);
-        return (double) completedItems / totalItems * 100.0;
+        return getProgress(cardId).percentage();
+    }
+    
+    /**
+     * Obtém o total de itens e de itens concluídos de um card em uma única consulta.
+     * 
+     * @param cardId identificador do card
+     * @return progresso do checklist do card
+     */
+    public ChecklistProgress getProgress(Long cardId) {
+        return checklistItemRepository.countProgressByCardId(cardId);
+    }
+    
+    /**
+     * Carrega em uma única consulta os itens de checklist de todos os cards de um board.
+     * 
+     * @param boardId identificador do board
+     * @return itens agrupados por card, na ordem de exibição
+     */
+    public BoardChecklistDTO getBoardChecklists(Long boardId) {
+        Map<Long, List<ChecklistItemDTO>> itemsByCardId = checklistItemRepository
+                .findByBoardIdOrderByCardIdAndOrderIndex(boardId)
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.groupingBy(ChecklistItemDTO::cardId, LinkedHashMap::new, Collectors.toList()));
+        return new BoardChecklistDTO(boardId, itemsByCardId);
     }
     
     /**
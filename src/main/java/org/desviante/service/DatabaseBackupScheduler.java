@@ -0,0 +1,173 @@
+package org.desviante.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.desviante.config.AppMetadata;
+import org.desviante.config.AppMetadataConfig;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agendador do backup automático do banco de dados.
+ *
+ * <p>Segue as configurações {@code autoBackupDatabase},
+ * {@code autoBackupIntervalHours} e {@code autoBackupDirectory} dos
+ * metadados da aplicação, relidas a cada ciclo para que alterações feitas
+ * pelo usuário valham sem reiniciar.</p>
+ *
+ * <p>A cada intervalo é gravado um backup incremental com as linhas
+ * alteradas desde o backup anterior; a cada {@link #FULL_BACKUP_EVERY}
+ * intervalos (ou quando não há backup completo no diretório) é gravado um
+ * backup completo. Depois de cada backup, são mantidos apenas os
+ * {@link #KEEP_FULL_BACKUPS} backups completos mais recentes e os
+ * incrementais que dependem deles.</p>
+ *
+ * <p>Os backups rodam em uma thread daemon de prioridade mínima, para não
+ * competir com a interface.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see DatabaseBackupService
+ * @see AppMetadataConfig
+ */
+@Service
+@Profile("!test")
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseBackupScheduler {
+
+    /**
+     * Quantidade de intervalos entre dois backups completos.
+     */
+    static final int FULL_BACKUP_EVERY = 7;
+
+    /**
+     * Quantidade de backups completos mantidos no diretório.
+     */
+    static final int KEEP_FULL_BACKUPS = 5;
+
+    /**
+     * Motivo usado no nome dos backups completos automáticos.
+     */
+    static final String FULL_BACKUP_REASON = "auto";
+
+    // Espera antes de verificar novamente quando o backup está desativado ou falhou
+    static final Duration RECHECK_DELAY = Duration.ofHours(1);
+
+    // Espera após a inicialização, para não competir com o carregamento da interface
+    private static final Duration STARTUP_DELAY = Duration.ofMinutes(2);
+
+    private final DatabaseBackupService backupService;
+    private final AppMetadataConfig appMetadataConfig;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Inicia o agendamento quando a aplicação estiver pronta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Database-Backup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        scheduleNext(STARTUP_DELAY);
+        log.info("Backup automático agendado");
+    }
+
+    /**
+     * Interrompe o agendamento.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private synchronized void scheduleNext(Duration delay) {
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        executor.schedule(this::runScheduledCycle, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void runScheduledCycle() {
+        Duration next;
+        try {
+            next = runBackupCycle(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Erro no backup automático: {}", e.getMessage(), e);
+            next = RECHECK_DELAY;
+        }
+        scheduleNext(next);
+    }
+
+    /**
+     * Executa um ciclo do backup automático.
+     *
+     * @param now momento atual
+     * @return tempo até o próximo ciclo
+     */
+    Duration runBackupCycle(LocalDateTime now) {
+        AppMetadata metadata = appMetadataConfig.getCurrentMetadata();
+        if (metadata == null || Boolean.FALSE.equals(metadata.getAutoBackupDatabase())) {
+            return RECHECK_DELAY;
+        }
+
+        Integer hours = metadata.getAutoBackupIntervalHours();
+        Duration interval = Duration.ofHours(hours == null || hours < 1 ? 24 : hours);
+        Path directory = resolveDirectory(metadata.getAutoBackupDirectory());
+
+        List<String> backups = backupService.listBackups(directory);
+        Optional<LocalDateTime> lastBackup = lastTimestamp(backups, false);
+        if (lastBackup.isPresent() && lastBackup.get().plus(interval).isAfter(now)) {
+            return Duration.between(now, lastBackup.get().plus(interval));
+        }
+
+        Optional<LocalDateTime> lastFullBackup = lastTimestamp(backups, true);
+        if (lastFullBackup.isEmpty()
+                || !lastFullBackup.get().plus(interval.multipliedBy(FULL_BACKUP_EVERY)).isAfter(now)) {
+            backupService.createBackup(directory, FULL_BACKUP_REASON);
+        } else {
+            backupService.createIncrementalBackup(directory, lastBackup.get());
+        }
+        backupService.cleanupOldBackups(directory, KEEP_FULL_BACKUPS);
+        return interval;
+    }
+
+    private static Optional<LocalDateTime> lastTimestamp(List<String> backups, boolean fullOnly) {
+        return backups.stream()
+                .filter(name -> !fullOnly || !DatabaseBackupService.isIncrementalBackup(name))
+                .map(DatabaseBackupService::parseBackupTimestamp)
+                .flatMap(Optional::stream)
+                .max(LocalDateTime::compareTo);
+    }
+
+    private static Path resolveDirectory(String configured) {
+        if (configured == null || configured.isBlank()) {
+            return Paths.get(System.getProperty("user.home"), "myboards", "backups");
+        }
+        return Paths.get(configured);
+    }
+}
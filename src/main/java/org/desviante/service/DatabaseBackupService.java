@@ -2,18 +2,41 @@ package org.desviante.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Serviço para backup automático do banco de dados.
@@ -21,6 +44,25 @@ import java.util.Map;
  * <p>Este serviço cria backups automáticos antes de executar migrações,
  * garantindo que os dados do usuário sejam preservados em caso de falha.</p>
  * 
+ * <p>O backup é gravado em fluxo: cada tabela é lida por um cursor somente
+ * de avanço e suas linhas são escritas à medida que chegam, em comandos
+ * INSERT de várias linhas, num arquivo {@code .sql.gz} compactado. O uso de
+ * memória não depende do tamanho do banco. Todas as tabelas do esquema são
+ * incluídas, com todas as colunas, na ordem das chaves estrangeiras (tabelas
+ * referenciadas primeiro), de modo que o arquivo pode ser restaurado com
+ * {@code RUNSCRIPT FROM '<arquivo>' COMPRESSION GZIP}.</p>
+ * 
+ * <p>As tabelas são lidas em uma única transação somente leitura, o que
+ * garante uma cópia consistente mesmo com a aplicação em uso.</p>
+ * 
+ * <p>Além do backup completo, há o backup incremental: apenas as linhas
+ * alteradas desde uma data, identificadas pelas colunas
+ * {@code last_update_date}/{@code updated_at}, gravadas com {@code MERGE}
+ * para que a restauração do backup completo seguida dos incrementais, em
+ * ordem, resulte no estado mais recente. Tabelas sem coluna de alteração
+ * são copiadas por inteiro em cada incremental (são as tabelas pequenas de
+ * configuração). Exclusões só são refletidas no próximo backup completo.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -33,6 +75,46 @@ public class DatabaseBackupService {
     private final JdbcTemplate jdbcTemplate;
     private static final String BACKUP_DIR = System.getProperty("user.home") + "/myboards/backups";
 
+    /**
+     * Extensão dos arquivos de backup compactados.
+     */
+    public static final String BACKUP_EXTENSION = ".sql.gz";
+
+    /**
+     * Motivo usado no nome dos arquivos de backup incremental.
+     */
+    public static final String INCREMENTAL_REASON = "incremental";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final Pattern BACKUP_FILE_NAME = Pattern.compile("backup_(.+)_(\\d{8}_\\d{6})\\.sql(\\.gz)?");
+
+    // Colunas que registram a última alteração da linha, em ordem de preferência
+    private static final List<String> CHANGE_COLUMNS = List.of("LAST_UPDATE_DATE", "UPDATED_AT");
+
+    // Linhas por comando INSERT e por leitura do cursor
+    private static final int ROWS_PER_INSERT = 500;
+    private static final int FETCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Resumo de um backup gravado.
+     *
+     * @param file arquivo de backup
+     * @param rowsByTable quantidade de linhas copiadas de cada tabela, na ordem do arquivo
+     * @param durationMillis duração da cópia em milissegundos
+     */
+    public record BackupSummary(Path file, Map<String, Long> rowsByTable, long durationMillis) {
+
+        /**
+         * Obtém o total de linhas copiadas.
+         *
+         * @return soma das linhas de todas as tabelas
+         */
+        public long totalRows() {
+            return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
     /**
      * Cria um backup automático do banco de dados.
      * 
@@ -40,118 +122,331 @@ public class DatabaseBackupService {
      * @return caminho do arquivo de backup criado
      */
     public String createBackup(String reason) {
+        return createBackup(Paths.get(BACKUP_DIR), reason).toString();
+    }
+
+    /**
+     * Cria um backup completo do banco de dados no diretório informado.
+     * 
+     * @param directory diretório de backup (criado se não existir)
+     * @param reason motivo do backup, usado no nome do arquivo
+     * @return caminho do arquivo de backup criado
+     */
+    public Path createBackup(Path directory, String reason) {
+        return createBackupFile(directory, reason, null);
+    }
+
+    /**
+     * Cria um backup incremental com as linhas alteradas desde a data informada.
+     * 
+     * @param directory diretório de backup (criado se não existir)
+     * @param changedSince início do período de alterações (normalmente o início do backup anterior)
+     * @return caminho do arquivo de backup criado
+     */
+    public Path createIncrementalBackup(Path directory, LocalDateTime changedSince) {
+        return createBackupFile(directory, INCREMENTAL_REASON, changedSince);
+    }
+
+    private Path createBackupFile(Path directory, String reason, LocalDateTime changedSince) {
         try {
             // Criar diretório de backup se não existir
-            Path backupDir = Paths.get(BACKUP_DIR);
-            if (!Files.exists(backupDir)) {
-                Files.createDirectories(backupDir);
-                log.info("Diretório de backup criado: {}", backupDir);
+            if (!Files.exists(directory)) {
+                Files.createDirectories(directory);
+                log.info("Diretório de backup criado: {}", directory);
             }
 
             // Gerar nome do arquivo com timestamp
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = String.format("backup_%s_%s.sql", reason, timestamp);
-            String backupPath = BACKUP_DIR + "/" + fileName;
+            String timestamp = LocalDateTime.now().format(FILE_TIMESTAMP);
+            String fileName = String.format("backup_%s_%s%s", reason, timestamp, BACKUP_EXTENSION);
+            Path backupPath = directory.resolve(fileName);
 
-            // Criar arquivo de backup
-            try (FileWriter writer = new FileWriter(backupPath)) {
-                writer.write("-- Backup automático criado em: " + LocalDateTime.now() + "\n");
-                writer.write("-- Motivo: " + reason + "\n\n");
+            BackupSummary summary = writeBackup(backupPath, reason, changedSince);
+            log.info("Backup criado com sucesso: {} ({} linhas de {} tabelas em {} ms)",
+                    backupPath, summary.totalRows(), summary.rowsByTable().size(), summary.durationMillis());
+            return backupPath;
 
-                // Backup da tabela boards
-                backupTable(writer, "boards", "id, name, creation_date, group_id");
+        } catch (Exception e) {
+            log.error("Erro ao criar backup: {}", e.getMessage());
+            throw new RuntimeException("Falha ao criar backup", e);
+        }
+    }
 
-                // Backup da tabela board_columns
-                backupTable(writer, "board_columns", "id, name, order_index, kind, board_id");
+    /**
+     * Grava o backup completo do banco no arquivo informado.
+     * 
+     * @param file arquivo de destino (compactado com GZIP)
+     * @param reason motivo do backup, registrado no cabeçalho do arquivo
+     * @return resumo do backup
+     * @throws IOException se o arquivo não puder ser gravado
+     * @see #writeBackup(Path, String, LocalDateTime)
+     */
+    public BackupSummary writeBackup(Path file, String reason) throws IOException {
+        return writeBackup(file, reason, null);
+    }
 
-                // Backup da tabela cards
-                backupTable(writer, "cards", 
-                    "id, title, description, board_column_id, card_type_id, progress_type, " +
-                    "total_units, current_units, creation_date, last_update_date, completion_date, order_index");
+    /**
+     * Grava o backup do banco no arquivo informado.
+     * 
+     * <p>Se a cópia falhar, o arquivo parcial é removido.</p>
+     * 
+     * @param file arquivo de destino (compactado com GZIP)
+     * @param reason motivo do backup, registrado no cabeçalho do arquivo
+     * @param changedSince para backup incremental, início do período de alterações;
+     *                     {@code null} para backup completo
+     * @return resumo do backup
+     * @throws IOException se o arquivo não puder ser gravado
+     */
+    public BackupSummary writeBackup(Path file, String reason, LocalDateTime changedSince) throws IOException {
+        long start = System.nanoTime();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writer.write("-- Backup automático criado em: " + LocalDateTime.now() + "\n");
+            writer.write("-- Motivo: " + reason + "\n");
+            if (changedSince != null) {
+                writer.write("-- Backup incremental: alterações desde " + changedSince + "\n");
+            }
+            writer.write("\n");
 
-                // Backup da tabela card_types
-                backupTable(writer, "card_types", "id, name, unit_label, creation_date, last_update_date");
+            Map<String, Long> rowsByTable = jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) connection ->
+                    inSnapshot(connection, () -> backupAllTables(connection, writer, changedSince)));
 
-                // Backup da tabela board_groups
-                backupTable(writer, "board_groups", "id, name, description, color, icon, creation_date");
+            writer.write("-- Backup concluído com sucesso\n");
+            return new BackupSummary(file, rowsByTable, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
 
-                writer.write("\n-- Backup concluído com sucesso\n");
+    @FunctionalInterface
+    private interface SnapshotWork<T> {
+        T run() throws SQLException;
+    }
+
+    /**
+     * Executa a leitura em uma transação somente leitura com leitura repetível,
+     * para que todas as tabelas reflitam o mesmo instante. Se a conexão já
+     * participa de uma transação, a leitura ocorre nela.
+     */
+    private <T> T inSnapshot(Connection connection, SnapshotWork<T> work) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return work.run();
+        }
+        int previousIsolation = connection.getTransactionIsolation();
+        try {
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            return work.run();
+        } finally {
+            connection.rollback();
+            connection.setReadOnly(false);
+            connection.setAutoCommit(true);
+            connection.setTransactionIsolation(previousIsolation);
+        }
+    }
+
+    private Map<String, Long> backupAllTables(Connection connection, Writer writer, LocalDateTime changedSince)
+            throws SQLException {
+        Map<String, Long> rowsByTable = new LinkedHashMap<>();
+        for (String table : listTablesInDependencyOrder(connection)) {
+            try {
+                rowsByTable.put(table, changedSince == null
+                        ? backupTable(connection, writer, table, null, null, null)
+                        : backupTableChanges(connection, writer, table, changedSince));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
+        }
+        return rowsByTable;
+    }
 
-            log.info("Backup criado com sucesso: {}", backupPath);
-            return backupPath;
+    /**
+     * Lista as tabelas do esquema atual, com as tabelas referenciadas por
+     * chaves estrangeiras antes das que as referenciam.
+     */
+    private List<String> listTablesInDependencyOrder(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String schema = connection.getSchema();
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = metaData.getTables(connection.getCatalog(), schema, "%", new String[]{"TABLE", "BASE TABLE"})) {
+            while (rs.next()) {
+                tables.add(rs.getString("TABLE_NAME"));
+            }
+        }
+        tables.sort(String::compareTo);
 
-        } catch (Exception e) {
-            log.error("Erro ao criar backup: {}", e.getMessage());
-            throw new RuntimeException("Falha ao criar backup", e);
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        for (String table : tables) {
+            Set<String> referenced = new LinkedHashSet<>();
+            try (ResultSet rs = metaData.getImportedKeys(connection.getCatalog(), schema, table)) {
+                while (rs.next()) {
+                    String parent = rs.getString("PKTABLE_NAME");
+                    if (!table.equals(parent)) {
+                        referenced.add(parent);
+                    }
+                }
+            }
+            dependencies.put(table, referenced);
+        }
+
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String table : tables) {
+            addWithDependencies(table, dependencies, ordered, new LinkedHashSet<>());
+        }
+        return new ArrayList<>(ordered);
+    }
+
+    private void addWithDependencies(String table, Map<String, Set<String>> dependencies,
+                                     Set<String> ordered, Set<String> visiting) {
+        // Ciclos de chaves estrangeiras são ignorados; a tabela entra na ordem alfabética
+        if (ordered.contains(table) || !visiting.add(table)) {
+            return;
         }
+        for (String parent : dependencies.getOrDefault(table, Set.of())) {
+            if (dependencies.containsKey(parent)) {
+                addWithDependencies(parent, dependencies, ordered, visiting);
+            }
+        }
+        ordered.add(table);
     }
 
     /**
-     * Faz backup de uma tabela específica.
-     * 
-     * @param writer FileWriter para escrever o backup
-     * @param tableName nome da tabela
-     * @param columns colunas para backup (separadas por vírgula)
+     * Copia as linhas de uma tabela alteradas desde a data informada, em
+     * comandos MERGE pela chave primária.
      */
-    private void backupTable(FileWriter writer, String tableName, String columns) throws IOException {
-        try {
-            writer.write("-- Backup da tabela " + tableName + "\n");
-            
-            // Verificar se a tabela existe
-            String checkTableSql = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?";
-            Integer tableExists = jdbcTemplate.queryForObject(checkTableSql, Integer.class, tableName.toUpperCase());
-            
-            if (tableExists == null || tableExists == 0) {
-                writer.write("-- Tabela " + tableName + " não existe\n\n");
-                return;
+    private long backupTableChanges(Connection connection, Writer writer, String tableName, LocalDateTime changedSince)
+            throws SQLException, IOException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        List<String> keyColumns = new ArrayList<>();
+        try (ResultSet rs = metaData.getPrimaryKeys(connection.getCatalog(), connection.getSchema(), tableName)) {
+            while (rs.next()) {
+                keyColumns.add(rs.getString("COLUMN_NAME").toLowerCase());
             }
+        }
+        String changeColumn = null;
+        for (String candidate : CHANGE_COLUMNS) {
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), tableName, candidate)) {
+                if (rs.next()) {
+                    changeColumn = candidate;
+                    break;
+                }
+            }
+        }
+        if (changeColumn == null) {
+            return backupTable(connection, writer, tableName, null, null,
+                    keyColumns.isEmpty() ? null : String.join(", ", keyColumns));
+        }
+        return backupTable(connection, writer, tableName, new Object[]{Timestamp.valueOf(changedSince)},
+                changeColumn.toLowerCase() + " >= ?", keyColumns.isEmpty() ? null : String.join(", ", keyColumns));
+    }
 
-            // Obter dados da tabela
-            String selectSql = "SELECT " + columns + " FROM " + tableName;
-            List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql);
+    /**
+     * Copia uma tabela, linha a linha, em comandos INSERT (ou MERGE) de várias linhas.
+     * 
+     * @param connection conexão usada na leitura
+     * @param writer destino do backup
+     * @param tableName nome da tabela
+     * @param parameters parâmetros do filtro (pode ser null)
+     * @param filter condição WHERE opcional
+     * @param mergeKeys colunas da chave para gravar com MERGE; null para INSERT
+     * @return quantidade de linhas copiadas
+     */
+    private long backupTable(Connection connection, Writer writer, String tableName, Object[] parameters,
+                             String filter, String mergeKeys) throws SQLException, IOException {
+        writer.write("-- Backup da tabela " + tableName.toLowerCase() + "\n");
 
-            if (rows.isEmpty()) {
-                writer.write("-- Tabela " + tableName + " está vazia\n\n");
-                return;
+        String sql = "SELECT * FROM " + tableName + (filter == null ? "" : " WHERE " + filter);
+        try (PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(FETCH_SIZE);
+            if (parameters != null) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
             }
+            try (ResultSet rs = statement.executeQuery()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                String insertPrefix = insertPrefix(tableName, metaData, mergeKeys);
 
-            // Gerar INSERT statements
-            for (Map<String, Object> row : rows) {
-                StringBuilder insertSql = new StringBuilder("INSERT INTO " + tableName + " (");
-                StringBuilder values = new StringBuilder(" VALUES (");
-                
-                String[] columnArray = columns.split(", ");
-                for (int i = 0; i < columnArray.length; i++) {
-                    if (i > 0) {
-                        insertSql.append(", ");
-                        values.append(", ");
+                long rows = 0;
+                while (rs.next()) {
+                    writer.write(rows % ROWS_PER_INSERT == 0 ? insertPrefix : ",\n");
+                    writer.write('(');
+                    for (int column = 1; column <= columnCount; column++) {
+                        if (column > 1) {
+                            writer.write(", ");
+                        }
+                        writeValue(writer, rs, column, metaData.getColumnType(column));
                     }
-                    insertSql.append(columnArray[i]);
-                    
-                    Object value = row.get(columnArray[i].toUpperCase());
-                    if (value == null) {
-                        values.append("NULL");
-                    } else if (value instanceof String) {
-                        values.append("'").append(value.toString().replace("'", "''")).append("'");
-                    } else if (value instanceof java.sql.Timestamp) {
-                        values.append("'").append(value.toString()).append("'");
-                    } else {
-                        values.append(value.toString());
+                    writer.write(')');
+                    rows++;
+                    if (rows % ROWS_PER_INSERT == 0) {
+                        writer.write(";\n");
                     }
                 }
-                
-                insertSql.append(")");
-                values.append(");");
-                
-                writer.write(insertSql.toString() + values.toString() + "\n");
+                if (rows % ROWS_PER_INSERT != 0) {
+                    writer.write(";\n");
+                }
+                if (rows == 0) {
+                    writer.write("-- Tabela " + tableName.toLowerCase() + " está vazia\n");
+                }
+                writer.write("\n");
+                return rows;
             }
-            
-            writer.write("\n");
+        }
+    }
 
-        } catch (Exception e) {
-            writer.write("-- Erro ao fazer backup da tabela " + tableName + ": " + e.getMessage() + "\n\n");
-            log.warn("Erro ao fazer backup da tabela {}: {}", tableName, e.getMessage());
+    private static String insertPrefix(String tableName, ResultSetMetaData metaData, String mergeKeys) throws SQLException {
+        StringBuilder prefix = new StringBuilder(mergeKeys == null ? "INSERT INTO " : "MERGE INTO ")
+                .append(tableName.toLowerCase()).append(" (");
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            if (column > 1) {
+                prefix.append(", ");
+            }
+            prefix.append(metaData.getColumnName(column).toLowerCase());
+        }
+        prefix.append(")");
+        if (mergeKeys != null) {
+            prefix.append(" KEY (").append(mergeKeys).append(")");
+        }
+        return prefix.append(" VALUES\n").toString();
+    }
+
+    /**
+     * Escreve o valor de uma coluna como literal SQL.
+     */
+    private static void writeValue(Writer writer, ResultSet rs, int column, int sqlType) throws SQLException, IOException {
+        switch (sqlType) {
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> {
+                byte[] bytes = rs.getBytes(column);
+                if (bytes == null) {
+                    writer.write("NULL");
+                } else {
+                    writer.write("X'" + HexFormat.of().formatHex(bytes) + "'");
+                }
+            }
+            case Types.BOOLEAN, Types.BIT -> {
+                boolean value = rs.getBoolean(column);
+                writer.write(rs.wasNull() ? "NULL" : (value ? "TRUE" : "FALSE"));
+            }
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+                 Types.DECIMAL, Types.NUMERIC, Types.REAL, Types.FLOAT, Types.DOUBLE -> {
+                Object value = rs.getObject(column);
+                writer.write(value == null ? "NULL" : value.toString());
+            }
+            default -> {
+                // Textos (inclusive CLOB), datas e horas são gravados como texto entre aspas
+                String value = rs.getString(column);
+                if (value == null) {
+                    writer.write("NULL");
+                } else {
+                    writer.write('\'');
+                    writer.write(value.replace("'", "''"));
+                    writer.write('\'');
+                }
+            }
         }
     }
 
@@ -161,16 +456,25 @@ public class DatabaseBackupService {
      * @return lista de arquivos de backup
      */
     public List<String> listBackups() {
-        try {
-            Path backupDir = Paths.get(BACKUP_DIR);
-            if (!Files.exists(backupDir)) {
-                return List.of();
-            }
-            
-            return Files.list(backupDir)
-                .filter(path -> path.toString().endsWith(".sql"))
+        return listBackups(Paths.get(BACKUP_DIR));
+    }
+
+    /**
+     * Lista os backups de um diretório, do mais antigo para o mais recente.
+     * 
+     * @param directory diretório de backup
+     * @return nomes dos arquivos de backup
+     */
+    public List<String> listBackups(Path directory) {
+        if (!Files.exists(directory)) {
+            return List.of();
+        }
+        try (var files = Files.list(directory)) {
+            return files
                 .map(path -> path.getFileName().toString())
-                .sorted()
+                .filter(name -> name.endsWith(".sql") || name.endsWith(BACKUP_EXTENSION))
+                .sorted(Comparator.comparing((String name) -> parseBackupTimestamp(name).orElse(LocalDateTime.MIN))
+                        .thenComparing(Comparator.naturalOrder()))
                 .toList();
                 
         } catch (Exception e) {
@@ -179,22 +483,70 @@ public class DatabaseBackupService {
         }
     }
 
+    /**
+     * Extrai a data de criação do nome de um arquivo de backup.
+     * 
+     * @param fileName nome no formato {@code backup_<motivo>_<yyyyMMdd_HHmmss>.sql[.gz]}
+     * @return data de criação, ou vazio se o nome não seguir o formato
+     */
+    public static Optional<LocalDateTime> parseBackupTimestamp(String fileName) {
+        Matcher matcher = BACKUP_FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.parse(matcher.group(2), FILE_TIMESTAMP));
+    }
+
+    /**
+     * Verifica se o arquivo é um backup incremental.
+     * 
+     * @param fileName nome do arquivo de backup
+     * @return true se o backup for incremental
+     */
+    public static boolean isIncrementalBackup(String fileName) {
+        Matcher matcher = BACKUP_FILE_NAME.matcher(fileName);
+        return matcher.matches() && INCREMENTAL_REASON.equals(matcher.group(1));
+    }
+
     /**
      * Remove backups antigos, mantendo apenas os mais recentes.
      * 
-     * @param keepCount número de backups para manter
+     * @param keepCount número de backups completos para manter
+     * @see #cleanupOldBackups(Path, int)
      */
     public void cleanupOldBackups(int keepCount) {
+        cleanupOldBackups(Paths.get(BACKUP_DIR), keepCount);
+    }
+
+    /**
+     * Remove backups antigos de um diretório, mantendo os backups completos
+     * mais recentes e os incrementais que dependem deles.
+     * 
+     * <p>Incrementais anteriores ao backup completo mais antigo mantido são
+     * removidos, pois não podem mais ser restaurados.</p>
+     * 
+     * @param directory diretório de backup
+     * @param keepCount número de backups completos para manter
+     */
+    public void cleanupOldBackups(Path directory, int keepCount) {
         try {
-            List<String> backups = listBackups();
-            if (backups.size() <= keepCount) {
+            List<String> backups = listBackups(directory).stream()
+                .filter(name -> parseBackupTimestamp(name).isPresent())
+                .toList();
+            List<String> fullBackups = backups.stream()
+                .filter(name -> !isIncrementalBackup(name))
+                .toList();
+            if (fullBackups.size() <= keepCount) {
                 return;
             }
             
-            int toDelete = backups.size() - keepCount;
-            for (int i = 0; i < toDelete; i++) {
-                String backupFile = BACKUP_DIR + "/" + backups.get(i);
-                Files.deleteIfExists(Paths.get(backupFile));
+            String oldestKept = keepCount > 0 ? fullBackups.get(fullBackups.size() - keepCount) : null;
+            for (String backup : backups) {
+                if (backup.equals(oldestKept)) {
+                    break;
+                }
+                Path backupFile = directory.resolve(backup);
+                Files.deleteIfExists(backupFile);
                 log.info("Backup antigo removido: {}", backupFile);
             }
             
@@ -142,6 +142,9 @@ public class DatabaseMigrationService {
                     error_message TEXT,
                     retry_count INTEGER DEFAULT 0,
                     max_retries INTEGER DEFAULT 3,
+                    next_attempt_at TIMESTAMP,
+                    claimed_at TIMESTAMP,
+                    claim_token VARCHAR(36),
                     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                     
@@ -177,7 +180,8 @@ public class DatabaseMigrationService {
             "CREATE INDEX idx_integration_sync_card_id ON integration_sync_status(card_id)",
             "CREATE INDEX idx_integration_sync_type ON integration_sync_status(integration_type)",
             "CREATE INDEX idx_integration_sync_status ON integration_sync_status(sync_status)",
-            "CREATE INDEX idx_integration_sync_last_sync ON integration_sync_status(last_sync_date)"
+            "CREATE INDEX idx_integration_sync_last_sync ON integration_sync_status(last_sync_date)",
+            "CREATE INDEX idx_integration_sync_outbox ON integration_sync_status(sync_status, next_attempt_at)"
         );
 
         for (String indexQuery : indexQueries) {
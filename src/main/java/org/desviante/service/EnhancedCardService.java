@@ -11,6 +11,7 @@ import org.desviante.integration.sync.IntegrationSyncService;
 import org.desviante.integration.sync.IntegrationType;
 import org.desviante.model.Card;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
@@ -40,6 +41,12 @@ import java.util.Set;
  *   <li>Tratamento de erros robusto</li>
  * </ul>
  * 
+ * <p>As alterações de card rodam em uma transação; a sincronização com os
+ * sistemas externos é enfileirada nessa mesma transação pelo
+ * {@link org.desviante.integration.observer.IntegrationOutboxObserver}, que o
+ * publicador executa na thread desta chamada mesmo no modo de despacho em
+ * virtual threads, e entregue depois pela fila de integração.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -67,6 +74,7 @@ public class EnhancedCardService {
      * @param cardTypeId ID do tipo de card
      * @return card criado
      */
+    @Transactional
     public Card createCard(String title, String description, Long parentColumnId, Long cardTypeId) {
         log.debug("Criando card: {}", title);
         
@@ -113,6 +121,38 @@ public class EnhancedCardService {
         return movedCard;
     }
     
+    /**
+     * Move um card para uma posição específica de uma coluna com integração de eventos.
+     * 
+     * <p>As integrações só são notificadas quando o card muda de coluna;
+     * reordenações dentro da mesma coluna não as afetam.</p>
+     * 
+     * @param cardId ID do card
+     * @param columnId ID da coluna de destino
+     * @param beforeCardId card que ficará logo depois do card movido (null para o fim da coluna)
+     * @return card movido
+     */
+    public Card moveCardToPosition(Long cardId, Long columnId, Long beforeCardId) {
+        log.debug("Movendo card {} para a coluna {} antes do card {}", cardId, columnId, beforeCardId);
+        
+        Card currentCard = cardService.getCardById(cardId)
+                .orElseThrow(() -> new IllegalArgumentException("Card não encontrado: " + cardId));
+        Long previousColumnId = currentCard.getBoardColumnId();
+        
+        Card movedCard = cardService.moveCardToPosition(cardId, columnId, beforeCardId);
+        
+        if (!columnId.equals(previousColumnId)) {
+            try {
+                integrationCoordinator.onCardMoved(movedCard, previousColumnId, columnId);
+            } catch (Exception e) {
+                log.error("Erro ao coordenar integrações para movimentação do card {}: {}", cardId, e.getMessage(), e);
+                // Não falhar a operação principal por erro de integração
+            }
+        }
+        
+        return movedCard;
+    }
+    
     /**
      * Atualiza os detalhes de um card com integração de eventos.
      * 
@@ -121,6 +161,7 @@ public class EnhancedCardService {
      * @param newDescription nova descrição
      * @return card atualizado
      */
+    @Transactional
     public Card updateCardDetails(Long cardId, String newTitle, String newDescription) {
         log.debug("Atualizando detalhes do card {}", cardId);
         
@@ -149,6 +190,7 @@ public class EnhancedCardService {
      * @param scheduledDate nova data de agendamento
      * @return card atualizado
      */
+    @Transactional
     public Card setScheduledDate(Long cardId, LocalDateTime scheduledDate) {
         log.debug("Definindo data de agendamento para card {}: {}", cardId, scheduledDate);
         
@@ -205,6 +247,7 @@ public class EnhancedCardService {
      * @param dueDate nova data de vencimento
      * @return card atualizado
      */
+    @Transactional
     public Card setDueDate(Long cardId, LocalDateTime dueDate) {
         log.debug("Definindo data de vencimento para card {}: {}", cardId, dueDate);
         
@@ -234,6 +277,7 @@ public class EnhancedCardService {
      * @param dueDate nova data de vencimento
      * @return card atualizado
      */
+    @Transactional
     public Card setSchedulingDates(Long cardId, LocalDateTime scheduledDate, LocalDateTime dueDate) {
         log.debug("Definindo datas de agendamento e vencimento para card {}: {} / {}", cardId, scheduledDate, dueDate);
         
@@ -2,7 +2,11 @@ package org.desviante.service;
 
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.auth.oauth2.TokenResponseException;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.services.tasks.Tasks;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
@@ -14,16 +18,29 @@ import org.desviante.config.GoogleApiConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.desviante.exception.GoogleApiServiceException; // Importa a exceção customizada
 import org.desviante.service.dto.CreateTaskRequest; // Importa o DTO
+import org.desviante.service.dto.TaskBatchOperation;
+import org.desviante.service.dto.TaskBatchResult;
 import org.springframework.stereotype.Service;
 
 import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.ZoneOffset;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Gerencia a comunicação com a API do Google Tasks.
@@ -41,6 +58,12 @@ import java.util.List;
  * exceções para garantir que falhas na API externa sejam adequadamente
  * propagadas para o sistema local.</p>
  * 
+ * <p>As listas de tarefas são mantidas em cache por título durante
+ * {@link #TASK_LIST_CACHE_TTL}, evitando uma consulta das listas a cada
+ * tarefa criada. Para muitas tarefas de uma vez, {@link #submitBatch(List)}
+ * envia criações, atualizações e remoções em requisições em lote da API do
+ * Google, com até {@link #MAX_BATCH_SIZE} operações por requisição HTTP.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -53,9 +76,26 @@ import java.util.List;
 @Profile("!test")
 public class GoogleTasksApiService {
 
+    /**
+     * Tempo de validade do cache de listas de tarefas.
+     */
+    static final Duration TASK_LIST_CACHE_TTL = Duration.ofMinutes(10);
+
+    /**
+     * Quantidade máxima de operações em uma requisição em lote.
+     */
+    static final int MAX_BATCH_SIZE = 50;
+
     private Tasks tasksService;
     private final GoogleApiConfig googleApiConfig;
     private final NetHttpTransport httpTransport;
+    private final Clock clock;
+
+    // Listas de tarefas por título normalizado; recarregadas por inteiro quando expiram
+    private final Map<String, TaskList> taskListsByTitle = new LinkedHashMap<>();
+    // Todas as listas do mesmo carregamento, inclusive as com título repetido
+    private final List<TaskList> taskLists = new ArrayList<>();
+    private Instant taskListsLoadedAt;
 
     /**
      * Construtor que injeta o serviço do Google Tasks de forma opcional.
@@ -71,6 +111,19 @@ public class GoogleTasksApiService {
             @Autowired(required = false) GoogleApiConfig googleApiConfig,
             @Autowired(required = false) NetHttpTransport httpTransport
     ) {
+        this(tasksService, googleApiConfig, httpTransport, Clock.systemUTC());
+    }
+
+    /**
+     * Construtor com relógio configurável, usado para verificar a validade do cache.
+     * 
+     * @param tasksService O serviço do Google Tasks, que pode ser nulo.
+     * @param googleApiConfig A configuração da API do Google para reautenticação.
+     * @param httpTransport O transporte HTTP para as requisições.
+     * @param clock relógio usado na expiração do cache de listas
+     */
+    GoogleTasksApiService(Tasks tasksService, GoogleApiConfig googleApiConfig,
+                          NetHttpTransport httpTransport, Clock clock) {
         log.info("GoogleTasksApiService sendo inicializado!");
         log.info("tasksService: {}", tasksService != null ? "disponível" : "null");
         log.info("googleApiConfig: {}", googleApiConfig != null ? "disponível" : "null");
@@ -79,6 +132,7 @@ public class GoogleTasksApiService {
         this.tasksService = tasksService;
         this.googleApiConfig = googleApiConfig;
         this.httpTransport = httpTransport;
+        this.clock = clock;
     }
 
     /**
@@ -127,42 +181,13 @@ public class GoogleTasksApiService {
         }
 
         try {
-            // 1. Encontra ou cria a lista de tarefas no Google.
+            // 1. Encontra ou cria a lista de tarefas no Google (usando o cache de listas).
             TaskList targetList = findOrCreateTaskList(request.listTitle());
 
-            // --- MUDANÇA PRINCIPAL: Lógica para construir as notas ---
-            StringBuilder notesBuilder = new StringBuilder();
-            if (request.notes() != null && !request.notes().isBlank()) {
-                notesBuilder.append(request.notes());
-            }
-
-            // Anexa a informação de horário, se uma foi fornecida pelo usuário.
-            if (request.due() != null && !request.due().toLocalTime().equals(LocalTime.MIDNIGHT)) {
-                DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-                String timeInfo = "Horário: " + request.due().toLocalTime().format(timeFormatter);
+            // 2. Cria o payload da tarefa com as notas e o vencimento.
+            Task taskPayload = buildTaskPayload(request);
 
-                // Adiciona espaçamento se já existiam notas.
-                if (notesBuilder.length() > 0) {
-                    notesBuilder.append("\n\n");
-                }
-                notesBuilder.append(timeInfo);
-            }
-            // --- FIM DA MUDANÇA PRINCIPAL ---
-
-            // 2. Cria o payload da tarefa usando as notas construídas.
-            Task taskPayload = new Task()
-                    .setTitle(request.title())
-                    .setNotes(notesBuilder.toString()); // Usa a string final das notas
-
-            // 3. Adiciona a data de vencimento (a API usará apenas a parte da data).
-            if (request.due() != null) {
-                String rfc3339FormattedDateTime = request.due()
-                        .atOffset(ZoneOffset.UTC)
-                        .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
-                taskPayload.setDue(rfc3339FormattedDateTime);
-            }
-
-            // 4. Loga e insere a nova tarefa.
+            // 3. Loga e insere a nova tarefa.
             log.info("Criando tarefa '" + request.title() + "' na lista '" + request.listTitle() + "' com vencimento em " + taskPayload.getDue());
             return tasksService.tasks().insert(targetList.getId(), taskPayload).execute();
 
@@ -184,6 +209,10 @@ public class GoogleTasksApiService {
             throw new GoogleApiServiceException(userFriendlyMessage, e);
 
         } catch (GoogleJsonResponseException e) {
+            // A lista em cache pode ter sido removida no Google; a próxima chamada recarrega as listas
+            if (e.getStatusCode() == 404) {
+                invalidateTaskListCache();
+            }
             // Erro específico da API do Google com detalhes em JSON
             String details = e.getDetails() != null ? e.getDetails().getMessage() : "Nenhum detalhe adicional da API.";
             String userFriendlyMessage = String.format("Erro da API do Google: %s (Código: %d). Detalhes: %s",
@@ -199,9 +228,53 @@ public class GoogleTasksApiService {
         }
     }
 
+    /**
+     * Monta o payload de uma tarefa a partir da requisição.
+     * 
+     * <p>A API do Google Tasks considera apenas a data do vencimento; quando a
+     * requisição tem um horário diferente da meia-noite, ele é anexado às notas.</p>
+     * 
+     * @param request dados da tarefa
+     * @return tarefa pronta para envio à API
+     */
+    private Task buildTaskPayload(CreateTaskRequest request) {
+        StringBuilder notesBuilder = new StringBuilder();
+        if (request.notes() != null && !request.notes().isBlank()) {
+            notesBuilder.append(request.notes());
+        }
+
+        // Anexa a informação de horário, se uma foi fornecida pelo usuário.
+        if (request.due() != null && !request.due().toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+            String timeInfo = "Horário: " + request.due().toLocalTime().format(timeFormatter);
+
+            // Adiciona espaçamento se já existiam notas.
+            if (notesBuilder.length() > 0) {
+                notesBuilder.append("\n\n");
+            }
+            notesBuilder.append(timeInfo);
+        }
+
+        Task taskPayload = new Task()
+                .setTitle(request.title())
+                .setNotes(notesBuilder.toString());
+
+        // Adiciona a data de vencimento (a API usará apenas a parte da data).
+        if (request.due() != null) {
+            String rfc3339FormattedDateTime = request.due()
+                    .atOffset(ZoneOffset.UTC)
+                    .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            taskPayload.setDue(rfc3339FormattedDateTime);
+        }
+        return taskPayload;
+    }
+
     /**
      * Encontra uma lista de tarefas pelo título ou cria uma nova se não existir.
      * 
+     * <p>As listas são consultadas no cache; a API só é chamada quando o cache
+     * expirou ou a lista ainda não é conhecida.</p>
+     * 
      * <p>Implementa busca case-insensitive para evitar duplicação de listas.
      * Se a lista não for encontrada, cria automaticamente uma nova lista
      * com o título especificado. Utiliza streams para busca eficiente
@@ -216,39 +289,222 @@ public class GoogleTasksApiService {
      * @throws IOException se houver falha na comunicação com a API
      * @throws GoogleApiServiceException se houver falha ao criar nova lista
      */
-    private TaskList findOrCreateTaskList(String listTitle) throws IOException {
+    private synchronized TaskList findOrCreateTaskList(String listTitle) throws IOException {
         // Verifica se o serviço do Google está disponível
         if (tasksService == null) {
             throw new GoogleApiServiceException("Google Tasks API não está configurada.", null);
         }
 
+        TaskList cached = getTaskLists().get(normalizeTitle(listTitle));
+        if (cached != null) {
+            return cached;
+        }
+
+        // Lista desconhecida: recarrega uma vez antes de criar, caso tenha sido criada em outro lugar
+        refreshTaskListCache();
+        cached = taskListsByTitle.get(normalizeTitle(listTitle));
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            log.info("Lista de tarefas '{}' não encontrada. Criando...", listTitle);
+            TaskList newList = new TaskList().setTitle(listTitle);
+            TaskList created = tasksService.tasklists().insert(newList).execute();
+            taskListsByTitle.put(normalizeTitle(listTitle), created);
+            taskLists.add(created);
+            return created;
+        } catch (GoogleJsonResponseException e) {
+            String details = e.getDetails() != null ? e.getDetails().getMessage() : "Nenhum detalhe adicional.";
+            String userFriendlyMessage = String.format("Falha ao criar a lista de tarefas '%s'. Erro da API: %s (Código: %d). Detalhes: %s",
+                    listTitle, e.getStatusMessage(), e.getStatusCode(), details);
+            log.error("Falha na API do Google ao criar lista de tarefas: {}", userFriendlyMessage, e);
+            // Re-lança como uma exceção de runtime para ser capturada pelo bloco try-catch principal.
+            throw new GoogleApiServiceException(userFriendlyMessage, e);
+        } catch (IOException e) {
+            String errorMessage = "Falha ao criar a lista de tarefas '" + listTitle + "'. Verifique sua conexão com a internet.";
+            log.error(errorMessage, e);
+            // Re-lança como uma exceção de runtime para ser capturada pelo bloco try-catch principal.
+            // Isso simplifica o tratamento de exceções no chamador.
+            throw new GoogleApiServiceException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Obtém as listas de tarefas por título, recarregando-as se o cache expirou.
+     * 
+     * @return listas de tarefas indexadas pelo título normalizado
+     * @throws IOException se houver falha na comunicação com a API
+     */
+    private synchronized Map<String, TaskList> getTaskLists() throws IOException {
+        if (taskListsLoadedAt == null || !clock.instant().isBefore(taskListsLoadedAt.plus(TASK_LIST_CACHE_TTL))) {
+            refreshTaskListCache();
+        }
+        return taskListsByTitle;
+    }
+
+    /**
+     * Obtém todas as listas de tarefas em cache, recarregando-as se o cache expirou.
+     * 
+     * <p>Diferente de {@link #getTaskLists()}, inclui as listas com título
+     * repetido, que não são alvo de criação mas podem conter tarefas.</p>
+     * 
+     * @return cópia das listas de tarefas em cache
+     * @throws IOException se houver falha na comunicação com a API
+     */
+    private synchronized List<TaskList> getAllTaskLists() throws IOException {
+        getTaskLists();
+        return List.copyOf(taskLists);
+    }
+
+    /**
+     * Recarrega todas as listas de tarefas da API no cache.
+     * 
+     * @throws IOException se houver falha na comunicação com a API
+     */
+    private synchronized void refreshTaskListCache() throws IOException {
         List<TaskList> lists = tasksService.tasklists().list().execute().getItems();
+        taskListsByTitle.clear();
+        taskLists.clear();
+        if (lists != null) {
+            taskLists.addAll(lists);
+            // Mantém a primeira lista com cada título, como a busca anterior
+            lists.forEach(list -> taskListsByTitle.putIfAbsent(normalizeTitle(list.getTitle()), list));
+        }
+        taskListsLoadedAt = clock.instant();
+    }
+
+    /**
+     * Descarta o cache de listas de tarefas.
+     * 
+     * <p>A próxima operação consulta as listas novamente na API.</p>
+     */
+    public synchronized void invalidateTaskListCache() {
+        taskListsByTitle.clear();
+        taskLists.clear();
+        taskListsLoadedAt = null;
+    }
+
+    private static String normalizeTitle(String title) {
+        return title == null ? "" : title.toLowerCase(Locale.ROOT);
+    }
 
-        // O 'orElseGet' é uma forma elegante de executar uma ação (criar a lista)
-        // apenas se o 'findFirst' não encontrar nenhum resultado.
-        return lists.stream()
-                .filter(list -> list.getTitle().equalsIgnoreCase(listTitle))
-                .findFirst()
-                .orElseGet(() -> {
-                    try {
-                        log.info("Lista de tarefas '{}' não encontrada. Criando...", listTitle);
-                        TaskList newList = new TaskList().setTitle(listTitle);
-                        return tasksService.tasklists().insert(newList).execute();
-                    } catch (GoogleJsonResponseException e) {
-                        String details = e.getDetails() != null ? e.getDetails().getMessage() : "Nenhum detalhe adicional.";
-                        String userFriendlyMessage = String.format("Falha ao criar a lista de tarefas '%s'. Erro da API: %s (Código: %d). Detalhes: %s",
-                                listTitle, e.getStatusMessage(), e.getStatusCode(), details);
-                        log.error("Falha na API do Google ao criar lista de tarefas: {}", userFriendlyMessage, e);
-                        // Re-lança como uma exceção de runtime para ser capturada pelo bloco try-catch principal.
-                        throw new GoogleApiServiceException(userFriendlyMessage, e);
-                    } catch (IOException e) {
-                        String errorMessage = "Falha ao criar a lista de tarefas '" + listTitle + "'. Verifique sua conexão com a internet.";
-                        log.error(errorMessage, e);
-                        // Re-lança como uma exceção de runtime para ser capturada pelo bloco try-catch principal.
-                        // Isso simplifica o tratamento de exceções no chamador.
-                        throw new GoogleApiServiceException(errorMessage, e);
+    /**
+     * Envia várias operações de tarefas em requisições em lote.
+     * 
+     * <p>As listas de destino são resolvidas pelo cache (criando as que não
+     * existem) e as operações são agrupadas em requisições em lote de até
+     * {@link #MAX_BATCH_SIZE} operações. Uma falha em uma operação não
+     * interrompe as demais; cada operação recebe seu próprio resultado.
+     * Remover uma tarefa que já não existe é considerado sucesso.</p>
+     * 
+     * @param operations operações a executar
+     * @return resultados na mesma ordem das operações
+     * @throws GoogleApiServiceException se a integração não estiver configurada
+     */
+    public List<TaskBatchResult> submitBatch(List<TaskBatchOperation> operations) {
+        if (operations.isEmpty()) {
+            return List.of();
+        }
+        log.info("🔧 GOOGLE TASKS API SERVICE - Enviando {} operações em lote", operations.size());
+        ensureTasksService();
+
+        List<TaskBatchResult> results = new ArrayList<>(Collections.nCopies(operations.size(), null));
+        Map<String, String> listIds = new HashMap<>();
+        for (int start = 0; start < operations.size(); start += MAX_BATCH_SIZE) {
+            int end = Math.min(start + MAX_BATCH_SIZE, operations.size());
+            BatchRequest batch = tasksService.batch();
+            for (int i = start; i < end; i++) {
+                TaskBatchOperation operation = operations.get(i);
+                try {
+                    String listId = listIds.get(operation.listTitle());
+                    if (listId == null) {
+                        listId = findOrCreateTaskList(operation.listTitle()).getId();
+                        listIds.put(operation.listTitle(), listId);
                     }
-                });
+                    queueOperation(batch, operation, listId, results, i);
+                } catch (IOException | GoogleApiServiceException e) {
+                    results.set(i, new TaskBatchResult(operation, null, e.getMessage()));
+                }
+            }
+            if (batch.size() > 0) {
+                try {
+                    batch.execute();
+                } catch (IOException e) {
+                    log.error("Falha ao enviar lote de tarefas ao Google Tasks: {}", e.getMessage(), e);
+                }
+            }
+            // Operações sem resposta (lote não enviado) são registradas como falha
+            for (int i = start; i < end; i++) {
+                if (results.get(i) == null) {
+                    results.set(i, new TaskBatchResult(operations.get(i), null, "Lote não enviado ao Google Tasks."));
+                }
+            }
+        }
+
+        long failures = results.stream().filter(result -> !result.isSuccess()).count();
+        log.info("✅ GOOGLE TASKS API SERVICE - Lote concluído: {} sucesso(s), {} falha(s)",
+                results.size() - failures, failures);
+        return results;
+    }
+
+    private void queueOperation(BatchRequest batch, TaskBatchOperation operation, String listId,
+                                List<TaskBatchResult> results, int index) throws IOException {
+        switch (operation.type()) {
+            case CREATE -> tasksService.tasks().insert(listId, buildTaskPayload(operation.request()))
+                    .queue(batch, taskCallback(operation, results, index));
+            case UPDATE -> tasksService.tasks().patch(listId, operation.taskId(), buildTaskPayload(operation.request()))
+                    .queue(batch, taskCallback(operation, results, index));
+            case DELETE -> tasksService.tasks().delete(listId, operation.taskId())
+                    .queue(batch, new JsonBatchCallback<Void>() {
+                        @Override
+                        public void onSuccess(Void content, HttpHeaders responseHeaders) {
+                            results.set(index, new TaskBatchResult(operation, null, null));
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                            // Tarefa já removida no Google não é um erro
+                            String message = error.getCode() == 404 ? null : error.getMessage();
+                            results.set(index, new TaskBatchResult(operation, null, message));
+                        }
+                    });
+        }
+    }
+
+    private static JsonBatchCallback<Task> taskCallback(TaskBatchOperation operation,
+                                                        List<TaskBatchResult> results, int index) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Task task, HttpHeaders responseHeaders) {
+                results.set(index, new TaskBatchResult(operation, task, null));
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                results.set(index, new TaskBatchResult(operation, null,
+                        String.format("%s (Código: %d)", error.getMessage(), error.getCode())));
+            }
+        };
+    }
+
+    /**
+     * Garante que o serviço do Google Tasks esteja criado, inicializando-o sob demanda.
+     * 
+     * @throws GoogleApiServiceException se o serviço não puder ser inicializado
+     */
+    private void ensureTasksService() {
+        if (tasksService != null) {
+            return;
+        }
+        log.warn("⚠️ GOOGLE TASKS API SERVICE - Serviço do Google Tasks não inicializado. Tentando inicialização sob demanda...");
+        try {
+            createAndSetTasksService();
+            log.info("✅ GOOGLE TASKS API SERVICE - Serviço do Google Tasks inicializado com sucesso sob demanda.");
+        } catch (Exception e) {
+            log.error("❌ GOOGLE TASKS API SERVICE - Falha ao inicializar o serviço do Google Tasks sob demanda.", e);
+            throw new GoogleApiServiceException("A integração com Google Tasks não está configurada.", e);
+        }
     }
 
     /**
@@ -331,6 +587,8 @@ public class GoogleTasksApiService {
         this.tasksService = new Tasks.Builder(httpTransport, GsonFactory.getDefaultInstance(), credential)
                 .setApplicationName(GoogleApiConfig.APPLICATION_NAME)
                 .build();
+        // As listas em cache podem ser de outra conta
+        invalidateTaskListCache();
         
         log.info("🎉 GOOGLE TASKS API SERVICE - Serviço Tasks criado com sucesso!");
     }
@@ -345,43 +603,19 @@ public class GoogleTasksApiService {
     public void deleteTask(String taskId) throws IOException {
         log.info("🔧 GOOGLE TASKS API SERVICE - Removendo task do Google Tasks: {}", taskId);
         
-        if (tasksService == null) {
-            log.warn("⚠️ GOOGLE TASKS API SERVICE - Serviço do Google Tasks não inicializado. Tentando inicialização sob demanda...");
-            try {
-                createAndSetTasksService();
-                log.info("✅ GOOGLE TASKS API SERVICE - Serviço do Google Tasks inicializado com sucesso sob demanda.");
-            } catch (Exception e) {
-                log.error("❌ GOOGLE TASKS API SERVICE - Falha ao inicializar o serviço do Google Tasks sob demanda.", e);
-                throw new GoogleApiServiceException("A integração com Google Tasks não está configurada.", e);
-            }
-        }
+        ensureTasksService();
         
         try {
-            // Buscar a tarefa em todas as listas para encontrar onde ela está
-            List<TaskList> lists = tasksService.tasklists().list().execute().getItems();
-            com.google.api.services.tasks.model.Task taskToDelete = null;
-            String listId = null;
-            
-            // Procurar a tarefa em todas as listas
-            for (TaskList list : lists) {
-                try {
-                    com.google.api.services.tasks.model.Task task = tasksService.tasks().get(list.getId(), taskId).execute();
-                    if (task != null) {
-                        taskToDelete = task;
-                        listId = list.getId();
-                        log.info("🔍 GOOGLE TASKS API SERVICE - Task encontrada na lista: {} (ID: {})", list.getTitle(), listId);
-                        break;
-                    }
-                } catch (GoogleJsonResponseException e) {
-                    if (e.getStatusCode() != 404) {
-                        // Se não for 404, re-lançar o erro
-                        throw e;
-                    }
-                    // Se for 404, continuar procurando na próxima lista
-                }
+            // Buscar a tarefa em todas as listas em cache para encontrar onde ela está
+            Set<String> searchedListIds = new HashSet<>();
+            String listId = findListContainingTask(taskId, getAllTaskLists(), searchedListIds);
+            if (listId == null) {
+                // A tarefa pode estar em uma lista criada depois do último carregamento
+                refreshTaskListCache();
+                listId = findListContainingTask(taskId, getAllTaskLists(), searchedListIds);
             }
             
-            if (taskToDelete == null || listId == null) {
+            if (listId == null) {
                 log.warn("⚠️ GOOGLE TASKS API SERVICE - Task não encontrada em nenhuma lista do Google Tasks: {}", taskId);
                 // Não é um erro crítico, a task já foi removida
                 return;
@@ -410,4 +644,35 @@ public class GoogleTasksApiService {
         }
     }
 
+    /**
+     * Procura a lista que contém a tarefa, ignorando as listas já consultadas.
+     * 
+     * @param taskId ID da tarefa no Google Tasks
+     * @param lists listas onde procurar
+     * @param searchedListIds IDs das listas já consultadas; recebe as consultadas nesta chamada
+     * @return ID da lista que contém a tarefa, ou null se nenhuma a contém
+     * @throws IOException se houver falha na comunicação com a API
+     */
+    private String findListContainingTask(String taskId, List<TaskList> lists, Set<String> searchedListIds) throws IOException {
+        for (TaskList list : lists) {
+            if (!searchedListIds.add(list.getId())) {
+                continue;
+            }
+            try {
+                com.google.api.services.tasks.model.Task task = tasksService.tasks().get(list.getId(), taskId).execute();
+                if (task != null) {
+                    log.info("🔍 GOOGLE TASKS API SERVICE - Task encontrada na lista: {} (ID: {})", list.getTitle(), list.getId());
+                    return list.getId();
+                }
+            } catch (GoogleJsonResponseException e) {
+                if (e.getStatusCode() != 404) {
+                    // Se não for 404, re-lançar o erro
+                    throw e;
+                }
+                // Se for 404, continuar procurando na próxima lista
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,312 @@
+package org.desviante.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.desviante.event.MainWindowShownEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Grava periodicamente as métricas da aplicação em um arquivo local.
+ *
+ * <p>Ativado pela propriedade de sistema {@value #FILE_PROPERTY}. Arquivos
+ * com extensão {@code .json} recebem as métricas em JSON; os demais, no
+ * formato de texto do Prometheus, que pode ser lido por um coletor de
+ * arquivos (ex.: textfile collector do node_exporter). O arquivo é
+ * substituído a cada {@link #EXPORT_INTERVAL} e uma última vez no
+ * encerramento da aplicação.</p>
+ *
+ * <p>Timers são exportados em segundos, com contagem, soma, máximo,
+ * percentis e histograma; contadores com o sufixo {@code _total}. Métricas
+ * com o mesmo nome e tags diferentes ficam agrupadas na mesma família.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see org.desviante.config.MetricsConfig
+ */
+@Service
+@Profile("!test")
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsFileExporter {
+
+    /**
+     * Propriedade de sistema com o arquivo onde as métricas são gravadas.
+     */
+    public static final String FILE_PROPERTY = "app.metrics.export-file";
+
+    /**
+     * Intervalo entre duas gravações do arquivo.
+     */
+    static final Duration EXPORT_INTERVAL = Duration.ofMinutes(1);
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Inicia a gravação periódica depois que a janela principal é exibida.
+     *
+     * @param event evento de janela principal exibida
+     */
+    @EventListener(MainWindowShownEvent.class)
+    public synchronized void start(MainWindowShownEvent event) {
+        Path file = exportFile();
+        if (executor != null || file == null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Metrics-Exporter");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        long interval = EXPORT_INTERVAL.toMillis();
+        executor.scheduleWithFixedDelay(() -> export(file), interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Métricas serão gravadas em {} a cada {}", file, EXPORT_INTERVAL);
+    }
+
+    /**
+     * Interrompe a gravação periódica e grava as métricas uma última vez.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+            export(exportFile());
+        }
+    }
+
+    /**
+     * Grava o conteúdo atual do registro de métricas no arquivo.
+     *
+     * @param file arquivo de destino; {@code .json} para JSON, demais para texto do Prometheus
+     */
+    void export(Path file) {
+        try {
+            String content = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")
+                    ? toJson(meterRegistry)
+                    : toPrometheusText(meterRegistry);
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            // Grava ao lado e substitui, para que um coletor nunca leia o arquivo pela metade
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Não foi possível gravar as métricas em {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Formata as métricas do registro no formato de texto do Prometheus.
+     *
+     * @param registry registro de métricas
+     * @return texto no formato de exposição do Prometheus
+     */
+    public static String toPrometheusText(MeterRegistry registry) {
+        StringBuilder out = new StringBuilder();
+        Map<String, List<Meter>> metersByName = sortedMeters(registry).stream()
+                .collect(Collectors.groupingBy(meter -> sanitize(meter.getId().getName()),
+                        LinkedHashMap::new, Collectors.toList()));
+        metersByName.forEach((name, meters) -> {
+            if (meters.get(0) instanceof Timer) {
+                appendTimers(out, name + "_seconds", meters);
+            } else if (meters.get(0) instanceof Counter || meters.get(0) instanceof FunctionCounter) {
+                out.append("# TYPE ").append(name).append("_total counter\n");
+                for (Meter meter : meters) {
+                    double count = meter instanceof Counter counter ? counter.count() : ((FunctionCounter) meter).count();
+                    sample(out, name + "_total", meter.getId().getTags(), null, null, count);
+                }
+            } else {
+                out.append("# TYPE ").append(name).append(" gauge\n");
+                for (Meter meter : meters) {
+                    for (Measurement measurement : meter.measure()) {
+                        String statistic = measurement.getStatistic().getTagValueRepresentation();
+                        sample(out, meter instanceof Gauge ? name : name + "_" + sanitize(statistic),
+                                meter.getId().getTags(), null, null, measurement.getValue());
+                    }
+                }
+            }
+        });
+        return out.toString();
+    }
+
+    /**
+     * Timers com histograma viram uma família {@code histogram}, com os
+     * percentis em {@code <nome>_percentile}; sem histograma, uma família
+     * {@code summary} com os percentis como {@code quantile}. O máximo fica
+     * sempre em {@code <nome>_max}.
+     */
+    private static void appendTimers(StringBuilder out, String base, List<Meter> timers) {
+        Map<Meter, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+        timers.forEach(timer -> snapshots.put(timer, ((Timer) timer).takeSnapshot()));
+        boolean histogram = snapshots.values().stream().anyMatch(snapshot -> snapshot.histogramCounts().length > 0);
+
+        out.append("# TYPE ").append(base).append(histogram ? " histogram\n" : " summary\n");
+        snapshots.forEach((timer, snapshot) -> {
+            List<Tag> tags = timer.getId().getTags();
+            if (histogram) {
+                for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                    sample(out, base + "_bucket", tags, "le", format(bucket.bucket(TimeUnit.SECONDS)), bucket.count());
+                }
+                sample(out, base + "_bucket", tags, "le", "+Inf", snapshot.count());
+            } else {
+                for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                    sample(out, base, tags, "quantile", format(percentile.percentile()), percentile.value(TimeUnit.SECONDS));
+                }
+            }
+            sample(out, base + "_count", tags, null, null, snapshot.count());
+            sample(out, base + "_sum", tags, null, null, snapshot.total(TimeUnit.SECONDS));
+        });
+
+        if (histogram && snapshots.values().stream().anyMatch(snapshot -> snapshot.percentileValues().length > 0)) {
+            out.append("# TYPE ").append(base).append("_percentile gauge\n");
+            snapshots.forEach((timer, snapshot) -> {
+                for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                    sample(out, base + "_percentile", timer.getId().getTags(), "quantile",
+                            format(percentile.percentile()), percentile.value(TimeUnit.SECONDS));
+                }
+            });
+        }
+
+        out.append("# TYPE ").append(base).append("_max gauge\n");
+        snapshots.forEach((timer, snapshot) ->
+                sample(out, base + "_max", timer.getId().getTags(), null, null, snapshot.max(TimeUnit.SECONDS)));
+    }
+
+    /**
+     * Formata as métricas do registro como um documento JSON.
+     *
+     * @param registry registro de métricas
+     * @return documento JSON com uma entrada por métrica
+     */
+    public static String toJson(MeterRegistry registry) {
+        List<Map<String, Object>> meters = new ArrayList<>();
+        for (Meter meter : sortedMeters(registry)) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", meter.getId().getName());
+            entry.put("type", meter.getId().getType().name().toLowerCase(Locale.ROOT));
+            entry.put("tags", meter.getId().getTags().stream()
+                    .collect(Collectors.toMap(Tag::getKey, Tag::getValue, (a, b) -> b, LinkedHashMap::new)));
+            if (meter instanceof Timer timer) {
+                HistogramSnapshot snapshot = timer.takeSnapshot();
+                entry.put("count", snapshot.count());
+                entry.put("totalSeconds", snapshot.total(TimeUnit.SECONDS));
+                entry.put("maxSeconds", snapshot.max(TimeUnit.SECONDS));
+                Map<String, Double> percentiles = new LinkedHashMap<>();
+                for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                    percentiles.put(format(percentile.percentile()), percentile.value(TimeUnit.SECONDS));
+                }
+                entry.put("percentileSeconds", percentiles);
+                Map<String, Double> buckets = new LinkedHashMap<>();
+                for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                    buckets.put(format(bucket.bucket(TimeUnit.SECONDS)), bucket.count());
+                }
+                entry.put("bucketsSeconds", buckets);
+            } else {
+                Map<String, Double> measurements = new LinkedHashMap<>();
+                for (Measurement measurement : meter.measure()) {
+                    measurements.put(measurement.getStatistic().getTagValueRepresentation(), measurement.getValue());
+                }
+                entry.put("measurements", measurements);
+            }
+            meters.add(entry);
+        }
+        try {
+            return JSON.writeValueAsString(Map.of("meters", meters));
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao formatar métricas em JSON", e);
+        }
+    }
+
+    private static List<Meter> sortedMeters(MeterRegistry registry) {
+        // Percentis e faixas de histograma já saem junto do próprio timer
+        return registry.getMeters().stream()
+                .filter(meter -> meter.getId().syntheticAssociation() == null)
+                .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                        .thenComparing(meter -> meter.getId().getTags().toString()))
+                .toList();
+    }
+
+    private static void sample(StringBuilder out, String name, List<Tag> tags,
+                               String extraKey, String extraValue, double value) {
+        out.append(name);
+        if (!tags.isEmpty() || extraKey != null) {
+            out.append('{');
+            String separator = "";
+            for (Tag tag : tags) {
+                out.append(separator).append(sanitize(tag.getKey())).append("=\"").append(escape(tag.getValue())).append('"');
+                separator = ",";
+            }
+            if (extraKey != null) {
+                out.append(separator).append(extraKey).append("=\"").append(extraValue).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String sanitize(String name) {
+        String sanitized = name.replaceAll("[^a-zA-Z0-9_:]", "_");
+        return Character.isDigit(sanitized.charAt(0)) ? "_" + sanitized : sanitized;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? Long.toString((long) value)
+                : Double.toString(value);
+    }
+
+    private static Path exportFile() {
+        String file = System.getProperty(FILE_PROPERTY);
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+}
@@ -21,7 +21,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -73,13 +72,14 @@ public class TaskManagerFacade {
     private final AppMetadataConfig appMetadataConfig;
     private final CalendarEventService calendarEventService;
     private final GoogleTaskCreationService googleTaskCreationService;
+    private final ChecklistItemService checklistItemService;
     
     /**
      * Obtém resumos de todos os quadros disponíveis no sistema.
      * 
-     * <p>Este método implementa uma otimização de performance ao buscar todos os dados
-     * relacionados (quadros, colunas e cards) em consultas separadas e depois agrupá-los
-     * em memória para evitar o problema N+1 de consultas.</p>
+     * <p>Este método implementa uma otimização de performance: as contagens de cards
+     * por tipo de coluna são agregadas no banco em uma única consulta, sem carregar
+     * colunas nem cards em memória.</p>
      * 
      * <p><strong>Comportamento:</strong></p>
  * <ul>
@@ -92,27 +92,7 @@ public class TaskManagerFacade {
  * @see BoardSummaryDTO
  */
     public List<BoardSummaryDTO> getAllBoardSummaries() {
-        List<Board> allBoards = boardService.getAllBoards();
-        if (allBoards.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // Otimização: Busca todos os dados necessários de uma vez
-        List<Long> boardIds = allBoards.stream().map(Board::getId).toList();
-        List<BoardColumn> allColumns = columnService.getColumnsForBoards(boardIds);
-        List<Long> allColumnIds = allColumns.stream().map(BoardColumn::getId).toList();
-        List<Card> allCards = cardService.getCardsForColumns(allColumnIds);
-
-        // Agrupa os dados em mapas para acesso rápido
-        Map<Long, List<BoardColumn>> columnsByBoardId = allColumns.stream()
-                .collect(Collectors.groupingBy(BoardColumn::getBoardId));
-        Map<Long, List<Card>> cardsByColumnId = allCards.stream()
-                .collect(Collectors.groupingBy(Card::getBoardColumnId));
-
-        // Usa o método de cálculo centralizado
-        return allBoards.stream()
-                .map(board -> calculateBoardSummary(board, columnsByBoardId, cardsByColumnId))
-                .collect(Collectors.toList());
+        return summarizeBoards(boardService.getAllBoards());
     }
 
     /**
@@ -131,98 +111,31 @@ public class TaskManagerFacade {
         Board board = boardService.getBoardById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board com ID " + boardId + " não encontrado."));
 
-        // A lógica de busca de dados é a mesma, mas agora para um único board
-        List<BoardColumn> columns = columnService.getColumnsForBoard(boardId);
-        List<Long> columnIds = columns.stream().map(BoardColumn::getId).toList();
-        List<Card> cards = cardService.getCardsForColumns(columnIds);
-
-        // Agrupa os dados em mapas para o método de cálculo
-        Map<Long, List<BoardColumn>> columnsByBoardId = columns.stream()
-                .collect(Collectors.groupingBy(BoardColumn::getBoardId));
-        Map<Long, List<Card>> cardsByColumnId = cards.stream()
-                .collect(Collectors.groupingBy(Card::getBoardColumnId));
-
-        // Usa o mesmo método de cálculo centralizado
-        return calculateBoardSummary(board, columnsByBoardId, cardsByColumnId);
+        Map<Long, Map<BoardColumnKindEnum, Long>> counts = cardService.countCardsByBoardAndColumnKind(List.of(boardId));
+        return BoardSummaryDTO.fromCardCounts(board, counts.get(boardId));
     }
 
     /**
-     * Calcula o resumo de um quadro baseado em suas colunas e cards.
+     * Calcula os resumos de uma lista de quadros a partir das contagens agregadas.
      * 
-     * <p>Método privado que centraliza a lógica de cálculo de estatísticas e status
-     * dos quadros. Implementa as regras de negócio para determinação automática
-     * do status baseado na distribuição dos cards nas colunas.</p>
- * 
- * <p><strong>Regras de Status:</strong></p>
- * <ul>
- *   <li><strong>Vazio:</strong> Quando não há cards no quadro</li>
- *   <li><strong>Não iniciado:</strong> Quando todos os cards estão na coluna inicial</li>
- *   <li><strong>Concluído:</strong> Quando todos os cards estão na coluna final</li>
- *   <li><strong>Em andamento:</strong> Quando há cards em diferentes colunas</li>
- * </ul>
+     * <p>Método privado que centraliza a busca das contagens de cards por tipo de
+     * coluna (uma única consulta para todos os quadros). As regras de status
+     * ficam em {@link BoardSummaryDTO#fromCardCounts}.</p>
  * 
- * @param board Quadro para calcular o resumo
- * @param columnsByBoardId Mapa de colunas agrupadas por ID do quadro
- * @param cardsByColumnId Mapa de cards agrupados por ID da coluna
- * @return DTO com resumo do quadro e estatísticas
+ * @param boards Quadros para calcular o resumo
+ * @return Lista de resumos na mesma ordem dos quadros recebidos
  */
-    private BoardSummaryDTO calculateBoardSummary(Board board, Map<Long, List<BoardColumn>> columnsByBoardId, Map<Long, List<Card>> cardsByColumnId) {
-        List<BoardColumn> boardColumns = columnsByBoardId.getOrDefault(board.getId(), Collections.emptyList());
-
-        Map<Long, BoardColumn> columnMap = boardColumns.stream()
-                .collect(Collectors.toMap(BoardColumn::getId, Function.identity()));
-
-        List<Card> boardCards = boardColumns.stream()
-                .flatMap(col -> cardsByColumnId.getOrDefault(col.getId(), Collections.emptyList()).stream())
-                .toList();
-
-        int totalCards = boardCards.size();
-
-        // Regra de negócio: Vazio
-        if (totalCards == 0) {
-            return new BoardSummaryDTO(board.getId(), board.getName(), 0, 0, 0, "Vazio", board.getGroup());
+    private List<BoardSummaryDTO> summarizeBoards(List<Board> boards) {
+        if (boards.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        long initialCount = 0;
-        long pendingCount = 0;
-        long finalCount = 0;
-
-        for (Card card : boardCards) {
-            BoardColumn parentColumn = columnMap.get(card.getBoardColumnId());
-            if (parentColumn != null) {
-                switch (parentColumn.getKind()) {
-                    case INITIAL -> initialCount++;
-                    case PENDING -> pendingCount++;
-                    case FINAL -> finalCount++;
-                }
-            }
-        }
+        List<Long> boardIds = boards.stream().map(Board::getId).toList();
+        Map<Long, Map<BoardColumnKindEnum, Long>> countsByBoardId = cardService.countCardsByBoardAndColumnKind(boardIds);
 
-        // --- NOVA LÓGICA DE STATUS DO BOARD ---
-        String boardStatus;
-        if (initialCount == totalCards) {
-            boardStatus = "Não iniciado";
-        } else if (finalCount == totalCards) {
-            boardStatus = "Concluído";
-        } else {
-            boardStatus = "Em andamento";
-        }
-        // --- FIM DA LÓGICA DE STATUS ---
-
-        // Lógica de arredondamento simples por truncamento
-        int percentInitial = (int) (100.0 * initialCount / totalCards);
-        int percentPending = (int) (100.0 * pendingCount / totalCards);
-        int percentFinal = (int) (100.0 * finalCount / totalCards);
-
-        return new BoardSummaryDTO(
-                board.getId(),
-                board.getName(),
-                percentInitial,
-                percentPending,
-                percentFinal,
-                boardStatus, // Passa o novo status
-                board.getGroup() // Inclui informações do grupo
-        );
+        return boards.stream()
+                .map(board -> BoardSummaryDTO.fromCardCounts(board, countsByBoardId.get(board.getId())))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -406,7 +319,29 @@ public class TaskManagerFacade {
     public CardDetailDTO moveCard(Long cardId, Long newColumnId) {
         // Mover o card sem sincronizar progresso - progresso e status desacoplados
         Card updatedCard = enhancedCardService.moveCardToColumn(cardId, newColumnId);
+        return toCardDetailDTO(updatedCard, newColumnId);
+    }
 
+    /**
+     * Move um card para uma posição específica de uma coluna.
+     * 
+     * <p>O card é colocado imediatamente antes de {@code beforeCardId}, ou no
+     * fim da coluna quando ele é null. Serve tanto para reordenar dentro da
+     * mesma coluna quanto para soltar o card em outra coluna.</p>
+     * 
+     * @param cardId ID do card a ser movido
+     * @param columnId ID da coluna de destino
+     * @param beforeCardId ID do card que ficará logo depois (null para o fim da coluna)
+     * @return DTO com detalhes atualizados do card
+     * @throws ResourceNotFoundException se o card, a coluna ou o card de referência não forem encontrados
+     */
+    @Transactional
+    public CardDetailDTO moveCardToPosition(Long cardId, Long columnId, Long beforeCardId) {
+        Card updatedCard = enhancedCardService.moveCardToPosition(cardId, columnId, beforeCardId);
+        return toCardDetailDTO(updatedCard, columnId);
+    }
+
+    private CardDetailDTO toCardDetailDTO(Card updatedCard, Long newColumnId) {
         // Obter o tipo da nova coluna
         BoardColumn newColumn = columnService.getColumnById(newColumnId)
                 .orElseThrow(() -> new ResourceNotFoundException("Coluna com ID " + newColumnId + " não encontrada."));
@@ -479,6 +414,8 @@ public class TaskManagerFacade {
     @Transactional
     public void deleteBoard(Long boardId) {
         boardService.deleteBoard(boardId);
+        // Os cards do quadro são removidos em cascata, fora do CardRepository
+        cardService.invalidateUrgencyStats();
     }
 
     /**
@@ -704,27 +641,7 @@ public class TaskManagerFacade {
      * @see BoardSummaryDTO
      */
     public List<BoardSummaryDTO> getBoardsWithoutGroup() {
-        List<Board> boardsWithoutGroup = boardService.getBoardsWithoutGroup();
-        if (boardsWithoutGroup.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // Otimização: Busca todos os dados necessários de uma vez
-        List<Long> boardIds = boardsWithoutGroup.stream().map(Board::getId).toList();
-        List<BoardColumn> allColumns = columnService.getColumnsForBoards(boardIds);
-        List<Long> allColumnIds = allColumns.stream().map(BoardColumn::getId).toList();
-        List<Card> allCards = cardService.getCardsForColumns(allColumnIds);
-
-        // Agrupa os dados em mapas para acesso rápido
-        Map<Long, List<BoardColumn>> columnsByBoardId = allColumns.stream()
-                .collect(Collectors.groupingBy(BoardColumn::getBoardId));
-        Map<Long, List<Card>> cardsByColumnId = allCards.stream()
-                .collect(Collectors.groupingBy(Card::getBoardColumnId));
-
-        // Usa o método de cálculo centralizado
-        return boardsWithoutGroup.stream()
-                .map(board -> calculateBoardSummary(board, columnsByBoardId, cardsByColumnId))
-                .collect(Collectors.toList());
+        return summarizeBoards(boardService.getBoardsWithoutGroup());
     }
 
     /**
@@ -760,6 +677,20 @@ public class TaskManagerFacade {
         return checklistItemRepository;
     }
 
+    /**
+     * Obtém os itens de checklist de todos os cards de um board em uma única consulta.
+     * 
+     * <p>Usado ao montar o Kanban, para que os cards do tipo checklist sejam
+     * exibidos sem uma consulta por card.</p>
+     * 
+     * @param boardId ID do board
+     * @return itens de checklist agrupados por card
+     * @see ChecklistItemService#getBoardChecklists(Long)
+     */
+    public BoardChecklistDTO getBoardChecklists(Long boardId) {
+        return checklistItemService.getBoardChecklists(boardId);
+    }
+
     /**
      * Obtém todas as opções de tipos de card disponíveis.
      * 
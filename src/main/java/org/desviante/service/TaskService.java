@@ -6,12 +6,18 @@ import org.desviante.model.Task;
 import org.desviante.repository.CardRepository;
 import org.desviante.repository.TaskRepository;
 import org.desviante.service.dto.CreateTaskRequest;
+import org.desviante.service.dto.TaskBatchOperation;
+import org.desviante.service.dto.TaskBatchResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -132,6 +138,61 @@ public class TaskService {
 
         return taskRepository.save(localTask);
     }
+
+    /**
+     * Cria várias tarefas no Google Tasks em requisições em lote e salva as
+     * entidades locais das que foram criadas.
+     * 
+     * <p>Segue a mesma estratégia de {@link #createTask}: a entidade local de
+     * cada tarefa só é salva depois que o Google Tasks confirmou a criação. As
+     * tarefas são enviadas por {@link GoogleTasksApiService#submitBatch(List)};
+     * uma falha não impede a criação das demais. Sem a API disponível, apenas
+     * as entidades locais são criadas, uma a uma.</p>
+     * 
+     * @param requestsByCardId dados de cada tarefa, pelo ID do card associado
+     * @return mensagem de erro de cada card cuja tarefa não foi criada (vazio se todas foram)
+     */
+    public Map<Long, String> createTasks(Map<Long, CreateTaskRequest> requestsByCardId) {
+        Map<Long, String> errors = new HashMap<>();
+        if (googleApiService == null) {
+            requestsByCardId.forEach((cardId, request) -> {
+                try {
+                    createTask(request.listTitle(), request.title(), request.notes(), request.due(), cardId);
+                } catch (RuntimeException e) {
+                    errors.put(cardId, e.getMessage());
+                }
+            });
+            return errors;
+        }
+
+        log.info("Criando {} tasks no Google Tasks em lote", requestsByCardId.size());
+        List<Long> cardIds = new ArrayList<>(requestsByCardId.keySet());
+        List<TaskBatchOperation> operations = cardIds.stream()
+                .map(cardId -> TaskBatchOperation.create(requestsByCardId.get(cardId)))
+                .toList();
+        List<TaskBatchResult> results = googleApiService.submitBatch(operations);
+        for (int i = 0; i < results.size(); i++) {
+            TaskBatchResult result = results.get(i);
+            Long cardId = cardIds.get(i);
+            if (!result.isSuccess()) {
+                errors.put(cardId, result.errorMessage());
+                continue;
+            }
+            CreateTaskRequest request = result.operation().request();
+            Task localTask = new Task();
+            localTask.setCardId(cardId);
+            localTask.setListTitle(request.listTitle());
+            localTask.setTitle(request.title());
+            localTask.setNotes(request.notes());
+            localTask.setGoogleTaskId(result.task().getId());
+            localTask.setSent(true);
+            if (request.due() != null) {
+                localTask.setDue(request.due().atOffset(ZoneOffset.UTC));
+            }
+            taskRepository.save(localTask);
+        }
+        return errors;
+    }
     
     /**
      * Busca uma tarefa pelo ID do card.
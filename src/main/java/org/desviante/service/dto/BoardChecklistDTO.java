@@ -0,0 +1,34 @@
+package org.desviante.service.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Itens de checklist de todos os cards de um board, carregados de uma vez.
+ * 
+ * <p>Entregue às visões dos cards ao montar o Kanban, para que cada card
+ * exiba seu checklist sem consultar o banco. Cards sem itens não aparecem
+ * no mapa e recebem uma lista vazia.</p>
+ * 
+ * @param boardId identificador do board
+ * @param itemsByCardId itens de cada card, ordenados pela posição
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see ChecklistItemDTO
+ */
+public record BoardChecklistDTO(
+        Long boardId,
+        Map<Long, List<ChecklistItemDTO>> itemsByCardId
+) {
+
+    /**
+     * Obtém os itens do checklist de um card.
+     * 
+     * @param cardId identificador do card
+     * @return itens do card, ou lista vazia se não houver
+     */
+    public List<ChecklistItemDTO> itemsFor(Long cardId) {
+        return itemsByCardId.getOrDefault(cardId, List.of());
+    }
+}
@@ -1,6 +1,11 @@
 package org.desviante.service.dto;
 
+import org.desviante.model.Board;
 import org.desviante.model.BoardGroup;
+import org.desviante.model.enums.BoardColumnKindEnum;
+
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * DTO para transferência de dados resumidos de um Board para a tabela principal.
@@ -42,4 +47,52 @@ public record BoardSummaryDTO(
         String status,
         BoardGroup group
 ) {
+
+    /**
+     * Monta o resumo de um board a partir das contagens de cards por tipo de coluna.
+     * 
+     * <p>Centraliza as regras de status e percentuais usadas na tabela principal:</p>
+     * <ul>
+     *   <li><strong>Vazio:</strong> quando não há cards no board</li>
+     *   <li><strong>Não iniciado:</strong> quando todos os cards estão em colunas INITIAL</li>
+     *   <li><strong>Concluído:</strong> quando todos os cards estão em colunas FINAL</li>
+     *   <li><strong>Em andamento:</strong> nos demais casos</li>
+     * </ul>
+     * 
+     * <p>Os percentuais são arredondados por truncamento.</p>
+     * 
+     * @param board board a ser resumido
+     * @param countsByKind quantidade de cards por tipo de coluna (pode ser null)
+     * @return resumo do board
+     */
+    public static BoardSummaryDTO fromCardCounts(Board board, Map<BoardColumnKindEnum, Long> countsByKind) {
+        Map<BoardColumnKindEnum, Long> counts = countsByKind != null ? countsByKind : Collections.emptyMap();
+        long initialCount = counts.getOrDefault(BoardColumnKindEnum.INITIAL, 0L);
+        long pendingCount = counts.getOrDefault(BoardColumnKindEnum.PENDING, 0L);
+        long finalCount = counts.getOrDefault(BoardColumnKindEnum.FINAL, 0L);
+        long totalCards = initialCount + pendingCount + finalCount;
+
+        if (totalCards == 0) {
+            return new BoardSummaryDTO(board.getId(), board.getName(), 0, 0, 0, "Vazio", board.getGroup());
+        }
+
+        String status;
+        if (initialCount == totalCards) {
+            status = "Não iniciado";
+        } else if (finalCount == totalCards) {
+            status = "Concluído";
+        } else {
+            status = "Em andamento";
+        }
+
+        return new BoardSummaryDTO(
+                board.getId(),
+                board.getName(),
+                (int) (100.0 * initialCount / totalCards),
+                (int) (100.0 * pendingCount / totalCards),
+                (int) (100.0 * finalCount / totalCards),
+                status,
+                board.getGroup()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.desviante.service.dto;
+
+/**
+ * Operação sobre uma tarefa do Google Tasks enviada em lote.
+ *
+ * <p>Usada por {@link org.desviante.service.GoogleTasksApiService#submitBatch(java.util.List)}
+ * para criar, atualizar ou remover várias tarefas em uma única requisição HTTP.
+ * A lista de destino é identificada pelo título, como em {@link CreateTaskRequest}.</p>
+ *
+ * @param type tipo da operação
+ * @param listTitle título da lista no Google Tasks
+ * @param taskId ID da tarefa no Google Tasks (atualização e remoção)
+ * @param request dados da tarefa (criação e atualização)
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see TaskBatchResult
+ */
+public record TaskBatchOperation(
+        Type type,
+        String listTitle,
+        String taskId,
+        CreateTaskRequest request
+) {
+
+    /**
+     * Tipos de operação suportados no lote.
+     */
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    /**
+     * Cria uma operação de criação de tarefa.
+     *
+     * @param request dados da tarefa a ser criada
+     * @return operação de criação
+     */
+    public static TaskBatchOperation create(CreateTaskRequest request) {
+        return new TaskBatchOperation(Type.CREATE, request.listTitle(), null, request);
+    }
+
+    /**
+     * Cria uma operação de atualização de tarefa.
+     *
+     * @param taskId ID da tarefa no Google Tasks
+     * @param request novos dados da tarefa
+     * @return operação de atualização
+     */
+    public static TaskBatchOperation update(String taskId, CreateTaskRequest request) {
+        return new TaskBatchOperation(Type.UPDATE, request.listTitle(), taskId, request);
+    }
+
+    /**
+     * Cria uma operação de remoção de tarefa.
+     *
+     * @param listTitle título da lista onde a tarefa está
+     * @param taskId ID da tarefa no Google Tasks
+     * @return operação de remoção
+     */
+    public static TaskBatchOperation delete(String listTitle, String taskId) {
+        return new TaskBatchOperation(Type.DELETE, listTitle, taskId, null);
+    }
+}
@@ -0,0 +1,30 @@
+package org.desviante.service.dto;
+
+import com.google.api.services.tasks.model.Task;
+
+/**
+ * Resultado de uma operação enviada em lote ao Google Tasks.
+ *
+ * @param operation operação enviada
+ * @param task tarefa retornada pela API (nula em remoções e falhas)
+ * @param errorMessage mensagem de erro, ou nula em caso de sucesso
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see TaskBatchOperation
+ */
+public record TaskBatchResult(
+        TaskBatchOperation operation,
+        Task task,
+        String errorMessage
+) {
+
+    /**
+     * Indica se a operação foi concluída com sucesso.
+     *
+     * @return true se não houve erro
+     */
+    public boolean isSuccess() {
+        return errorMessage == null;
+    }
+}
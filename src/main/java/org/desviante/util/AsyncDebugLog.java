@@ -0,0 +1,333 @@
+package org.desviante.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Arquivo de log de depuração com escrita assíncrona e em lotes.
+ *
+ * <p>Substitui o padrão de abrir um {@code FileWriter}, escrever uma linha e
+ * fechar o arquivo a cada mensagem. As mensagens são enfileiradas por quem
+ * chama e gravadas por uma única thread em segundo plano, que mantém o arquivo
+ * aberto e escreve tudo o que estiver na fila de uma só vez.</p>
+ *
+ * <p>Características:</p>
+ * <ul>
+ *   <li>Uma instância compartilhada por arquivo, obtida por {@link #forFile(Path)}</li>
+ *   <li>Fila limitada: quando cheia, novas mensagens são descartadas e contadas</li>
+ *   <li>Rotação por tamanho, mantendo um número fixo de arquivos anteriores</li>
+ *   <li>Erros ao gravar um lote descartam só aquele lote; a thread de gravação
+ *       continua ativa</li>
+ *   <li>Nível mínimo configurável pela propriedade de sistema
+ *       {@value #LEVEL_PROPERTY}; o nível {@link Level#OFF} desliga a gravação</li>
+ * </ul>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+public final class AsyncDebugLog {
+
+    /**
+     * Propriedade de sistema que define o nível mínimo gravado (DEBUG, INFO, WARN, ERROR ou OFF).
+     */
+    public static final String LEVEL_PROPERTY = "myboards.debugLog.level";
+
+    /**
+     * Arquivo de depuração padrão usado pelos repositórios e controllers.
+     */
+    public static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"), "myboards", "card_repository_debug.log");
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long DEFAULT_MAX_FILE_BYTES = 5L * 1024 * 1024;
+    private static final int DEFAULT_MAX_BACKUPS = 3;
+
+    private static final Map<Path, AsyncDebugLog> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * Níveis de log em ordem crescente de severidade.
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxBackups;
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+
+    private volatile Level level;
+    private BufferedWriter writer;
+    private long currentSize;
+    private boolean writerFailureReported;
+
+    AsyncDebugLog(Path file, long maxFileBytes, int maxBackups, Level level) {
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxBackups = maxBackups;
+        this.level = level;
+        this.writerThread = new Thread(this::runWriter, "DebugLog-Writer-" + file.getFileName());
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(1, TimeUnit.SECONDS)));
+    }
+
+    /**
+     * Obtém o log compartilhado do arquivo de depuração padrão.
+     *
+     * @return instância compartilhada
+     */
+    public static AsyncDebugLog getDefault() {
+        return forFile(DEFAULT_FILE);
+    }
+
+    /**
+     * Obtém o log compartilhado de um arquivo, criando-o na primeira chamada.
+     *
+     * @param file caminho do arquivo de log
+     * @return instância compartilhada para o arquivo
+     */
+    public static AsyncDebugLog forFile(Path file) {
+        return INSTANCES.computeIfAbsent(file.toAbsolutePath().normalize(),
+                path -> new AsyncDebugLog(path, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_BACKUPS, levelFromSystemProperty()));
+    }
+
+    private static Level levelFromSystemProperty() {
+        String configured = System.getProperty(LEVEL_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            return Level.DEBUG;
+        }
+        try {
+            return Level.valueOf(configured.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Nível de log de depuração inválido: " + configured);
+            return Level.DEBUG;
+        }
+    }
+
+    /**
+     * Enfileira uma mensagem de nível {@link Level#DEBUG}.
+     *
+     * @param message mensagem a ser gravada
+     */
+    public void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Enfileira uma mensagem de nível {@link Level#INFO}.
+     *
+     * @param message mensagem a ser gravada
+     */
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Enfileira uma mensagem de nível {@link Level#WARN}.
+     *
+     * @param message mensagem a ser gravada
+     */
+    public void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    /**
+     * Enfileira uma mensagem de nível {@link Level#ERROR}.
+     *
+     * @param message mensagem a ser gravada
+     */
+    public void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    /**
+     * Enfileira uma mensagem para gravação, sem bloquear quem chama.
+     *
+     * @param messageLevel nível da mensagem
+     * @param message mensagem a ser gravada
+     */
+    public void log(Level messageLevel, String message) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        String line = "[" + LocalDateTime.now() + "] " + message;
+        if (queue.offer(line)) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Indica se mensagens do nível informado seriam gravadas.
+     * Útil para evitar montar mensagens caras quando o log está desligado.
+     *
+     * @param messageLevel nível a verificar
+     * @return true se o nível está habilitado
+     */
+    public boolean isEnabled(Level messageLevel) {
+        Level threshold = level;
+        return threshold != Level.OFF && messageLevel != Level.OFF && messageLevel.compareTo(threshold) >= 0;
+    }
+
+    /**
+     * Obtém o nível mínimo gravado.
+     *
+     * @return nível atual
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Altera o nível mínimo gravado; {@link Level#OFF} desliga a gravação.
+     *
+     * @param level novo nível
+     */
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Obtém a quantidade de mensagens descartadas por fila cheia.
+     *
+     * @return total de mensagens descartadas
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Aguarda até que todas as mensagens enfileiradas sejam gravadas.
+     *
+     * @param timeout tempo máximo de espera
+     * @param unit unidade do tempo de espera
+     * @return true se a fila foi esvaziada dentro do prazo
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (written.get() < target) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // A thread é a única que grava: se morrer, a fila enche e flush() nunca termina
+                if (!writerFailureReported) {
+                    writerFailureReported = true;
+                    System.err.println("Erro inesperado ao gravar log de depuração (lote descartado): " + e);
+                }
+                closeWriter();
+            } finally {
+                written.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<String> batch) {
+        try {
+            ensureWriterOpen();
+            for (String line : batch) {
+                writer.write(line);
+                writer.newLine();
+                currentSize += line.getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length();
+            }
+            writer.flush();
+            if (currentSize >= maxFileBytes) {
+                rotate();
+            }
+        } catch (IOException e) {
+            // Se não conseguir escrever no arquivo, pelo menos imprimir no console
+            System.err.println("Erro ao escrever log: " + e.getMessage());
+            closeWriter();
+        }
+    }
+
+    private void ensureWriterOpen() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentSize = Files.size(file);
+    }
+
+    /**
+     * Fecha o arquivo atual e desloca os anteriores (log.1 → log.2, ...),
+     * descartando o mais antigo.
+     */
+    private void rotate() throws IOException {
+        closeWriter();
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            Path source = backupPath(i);
+            if (Files.exists(source)) {
+                Files.move(source, backupPath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxBackups > 0) {
+            Files.move(file, backupPath(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Path backupPath(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // O arquivo será reaberto no próximo lote
+            }
+            writer = null;
+        }
+    }
+}
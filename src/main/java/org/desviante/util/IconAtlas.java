@@ -0,0 +1,175 @@
+package org.desviante.util;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Atlas de sprites com todos os ícones emoji em uma única imagem.
+ *
+ * <p>O atlas é opcional e gerado durante o build pela tarefa
+ * {@code generateIconAtlas} (habilitada com {@code -PiconAtlas=true}). Quando
+ * presente, o seletor de ícones e os ícones dos grupos de board decodificam
+ * uma única textura em vez de milhares de arquivos PNG: cada ícone é exibido
+ * como uma região ({@link javafx.scene.image.ImageView#setViewport viewport})
+ * da imagem do atlas.</p>
+ *
+ * <p>O índice é um arquivo texto com uma linha por ícone no formato
+ * {@code codigo x y largura altura}; linhas vazias e iniciadas por {@code #}
+ * são ignoradas.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconManager
+ */
+public final class IconAtlas {
+
+    /**
+     * Recurso com a imagem do atlas.
+     */
+    public static final String IMAGE_RESOURCE = "/icons/emoji-atlas.png";
+
+    /**
+     * Recurso com o índice das regiões de cada ícone no atlas.
+     */
+    public static final String INDEX_RESOURCE = "/icons/emoji-atlas.txt";
+
+    private final Map<String, Rectangle2D> regions;
+    private final Supplier<Image> imageLoader;
+    private volatile Image image;
+
+    IconAtlas(Map<String, Rectangle2D> regions, Supplier<Image> imageLoader) {
+        this.regions = regions;
+        this.imageLoader = imageLoader;
+    }
+
+    /**
+     * Carrega o atlas empacotado com a aplicação, se existir.
+     * A imagem só é decodificada no primeiro ícone solicitado.
+     *
+     * @return atlas carregado, ou null se a aplicação foi gerada sem atlas
+     */
+    public static IconAtlas loadDefault() {
+        URL imageUrl = IconAtlas.class.getResource(IMAGE_RESOURCE);
+        URL indexUrl = IconAtlas.class.getResource(INDEX_RESOURCE);
+        if (imageUrl == null || indexUrl == null) {
+            return null;
+        }
+        try (InputStream in = indexUrl.openStream()) {
+            Map<String, Rectangle2D> regions = parseIndex(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return new IconAtlas(regions, () -> new Image(imageUrl.toExternalForm()));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Erro ao carregar o atlas de ícones: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lê o índice do atlas.
+     *
+     * @param reader conteúdo do índice
+     * @return região de cada ícone, indexada pelo código
+     * @throws IOException se o índice não puder ser lido
+     * @throws IllegalArgumentException se uma linha estiver fora do formato
+     */
+    static Map<String, Rectangle2D> parseIndex(Reader reader) throws IOException {
+        Map<String, Rectangle2D> regions = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Linha inválida no índice do atlas: " + line);
+            }
+            regions.put(parts[0], new Rectangle2D(
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]), Integer.parseInt(parts[4])));
+        }
+        return regions;
+    }
+
+    /**
+     * Verifica se o ícone está no atlas.
+     *
+     * @param iconCode código do ícone
+     * @return true se o atlas contém o ícone
+     */
+    public boolean contains(String iconCode) {
+        return regions.containsKey(iconCode);
+    }
+
+    /**
+     * Obtém a região do ícone na imagem do atlas.
+     *
+     * @param iconCode código do ícone
+     * @return região do ícone, ou null se não estiver no atlas
+     */
+    public Rectangle2D getRegion(String iconCode) {
+        return regions.get(iconCode);
+    }
+
+    /**
+     * Obtém a quantidade de ícones no atlas.
+     *
+     * @return número de ícones
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Obtém a imagem do atlas, decodificando-a no primeiro acesso.
+     *
+     * @return imagem com todos os ícones
+     */
+    public Image getImage() {
+        Image current = image;
+        if (current == null) {
+            synchronized (this) {
+                current = image;
+                if (current == null) {
+                    current = imageLoader.get();
+                    image = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Copia a região de um ícone para uma imagem própria.
+     * Usado quando o ícone precisa ser processado (ex.: remoção de fundo).
+     *
+     * @param iconCode código do ícone
+     * @return imagem do ícone, ou null se não estiver no atlas
+     */
+    public Image extract(String iconCode) {
+        Rectangle2D region = regions.get(iconCode);
+        if (region == null) {
+            return null;
+        }
+        PixelReader reader = getImage().getPixelReader();
+        if (reader == null) {
+            return null;
+        }
+        return new WritableImage(reader, (int) region.getMinX(), (int) region.getMinY(),
+                (int) region.getWidth(), (int) region.getHeight());
+    }
+}
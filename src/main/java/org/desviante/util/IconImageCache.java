@@ -0,0 +1,193 @@
+package org.desviante.util;
+
+import javafx.scene.image.Image;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache de imagens de ícones compartilhado por toda a aplicação.
+ *
+ * <p>Decodificar um PNG (ou remover o fundo branco pixel a pixel) a cada
+ * exibição do ícone é desnecessário: o mesmo ícone aparece em vários grupos,
+ * combos e diálogos. Este cache guarda a imagem já processada, identificada
+ * pelo código do ícone, pelo tamanho de decodificação e pela remoção do fundo.</p>
+ *
+ * <p>Características:</p>
+ * <ul>
+ *   <li>Tamanho limitado: ao exceder o limite, a entrada usada há mais tempo é descartada</li>
+ *   <li>Referências suaves ({@link SoftReference}): o coletor de lixo pode liberar
+ *       as imagens sob pressão de memória, e elas são recarregadas no próximo acesso</li>
+ *   <li>Seguro para uso por várias threads; o carregamento ocorre fora do bloqueio</li>
+ * </ul>
+ *
+ * <p>O tamanho de decodificação da chave só vale para ícones lidos de arquivos
+ * individuais. Quando o ícone vem do {@link IconAtlas}, a imagem é a célula de
+ * 32px gerada pela tarefa {@code generateIconAtlas}, independentemente do tamanho
+ * pedido: em telas HiDPI ela é ampliada pelo {@code ImageView}, e não
+ * decodificada na resolução maior.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconManager
+ */
+public final class IconImageCache {
+
+    /**
+     * Quantidade máxima padrão de imagens mantidas no cache compartilhado.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final IconImageCache SHARED = new IconImageCache(DEFAULT_MAX_ENTRIES);
+
+    /**
+     * Identifica uma variante de um ícone.
+     *
+     * @param iconCode código do ícone (nome do arquivo sem extensão)
+     * @param size tamanho de decodificação em pixels (0 para o tamanho original)
+     * @param backgroundTolerance tolerância usada na remoção do fundo branco
+     *                            (0 quando o fundo é mantido)
+     */
+    public record Key(String iconCode, int size, double backgroundTolerance) {
+
+        /**
+         * Variante do ícone com a imagem como está no recurso.
+         *
+         * @param iconCode código do ícone
+         * @param size tamanho de decodificação (0 para o original)
+         * @return chave da variante
+         */
+        public static Key original(String iconCode, int size) {
+            return new Key(iconCode, size, 0);
+        }
+
+        /**
+         * Variante do ícone com o fundo próximo ao branco removido.
+         *
+         * @param iconCode código do ícone
+         * @param size tamanho de decodificação (0 para o original)
+         * @param tolerance tolerância (0..1) para considerar um pixel como branco
+         * @return chave da variante
+         */
+        public static Key withoutBackground(String iconCode, int size, double tolerance) {
+            return new Key(iconCode, size, tolerance);
+        }
+
+        /**
+         * Indica se a variante tem o fundo branco removido.
+         *
+         * @return true se o fundo é removido
+         */
+        public boolean backgroundRemoved() {
+            return backgroundTolerance > 0;
+        }
+    }
+
+    private final Map<Key, SoftReference<Image>> entries;
+    private long hitCount;
+    private long missCount;
+
+    IconImageCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<Image>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Obtém o cache compartilhado pela aplicação.
+     *
+     * @return instância compartilhada
+     */
+    public static IconImageCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Obtém a imagem do cache ou a carrega com o fornecedor informado.
+     *
+     * <p>Se duas threads carregarem a mesma variante ao mesmo tempo, a primeira
+     * imagem armazenada é a que passa a ser compartilhada.</p>
+     *
+     * @param key variante do ícone
+     * @param loader carrega a imagem quando ela não está no cache
+     * @return imagem do ícone, ou null se o fornecedor não encontrar o ícone
+     */
+    public Image get(Key key, Supplier<Image> loader) {
+        synchronized (this) {
+            Image cached = lookup(key);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+
+        Image loaded = loader.get();
+        if (loaded == null) {
+            // Ícones inexistentes não são guardados; a busca pelo recurso é barata
+            return null;
+        }
+
+        synchronized (this) {
+            Image concurrent = lookup(key);
+            if (concurrent != null) {
+                return concurrent;
+            }
+            entries.put(key, new SoftReference<>(loaded));
+            return loaded;
+        }
+    }
+
+    private Image lookup(Key key) {
+        SoftReference<Image> reference = entries.get(key);
+        if (reference == null) {
+            return null;
+        }
+        Image image = reference.get();
+        if (image == null) {
+            // Liberada pelo coletor de lixo
+            entries.remove(key);
+        }
+        return image;
+    }
+
+    /**
+     * Remove todas as imagens do cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Obtém a quantidade de variantes atualmente no cache.
+     *
+     * @return número de entradas
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Obtém a quantidade de acessos atendidos pelo cache.
+     *
+     * @return total de acertos
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Obtém a quantidade de acessos que precisaram carregar a imagem.
+     *
+     * @return total de faltas
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
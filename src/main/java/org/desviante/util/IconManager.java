@@ -3,11 +3,11 @@ package org.desviante.util;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.PixelReader;
-import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
-import javafx.scene.paint.Color;
+import javafx.scene.image.WritablePixelFormat;
 
 import java.net.URL;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -18,6 +18,10 @@ import java.util.Scanner;
  * <p>Esta classe gerencia o carregamento e acesso aos ícones disponíveis
  * no sistema, incluindo ícones emoji e outros tipos de ícones.</p>
  * 
+ * <p>As imagens decodificadas ficam no {@link IconImageCache} compartilhado,
+ * e quando a aplicação é gerada com o {@link IconAtlas atlas de ícones} os
+ * ícones são lidos de uma única imagem em vez de um arquivo por ícone.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -26,6 +30,8 @@ public class IconManager {
     
     private static final String EMOJI_DIRECTORY = "/icons/emoji/";
     private static List<String> availableIcons = null;
+    private static volatile IconAtlas atlas;
+    private static volatile boolean atlasLoaded;
     
     /**
      * Construtor padrão do gerenciador de ícones.
@@ -182,18 +188,45 @@ public class IconManager {
     }
     
     /**
-     * Carrega uma imagem PNG do diretório de recursos.
+     * Carrega uma imagem PNG do diretório de recursos, no tamanho original.
      * 
      * @param iconCode código do ícone (sem extensão .png)
      * @return Image carregada ou null se não encontrada
      */
     public static Image loadIcon(String iconCode) {
+        return loadIcon(iconCode, 0);
+    }
+    
+    /**
+     * Carrega a imagem de um ícone decodificada no tamanho informado.
+     * A imagem é compartilhada: chamadas seguintes com o mesmo ícone e tamanho
+     * retornam a mesma instância enquanto ela estiver no cache.
+     * 
+     * @param iconCode código do ícone (sem extensão .png)
+     * @param size tamanho de decodificação em pixels (0 para o tamanho original)
+     * @return Image carregada ou null se não encontrada
+     */
+    public static Image loadIcon(String iconCode, int size) {
+        if (iconCode == null) {
+            return null;
+        }
+        return IconImageCache.shared().get(IconImageCache.Key.original(iconCode, size),
+                () -> decodeIcon(iconCode, size));
+    }
+    
+    private static Image decodeIcon(String iconCode, int size) {
+        IconAtlas iconAtlas = getAtlas();
+        if (iconAtlas != null && iconAtlas.contains(iconCode)) {
+            return iconAtlas.extract(iconCode);
+        }
         try {
             String imagePath = EMOJI_DIRECTORY + iconCode + ".png";
             URL imageUrl = IconManager.class.getResource(imagePath);
             
             if (imageUrl != null) {
-                return new Image(imageUrl.toExternalForm());
+                return size > 0
+                        ? new Image(imageUrl.toExternalForm(), size, size, true, true)
+                        : new Image(imageUrl.toExternalForm());
             }
         } catch (Exception e) {
             System.err.println("Erro ao carregar ícone " + iconCode + ": " + e.getMessage());
@@ -202,6 +235,44 @@ public class IconManager {
         return null;
     }
     
+    /**
+     * Obtém o atlas de ícones empacotado com a aplicação.
+     * 
+     * @return atlas de ícones, ou null se a aplicação foi gerada sem atlas
+     */
+    public static IconAtlas getAtlas() {
+        if (!atlasLoaded) {
+            synchronized (IconManager.class) {
+                if (!atlasLoaded) {
+                    atlas = IconAtlas.loadDefault();
+                    atlasLoaded = true;
+                }
+            }
+        }
+        return atlas;
+    }
+    
+    /**
+     * Exibe um ícone em um ImageView existente (ex.: células de listas reaproveitadas).
+     * Com o atlas disponível, o ImageView mostra apenas a região do ícone na imagem do atlas.
+     * 
+     * @param imageView ImageView que exibirá o ícone
+     * @param iconCode código do ícone
+     * @return true se o ícone foi encontrado; caso contrário o ImageView fica sem imagem
+     */
+    public static boolean showIcon(ImageView imageView, String iconCode) {
+        IconAtlas iconAtlas = getAtlas();
+        if (iconAtlas != null && iconCode != null && iconAtlas.contains(iconCode)) {
+            imageView.setImage(iconAtlas.getImage());
+            imageView.setViewport(iconAtlas.getRegion(iconCode));
+            return true;
+        }
+        Image image = loadIcon(iconCode);
+        imageView.setViewport(null);
+        imageView.setImage(image);
+        return image != null;
+    }
+    
     /**
      * Cria um ImageView com tamanho específico para o ícone.
      * 
@@ -211,16 +282,31 @@ public class IconManager {
      * @return ImageView configurado ou null se ícone não encontrado
      */
     public static ImageView createIconView(String iconCode, double width, double height) {
-        Image image = loadIcon(iconCode);
-        if (image != null) {
-            ImageView imageView = new ImageView(image);
-            imageView.setFitWidth(width);
-            imageView.setFitHeight(height);
-            imageView.setPreserveRatio(true);
-            imageView.setSmooth(true);
-            return imageView;
+        IconAtlas iconAtlas = getAtlas();
+        ImageView imageView;
+        if (iconAtlas != null && iconCode != null && iconAtlas.contains(iconCode)) {
+            imageView = new ImageView(iconAtlas.getImage());
+            imageView.setViewport(iconAtlas.getRegion(iconCode));
+        } else {
+            Image image = loadIcon(iconCode, decodeSize(width, height));
+            if (image == null) {
+                return null;
+            }
+            imageView = new ImageView(image);
         }
-        return null;
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
+        imageView.setPreserveRatio(true);
+        imageView.setSmooth(true);
+        return imageView;
+    }
+    
+    /**
+     * Tamanho de decodificação para exibir o ícone no tamanho informado.
+     * Usa o dobro do tamanho exibido para manter a nitidez em telas de alta densidade.
+     */
+    private static int decodeSize(double width, double height) {
+        return (int) Math.ceil(Math.max(width, height)) * 2;
     }
     
     /**
@@ -236,6 +322,9 @@ public class IconManager {
     /**
      * Cria um ImageView removendo um fundo próximo ao branco (chroma key simpificado).
      * Útil para emojis PNG com fundo branco.
+     * 
+     * <p>A imagem processada fica no cache compartilhado, de modo que o
+     * processamento pixel a pixel ocorre uma vez por ícone e tolerância.</p>
      *
      * @param iconCode código do ícone
      * @param width largura desejada
@@ -244,35 +333,16 @@ public class IconManager {
      * @return ImageView com fundo transparente quando possível; null se não encontrado
      */
     public static ImageView createIconViewWithoutWhiteBackground(String iconCode, double width, double height, double tolerance) {
-        Image src = loadIcon(iconCode);
-        if (src == null) {
+        if (iconCode == null) {
             return null;
         }
-
-        int w = (int) src.getWidth();
-        int h = (int) src.getHeight();
-        PixelReader reader = src.getPixelReader();
-        if (reader == null) {
+        int size = decodeSize(width, height);
+        Image out = IconImageCache.shared().get(
+                IconImageCache.Key.withoutBackground(iconCode, size, tolerance),
+                () -> removeWhiteBackground(loadIcon(iconCode, size), tolerance));
+        if (out == null) {
             return null;
         }
-        WritableImage out = new WritableImage(w, h);
-        PixelWriter writer = out.getPixelWriter();
-
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                Color c = reader.getColor(x, y);
-                // Considera "quase branco" se RGB próximo de 1.0 e alfa alto
-                boolean nearWhite = (1.0 - c.getRed() < tolerance)
-                        && (1.0 - c.getGreen() < tolerance)
-                        && (1.0 - c.getBlue() < tolerance)
-                        && c.getOpacity() > 0.8;
-                if (nearWhite) {
-                    writer.setColor(x, y, new Color(c.getRed(), c.getGreen(), c.getBlue(), 0.0));
-                } else {
-                    writer.setColor(x, y, c);
-                }
-            }
-        }
 
         ImageView view = new ImageView(out);
         view.setFitWidth(width);
@@ -282,6 +352,47 @@ public class IconManager {
         return view;
     }
     
+    /**
+     * Torna transparentes os pixels próximos ao branco.
+     * 
+     * @param src imagem original
+     * @param tolerance tolerância (0..1) para considerar como branco
+     * @return nova imagem com o fundo transparente, ou null se a imagem não puder ser lida
+     */
+    static Image removeWhiteBackground(Image src, double tolerance) {
+        if (src == null) {
+            return null;
+        }
+        PixelReader reader = src.getPixelReader();
+        if (reader == null) {
+            return null;
+        }
+        int w = (int) src.getWidth();
+        int h = (int) src.getHeight();
+        
+        // Ler e gravar todos os pixels de uma vez, em vez de um Color por pixel
+        int[] pixels = new int[w * h];
+        WritablePixelFormat<IntBuffer> format = WritablePixelFormat.getIntArgbInstance();
+        reader.getPixels(0, 0, w, h, format, pixels, 0, w);
+        
+        // Considera "quase branco" se RGB próximo de 1.0 e alfa alto
+        double minChannel = 255 * (1.0 - tolerance);
+        for (int i = 0; i < pixels.length; i++) {
+            int argb = pixels[i];
+            int alpha = argb >>> 24;
+            int red = (argb >> 16) & 0xff;
+            int green = (argb >> 8) & 0xff;
+            int blue = argb & 0xff;
+            if (red > minChannel && green > minChannel && blue > minChannel && alpha > 255 * 0.8) {
+                pixels[i] = argb & 0x00ffffff;
+            }
+        }
+        
+        WritableImage out = new WritableImage(w, h);
+        out.getPixelWriter().setPixels(0, 0, w, h, format, pixels, 0, w);
+        return out;
+    }
+    
     /**
      * Verifica se um ícone existe no sistema.
      * 
@@ -0,0 +1,235 @@
+package org.desviante.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Índice de busca de ícones por código e palavras-chave.
+ *
+ * <p>Montado uma única vez, o índice guarda para cada n-grama (de 1 a 3
+ * caracteres) a lista de termos que o contêm. Uma busca consulta a lista do
+ * n-grama mais seletivo do termo buscado e confirma apenas esses candidatos,
+ * em vez de percorrer todos os códigos e palavras-chave a cada tecla.</p>
+ *
+ * <p>Os resultados são ordenados por relevância: correspondência exata, depois
+ * prefixo e por fim trecho do termo; em cada nível, correspondências pelo
+ * código vêm antes das por palavra-chave, e empates seguem a ordem original
+ * dos ícones. A comparação ignora maiúsculas e acentos ("educacao" encontra
+ * "educação").</p>
+ *
+ * <p>Enquanto o usuário continua digitando, {@link #refine(Result, String)}
+ * filtra apenas os termos que já correspondiam à busca anterior.</p>
+ *
+ * <p>Instâncias são imutáveis e podem ser usadas por várias threads.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconSearchMapper
+ */
+public final class IconSearchIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final int[] NO_TERMS = new int[0];
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int CONTAINS = 2;
+
+    /**
+     * Resultado de uma busca.
+     *
+     * @param query termo buscado, já normalizado
+     * @param icons códigos dos ícones encontrados, em ordem de relevância
+     * @param matchedTerms identificadores dos termos que corresponderam (usados no refinamento)
+     */
+    public record Result(String query, List<String> icons, int[] matchedTerms) {
+
+        static final Result EMPTY = new Result("", List.of(), NO_TERMS);
+    }
+
+    private final String[] icons;
+    private final String[] terms;
+    private final int[] termIcon;
+    private final boolean[] termIsCode;
+    private final Map<String, int[]> postings;
+
+    /**
+     * Monta o índice.
+     *
+     * @param iconCodes códigos dos ícones, na ordem em que devem aparecer em caso de empate
+     * @param keywordsByIcon palavras-chave de cada ícone; ícones que não estão em
+     *                       {@code iconCodes} são acrescentados ao final
+     */
+    public IconSearchIndex(Collection<String> iconCodes, Map<String, List<String>> keywordsByIcon) {
+        Map<String, Integer> iconIds = new LinkedHashMap<>();
+        iconCodes.forEach(code -> iconIds.putIfAbsent(code, iconIds.size()));
+        keywordsByIcon.keySet().forEach(code -> iconIds.putIfAbsent(code, iconIds.size()));
+        this.icons = iconIds.keySet().toArray(String[]::new);
+
+        List<String> termList = new ArrayList<>();
+        List<Integer> termIconList = new ArrayList<>();
+        List<Boolean> termIsCodeList = new ArrayList<>();
+        for (Map.Entry<String, Integer> icon : iconIds.entrySet()) {
+            termList.add(normalize(icon.getKey()));
+            termIconList.add(icon.getValue());
+            termIsCodeList.add(true);
+            for (String keyword : keywordsByIcon.getOrDefault(icon.getKey(), List.of())) {
+                termList.add(normalize(keyword));
+                termIconList.add(icon.getValue());
+                termIsCodeList.add(false);
+            }
+        }
+        this.terms = termList.toArray(String[]::new);
+        this.termIcon = termIconList.stream().mapToInt(Integer::intValue).toArray();
+        this.termIsCode = new boolean[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            termIsCode[i] = termIsCodeList.get(i);
+        }
+        this.postings = buildPostings(terms);
+    }
+
+    private static Map<String, int[]> buildPostings(String[] terms) {
+        Map<String, List<Integer>> lists = new HashMap<>();
+        for (int termId = 0; termId < terms.length; termId++) {
+            String term = terms[termId];
+            for (int length = 1; length <= MAX_GRAM; length++) {
+                for (int start = 0; start + length <= term.length(); start++) {
+                    List<Integer> list = lists.computeIfAbsent(term.substring(start, start + length), k -> new ArrayList<>());
+                    // Os termos são visitados em ordem, então basta comparar com o último
+                    if (list.isEmpty() || list.get(list.size() - 1) != termId) {
+                        list.add(termId);
+                    }
+                }
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+
+    /**
+     * Normaliza um texto para busca: minúsculas, sem acentos e sem espaços nas pontas.
+     *
+     * @param text texto original
+     * @return texto normalizado
+     */
+    static String normalize(String text) {
+        String lower = text.trim().toLowerCase(Locale.ROOT);
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}+", "");
+    }
+
+    /**
+     * Busca ícones cujo código ou palavra-chave contém o termo.
+     *
+     * @param searchTerm termo de busca
+     * @return resultado ordenado por relevância (vazio se o termo for vazio)
+     */
+    public Result search(String searchTerm) {
+        String query = searchTerm == null ? "" : normalize(searchTerm);
+        if (query.isEmpty()) {
+            return Result.EMPTY;
+        }
+        return match(query, candidatesFor(query));
+    }
+
+    /**
+     * Refina uma busca anterior enquanto o usuário continua digitando.
+     *
+     * <p>Se o novo termo estende o anterior, apenas os termos que já
+     * correspondiam são verificados; caso contrário, faz uma busca completa.</p>
+     *
+     * @param previous resultado anterior (pode ser null)
+     * @param searchTerm novo termo de busca
+     * @return resultado ordenado por relevância
+     */
+    public Result refine(Result previous, String searchTerm) {
+        String query = searchTerm == null ? "" : normalize(searchTerm);
+        if (previous == null || previous.query().isEmpty() || !query.startsWith(previous.query())) {
+            return search(searchTerm);
+        }
+        if (query.equals(previous.query())) {
+            return previous;
+        }
+        return match(query, previous.matchedTerms());
+    }
+
+    /**
+     * Obtém a quantidade de termos indexados (códigos e palavras-chave).
+     *
+     * @return número de termos
+     */
+    public int getTermCount() {
+        return terms.length;
+    }
+
+    private int[] candidatesFor(String query) {
+        if (query.length() <= MAX_GRAM) {
+            return postings.getOrDefault(query, NO_TERMS);
+        }
+        // Usar o trigrama com menos termos; os candidatos ainda são confirmados em match()
+        int[] best = null;
+        for (int start = 0; start + MAX_GRAM <= query.length(); start++) {
+            int[] list = postings.getOrDefault(query.substring(start, start + MAX_GRAM), NO_TERMS);
+            if (best == null || list.length < best.length) {
+                best = list;
+            }
+            if (best.length == 0) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private Result match(String query, int[] candidates) {
+        int[] matched = new int[candidates.length];
+        int matchedCount = 0;
+        int[] bestRank = new int[icons.length];
+        Arrays.fill(bestRank, Integer.MAX_VALUE);
+        int iconCount = 0;
+
+        for (int termId : candidates) {
+            String term = terms[termId];
+            int kind;
+            if (term.equals(query)) {
+                kind = EXACT;
+            } else if (term.startsWith(query)) {
+                kind = PREFIX;
+            } else if (term.contains(query)) {
+                kind = CONTAINS;
+            } else {
+                continue;
+            }
+            matched[matchedCount++] = termId;
+            int rank = kind * 2 + (termIsCode[termId] ? 0 : 1);
+            int icon = termIcon[termId];
+            if (bestRank[icon] == Integer.MAX_VALUE) {
+                iconCount++;
+            }
+            bestRank[icon] = Math.min(bestRank[icon], rank);
+        }
+
+        // Ordenar por relevância e, no empate, pela ordem original (rank * n + posição)
+        long[] order = new long[iconCount];
+        int next = 0;
+        for (int icon = 0; icon < icons.length; icon++) {
+            if (bestRank[icon] != Integer.MAX_VALUE) {
+                order[next++] = (long) bestRank[icon] * icons.length + icon;
+            }
+        }
+        Arrays.sort(order);
+        List<String> result = new ArrayList<>(iconCount);
+        for (long key : order) {
+            result.add(icons[(int) (key % icons.length)]);
+        }
+        return new Result(query, List.copyOf(result), Arrays.copyOf(matched, matchedCount));
+    }
+}
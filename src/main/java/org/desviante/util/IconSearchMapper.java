@@ -9,6 +9,9 @@ import java.util.*;
  * categorias e palavras-chave, facilitando a localização de ícones
  * apropriados para diferentes contextos como "casa", "trabalho", etc.</p>
  * 
+ * <p>As buscas usam um {@link IconSearchIndex} montado no carregamento da
+ * classe sobre os códigos de todos os ícones disponíveis e as palavras-chave.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
@@ -17,9 +20,11 @@ public class IconSearchMapper {
     
     private static final Map<String, List<String>> ICON_CATEGORIES = new HashMap<>();
     private static final Map<String, String> ICON_DESCRIPTIONS = new HashMap<>();
+    private static final IconSearchIndex SEARCH_INDEX;
     
     static {
         initializeIconMappings();
+        SEARCH_INDEX = new IconSearchIndex(IconManager.getAvailableIcons(), ICON_CATEGORIES);
     }
     
     /**
@@ -256,42 +261,36 @@ public class IconSearchMapper {
     }
     
     /**
-     * Busca ícones por palavra-chave.
+     * Busca ícones por código ou palavra-chave.
      * 
      * @param searchTerm termo de busca
-     * @return lista de códigos de ícones que correspondem à busca
+     * @return lista de códigos de ícones que correspondem à busca, em ordem de relevância
      */
     public static List<String> searchIcons(String searchTerm) {
-        if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        String lowerSearch = searchTerm.toLowerCase().trim();
-        List<String> results = new ArrayList<>();
-        
-        // Buscar por código do ícone
-        for (String iconCode : ICON_CATEGORIES.keySet()) {
-            if (iconCode.toLowerCase().contains(lowerSearch)) {
-                results.add(iconCode);
-            }
-        }
-        
-        // Buscar por palavras-chave
-        for (Map.Entry<String, List<String>> entry : ICON_CATEGORIES.entrySet()) {
-            String iconCode = entry.getKey();
-            List<String> keywords = entry.getValue();
-            
-            for (String keyword : keywords) {
-                if (keyword.toLowerCase().contains(lowerSearch)) {
-                    if (!results.contains(iconCode)) {
-                        results.add(iconCode);
-                    }
-                    break;
-                }
-            }
-        }
-        
-        return results;
+        return new ArrayList<>(SEARCH_INDEX.search(searchTerm).icons());
+    }
+    
+    /**
+     * Busca ícones por código ou palavra-chave, mantendo o resultado para refinamento.
+     * 
+     * @param searchTerm termo de busca
+     * @return resultado da busca, ordenado por relevância
+     * @see #refineSearch(IconSearchIndex.Result, String)
+     */
+    public static IconSearchIndex.Result search(String searchTerm) {
+        return SEARCH_INDEX.search(searchTerm);
+    }
+    
+    /**
+     * Refina a busca anterior enquanto o usuário continua digitando:
+     * se o termo apenas cresceu, só os resultados anteriores são verificados.
+     * 
+     * @param previous resultado da busca anterior (pode ser null)
+     * @param searchTerm termo de busca atual
+     * @return resultado da busca, ordenado por relevância
+     */
+    public static IconSearchIndex.Result refineSearch(IconSearchIndex.Result previous, String searchTerm) {
+        return SEARCH_INDEX.refine(previous, searchTerm);
     }
     
     /**
@@ -0,0 +1,167 @@
+package org.desviante.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Linha do tempo da inicialização da aplicação.
+ *
+ * <p>Cada fase da inicialização registra um marco com o tempo decorrido
+ * desde o início da JVM. Ao exibir a janela principal, a linha do tempo é
+ * registrada no log em uma única linha, e o tempo até a primeira exibição
+ * ({@link #MAIN_WINDOW_SHOWN}) pode ser acompanhado entre versões.</p>
+ *
+ * <p>Se a propriedade de sistema {@value #FILE_PROPERTY} apontar para um
+ * arquivo, cada inicialização acrescenta nele uma linha CSV com os marcos,
+ * para comparação entre execuções.</p>
+ *
+ * <p>Segura para uso por várias threads.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public final class StartupTimeline {
+
+    /**
+     * Propriedade de sistema com o arquivo onde a linha do tempo é acrescentada.
+     */
+    public static final String FILE_PROPERTY = "app.startup.timeline-file";
+
+    /** Início do método main. */
+    public static final String MAIN_STARTED = "main";
+    /** Contexto Spring pronto. */
+    public static final String CONTEXT_READY = "spring-context-ready";
+    /** Início da aplicação JavaFX. */
+    public static final String JAVAFX_STARTED = "javafx-start";
+    /** Tela de carregamento exibida. */
+    public static final String SPLASH_SHOWN = "splash-shown";
+    /** Janela principal exibida (primeira exibição do quadro). */
+    public static final String MAIN_WINDOW_SHOWN = "main-window-shown";
+
+    private static final StartupTimeline SHARED = new StartupTimeline(StartupTimeline::millisSinceJvmStart);
+
+    /**
+     * Marco da linha do tempo.
+     *
+     * @param phase nome da fase
+     * @param elapsedMillis tempo decorrido desde o início da JVM
+     * @param thread thread que registrou o marco
+     */
+    public record Mark(String phase, long elapsedMillis, String thread) {
+    }
+
+    private final LongSupplier clock;
+    private final List<Mark> marks = new ArrayList<>();
+
+    /**
+     * Cria uma linha do tempo com o relógio informado.
+     *
+     * @param clock fornece o tempo decorrido, em milissegundos
+     */
+    StartupTimeline(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Obtém a linha do tempo da aplicação.
+     *
+     * @return instância compartilhada
+     */
+    public static StartupTimeline shared() {
+        return SHARED;
+    }
+
+    private static long millisSinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    /**
+     * Registra um marco.
+     *
+     * @param phase nome da fase concluída
+     */
+    public void mark(String phase) {
+        Mark mark = new Mark(phase, clock.getAsLong(), Thread.currentThread().getName());
+        synchronized (marks) {
+            marks.add(mark);
+        }
+        log.debug("Inicialização: {} em {} ms", phase, mark.elapsedMillis());
+    }
+
+    /**
+     * Obtém os marcos registrados, na ordem em que ocorreram.
+     *
+     * @return cópia dos marcos
+     */
+    public List<Mark> getMarks() {
+        synchronized (marks) {
+            return List.copyOf(marks);
+        }
+    }
+
+    /**
+     * Obtém o tempo decorrido até a primeira ocorrência de uma fase.
+     *
+     * @param phase nome da fase
+     * @return tempo em milissegundos, ou vazio se a fase não foi registrada
+     */
+    public Optional<Long> elapsedUntil(String phase) {
+        return getMarks().stream()
+                .filter(mark -> mark.phase().equals(phase))
+                .map(Mark::elapsedMillis)
+                .findFirst();
+    }
+
+    /**
+     * Formata os marcos em uma linha ({@code fase=ms, ...}).
+     *
+     * @return linha do tempo formatada
+     */
+    public String format() {
+        return getMarks().stream()
+                .map(mark -> mark.phase() + "=" + mark.elapsedMillis())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Registra a linha do tempo no log e, se configurado, no arquivo de histórico.
+     */
+    public void report() {
+        log.info("Linha do tempo da inicialização (ms desde o início da JVM): {}", format());
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            appendTo(Path.of(file));
+        }
+    }
+
+    /**
+     * Acrescenta a linha do tempo em um arquivo CSV ({@code data;fase=ms;...}).
+     *
+     * @param file arquivo de histórico
+     */
+    void appendTo(Path file) {
+        String line = LocalDateTime.now() + ";" + format().replace(", ", ";") + System.lineSeparator();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Não foi possível gravar a linha do tempo em {}: {}", file, e.getMessage());
+        }
+    }
+}
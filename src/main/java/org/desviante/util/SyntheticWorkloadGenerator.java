@@ -0,0 +1,369 @@
+package org.desviante.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.desviante.calendar.CalendarEventPriority;
+import org.desviante.calendar.CalendarEventType;
+import org.desviante.model.enums.ProgressType;
+import org.desviante.repository.CardRepository;
+import org.desviante.repository.CheckListItemRepository;
+import org.desviante.service.CardService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera bases sintéticas grandes e realistas para reproduzir problemas de escala.
+ *
+ * <p>A partir de um {@link WorkloadProfile}, insere grupos, quadros com as três
+ * colunas padrão, cards com datas de agendamento, vencimento e conclusão,
+ * itens de checklist e eventos de calendário dos cards agendados. Os dados
+ * são acrescentados ao banco informado, sem apagar o que já existe.</p>
+ *
+ * <p>A inserção é feita em lotes JDBC diretamente nas tabelas, em vez de passar
+ * pelos serviços: gerar centenas de milhares de cards pelos repositórios, um a
+ * um, levaria muitos minutos. As migrações dos repositórios são aplicadas antes
+ * da geração, para que o banco fique igual ao de uma instalação real.</p>
+ *
+ * <p>Cada fase usa um gerador pseudoaleatório próprio derivado da semente do
+ * perfil, então a mesma semente sempre produz o mesmo conteúdo, mesmo que o
+ * perfil mude em outra fase.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see WorkloadProfile
+ */
+@Slf4j
+public class SyntheticWorkloadGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] COLUMN_NAMES = {"A Fazer", "Em Andamento", "Concluído"};
+    private static final String[] COLUMN_KINDS = {"INITIAL", "PENDING", "FINAL"};
+    private static final String[] GROUP_COLORS = {"#FFEAA7", "#4ECDC4", "#45B7D1", "#FF6B6B", "#96CEB4", "#DDA0DD"};
+    private static final String[] GROUP_ICONS = {"1f4bb", "1f4da", "1f528", "1f3af", "1f4c8", "1f3a8"};
+    private static final String[] TITLE_VERBS = {"Revisar", "Implementar", "Planejar", "Estudar", "Corrigir", "Documentar", "Testar", "Organizar"};
+    private static final String[] TITLE_SUBJECTS = {"relatório", "módulo de pagamentos", "capítulo", "apresentação", "orçamento", "curso", "backlog", "roteiro"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cria o gerador para o banco informado.
+     *
+     * @param dataSource banco onde os dados serão inseridos
+     */
+    public SyntheticWorkloadGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Quantidades inseridas por uma geração.
+     *
+     * @param boardGroups grupos criados
+     * @param boards quadros criados
+     * @param columns colunas criadas
+     * @param cards cards criados
+     * @param checklistItems itens de checklist criados
+     * @param calendarEvents eventos de calendário criados
+     * @param elapsed tempo total da geração
+     */
+    public record WorkloadSummary(int boardGroups, int boards, int columns, int cards,
+                                  int checklistItems, int calendarEvents, Duration elapsed) {
+    }
+
+    /**
+     * Gera a carga descrita pelo perfil.
+     *
+     * <p>O banco precisa ter o schema da aplicação ({@code schema.sql}).</p>
+     *
+     * @param profile tamanho e distribuições da carga
+     * @return quantidades inseridas
+     */
+    public WorkloadSummary generate(WorkloadProfile profile) {
+        long start = System.nanoTime();
+        // Os repositórios criam colunas e tabelas que não estão no schema.sql (ex.: checklist_items)
+        new CardRepository(dataSource);
+        new CheckListItemRepository(dataSource);
+
+        LocalDateTime reference = profile.getReferenceDate().atTime(9, 0);
+        List<Long> cardTypeIds = jdbcTemplate.queryForList("SELECT id FROM card_types ORDER BY id", Long.class);
+
+        List<Long> groupIds = insertGroups(profile, reference);
+        List<Long> boardIds = insertBoards(profile, reference, groupIds);
+        List<Long> columnIds = insertColumns(boardIds);
+        long lastCardId = maxId("cards");
+        int cards = insertCards(profile, reference, boardIds.size(), columnIds, cardTypeIds);
+        int[] children = insertCardChildren(profile, lastCardId);
+
+        WorkloadSummary summary = new WorkloadSummary(groupIds.size(), boardIds.size(), columnIds.size(), cards,
+                children[0], children[1], Duration.ofNanos(System.nanoTime() - start));
+        log.info("Carga sintética gerada (semente {}): {}", profile.getSeed(), summary);
+        return summary;
+    }
+
+    private List<Long> insertGroups(WorkloadProfile profile, LocalDateTime reference) {
+        long lastId = maxId("board_groups");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < profile.getBoardGroups(); i++) {
+            rows.add(new Object[]{"Grupo " + (i + 1), "Grupo sintético " + (i + 1),
+                    GROUP_COLORS[i % GROUP_COLORS.length], GROUP_ICONS[i % GROUP_ICONS.length],
+                    Timestamp.valueOf(reference.minusDays(profile.getDateWindowDays()))});
+        }
+        batchInsert("INSERT INTO board_groups (name, description, color, icon, creation_date) VALUES (?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM board_groups WHERE id > ? ORDER BY id", Long.class, lastId);
+    }
+
+    private List<Long> insertBoards(WorkloadProfile profile, LocalDateTime reference, List<Long> groupIds) {
+        SplittableRandom random = phaseRandom(profile, 1);
+        long lastId = maxId("boards");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < profile.getBoards(); i++) {
+            Long groupId = groupIds.isEmpty() || random.nextDouble() < profile.getUngroupedBoardRatio()
+                    ? null
+                    : groupIds.get(random.nextInt(groupIds.size()));
+            LocalDateTime created = reference.minusDays(random.nextInt(profile.getDateWindowDays() + 1));
+            rows.add(new Object[]{"Quadro " + (i + 1), Timestamp.valueOf(created), groupId});
+        }
+        batchInsert("INSERT INTO boards (name, creation_date, group_id) VALUES (?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM boards WHERE id > ? ORDER BY id", Long.class, lastId);
+    }
+
+    /**
+     * @return IDs das colunas na ordem quadro a quadro (inicial, em andamento, final)
+     */
+    private List<Long> insertColumns(List<Long> boardIds) {
+        long lastId = maxId("board_columns");
+        List<Object[]> rows = new ArrayList<>();
+        for (Long boardId : boardIds) {
+            for (int c = 0; c < COLUMN_NAMES.length; c++) {
+                rows.add(new Object[]{COLUMN_NAMES[c], c + 1, COLUMN_KINDS[c], boardId});
+            }
+        }
+        batchInsert("INSERT INTO board_columns (name, order_index, kind, board_id) VALUES (?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM board_columns WHERE id > ? ORDER BY board_id, order_index",
+                Long.class, lastId);
+    }
+
+    private int insertCards(WorkloadProfile profile, LocalDateTime reference, int boards,
+                            List<Long> columnIds, List<Long> cardTypeIds) {
+        if (boards == 0) {
+            return 0;
+        }
+        int[] cardsPerBoard = distributeCards(profile, boards);
+        SplittableRandom random = phaseRandom(profile, 3);
+        int window = profile.getDateWindowDays();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int number = 0;
+        for (int board = 0; board < boards; board++) {
+            int[] nextOrder = new int[COLUMN_KINDS.length];
+            for (int i = 0; i < cardsPerBoard[board]; i++) {
+                number++;
+                double kindDraw = random.nextDouble();
+                int kind = kindDraw < profile.getInitialColumnRatio() ? 0
+                        : kindDraw < profile.getInitialColumnRatio() + profile.getPendingColumnRatio() ? 1 : 2;
+                int orderIndex = ++nextOrder[kind] * CardService.ORDER_GAP;
+
+                LocalDateTime created = reference.minusDays(random.nextInt(window + 1)).plusMinutes(random.nextInt(480));
+                LocalDateTime updated = created.plusHours(random.nextInt(72));
+                LocalDateTime completed = kind == 2 ? updated : null;
+                LocalDateTime scheduled = random.nextDouble() < profile.getScheduledRatio()
+                        ? reference.plusDays(random.nextInt(-window / 2, window / 2 + 1)).withHour(8 + random.nextInt(10))
+                        : null;
+                LocalDateTime due = null;
+                if (random.nextDouble() < profile.getDueRatio()) {
+                    due = scheduled != null
+                            ? scheduled.plusDays(random.nextInt(15))
+                            : reference.plusDays(random.nextInt(-window / 2, window / 2 + 1)).withHour(18);
+                }
+                boolean checklist = random.nextDouble() < profile.getChecklistRatio();
+                Long cardTypeId = cardTypeIds.isEmpty() ? null : cardTypeIds.get(random.nextInt(cardTypeIds.size()));
+
+                rows.add(new Object[]{title(random, number), "Card sintético " + number, cardTypeId,
+                        (checklist ? ProgressType.CHECKLIST : ProgressType.PERCENTAGE).name(),
+                        Timestamp.valueOf(created), Timestamp.valueOf(updated), timestamp(completed),
+                        timestamp(scheduled), timestamp(due), columnIds.get(board * COLUMN_KINDS.length + kind),
+                        orderIndex});
+                if (rows.size() == BATCH_SIZE) {
+                    insertCardRows(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertCardRows(rows);
+        return number;
+    }
+
+    /**
+     * Distribui os cards entre os quadros conforme pesos log-normais, sorteando
+     * o quadro de cada card para que a soma seja exatamente a do perfil.
+     */
+    private int[] distributeCards(WorkloadProfile profile, int boards) {
+        SplittableRandom random = phaseRandom(profile, 2);
+        double[] cumulative = new double[boards];
+        double total = 0;
+        for (int i = 0; i < boards; i++) {
+            total += Math.exp(profile.getBoardSizeSkew() * random.nextGaussian());
+            cumulative[i] = total;
+        }
+        int[] counts = new int[boards];
+        for (int i = 0; i < profile.getCards(); i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            counts[Math.min(index < 0 ? -index - 1 : index, boards - 1)]++;
+        }
+        return counts;
+    }
+
+    private void insertCardRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO cards (title, description, card_type_id, progress_type, creation_date, last_update_date,
+                                   completion_date, scheduled_date, due_date, board_column_id, order_index)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    /**
+     * Percorre os cards gerados em ordem de ID, em páginas, criando os itens de
+     * checklist dos cards com progresso por checklist e os eventos de calendário
+     * de parte dos cards agendados.
+     *
+     * @return quantidade de itens de checklist e de eventos criados
+     */
+    private int[] insertCardChildren(WorkloadProfile profile, long lastCardId) {
+        SplittableRandom random = phaseRandom(profile, 4);
+        List<Object[]> items = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> events = new ArrayList<>(BATCH_SIZE);
+        int itemCount = 0;
+        int eventCount = 0;
+        long cursor = lastCardId;
+        while (true) {
+            List<GeneratedCard> page = jdbcTemplate.query("""
+                    SELECT id, title, progress_type, creation_date, completion_date, scheduled_date, due_date
+                    FROM cards WHERE id > ? ORDER BY id LIMIT ?
+                    """, (rs, rowNum) -> new GeneratedCard(rs.getLong("id"), rs.getString("title"),
+                    rs.getString("progress_type"), rs.getTimestamp("creation_date").toLocalDateTime(),
+                    toLocalDateTime(rs.getTimestamp("completion_date")), toLocalDateTime(rs.getTimestamp("scheduled_date")),
+                    toLocalDateTime(rs.getTimestamp("due_date"))), cursor, BATCH_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (GeneratedCard card : page) {
+                if (ProgressType.CHECKLIST.name().equals(card.progressType())) {
+                    int size = 1 + random.nextInt(Math.max(1, profile.getMaxChecklistItems()));
+                    for (int i = 0; i < size; i++) {
+                        boolean done = card.completed() != null || random.nextDouble() < 0.4;
+                        LocalDateTime completedAt = done ? card.created().plusHours(1 + random.nextInt(48)) : null;
+                        items.add(new Object[]{card.id(), "Item " + (i + 1) + " de " + card.title(), done, i,
+                                Timestamp.valueOf(card.created()), timestamp(completedAt)});
+                    }
+                }
+                if (card.scheduled() != null && random.nextDouble() < profile.getCalendarEventRatio()) {
+                    events.add(new Object[]{card.title(), "Evento do card " + card.id(),
+                            Timestamp.valueOf(card.scheduled()), Timestamp.valueOf(card.scheduled().plusHours(1)),
+                            CalendarEventType.CARD.name(), priority(card, profile).name(), card.id(),
+                            Timestamp.valueOf(card.created()), Timestamp.valueOf(card.created())});
+                }
+            }
+            if (items.size() >= BATCH_SIZE) {
+                itemCount += insertChecklistItems(items);
+            }
+            if (events.size() >= BATCH_SIZE) {
+                eventCount += insertCalendarEvents(events);
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+        itemCount += insertChecklistItems(items);
+        eventCount += insertCalendarEvents(events);
+        return new int[]{itemCount, eventCount};
+    }
+
+    private int insertChecklistItems(List<Object[]> rows) {
+        int count = rows.size();
+        batchInsert("""
+                INSERT INTO checklist_items (card_id, text, completed, order_index, created_at, completed_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+        rows.clear();
+        return count;
+    }
+
+    private int insertCalendarEvents(List<Object[]> rows) {
+        int count = rows.size();
+        batchInsert("""
+                INSERT INTO calendar_events (title, description, start_date_time, end_date_time, all_day, event_type,
+                                             priority, related_entity_id, related_entity_type, active, created_at, updated_at)
+                VALUES (?, ?, ?, ?, FALSE, ?, ?, ?, 'CARD', TRUE, ?, ?)
+                """, rows);
+        rows.clear();
+        return count;
+    }
+
+    /**
+     * Prioridade do evento pela distância entre o agendamento e o vencimento.
+     */
+    private static CalendarEventPriority priority(GeneratedCard card, WorkloadProfile profile) {
+        if (card.due() == null || card.completed() != null) {
+            return CalendarEventPriority.LOW;
+        }
+        long days = ChronoUnit.DAYS.between(profile.getReferenceDate().atStartOfDay(), card.due());
+        if (days <= 1) {
+            return CalendarEventPriority.URGENT;
+        }
+        return days <= 7 ? CalendarEventPriority.HIGH : CalendarEventPriority.STANDARD;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * Retorna o maior ID da tabela e reinicia a identidade logo após ele.
+     *
+     * <p>O {@code schema.sql} insere os dados de exemplo com IDs fixos, o que no
+     * H2 não avança a identidade; sem o reinício, o primeiro lote colidiria com
+     * esses IDs.</p>
+     */
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        long lastId = max != null ? max : 0L;
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+        return lastId;
+    }
+
+    private static SplittableRandom phaseRandom(WorkloadProfile profile, int phase) {
+        return new SplittableRandom(profile.getSeed() * 31 + phase);
+    }
+
+    private static String title(SplittableRandom random, int number) {
+        return TITLE_VERBS[random.nextInt(TITLE_VERBS.length)] + " "
+                + TITLE_SUBJECTS[random.nextInt(TITLE_SUBJECTS.length)] + " #" + number;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    /**
+     * Card recém-gerado, lido de volta para criar checklist e eventos.
+     */
+    private record GeneratedCard(long id, String title, String progressType, LocalDateTime created,
+                                 LocalDateTime completed, LocalDateTime scheduled, LocalDateTime due) {
+    }
+}
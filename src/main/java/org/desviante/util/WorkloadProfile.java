@@ -0,0 +1,149 @@
+package org.desviante.util;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Parâmetros de uma carga sintética gerada pelo {@link SyntheticWorkloadGenerator}.
+ *
+ * <p>Define o tamanho da base (grupos, quadros e cards) e as distribuições
+ * usadas para preencher os cards: proporção por tipo de coluna, datas de
+ * agendamento e vencimento, itens de checklist e eventos de calendário. A
+ * mesma semente sempre produz a mesma base.</p>
+ *
+ * <p>Os perfis {@link #small()}, {@link #medium()} e {@link #large()} servem de
+ * ponto de partida; qualquer campo pode ser ajustado com {@link #toBuilder()}:</p>
+ * <pre>{@code
+ * WorkloadProfile profile = WorkloadProfile.large().toBuilder()
+ *     .seed(7L)
+ *     .scheduledRatio(0.6)
+ *     .build();
+ * }</pre>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see SyntheticWorkloadGenerator
+ */
+@Value
+@Builder(toBuilder = true)
+public class WorkloadProfile {
+
+    /** Semente do gerador pseudoaleatório. */
+    @Builder.Default
+    long seed = 42L;
+
+    /** Quantidade de grupos de quadros. */
+    @Builder.Default
+    int boardGroups = 10;
+
+    /** Quantidade de quadros, cada um com as três colunas padrão. */
+    @Builder.Default
+    int boards = 50;
+
+    /** Quantidade total de cards. */
+    @Builder.Default
+    int cards = 5_000;
+
+    /** Fração dos quadros que fica sem grupo. */
+    @Builder.Default
+    double ungroupedBoardRatio = 0.1;
+
+    /**
+     * Assimetria do tamanho dos quadros: desvio da distribuição log-normal dos
+     * pesos de cada quadro. Com 0 os cards são divididos igualmente; com valores
+     * maiores, poucos quadros concentram a maior parte dos cards.
+     */
+    @Builder.Default
+    double boardSizeSkew = 1.0;
+
+    /** Fração dos cards na coluna inicial. */
+    @Builder.Default
+    double initialColumnRatio = 0.4;
+
+    /** Fração dos cards na coluna em andamento; o restante fica na coluna final. */
+    @Builder.Default
+    double pendingColumnRatio = 0.2;
+
+    /** Fração dos cards com data de agendamento. */
+    @Builder.Default
+    double scheduledRatio = 0.3;
+
+    /** Fração dos cards com data de vencimento. */
+    @Builder.Default
+    double dueRatio = 0.25;
+
+    /** Fração dos cards com checklist. */
+    @Builder.Default
+    double checklistRatio = 0.2;
+
+    /** Quantidade máxima de itens por checklist. */
+    @Builder.Default
+    int maxChecklistItems = 8;
+
+    /** Fração dos cards agendados que também têm evento no calendário. */
+    @Builder.Default
+    double calendarEventRatio = 0.8;
+
+    /** Data de referência ("hoje") em torno da qual as datas são distribuídas. */
+    @Builder.Default
+    LocalDate referenceDate = LocalDate.of(2025, 6, 1);
+
+    /** Janela, em dias, antes e depois da data de referência. */
+    @Builder.Default
+    int dateWindowDays = 180;
+
+    /**
+     * Perfil pequeno: 10 grupos, 50 quadros e 5.000 cards.
+     *
+     * @return perfil pequeno
+     */
+    public static WorkloadProfile small() {
+        return WorkloadProfile.builder().build();
+    }
+
+    /**
+     * Perfil médio: 100 grupos, 1.000 quadros e 100.000 cards.
+     *
+     * @return perfil médio
+     */
+    public static WorkloadProfile medium() {
+        return WorkloadProfile.builder()
+                .boardGroups(100)
+                .boards(1_000)
+                .cards(100_000)
+                .build();
+    }
+
+    /**
+     * Perfil grande: 300 grupos, 5.000 quadros e 500.000 cards.
+     *
+     * @return perfil grande
+     */
+    public static WorkloadProfile large() {
+        return WorkloadProfile.builder()
+                .boardGroups(300)
+                .boards(5_000)
+                .cards(500_000)
+                .build();
+    }
+
+    /**
+     * Retorna o perfil pelo nome ({@code small}, {@code medium} ou {@code large}).
+     *
+     * @param name nome do perfil, sem diferenciar maiúsculas
+     * @return perfil correspondente
+     * @throws IllegalArgumentException se o nome não for conhecido
+     */
+    public static WorkloadProfile named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "small" -> small();
+            case "medium" -> medium();
+            case "large" -> large();
+            default -> throw new IllegalArgumentException("Perfil de carga desconhecido: " + name);
+        };
+    }
+}
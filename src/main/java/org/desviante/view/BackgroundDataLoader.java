@@ -0,0 +1,132 @@
+package org.desviante.view;
+
+import javafx.concurrent.Task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Executa chamadas à fachada fora da thread do JavaFX.
+ *
+ * <p>O trabalho (consultas e gravações no banco) roda em uma única thread de
+ * segundo plano, na ordem em que foi solicitado, de modo que uma leitura
+ * enviada depois de uma gravação sempre enxerga a gravação. Os resultados
+ * são aplicados na thread do JavaFX pelos callbacks informados.</p>
+ *
+ * <p>Cargas identificadas por uma chave são agrupadas: uma nova carga com a
+ * mesma chave cancela a anterior, que deixa de ser executada se ainda estiver
+ * na fila ou tem seu resultado descartado se já estiver em execução. Assim,
+ * mudanças rápidas de filtro resultam em uma única atualização da tela.</p>
+ *
+ * <p>Os métodos desta classe devem ser chamados na thread do JavaFX.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ */
+public class BackgroundDataLoader {
+
+    private final ExecutorService executor;
+
+    // Carga mais recente de cada chave (acessado apenas na thread do JavaFX)
+    private final Map<String, Task<?>> latestByKey = new HashMap<>();
+
+    /**
+     * Cria o carregador com uma thread de segundo plano dedicada.
+     *
+     * @param threadName nome da thread, para identificação em logs e dumps
+     */
+    public BackgroundDataLoader(String threadName) {
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Agenda uma carga identificada por chave, cancelando a anterior de mesma chave.
+     *
+     * @param key chave que identifica o tipo de carga (ex.: "boards", "kanban")
+     * @param work trabalho executado em segundo plano
+     * @param onSuccess aplica o resultado na thread do JavaFX
+     * @param onFailure trata a falha na thread do JavaFX
+     * @param <T> tipo do resultado
+     * @return tarefa agendada
+     */
+    public <T> Task<T> load(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        cancel(key);
+        Task<T> task = createTask(key, work, onSuccess, onFailure);
+        latestByKey.put(key, task);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Agenda um trabalho que não deve ser agrupado com outros (ex.: gravações).
+     *
+     * @param work trabalho executado em segundo plano
+     * @param onSuccess aplica o resultado na thread do JavaFX
+     * @param onFailure trata a falha na thread do JavaFX
+     * @param <T> tipo do resultado
+     * @return tarefa agendada
+     */
+    public <T> Task<T> run(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<T> task = createTask(null, work, onSuccess, onFailure);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Cancela a carga pendente de uma chave, se houver.
+     * O resultado de uma carga cancelada nunca é aplicado.
+     *
+     * @param key chave da carga
+     */
+    public void cancel(String key) {
+        Task<?> previous = latestByKey.remove(key);
+        if (previous != null) {
+            // Sem interromper: a consulta em andamento termina, mas o resultado é descartado
+            previous.cancel(false);
+        }
+    }
+
+    /**
+     * Indica se há uma carga pendente para a chave.
+     *
+     * @param key chave da carga
+     * @return true se a carga ainda não terminou
+     */
+    public boolean isLoading(String key) {
+        return latestByKey.containsKey(key);
+    }
+
+    private <T> Task<T> createTask(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(event -> {
+            finish(key, task);
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            finish(key, task);
+            onFailure.accept(task.getException());
+        });
+        task.setOnCancelled(event -> finish(key, task));
+        return task;
+    }
+
+    private void finish(String key, Task<?> task) {
+        if (key != null) {
+            latestByKey.remove(key, task);
+        }
+    }
+}
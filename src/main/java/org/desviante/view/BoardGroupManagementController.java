@@ -7,7 +7,6 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -16,6 +15,7 @@ import org.desviante.model.BoardGroup;
 import org.desviante.service.BoardGroupService;
 import org.desviante.service.dto.BoardGroupDTO;
 import org.desviante.service.dto.CreateBoardGroupRequestDTO;
+import org.desviante.util.IconManager;
 
 import java.net.URL;
 import java.time.format.DateTimeFormatter;
@@ -110,17 +110,11 @@ public class BoardGroupManagementController implements Initializable {
                 }
                 
                 try {
-                    // Tentar carregar o ícone
-                    String iconPath = "/icons/emoji/" + iconCode + ".png";
-                    URL iconUrl = getClass().getResource(iconPath);
-                    
-                    if (iconUrl != null) {
-                        Image iconImage = new Image(iconUrl.toExternalForm());
-                        iconView.setImage(iconImage);
+                    // Tentar carregar o ícone (imagem compartilhada pelo IconManager)
+                    if (IconManager.showIcon(iconView, iconCode)) {
                         codeLabel.setText(""); // Não mostrar o código se o ícone foi carregado
                     } else {
                         // Se não encontrar o ícone, mostrar apenas o código
-                        iconView.setImage(null);
                         codeLabel.setText(iconCode);
                     }
                     
@@ -371,18 +365,12 @@ public class BoardGroupManagementController implements Initializable {
         }
         
         try {
-            // Tentar carregar o ícone
-            String iconPath = "/icons/emoji/" + iconCode + ".png";
-            URL iconUrl = getClass().getResource(iconPath);
-            
-            if (iconUrl != null) {
-                Image iconImage = new Image(iconUrl.toExternalForm());
-                iconPreview.setImage(iconImage);
+            // Tentar carregar o ícone (imagem compartilhada pelo IconManager)
+            if (IconManager.showIcon(iconPreview, iconCode)) {
                 iconLabel.setText(""); // Sem texto quando o ícone é carregado com sucesso
                 iconLabel.setStyle("-fx-font-size: 12px;");
             } else {
                 // Se não encontrar o ícone, mostrar apenas o código
-                iconPreview.setImage(null);
                 iconLabel.setText("Código: " + iconCode);
                 iconLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: orange;");
             }
@@ -10,33 +10,43 @@ import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
 
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.application.Platform;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import org.desviante.model.BoardGroup;
 import org.desviante.service.TaskManagerFacade;
+import org.desviante.service.dto.BoardChecklistDTO;
 import org.desviante.service.dto.BoardColumnDetailDTO;
 import org.desviante.service.dto.BoardDetailDTO;
 import org.desviante.service.dto.BoardSummaryDTO;
 import org.desviante.service.dto.CardDetailDTO;
+import org.desviante.service.dto.ChecklistItemDTO;
 import org.desviante.service.dto.UpdateCardDetailsDTO;
+import org.desviante.view.component.CardNodePool;
 import org.desviante.view.component.CardViewController;
 import org.desviante.view.component.ColumnViewController;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import java.awt.Desktop;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Objects;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.desviante.util.IconManager;
 import org.desviante.util.WindowManager;
 import org.desviante.view.PreferencesController;
 import org.springframework.context.event.EventListener;
@@ -135,6 +145,44 @@ public class BoardViewController {
     // Mapa para rastrear o nó visual de cada card pelo seu ID.
     private final Map<Long, Node> cardNodeMap = new HashMap<>();
 
+    // Mapa para rastrear o nó visual de cada coluna pelo seu ID.
+    private final Map<Long, Parent> columnNodeMap = new HashMap<>();
+
+    // Nós de card reutilizáveis, para não carregar o FXML a cada atualização.
+    private final CardNodePool cardNodePool = new CardNodePool();
+
+    // Nós das células das colunas virtualizadas, registrados no mesmo mapa dos demais cards.
+    private final ColumnViewController.CardNodeSource virtualizedCardNodes = new ColumnViewController.CardNodeSource() {
+        @Override
+        public Parent acquire(Long cardId) {
+            // Um nó do card fora de qualquer coluna ou célula (ex.: em edição) é reaproveitado
+            if (cardNodeMap.get(cardId) instanceof Parent registered && registered.getParent() == null) {
+                return registered;
+            }
+            Parent cardNode = cardNodePool.acquire();
+            Node previous = cardNodeMap.put(cardId, cardNode);
+            if (previous != null && previous.getParent() == null) {
+                cardNodePool.release(previous);
+            }
+            return cardNode;
+        }
+
+        @Override
+        public void release(Long cardId, Parent cardNode) {
+            cardNodeMap.remove(cardId, cardNode);
+            cardNodePool.release(cardNode);
+        }
+    };
+
+    // Board atualmente desenhado no Kanban (null quando vazio).
+    private Long renderedBoardId;
+
+    // Chamadas à fachada executadas fora da thread do JavaFX.
+    private final BackgroundDataLoader dataLoader = new BackgroundDataLoader("BoardView-Loader");
+
+    // Indica que a tabela de boards está sendo atualizada pelo código, e não pelo usuário.
+    private boolean updatingBoardsTable;
+
     // Classe especial para representar a opção "Sem Grupo"
     private static class NoGroupOption {
         public static final NoGroupOption INSTANCE = new NoGroupOption();
@@ -367,11 +415,14 @@ public class BoardViewController {
 
         boardsTableView.getSelectionModel().selectedItemProperty().addListener(
                 (observable, oldValue, newValue) -> {
+                    if (updatingBoardsTable) {
+                        // Troca de itens feita pelo código: o Kanban é tratado por quem atualizou a tabela
+                        return;
+                    }
                     if (newValue != null) {
                         loadKanbanViewForBoard(newValue.id());
                     } else {
-                        kanbanContainer.getChildren().clear();
-                        cardNodeMap.clear();
+                        clearKanbanView();
                     }
                 }
         );
@@ -479,17 +530,16 @@ public class BoardViewController {
     }
 
     private void loadBoardGroups() {
-        try {
-            List<BoardGroup> groups = facade.getAllBoardGroups();
+        dataLoader.load("groups", facade::getAllBoardGroups, groups -> {
             groupFilterComboBox.getItems().clear();
             groupFilterComboBox.getItems().add(null); // Opção "Todos os Grupos"
             groupFilterComboBox.getItems().add(NoGroupOption.INSTANCE); // Opção "Sem Grupo"
             groupFilterComboBox.getItems().addAll(groups);
             groupFilterComboBox.setValue(null); // Selecionar "Todos os Grupos" por padrão
-        } catch (Exception e) {
+        }, e -> {
             e.printStackTrace();
             showError("Erro ao Carregar Grupos", "Não foi possível carregar os grupos de boards: " + e.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -518,97 +568,249 @@ public class BoardViewController {
         }
     }
 
+    /**
+     * Carrega os boards com os filtros informados em segundo plano.
+     * 
+     * <p>Mudanças rápidas de filtro são agrupadas: apenas o resultado da
+     * última chamada é aplicado à tabela.</p>
+     * 
+     * @param selectedGroup grupo selecionado (null para todos)
+     * @param selectedStatus status selecionado (null para todos)
+     */
     private void loadBoardsWithFilters(Object selectedGroup, String selectedStatus) {
-        try {
-            List<BoardSummaryDTO> boards;
-            
-            // Primeiro, filtrar por grupo
-            if (selectedGroup == null) {
-                // Carregar todos os boards
-                boards = facade.getAllBoardSummaries();
-            } else if (selectedGroup instanceof NoGroupOption) {
-                // Carregar boards sem grupo
-                boards = facade.getBoardsWithoutGroup();
-            } else if (selectedGroup instanceof BoardGroup) {
-                // Carregar boards do grupo selecionado
-                boards = facade.getBoardsByGroup(((BoardGroup) selectedGroup).getId());
+        if (boardsTableView.getItems().isEmpty()) {
+            boardsTableView.setPlaceholder(new Label("Carregando boards..."));
+        }
+        dataLoader.load("boards", () -> fetchBoards(selectedGroup, selectedStatus), this::applyBoards, e -> {
+            e.printStackTrace();
+            boardsTableView.setPlaceholder(null);
+            showError("Erro ao Filtrar Boards", "Não foi possível filtrar os boards: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Consulta os boards e aplica os filtros. Executado em segundo plano.
+     */
+    private List<BoardSummaryDTO> fetchBoards(Object selectedGroup, String selectedStatus) {
+        List<BoardSummaryDTO> boards;
+        
+        // Primeiro, filtrar por grupo
+        if (selectedGroup == null) {
+            // Carregar todos os boards
+            boards = facade.getAllBoardSummaries();
+        } else if (selectedGroup instanceof NoGroupOption) {
+            // Carregar boards sem grupo
+            boards = facade.getBoardsWithoutGroup();
+        } else if (selectedGroup instanceof BoardGroup) {
+            // Carregar boards do grupo selecionado
+            boards = facade.getBoardsByGroup(((BoardGroup) selectedGroup).getId());
+        } else {
+            // Fallback: carregar todos os boards
+            boards = facade.getAllBoardSummaries();
+        }
+        
+        // Depois, filtrar por status
+        if (selectedStatus != null) {
+            if ("Não concluídos".equals(selectedStatus)) {
+                // Filtro especial: mostrar todos os boards que NÃO estão concluídos
+                boards = boards.stream()
+                    .filter(board -> !"Concluído".equals(board.status()))
+                    .toList();
             } else {
-                // Fallback: carregar todos os boards
-                boards = facade.getAllBoardSummaries();
+                // Filtro normal: comparação direta com o status
+                boards = boards.stream()
+                    .filter(board -> selectedStatus.equals(board.status()))
+                    .toList();
             }
-            
-            // Depois, filtrar por status
-            if (selectedStatus != null) {
-                if ("Não concluídos".equals(selectedStatus)) {
-                    // Filtro especial: mostrar todos os boards que NÃO estão concluídos
-                    boards = boards.stream()
-                        .filter(board -> !"Concluído".equals(board.status()))
-                        .toList();
-                } else {
-                    // Filtro normal: comparação direta com o status
-                    boards = boards.stream()
-                        .filter(board -> selectedStatus.equals(board.status()))
-                        .toList();
+        }
+        return boards;
+    }
+
+    /**
+     * Exibe os boards carregados, mantendo selecionado o board que já estava
+     * selecionado (se ele continuar na lista) para não redesenhar o Kanban.
+     */
+    private void applyBoards(List<BoardSummaryDTO> boards) {
+        BoardSummaryDTO previousSelection = boardsTableView.getSelectionModel().getSelectedItem();
+        updatingBoardsTable = true;
+        try {
+            boardsTableView.setPlaceholder(null);
+            boardsTableView.getItems().setAll(boards);
+            if (previousSelection != null) {
+                for (int i = 0; i < boards.size(); i++) {
+                    if (boards.get(i).id().equals(previousSelection.id())) {
+                        boardsTableView.getSelectionModel().select(i);
+                        break;
+                    }
                 }
             }
-            
-            boardsTableView.getItems().clear();
-            boardsTableView.getItems().addAll(boards);
-            
-            // Limpar o Kanban se não houver board selecionado
-            if (boards.isEmpty()) {
-                kanbanContainer.getChildren().clear();
-                cardNodeMap.clear();
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            showError("Erro ao Filtrar Boards", "Não foi possível filtrar os boards: " + e.getMessage());
+        } finally {
+            updatingBoardsTable = false;
+        }
+        
+        // Limpar o Kanban se o board exibido saiu da lista
+        if (boardsTableView.getSelectionModel().getSelectedItem() == null) {
+            clearKanbanView();
         }
     }
 
+    /**
+     * Carrega o Kanban de um board, atualizando apenas o que mudou.
+     * 
+     * <p>Quando o board já está desenhado, colunas e cards existentes são
+     * mantidos: cards cujos dados não mudaram não são tocados, cards alterados
+     * recebem os novos dados e apenas cards novos recebem um nó, obtido do
+     * {@link CardNodePool}. Cards que saíram do board voltam ao pool.</p>
+     * 
+     * @param boardId ID do board a ser exibido
+     */
     private void loadKanbanViewForBoard(Long boardId) {
-        kanbanContainer.getChildren().clear();
-        cardNodeMap.clear();
         System.out.println("Carregando visão Kanban para o Board ID: " + boardId);
+        if (!boardId.equals(renderedBoardId)) {
+            clearKanbanView();
+            showKanbanPlaceholder();
+        }
 
-        try {
-            BoardDetailDTO boardDetails = facade.getBoardDetails(boardId);
+        // A consulta roda em segundo plano; apenas o resultado da última carga é desenhado
+        dataLoader.load("kanban", () -> new KanbanSnapshot(
+                facade.getBoardDetails(boardId),
+                facade.getBoardChecklists(boardId)
+        ), snapshot -> {
+            try {
+                renderKanban(snapshot.board(), snapshot.checklists());
+                renderedBoardId = boardId;
+            } catch (IOException | UncheckedIOException e) {
+                e.printStackTrace();
+                clearKanbanView();
+                showError("Erro de UI", "Falha ao carregar a visão Kanban: " + e.getMessage());
+            }
+        }, e -> {
+            e.printStackTrace();
+            clearKanbanView();
+            showError("Erro ao Carregar Board", "Não foi possível carregar o board: " + e.getMessage());
+        });
+    }
 
-            for (BoardColumnDetailDTO columnData : boardDetails.columns()) {
-                FXMLLoader columnLoader = new FXMLLoader(getClass().getResource("/view/column-view.fxml"));
-                Parent columnNode = columnLoader.load();
-                ColumnViewController columnController = columnLoader.getController();
-                columnNode.setUserData(columnController);
-
-                columnController.setData(
-                        this.facade,
-                        columnData,
-                        this::handleCardDrop,
-                        this::updateSelectedBoardSummary,
-                        this::handleCardUpdate
-                );
+    /**
+     * Exibe um indicador de carregamento enquanto o board é consultado.
+     */
+    private void showKanbanPlaceholder() {
+        ProgressIndicator indicator = new ProgressIndicator();
+        indicator.setMaxSize(40, 40);
+        VBox placeholder = new VBox(10, indicator, new Label("Carregando board..."));
+        placeholder.setAlignment(Pos.CENTER);
+        HBox.setHgrow(placeholder, javafx.scene.layout.Priority.ALWAYS);
+        kanbanContainer.getChildren().setAll(placeholder);
+    }
 
+    /**
+     * Aplica os dados do board aos nós já exibidos, criando ou descartando
+     * apenas os nós de colunas e cards que entraram ou saíram.
+     * 
+     * @param boardDetails dados atuais do board
+     * @param checklists itens de checklist de todos os cards do board
+     * @throws IOException se o FXML de uma nova coluna não puder ser carregado
+     */
+    private void renderKanban(BoardDetailDTO boardDetails, BoardChecklistDTO checklists) throws IOException {
+        Set<Long> visibleColumnIds = new HashSet<>();
+        Set<Long> visibleCardIds = new HashSet<>();
+        List<Node> columnNodes = new ArrayList<>(boardDetails.columns().size());
+        int createdCards = 0;
+        int updatedCards = 0;
+
+        for (BoardColumnDetailDTO columnData : boardDetails.columns()) {
+            Parent columnNode = columnNodeMap.get(columnData.id());
+            if (columnNode == null) {
+                FXMLLoader columnLoader = new FXMLLoader(getClass().getResource("/view/column-view.fxml"));
+                columnNode = columnLoader.load();
+                columnNode.setUserData(columnLoader.getController());
+                columnNodeMap.put(columnData.id(), columnNode);
+            }
+            ColumnViewController columnController = (ColumnViewController) columnNode.getUserData();
+            columnController.setData(
+                    this.facade,
+                    columnData,
+                    this::handleCardDrop,
+                    this::updateSelectedBoardSummary,
+                    this::handleCardUpdate
+            );
+
+            visibleColumnIds.add(columnData.id());
+            columnNodes.add(columnNode);
+
+            // Colunas muito grandes só materializam os cards visíveis; as células
+            // registram seus nós em cardNodeMap e os devolvem ao pool ao trocar de card
+            if (columnData.cards().size() > ColumnViewController.VIRTUALIZATION_THRESHOLD) {
+                Map<Long, List<ChecklistItemDTO>> columnChecklists = new HashMap<>();
                 for (CardDetailDTO cardData : columnData.cards()) {
-                    FXMLLoader cardLoader = new FXMLLoader(getClass().getResource("/view/card-view.fxml"));
-                    Parent cardNode = cardLoader.load();
-                    CardViewController cardController = cardLoader.getController();
-                    cardNode.setUserData(cardController);
+                    columnChecklists.put(cardData.id(), checklists.itemsFor(cardData.id()));
+                    visibleCardIds.add(cardData.id());
+                }
+                columnController.setVirtualizedCards(columnData.cards(), virtualizedCardNodes, columnChecklists);
+                continue;
+            }
 
+            List<Node> cardNodes = new ArrayList<>(columnData.cards().size());
+            for (CardDetailDTO cardData : columnData.cards()) {
+                Node cardNode = cardNodeMap.get(cardData.id());
+                if (cardNode == null) {
+                    cardNode = cardNodePool.acquire();
+                    CardViewController cardController = (CardViewController) cardNode.getUserData();
+                    cardController.setPrefetchedChecklistItems(checklists.itemsFor(cardData.id()));
                     cardController.setData(
                             this.facade,
                             cardData,
                             this::handleCardUpdate
                     );
-
                     cardNodeMap.put(cardData.id(), cardNode);
-                    columnController.addCard(cardNode);
+                    createdCards++;
+                } else {
+                    CardViewController cardController = (CardViewController) cardNode.getUserData();
+                    if (!cardData.equals(cardController.getCardData())) {
+                        cardController.setPrefetchedChecklistItems(checklists.itemsFor(cardData.id()));
+                        cardController.updateDisplayData(cardData);
+                        updatedCards++;
+                    }
                 }
-                kanbanContainer.getChildren().add(columnNode);
+                visibleCardIds.add(cardData.id());
+                cardNodes.add(cardNode);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-            showError("Erro de UI", "Falha ao carregar a visão Kanban: " + e.getMessage());
+            columnController.setCards(cardNodes);
+        }
+
+        // Devolver ao pool os cards que não estão mais no board
+        int removedCards = 0;
+        Iterator<Map.Entry<Long, Node>> cardEntries = cardNodeMap.entrySet().iterator();
+        while (cardEntries.hasNext()) {
+            Map.Entry<Long, Node> entry = cardEntries.next();
+            if (!visibleCardIds.contains(entry.getKey())) {
+                cardNodePool.release(entry.getValue());
+                cardEntries.remove();
+                removedCards++;
+            }
+        }
+        columnNodeMap.keySet().retainAll(visibleColumnIds);
+
+        if (!kanbanContainer.getChildren().equals(columnNodes)) {
+            kanbanContainer.getChildren().setAll(columnNodes);
         }
+
+        log.debug("Kanban atualizado: {} cards novos, {} atualizados, {} removidos (nós criados pelo pool: {})",
+                createdCards, updatedCards, removedCards, cardNodePool.getCreatedCount());
+    }
+
+    /**
+     * Limpa o Kanban, devolvendo os nós de card ao pool para reuso.
+     */
+    private void clearKanbanView() {
+        for (Node cardNode : cardNodeMap.values()) {
+            cardNodePool.release(cardNode);
+        }
+        cardNodeMap.clear();
+        columnNodeMap.clear();
+        kanbanContainer.getChildren().clear();
+        renderedBoardId = null;
+        dataLoader.cancel("kanban");
     }
 
     private void handleCardUpdate(Long cardId, UpdateCardDetailsDTO updatedDetails) {
@@ -627,60 +829,99 @@ public class BoardViewController {
             return;
         }
         
-        try {
+        dataLoader.run(() -> {
             facade.updateCardDetails(cardId, updatedDetails);
+            return null;
+        }, result -> {
             BoardSummaryDTO selectedBoard = boardsTableView.getSelectionModel().getSelectedItem();
             if (selectedBoard != null) {
                 loadKanbanViewForBoard(selectedBoard.id());
             }
-        } catch (Exception e) {
+        }, e -> {
             e.printStackTrace();
             showError("Erro ao Atualizar", "Não foi possível salvar as alterações do card: " + e.getMessage());
-        }
+        });
     }
 
-    private void handleCardDrop(Long cardId, Long targetColumnId) {
-        System.out.println("Tentando mover card " + cardId + " para a coluna " + targetColumnId);
-        try {
-            CardDetailDTO updatedCardDTO = facade.moveCard(cardId, targetColumnId);
-
-            Node cardNode = cardNodeMap.get(cardId);
-            if (cardNode != null) {
-                for (Node columnNode : kanbanContainer.getChildren()) {
-                    ColumnViewController controller = (ColumnViewController) columnNode.getUserData();
-                    if (controller != null && controller.getColumnId().equals(targetColumnId)) {
-                        controller.addCard(cardNode);
-                        break;
+    private void handleCardDrop(Long cardId, Long targetColumnId, Long beforeCardId) {
+        System.out.println("Tentando mover card " + cardId + " para a coluna " + targetColumnId
+                + (beforeCardId != null ? " antes do card " + beforeCardId : " (fim da coluna)"));
+        dataLoader.run(() -> facade.moveCardToPosition(cardId, targetColumnId, beforeCardId),
+                updatedCardDTO -> applyCardMove(cardId, targetColumnId, beforeCardId, updatedCardDTO),
+                e -> {
+                    e.printStackTrace();
+                    showError("Erro ao Mover", "Falha ao mover o card: " + e.getMessage());
+                    BoardSummaryDTO selectedBoard = boardsTableView.getSelectionModel().getSelectedItem();
+                    if (selectedBoard != null) {
+                        loadKanbanViewForBoard(selectedBoard.id());
                     }
-                }
+                });
+    }
 
-                CardViewController cardController = (CardViewController) cardNode.getUserData();
-                if (cardController != null) {
-                    cardController.updateDisplayData(updatedCardDTO);
+    /**
+     * Reflete no Kanban um card já movido no banco.
+     */
+    private void applyCardMove(Long cardId, Long targetColumnId, Long beforeCardId, CardDetailDTO updatedCardDTO) {
+        ColumnViewController targetController = null;
+        for (Node columnNode : kanbanContainer.getChildren()) {
+            if (columnNode.getUserData() instanceof ColumnViewController controller) {
+                // Em uma coluna virtualizada de origem, a célula que exibia o card devolve o nó
+                controller.removeVirtualizedCard(cardId);
+                if (controller.getColumnId().equals(targetColumnId)) {
+                    targetController = controller;
                 }
             }
-            updateSelectedBoardSummary();
-            System.out.println("Movido com sucesso!");
-        } catch (Exception e) {
-            e.printStackTrace();
-            showError("Erro ao Mover", "Falha ao mover o card: " + e.getMessage());
+        }
+
+        Node cardNode = cardNodeMap.get(cardId);
+        if (targetController != null && targetController.isVirtualized()) {
+            // A célula que exibir o card movido reaproveita o nó solto
+            if (cardNode != null && cardNode.getParent() instanceof Pane container) {
+                container.getChildren().remove(cardNode);
+            }
+            targetController.addVirtualizedCard(updatedCardDTO, beforeCardId);
+        } else if (cardNode != null && targetController != null) {
+            targetController.addCard(cardNode, beforeCardId);
+
+            CardViewController cardController = (CardViewController) cardNode.getUserData();
+            if (cardController != null) {
+                cardController.updateDisplayData(updatedCardDTO);
+            }
+        } else {
+            // Coluna de destino ou nó do card não encontrados: reaplicar o board
             BoardSummaryDTO selectedBoard = boardsTableView.getSelectionModel().getSelectedItem();
             if (selectedBoard != null) {
                 loadKanbanViewForBoard(selectedBoard.id());
             }
         }
+        updateSelectedBoardSummary();
+        System.out.println("Movido com sucesso!");
     }
 
     private void updateSelectedBoardSummary() {
         BoardSummaryDTO selectedBoard = boardsTableView.getSelectionModel().getSelectedItem();
-        if (selectedBoard != null) {
-            BoardSummaryDTO updatedSummary = facade.getBoardSummary(selectedBoard.id());
-            int index = boardsTableView.getItems().indexOf(selectedBoard);
-            if (index != -1) {
-                boardsTableView.getItems().set(index, updatedSummary);
-                boardsTableView.getSelectionModel().select(index);
-            }
+        if (selectedBoard == null) {
+            return;
         }
+        Long boardId = selectedBoard.id();
+        dataLoader.load("summary:" + boardId, () -> facade.getBoardSummary(boardId), updatedSummary -> {
+            List<BoardSummaryDTO> items = boardsTableView.getItems();
+            for (int index = 0; index < items.size(); index++) {
+                if (items.get(index).id().equals(boardId)) {
+                    boolean wasSelected = boardsTableView.getSelectionModel().isSelected(index);
+                    updatingBoardsTable = true;
+                    try {
+                        items.set(index, updatedSummary);
+                        if (wasSelected) {
+                            boardsTableView.getSelectionModel().select(index);
+                        }
+                    } finally {
+                        updatingBoardsTable = false;
+                    }
+                    break;
+                }
+            }
+        }, e -> log.warn("Não foi possível atualizar o resumo do board {}: {}", boardId, e.getMessage()));
     }
 
     @FXML
@@ -992,10 +1233,13 @@ public class BoardViewController {
 
         confirmationDialog.showAndWait()
                 .filter(response -> response == ButtonType.OK)
-                .ifPresent(response -> {
+                .ifPresent(response -> dataLoader.run(() -> {
                     facade.deleteBoard(selectedBoard.id());
-                    loadBoards();
-                });
+                    return null;
+                }, result -> loadBoards(), e -> {
+                    e.printStackTrace();
+                    showError("Erro ao Excluir Board", "Não foi possível excluir o board: " + e.getMessage());
+                }));
     }
 
     @FXML
@@ -1154,33 +1398,15 @@ public class BoardViewController {
     }
 
     /**
-     * Carrega uma imagem PNG do diretório de recursos
-     */
-    private Image loadEmojiImage(String emojiCode) {
-        try {
-            String imagePath = "/icons/emoji/" + emojiCode + ".png";
-            return new Image(getClass().getResourceAsStream(imagePath));
-        } catch (Exception e) {
-            // Se não conseguir carregar a imagem, retorna null
-            return null;
-        }
-    }
-
-    /**
-     * Cria um ImageView com tamanho 16x16 para o ComboBox
+     * Cria um ImageView com tamanho 16x16 para o ComboBox,
+     * usando a imagem compartilhada do {@link IconManager}
      */
     private ImageView createEmojiImageView(String emojiCode) {
-        Image image = loadEmojiImage(emojiCode);
-        if (image != null) {
-            ImageView imageView = new ImageView(image);
-            imageView.setFitWidth(16);
-            imageView.setFitHeight(16);
-            imageView.setPreserveRatio(true);
-            imageView.setSmooth(true);
+        ImageView imageView = IconManager.createIconView(emojiCode, 16, 16);
+        if (imageView != null) {
             imageView.getStyleClass().add("icon-image-view");
-            return imageView;
         }
-        return null;
+        return imageView;
     }
 
     /**
@@ -1345,4 +1571,11 @@ public class BoardViewController {
             log.info("Boards recarregados com as novas preferências");
         });
     }
+
+    /**
+     * Resultado da carga do Kanban: dados do board e checklists de seus cards,
+     * consultados juntos em segundo plano.
+     */
+    private record KanbanSnapshot(BoardDetailDTO board, BoardChecklistDTO checklists) {
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import javafx.scene.control.*;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import org.desviante.util.IconManager;
+import org.desviante.util.IconSearchIndex;
 import org.desviante.util.IconSearchMapper;
 
 import java.util.List;
@@ -48,6 +49,9 @@ public class IconSelectionDialog {
     // Variável para armazenar o ícone selecionado
     private String selectedIconCode;
     
+    // Última busca realizada, usada para refinar a próxima
+    private IconSearchIndex.Result lastSearch;
+    
     // Cache para ImageViews
     private final ConcurrentHashMap<String, ImageView> iconCache = new ConcurrentHashMap<>();
     private final ExecutorService executor = Executors.newFixedThreadPool(2);
@@ -279,17 +283,10 @@ public class IconSelectionDialog {
         if (searchText == null || searchText.trim().isEmpty()) {
             filteredIcons.addAll(allIcons);
         } else {
-            String lowerSearch = searchText.toLowerCase();
-            
-            // Primeiro, buscar por palavras-chave usando o IconSearchMapper
-            List<String> keywordResults = IconSearchMapper.searchIcons(searchText);
-            filteredIcons.addAll(keywordResults);
-            
-            // Depois, buscar por código do ícone (busca original)
-            allIcons.stream()
-                .filter(icon -> icon.toLowerCase().contains(lowerSearch))
-                .filter(icon -> !filteredIcons.contains(icon)) // Evitar duplicatas
-                .forEach(filteredIcons::add);
+            // O índice cobre códigos e palavras-chave; enquanto o termo só cresce,
+            // a busca filtra apenas os resultados da tecla anterior
+            lastSearch = IconSearchMapper.refineSearch(lastSearch, searchText);
+            filteredIcons.addAll(lastSearch.icons());
         }
         
         // Resetar para primeira página
@@ -0,0 +1,118 @@
+package org.desviante.view.component;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * Pool de nós visuais de card reutilizáveis.
+ *
+ * <p>Carregar o {@code card-view.fxml} é a parte mais cara de montar o Kanban.
+ * Em vez de descartar os nós a cada atualização, o quadro devolve ao pool os
+ * cards que deixaram de ser exibidos e os reaproveita para novos cards,
+ * chamando {@link CardViewController#setData} com os dados do novo card.
+ * Assim o FXML é processado uma vez por nó, e não a cada atualização.</p>
+ *
+ * <p>Deve ser usado apenas na thread do JavaFX.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see CardViewController
+ */
+public class CardNodePool {
+
+    /**
+     * Quantidade máxima de nós ociosos mantidos no pool.
+     */
+    public static final int DEFAULT_MAX_IDLE = 256;
+
+    private final Supplier<Parent> loader;
+    private final int maxIdle;
+    private final Deque<Parent> idleNodes = new ArrayDeque<>();
+    private long createdCount;
+
+    /**
+     * Cria um pool que carrega novos nós a partir do {@code card-view.fxml}.
+     */
+    public CardNodePool() {
+        this(CardNodePool::loadCardNode, DEFAULT_MAX_IDLE);
+    }
+
+    CardNodePool(Supplier<Parent> loader, int maxIdle) {
+        this.loader = loader;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Obtém um nó de card, reaproveitando um nó ocioso quando disponível.
+     *
+     * <p>O controlador do card fica em {@link Node#getUserData()}; quem
+     * recebe o nó deve chamar {@link CardViewController#setData} antes de exibi-lo.</p>
+     *
+     * @return nó de card pronto para receber dados
+     */
+    public Parent acquire() {
+        Parent node = idleNodes.pollFirst();
+        if (node != null) {
+            return node;
+        }
+        createdCount++;
+        return loader.get();
+    }
+
+    /**
+     * Devolve um nó ao pool, removendo-o da coluna onde estava.
+     * Nós excedentes ao limite são descartados.
+     *
+     * @param node nó de card que deixou de ser exibido
+     */
+    public void release(Node node) {
+        if (!(node instanceof Parent parent)) {
+            return;
+        }
+        if (parent.getParent() instanceof Pane container) {
+            container.getChildren().remove(parent);
+        }
+        if (idleNodes.size() < maxIdle && !idleNodes.contains(parent)) {
+            idleNodes.addFirst(parent);
+        }
+    }
+
+    /**
+     * Obtém a quantidade de nós ociosos disponíveis para reuso.
+     *
+     * @return nós ociosos no pool
+     */
+    public int getIdleCount() {
+        return idleNodes.size();
+    }
+
+    /**
+     * Obtém a quantidade de nós criados (FXML carregado) desde a criação do pool.
+     *
+     * @return total de nós criados
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    private static Parent loadCardNode() {
+        try {
+            FXMLLoader cardLoader = new FXMLLoader(CardNodePool.class.getResource("/view/card-view.fxml"));
+            Parent cardNode = cardLoader.load();
+            CardViewController cardController = cardLoader.getController();
+            cardNode.setUserData(cardController);
+            return cardNode;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar o card-view.fxml", e);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import org.desviante.service.TaskManagerFacade;
 import org.desviante.service.dto.CardDetailDTO;
+import org.desviante.service.dto.ChecklistItemDTO;
 import org.desviante.service.dto.UpdateCardDetailsDTO;
 import org.desviante.model.Card;
 import org.desviante.model.CardType;
@@ -25,6 +26,7 @@ import org.desviante.service.progress.ProgressInputData;
 import org.desviante.service.progress.ProgressValidationResult;
 import javafx.scene.image.WritableImage;
 import org.desviante.service.ChecklistItemService;
+import org.desviante.util.AsyncDebugLog;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -32,9 +34,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
 
 /**
  * Controlador para visualização e edição de cards individuais.
@@ -124,6 +123,8 @@ public class CardViewController {
     // --- COMPONENTE DE CHECKLIST ---
     @FXML private VBox checklistContainer;
     private ChecklistViewController checklistViewController;
+    // Itens de checklist entregues pela carga do board, usados na próxima exibição
+    private List<ChecklistItemDTO> prefetchedChecklistItems;
 
     // --- CAMPOS DE DADOS ---
     private TaskManagerFacade facade;
@@ -158,7 +159,6 @@ public class CardViewController {
         setupTooltips();
         setupProgressTypeComboBox();
         setupCardTypeComboBox();
-        setupChecklistComponent();
         setupDatePickers();
         
         // Inicializar ProgressContext
@@ -458,8 +458,14 @@ public class CardViewController {
     
     /**
      * Configura o componente de checklist.
+     * 
+     * <p>O FXML do checklist só é carregado na primeira vez que o card
+     * precisa exibi-lo, pois a maioria dos cards não usa checklist.</p>
      */
     private void setupChecklistComponent() {
+        if (checklistViewController != null) {
+            return;
+        }
         try {
             // Carregar o FXML do checklist
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/checklist-view.fxml"));
@@ -656,6 +662,24 @@ public class CardViewController {
         }
     }
 
+    /**
+     * Obtém os dados atualmente exibidos pelo card.
+     * 
+     * @return dados do card, ou null se ainda não configurado
+     */
+    public CardDetailDTO getCardData() {
+        return cardData;
+    }
+
+    /**
+     * Indica se o card está em modo de edição.
+     * 
+     * @return true se os campos de edição estão abertos
+     */
+    public boolean isEditing() {
+        return editControlsBox.isVisible();
+    }
+
     /**
      * Carrega as datas de agendamento e vencimento do banco de dados para os campos de edição
      */
@@ -845,27 +869,47 @@ public class CardViewController {
         }
     }
     
+    /**
+     * Define os itens de checklist já carregados para este card, evitando
+     * a consulta ao banco na próxima exibição.
+     * 
+     * @param items itens do checklist do card (lista vazia se não houver)
+     */
+    public void setPrefetchedChecklistItems(List<ChecklistItemDTO> items) {
+        this.prefetchedChecklistItems = items;
+    }
+    
     /**
      * Atualiza o componente de checklist baseado no tipo de progresso do card.
      * 
      * @param card dados do card
      */
     private void updateChecklistComponent(CardDetailDTO card) {
-        if (checklistViewController == null) {
-            return;
-        }
-        
         // Mostrar checklist apenas se o tipo de progresso for CHECKLIST
         boolean showChecklist = card.progressType() == ProgressType.CHECKLIST;
+        List<ChecklistItemDTO> prefetchedItems = prefetchedChecklistItems;
+        prefetchedChecklistItems = null;
         
         if (showChecklist) {
+            if (checklistViewController == null) {
+                setupChecklistComponent();
+                if (checklistViewController == null) {
+                    return;
+                }
+                initializeChecklistIfNeeded();
+            }
+            
             // Mostrar o container do checklist
             checklistContainer.setVisible(true);
             checklistContainer.setManaged(true);
 
-            // Carregar os itens do checklist e garantir cardId presente no controller
-            checklistViewController.loadChecklistItems(card.id());
-        } else {
+            // Usar os itens carregados com o board; sem eles, consultar os itens do card
+            if (prefetchedItems != null) {
+                checklistViewController.showChecklistItems(card.id(), prefetchedItems);
+            } else {
+                checklistViewController.loadChecklistItems(card.id());
+            }
+        } else if (checklistViewController != null) {
             // Ocultar o container do checklist
             checklistContainer.setVisible(false);
             checklistContainer.setManaged(false);
@@ -1866,12 +1910,6 @@ public class CardViewController {
      * @param message mensagem a ser logada
      */
     private void logToFile(String message) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(System.getProperty("user.home") + "/myboards/card_repository_debug.log", true))) {
-            writer.println("[" + LocalDateTime.now() + "] " + message);
-            writer.flush();
-        } catch (IOException e) {
-            // Se não conseguir escrever no arquivo, pelo menos imprimir no console
-            System.err.println("Erro ao escrever log: " + e.getMessage());
-        }
+        AsyncDebugLog.getDefault().debug(message);
     }
 }
\ No newline at end of file
@@ -83,6 +83,20 @@ public class ChecklistViewController {
         refreshItems();
     }
     
+    /**
+     * Exibe itens já carregados (ex.: pela carga do board inteiro), sem consultar o banco.
+     * As alterações feitas depois pelo usuário voltam a recarregar os itens do card.
+     * 
+     * @param cardId identificador do card
+     * @param items itens do checklist do card, na ordem de exibição
+     */
+    public void showChecklistItems(Long cardId, List<ChecklistItemDTO> items) {
+        this.currentCardId = cardId;
+        this.currentItems = items;
+        updateItemsDisplay();
+        updateProgressDisplay();
+    }
+    
     /**
      * Atualiza a lista de itens.
      */
@@ -3,22 +3,28 @@ package org.desviante.view.component;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.*;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import org.desviante.service.TaskManagerFacade;
 import org.desviante.service.dto.BoardColumnDetailDTO;
 import org.desviante.service.dto.CardDetailDTO;
 import org.desviante.service.dto.CardTypeOptionDTO;
+import org.desviante.service.dto.ChecklistItemDTO;
 import org.desviante.service.dto.CreateCardRequestDTO;
 import org.desviante.service.dto.UpdateCardDetailsDTO;
 import org.desviante.model.enums.ProgressType;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 // CORREÇÃO: A linha 'import java.util.function.Runnable;' foi removida.
 // A interface Runnable está em java.lang e é importada automaticamente.
@@ -31,22 +37,39 @@ import java.util.Optional;
  * do quadro, incluindo a exibição de cards, drag and drop, e atualizações
  * de dados em tempo real.</p>
  * 
+ * <p>Colunas com muitos cards podem ser exibidas no modo virtualizado
+ * ({@link #setVirtualizedCards}), em que um {@link ListView} cria nós apenas
+ * para os cards visíveis e os reaproveita durante a rolagem.</p>
+ * 
  * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
  * @version 1.0
  * @since 1.0
  */
 public class ColumnViewController {
 
+    /**
+     * Quantidade de cards a partir da qual a coluna passa a ser virtualizada.
+     */
+    public static final int VIRTUALIZATION_THRESHOLD = 100;
+
     @FXML
     private VBox rootVBox;
     @FXML
     private Label columnNameLabel;
     @FXML
+    private ScrollPane cardsScrollPane;
+    @FXML
     private VBox cardsContainer;
 
+    // Lista usada no modo virtualizado, criada na primeira vez que é necessária
+    private ListView<CardDetailDTO> cardListView;
+    private CardNodeSource cardNodeSource;
+    // Itens de checklist carregados com o board, entregues uma única vez a cada card
+    private final Map<Long, List<ChecklistItemDTO>> pendingChecklistItems = new HashMap<>();
+
     private TaskManagerFacade facade;
     private BoardColumnDetailDTO columnData;
-    private BiConsumer<Long, Long> onCardDrop;
+    private CardDropHandler onCardDrop;
     private Runnable onDataChange;
     private BiConsumer<Long, UpdateCardDetailsDTO> onCardUpdate;
     
@@ -60,6 +83,49 @@ public class ColumnViewController {
         // Construtor padrão - interface será configurada via FXML
     }
 
+    /**
+     * Recebe o card solto em uma coluna e a posição em que ele foi solto.
+     */
+    @FunctionalInterface
+    public interface CardDropHandler {
+
+        /**
+         * Trata o card solto na coluna.
+         * 
+         * @param cardId ID do card solto
+         * @param columnId ID da coluna de destino
+         * @param beforeCardId ID do card sob o ponto de soltura, que ficará logo
+         *                     depois do card solto (null para o fim da coluna)
+         */
+        void onCardDrop(Long cardId, Long columnId, Long beforeCardId);
+    }
+
+    /**
+     * Origem dos nós de card usados pelas células da coluna virtualizada.
+     * 
+     * <p>Quem implementa mantém o registro de qual nó exibe cada card (o mesmo
+     * usado pelas colunas normais), para que mover um card encontre o seu nó
+     * também quando ele está em uma coluna virtualizada.</p>
+     */
+    public interface CardNodeSource {
+
+        /**
+         * Obtém o nó que passará a exibir o card e o registra para esse card.
+         * 
+         * @param cardId ID do card
+         * @return nó de card, possivelmente ainda com os dados de outro card
+         */
+        Parent acquire(Long cardId);
+
+        /**
+         * Devolve o nó que deixou de exibir o card, removendo o seu registro.
+         * 
+         * @param cardId ID do card que o nó exibia
+         * @param cardNode nó de card
+         */
+        void release(Long cardId, Parent cardNode);
+    }
+
     /**
      * Inicializa o controlador e configura a interface.
      * 
@@ -83,7 +149,7 @@ public class ColumnViewController {
     public void setData(
             TaskManagerFacade facade,
             BoardColumnDetailDTO columnData,
-            BiConsumer<Long, Long> onCardDrop,
+            CardDropHandler onCardDrop,
             Runnable onDataChange,
             BiConsumer<Long, UpdateCardDetailsDTO> onCardUpdate
     ) {
@@ -110,10 +176,203 @@ public class ColumnViewController {
      * @param cardNode nó visual do card a ser adicionado
      */
     public void addCard(Node cardNode) {
+        addCard(cardNode, null);
+    }
+
+    /**
+     * Adiciona um card à coluna, imediatamente antes de outro card.
+     * 
+     * @param cardNode nó visual do card a ser adicionado
+     * @param beforeCardId ID do card que ficará logo depois (null para o fim da coluna)
+     */
+    public void addCard(Node cardNode, Long beforeCardId) {
         if (cardNode.getParent() instanceof VBox) {
             ((VBox) cardNode.getParent()).getChildren().remove(cardNode);
         }
-        cardsContainer.getChildren().add(cardNode);
+        List<Node> children = cardsContainer.getChildren();
+        int index = children.size();
+        for (int i = 0; i < children.size(); i++) {
+            if (beforeCardId != null && beforeCardId.equals(cardIdOf(children.get(i)))) {
+                index = i;
+                break;
+            }
+        }
+        children.add(index, cardNode);
+    }
+
+    /**
+     * Define os cards exibidos na coluna, na ordem informada.
+     * 
+     * <p>Os nós só são substituídos quando a lista difere da atual, evitando
+     * recalcular o layout da coluna quando nada mudou. Se a coluna estava
+     * virtualizada, volta ao modo normal.</p>
+     * 
+     * @param cardNodes nós visuais dos cards da coluna
+     */
+    public void setCards(List<Node> cardNodes) {
+        if (isVirtualized()) {
+            cardListView.getItems().clear();
+            showVirtualizedList(false);
+        }
+        if (!cardsContainer.getChildren().equals(cardNodes)) {
+            cardsContainer.getChildren().setAll(cardNodes);
+        }
+    }
+
+    /**
+     * Exibe os cards no modo virtualizado.
+     * 
+     * <p>Somente os cards visíveis recebem um nó visual; ao rolar, os nós
+     * são reaproveitados para os cards que entram na área visível. O arrastar
+     * e soltar continua funcionando, pois cada nó é um card completo.</p>
+     * 
+     * @param cards dados dos cards da coluna, na ordem de exibição
+     * @param cardNodeSource origem dos nós de card (normalmente apoiada em um {@link CardNodePool})
+     * @param checklistItemsByCardId itens de checklist já carregados, por card
+     */
+    public void setVirtualizedCards(List<CardDetailDTO> cards, CardNodeSource cardNodeSource,
+                                    Map<Long, List<ChecklistItemDTO>> checklistItemsByCardId) {
+        this.cardNodeSource = cardNodeSource;
+        pendingChecklistItems.clear();
+        pendingChecklistItems.putAll(checklistItemsByCardId);
+        if (cardListView == null) {
+            cardListView = createCardListView();
+        }
+        if (!isVirtualized()) {
+            cardsContainer.getChildren().clear();
+            showVirtualizedList(true);
+        }
+        if (!cardListView.getItems().equals(cards)) {
+            cardListView.getItems().setAll(cards);
+        }
+    }
+
+    /**
+     * Adiciona um card ao final da coluna virtualizada.
+     * 
+     * @param card dados do card
+     */
+    public void addVirtualizedCard(CardDetailDTO card) {
+        addVirtualizedCard(card, null);
+    }
+
+    /**
+     * Adiciona um card à coluna virtualizada, imediatamente antes de outro card.
+     * 
+     * @param card dados do card
+     * @param beforeCardId ID do card que ficará logo depois (null para o fim da coluna)
+     */
+    public void addVirtualizedCard(CardDetailDTO card, Long beforeCardId) {
+        List<CardDetailDTO> items = cardListView.getItems();
+        int index = items.size();
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).id().equals(beforeCardId)) {
+                index = i;
+                break;
+            }
+        }
+        items.add(index, card);
+    }
+
+    /**
+     * Remove um card da coluna virtualizada, se estiver nela. A célula que o
+     * exibia devolve o nó na próxima atualização da lista.
+     * 
+     * @param cardId ID do card
+     * @return true se o card estava na coluna
+     */
+    public boolean removeVirtualizedCard(Long cardId) {
+        return isVirtualized() && cardListView.getItems().removeIf(card -> card.id().equals(cardId));
+    }
+
+    /**
+     * Indica se a coluna está no modo virtualizado.
+     * 
+     * @return true se os cards são exibidos pela lista virtualizada
+     */
+    public boolean isVirtualized() {
+        return cardListView != null && cardListView.isVisible();
+    }
+
+    private ListView<CardDetailDTO> createCardListView() {
+        ListView<CardDetailDTO> listView = new ListView<>();
+        listView.getStyleClass().add("virtualized-card-list");
+        listView.setFocusTraversable(false);
+        listView.setCellFactory(view -> new CardCell());
+        listView.setVisible(false);
+        listView.setManaged(false);
+        VBox.setVgrow(listView, Priority.ALWAYS);
+        rootVBox.getChildren().add(listView);
+        return listView;
+    }
+
+    private void showVirtualizedList(boolean virtualized) {
+        cardListView.setVisible(virtualized);
+        cardListView.setManaged(virtualized);
+        cardsScrollPane.setVisible(!virtualized);
+        cardsScrollPane.setManaged(!virtualized);
+    }
+
+    /**
+     * Célula da lista virtualizada. A célula obtém da {@link CardNodeSource} o
+     * nó do card que exibe e o devolve quando passa a exibir outro card ou fica
+     * vazia, de modo que o registro de nós acompanha as células visíveis.
+     */
+    private class CardCell extends ListCell<CardDetailDTO> {
+
+        private Parent cardNode;
+
+        @Override
+        protected void updateItem(CardDetailDTO card, boolean empty) {
+            super.updateItem(card, empty);
+            setText(null);
+            if (cardNode != null && cardNode.getParent() != null && cardNode.getParent() != this) {
+                // O nó foi levado para outra coluna (card movido) e não pertence mais à célula
+                cardNode = null;
+            }
+            if (cardNode != null) {
+                CardDetailDTO shown = ((CardViewController) cardNode.getUserData()).getCardData();
+                if (empty || card == null || !Objects.equals(shown.id(), card.id())) {
+                    leaveCardNode(shown.id());
+                }
+            }
+            if (empty || card == null) {
+                setGraphic(null);
+                return;
+            }
+            if (cardNode == null) {
+                cardNode = cardNodeSource.acquire(card.id());
+            }
+            CardViewController cardController = (CardViewController) cardNode.getUserData();
+            CardDetailDTO current = cardController.getCardData();
+            boolean rebind = current == null || !Objects.equals(current.id(), card.id());
+            // Um card em edição mantém o que foi digitado; salvar recarrega o board
+            boolean refresh = !rebind && !card.equals(current) && !cardController.isEditing();
+            if (rebind || refresh) {
+                // Na próxima exibição o card volta a consultar seus itens, que podem ter mudado
+                cardController.setPrefetchedChecklistItems(pendingChecklistItems.remove(card.id()));
+            }
+            if (rebind) {
+                cardController.setData(facade, card, onCardUpdate);
+            } else if (refresh) {
+                cardController.updateDisplayData(card);
+            }
+            setGraphic(cardNode);
+        }
+
+        /**
+         * Solta o nó que a célula exibia. Um card em edição continua registrado
+         * e sai da célula sem perder o que foi digitado: a célula que voltar a
+         * exibir o card recebe o mesmo nó. Os demais nós são devolvidos.
+         */
+        private void leaveCardNode(Long shownCardId) {
+            Parent node = cardNode;
+            cardNode = null;
+            setGraphic(null);
+            if (!((CardViewController) node.getUserData()).isEditing()) {
+                cardNodeSource.release(shownCardId, node);
+            }
+        }
     }
 
     private void setupDragAndDrop() {
@@ -151,7 +410,8 @@ public class ColumnViewController {
                 String[] data = db.getString().split(":");
                 long cardId = Long.parseLong(data[0]);
                 if (onCardDrop != null) {
-                    onCardDrop.accept(cardId, this.columnData.id());
+                    Long beforeCardId = findCardBelow(event.getSceneY(), cardId);
+                    onCardDrop.onCardDrop(cardId, this.columnData.id(), beforeCardId);
                 }
                 success = true;
             }
@@ -167,6 +427,69 @@ public class ColumnViewController {
         });
     }
 
+    /**
+     * Encontra o card que ficará logo depois do card solto na altura informada.
+     * 
+     * <p>É o primeiro card, de cima para baixo, cujo centro está abaixo do ponto
+     * de soltura, ignorando o próprio card arrastado. Na coluna virtualizada a
+     * busca parte da célula visível correspondente e segue pela lista, já que os
+     * cards fora da área visível não têm nó.</p>
+     * 
+     * @param sceneY altura do ponto de soltura, em coordenadas da cena
+     * @param draggedCardId ID do card arrastado
+     * @return ID do card seguinte, ou null para o fim da coluna
+     */
+    private Long findCardBelow(double sceneY, Long draggedCardId) {
+        List<Long> cardIds;
+        int index;
+        if (isVirtualized()) {
+            cardIds = cardListView.getItems().stream().map(CardDetailDTO::id).toList();
+            index = cardIds.size();
+            int lastVisibleIndex = -1;
+            for (Node node : cardListView.lookupAll(".list-cell")) {
+                if (node instanceof CardCell cell && !cell.isEmpty() && cell.getItem() != null) {
+                    lastVisibleIndex = Math.max(lastVisibleIndex, cell.getIndex());
+                    if (isBelow(cell, sceneY)) {
+                        index = Math.min(index, cell.getIndex());
+                    }
+                }
+            }
+            if (index == cardIds.size() && lastVisibleIndex >= 0) {
+                index = lastVisibleIndex + 1;
+            }
+        } else {
+            List<Node> children = cardsContainer.getChildren();
+            cardIds = children.stream().map(ColumnViewController::cardIdOf).toList();
+            index = cardIds.size();
+            for (int i = 0; i < children.size(); i++) {
+                if (isBelow(children.get(i), sceneY)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        for (int i = index; i < cardIds.size(); i++) {
+            Long cardId = cardIds.get(i);
+            if (cardId != null && !cardId.equals(draggedCardId)) {
+                return cardId;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBelow(Node node, double sceneY) {
+        Bounds bounds = node.localToScene(node.getBoundsInLocal());
+        return bounds.getCenterY() > sceneY;
+    }
+
+    private static Long cardIdOf(Node cardNode) {
+        if (cardNode.getUserData() instanceof CardViewController cardController
+                && cardController.getCardData() != null) {
+            return cardController.getCardData().id();
+        }
+        return null;
+    }
+
     @FXML
     private void handleCreateCard() {
         Dialog<CardCreationData> dialog = new Dialog<>();
@@ -335,6 +658,15 @@ public class ColumnViewController {
                 var request = new CreateCardRequestDTO(title, description, this.columnData.id(), selectedType.cardTypeId(), selectedProgressType);
                 CardDetailDTO newCardDTO = facade.createNewCard(request);
 
+                if (isVirtualized()) {
+                    cardListView.getItems().add(newCardDTO);
+                    cardListView.scrollTo(newCardDTO);
+                    if (onDataChange != null) {
+                        onDataChange.run();
+                    }
+                    return;
+                }
+
                 FXMLLoader cardLoader = new FXMLLoader(getClass().getResource("/view/card-view.fxml"));
                 Parent cardNode = cardLoader.load();
                 CardViewController cardController = cardLoader.getController();
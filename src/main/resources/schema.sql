@@ -134,6 +134,9 @@ CREATE TABLE IF NOT EXISTS integration_sync_status (
     error_message       TEXT,
     retry_count         INTEGER DEFAULT 0,
     max_retries         INTEGER DEFAULT 3,
+    next_attempt_at     TIMESTAMP,          -- Próxima entrega pela fila de integração (outbox)
+    claimed_at          TIMESTAMP,          -- Momento em que um worker reservou a linha
+    claim_token         VARCHAR(36),        -- Identifica o lote que reservou a linha
     created_at          TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at          TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     
@@ -153,6 +156,7 @@ CREATE INDEX IF NOT EXISTS idx_integration_sync_card_id ON integration_sync_stat
 CREATE INDEX IF NOT EXISTS idx_integration_sync_type ON integration_sync_status(integration_type);
 CREATE INDEX IF NOT EXISTS idx_integration_sync_status ON integration_sync_status(sync_status);
 CREATE INDEX IF NOT EXISTS idx_integration_sync_last_sync ON integration_sync_status(last_sync_date);
+CREATE INDEX IF NOT EXISTS idx_integration_sync_outbox ON integration_sync_status(sync_status, next_attempt_at);
 
 -- Não inserimos mais grupo padrão - boards sem grupo terão group_id = NULL
 
@@ -0,0 +1,88 @@
+package org.desviante.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o TimedMethodsPostProcessor.
+ *
+ * <p>Verificam que apenas os beans dos tipos medidos recebem proxy e que cada
+ * chamada é registrada no timer do tipo, separando as chamadas com exceção.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see TimedMethodsPostProcessor
+ */
+class TimedMethodsPostProcessorTest {
+
+    private MeterRegistry registry;
+    private TimedMethodsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        postProcessor = new TimedMethodsPostProcessor(() -> registry, Map.of(SampleRepository.class, "repository.calls"));
+        postProcessor.setBeanFactory(new DefaultListableBeanFactory());
+    }
+
+    @Test
+    @DisplayName("Deve registrar as chamadas dos beans medidos por método e exceção")
+    void postProcessAfterInitialization_shouldTimeCallsOfTimedTypes() {
+        // ARRANGE
+        SampleRepository repository = (SampleRepository) postProcessor.postProcessAfterInitialization(new SampleRepository(), "sampleRepository");
+
+        // ACT
+        repository.findName(1L);
+        repository.findName(2L);
+        assertThrows(IllegalArgumentException.class, () -> repository.findName(null));
+
+        // ASSERT
+        assertTrue(AopUtils.isCglibProxy(repository));
+        Timer success = registry.get("repository.calls")
+                .tags("class", "SampleRepository", "method", "findName", "exception", "none")
+                .timer();
+        Timer failure = registry.get("repository.calls")
+                .tags("class", "SampleRepository", "method", "findName", "exception", "IllegalArgumentException")
+                .timer();
+        assertEquals(2, success.count());
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    @DisplayName("Não deve criar proxy para beans de tipos não medidos")
+    void postProcessAfterInitialization_shouldIgnoreOtherTypes() {
+        // ARRANGE
+        Object bean = new Object();
+
+        // ACT
+        Object processed = postProcessor.postProcessAfterInitialization(bean, "outroBean");
+
+        // ASSERT
+        assertSame(bean, processed);
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    /**
+     * Repositório de exemplo medido nos testes.
+     */
+    static class SampleRepository {
+
+        public String findName(Long id) {
+            if (id == null) {
+                throw new IllegalArgumentException("ID não pode ser null");
+            }
+            return "Card " + id;
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package org.desviante.integration.event;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.desviante.integration.event.card.CardScheduledEvent;
+import org.desviante.integration.event.card.CardUnscheduledEvent;
 import org.desviante.model.Card;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -258,4 +267,265 @@ class SimpleEventPublisherTest {
         assertThrows(IllegalArgumentException.class, () -> eventPublisher.publish(null));
         assertThrows(IllegalArgumentException.class, () -> eventPublisher.subscribe(null));
     }
+    
+    @Test
+    void shouldDispatchToTypedHandlersRegisteredByObserver() {
+        // Arrange
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        
+        EventObserver<DomainEvent> typedObserver = new EventObserver<DomainEvent>() {
+            @Override
+            public void handle(DomainEvent event) throws Exception {
+                calls.add("handle:" + event.getClass().getSimpleName());
+            }
+            
+            @Override
+            public EventHandlers getEventHandlers() {
+                return EventHandlers.create()
+                        .on(CardUnscheduledEvent.class, event -> calls.add("unscheduled:" + event.getEntityId()));
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent || event instanceof CardUnscheduledEvent;
+            }
+        };
+        eventPublisher.subscribe(typedObserver);
+        
+        CardUnscheduledEvent unscheduledEvent = CardUnscheduledEvent.builder()
+                .card(Card.builder().id(7L).title("Card 7").build())
+                .build();
+        
+        // Act
+        eventPublisher.publish(unscheduledEvent);
+        eventPublisher.publish(scheduledEvent(7L, 0));
+        
+        // Assert
+        assertEquals(List.of("unscheduled:7", "handle:CardScheduledEvent"), calls,
+                "Eventos com handler registrado devem usá-lo; os demais caem no método handle");
+    }
+    
+    @Test
+    void shouldRebuildObserverRegistryWhenSubscriptionsChange() {
+        // Arrange
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        EventObserver<CardScheduledEvent> lowPriority = recordingObserver("baixa", 1, calls);
+        EventObserver<CardScheduledEvent> highPriority = recordingObserver("alta", 5, calls);
+        eventPublisher.subscribe(lowPriority);
+        eventPublisher.publish(scheduledEvent(1L, 0));
+        
+        // Act
+        eventPublisher.subscribe(highPriority);
+        eventPublisher.publish(scheduledEvent(1L, 1));
+        eventPublisher.unsubscribe(lowPriority);
+        eventPublisher.publish(scheduledEvent(1L, 2));
+        
+        // Assert
+        assertEquals(List.of("baixa", "alta", "baixa", "alta"), calls,
+                "O registro por tipo de evento deve refletir inscrições e remoções, em ordem de prioridade");
+    }
+    
+    @Test
+    void shouldRecordObserverLatencyByOutcome() {
+        // Arrange
+        MeterRegistry registry = new SimpleMeterRegistry();
+        eventPublisher.setMeterRegistry(registry);
+        EventObserver<CardScheduledEvent> observer = new EventObserver<CardScheduledEvent>() {
+            @Override
+            public void handle(CardScheduledEvent event) throws Exception {
+                if (event.getCard().getId() == 2L) {
+                    throw new IllegalStateException("Falha no observador");
+                }
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent;
+            }
+            
+            @Override
+            public String getObserverName() {
+                return "ObservadorMedido";
+            }
+        };
+        eventPublisher.subscribe(observer);
+        
+        // Act
+        eventPublisher.publish(scheduledEvent(1L, 0));
+        eventPublisher.publish(scheduledEvent(1L, 1));
+        assertThrows(EventPublishingException.class, () -> eventPublisher.publish(scheduledEvent(2L, 0)));
+        
+        // Assert
+        assertEquals(2, registry.get(SimpleEventPublisher.OBSERVER_TIMER)
+                .tags("observer", "ObservadorMedido", "event", "CardScheduledEvent", "outcome", "success")
+                .timer().count());
+        assertEquals(1, registry.get(SimpleEventPublisher.OBSERVER_TIMER)
+                .tags("observer", "ObservadorMedido", "outcome", "error")
+                .timer().count());
+    }
+    
+    @Test
+    void shouldKeepPerCardOrderingInVirtualThreadMode() throws Exception {
+        // Arrange
+        SimpleEventPublisher virtualPublisher =
+                new SimpleEventPublisher(SimpleEventPublisher.DispatchMode.VIRTUAL_THREADS, 16);
+        Map<Long, List<Integer>> handledSequences = new ConcurrentHashMap<>();
+        
+        EventObserver<CardScheduledEvent> slowObserver = new EventObserver<CardScheduledEvent>() {
+            @Override
+            public void handle(CardScheduledEvent event) throws Exception {
+                // Atrasos decrescentes: sem a garantia de ordem, os últimos eventos terminariam primeiro
+                int sequence = event.getScheduledDate().getSecond();
+                Thread.sleep(10 - sequence);
+                handledSequences.computeIfAbsent(event.getEntityId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(sequence);
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent;
+            }
+        };
+        virtualPublisher.subscribe(slowObserver);
+        
+        // Act
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int sequence = 0; sequence < 10; sequence++) {
+            for (long cardId = 1; cardId <= 3; cardId++) {
+                futures.add(virtualPublisher.publishAsync(scheduledEvent(cardId, sequence)));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        List<Integer> expected = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertEquals(3, handledSequences.size());
+        handledSequences.values().forEach(sequences ->
+                assertEquals(expected, sequences, "Eventos do mesmo card deveriam ser processados em ordem"));
+    }
+    
+    @Test
+    void shouldFailCompletionFutureWhenObserverFailsInVirtualThreadMode() {
+        // Arrange
+        SimpleEventPublisher virtualPublisher =
+                new SimpleEventPublisher(SimpleEventPublisher.DispatchMode.VIRTUAL_THREADS, 16);
+        AtomicInteger handled = new AtomicInteger();
+        
+        virtualPublisher.subscribe(new EventObserver<CardScheduledEvent>() {
+            @Override
+            public void handle(CardScheduledEvent event) throws Exception {
+                if (handled.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Erro simulado");
+                }
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent;
+            }
+        });
+        
+        // Act
+        CompletableFuture<Void> failed = virtualPublisher.publishAsync(scheduledEvent(1L, 0));
+        CompletableFuture<Void> next = virtualPublisher.publishAsync(scheduledEvent(1L, 1));
+        
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(EventPublishingException.class, exception.getCause());
+        assertInstanceOf(IllegalStateException.class, exception.getCause().getCause());
+        assertDoesNotThrow(() -> next.get(5, TimeUnit.SECONDS), "A falha não deveria bloquear os próximos eventos do card");
+        assertEquals(2, handled.get());
+    }
+    
+    @Test
+    void shouldRunSynchronousObserversOnPublisherThreadInVirtualThreadMode() {
+        // Arrange
+        SimpleEventPublisher virtualPublisher =
+                new SimpleEventPublisher(SimpleEventPublisher.DispatchMode.VIRTUAL_THREADS, 16);
+        List<Thread> handlerThreads = Collections.synchronizedList(new ArrayList<>());
+        
+        virtualPublisher.subscribe(new EventObserver<CardScheduledEvent>() {
+            @Override
+            public void handle(CardScheduledEvent event) throws Exception {
+                handlerThreads.add(Thread.currentThread());
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent;
+            }
+            
+            @Override
+            public boolean requiresSynchronousDispatch() {
+                return true;
+            }
+        });
+        
+        // Act
+        virtualPublisher.publish(scheduledEvent(1L, 0));
+        
+        // Assert
+        assertEquals(List.of(Thread.currentThread()), handlerThreads,
+                "O observador deveria ter rodado na thread de quem publicou, antes de publish() retornar");
+    }
+    
+    @Test
+    void shouldNotBlockPublisherWhenObserverQueueIsFullInVirtualThreadMode() throws Exception {
+        // Arrange
+        SimpleEventPublisher virtualPublisher =
+                new SimpleEventPublisher(SimpleEventPublisher.DispatchMode.VIRTUAL_THREADS, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        virtualPublisher.subscribe(new EventObserver<CardScheduledEvent>() {
+            @Override
+            public void handle(CardScheduledEvent event) throws Exception {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent;
+            }
+        });
+        
+        // Act
+        CompletableFuture<Void> first = virtualPublisher.publishAsync(scheduledEvent(1L, 0));
+        CompletableFuture<Void> rejected = virtualPublisher.publishAsync(scheduledEvent(2L, 0));
+        release.countDown();
+        
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(EventPublishingException.class, exception.getCause());
+        assertDoesNotThrow(() -> first.get(5, TimeUnit.SECONDS));
+    }
+    
+    private EventObserver<CardScheduledEvent> recordingObserver(String name, int priority, List<String> calls) {
+        return new EventObserver<CardScheduledEvent>() {
+            @Override
+            public void handle(CardScheduledEvent event) throws Exception {
+                calls.add(name);
+            }
+            
+            @Override
+            public boolean canHandle(DomainEvent event) {
+                return event instanceof CardScheduledEvent;
+            }
+            
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+    
+    private CardScheduledEvent scheduledEvent(long cardId, int sequence) {
+        Card card = Card.builder()
+                .id(cardId)
+                .title("Card " + cardId)
+                .build();
+        return CardScheduledEvent.builder()
+                .card(card)
+                .scheduledDate(LocalDateTime.of(2025, 1, 1, 9, 0, sequence))
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package org.desviante.integration.retry;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -112,6 +114,40 @@ class RetryExecutorTest {
         verify(strategy, times(1)).calculateDelay(any(RetryContext.class));
     }
     
+    @Test
+    void shouldCountAttemptsAndResultsInMeterRegistry() {
+        // Arrange
+        MeterRegistry registry = new SimpleMeterRegistry();
+        executor.setMeterRegistry(registry);
+        AtomicInteger callCount = new AtomicInteger(0);
+        
+        when(strategy.shouldRetry(any(RetryContext.class))).thenReturn(true);
+        when(strategy.calculateDelay(any(RetryContext.class))).thenReturn(Duration.ofMillis(1));
+        
+        RetryContext context = RetryContext.builder()
+                .retryId("test-metrics")
+                .operationType("CREATE_TASK")
+                .entityId(1L)
+                .integrationType("GOOGLE_TASKS")
+                .config(RetryConfig.builder().maxAttempts(3).build())
+                .build();
+        
+        // Act
+        executor.execute(() -> {
+            if (callCount.incrementAndGet() == 1) {
+                throw new RuntimeException("Falha temporária");
+            }
+            return "Success";
+        }, context);
+        
+        // Assert
+        assertEquals(1.0, registry.get(RetryExecutor.ATTEMPTS_METRIC)
+                .tags("operation", "CREATE_TASK", "integration", "GOOGLE_TASKS", "outcome", "failure")
+                .counter().count());
+        assertEquals(1.0, registry.get(RetryExecutor.ATTEMPTS_METRIC).tag("outcome", "success").counter().count());
+        assertEquals(1.0, registry.get(RetryExecutor.RESULTS_METRIC).tag("outcome", "success").counter().count());
+    }
+    
     @Test
     void shouldFailAfterMaxAttempts() {
         // Arrange
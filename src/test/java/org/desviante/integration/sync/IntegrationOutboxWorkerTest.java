@@ -0,0 +1,187 @@
+package org.desviante.integration.sync;
+
+import org.desviante.integration.event.card.CardUnscheduledEvent;
+import org.desviante.integration.observer.CalendarSyncObserver;
+import org.desviante.integration.observer.GoogleTasksSyncObserver;
+import org.desviante.model.Card;
+import org.desviante.repository.CardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o IntegrationOutboxWorker.
+ *
+ * <p>Verificam que cada registro reservado é entregue ao observador do seu
+ * tipo de integração conforme o estado atual do card, e que falhas voltam
+ * para a fila com espera.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IntegrationOutboxWorker
+ */
+@ExtendWith(MockitoExtension.class)
+class IntegrationOutboxWorkerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 10, 12, 0);
+
+    @Mock
+    private IntegrationSyncRepository syncRepository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private GoogleTasksSyncObserver googleTasksSyncObserver;
+
+    @Mock
+    private CalendarSyncObserver calendarSyncObserver;
+
+    private IntegrationOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        worker = new IntegrationOutboxWorker(syncRepository, cardRepository, googleTasksSyncObserver, calendarSyncObserver, clock);
+    }
+
+    @Test
+    @DisplayName("Deve criar em lote a tarefa de um card agendado ainda não entregue e concluir a reserva")
+    void processBatch_shouldDeliverScheduledCard() throws Exception {
+        // ARRANGE
+        IntegrationSyncStatus status = status(10L, IntegrationType.GOOGLE_TASKS);
+        Card card = card(NOW.plusDays(1));
+        when(syncRepository.claimBatch(anyString(), eq(IntegrationOutboxWorker.BATCH_SIZE), eq(NOW), eq(NOW.minusMinutes(5))))
+                .thenReturn(List.of(status));
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(googleTasksSyncObserver.createGoogleTasks(List.of(card))).thenReturn(Map.of());
+        when(syncRepository.completeClaim(eq(10L), anyString(), eq(NOW))).thenReturn(true);
+
+        // ACT
+        int processed = worker.processBatch();
+
+        // ASSERT
+        assertEquals(1, processed);
+        verify(googleTasksSyncObserver).createGoogleTasks(List.of(card));
+        verify(googleTasksSyncObserver, never()).handleScheduledEvent(any());
+        verifyNoInteractions(calendarSyncObserver);
+        verify(syncRepository, never()).releaseClaim(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver à fila só os registros cujas tarefas falharam no lote")
+    void processBatch_shouldRescheduleOnlyFailedTasksOfBatch() throws Exception {
+        // ARRANGE
+        IntegrationSyncStatus first = status(11L, IntegrationType.GOOGLE_TASKS);
+        IntegrationSyncStatus second = status(12L, IntegrationType.GOOGLE_TASKS);
+        second.setCardId(2L);
+        Card firstCard = card(NOW.plusDays(1));
+        Card secondCard = card(NOW.plusDays(2));
+        secondCard.setId(2L);
+        when(syncRepository.claimBatch(anyString(), anyInt(), any(), any())).thenReturn(List.of(first, second));
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(firstCard));
+        when(cardRepository.findById(2L)).thenReturn(Optional.of(secondCard));
+        when(googleTasksSyncObserver.createGoogleTasks(List.of(firstCard, secondCard)))
+                .thenReturn(Map.of(2L, "Lista não encontrada"));
+        when(syncRepository.completeClaim(eq(11L), anyString(), eq(NOW))).thenReturn(true);
+        when(syncRepository.failClaim(eq(12L), anyString(), anyString(), any())).thenReturn(true);
+
+        // ACT
+        worker.processBatch();
+
+        // ASSERT
+        verify(syncRepository).failClaim(eq(12L), anyString(), eq("Lista não encontrada"),
+                eq(NOW.plus(IntegrationOutboxWorker.BACKOFF.getInitialDelay())));
+        verify(syncRepository, never()).completeClaim(eq(12L), any(), any());
+        verify(syncRepository, never()).releaseClaim(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver à fila com espera a entrega que falhou")
+    void processBatch_shouldRescheduleFailedDelivery() throws Exception {
+        // ARRANGE
+        IntegrationSyncStatus status = status(20L, IntegrationType.CALENDAR);
+        when(syncRepository.claimBatch(anyString(), anyInt(), any(), any())).thenReturn(List.of(status));
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card(NOW.plusDays(1))));
+        doThrow(new IllegalStateException("Calendário indisponível")).when(calendarSyncObserver).handle(any());
+        when(syncRepository.failClaim(eq(20L), anyString(), anyString(), any())).thenReturn(true);
+
+        // ACT
+        worker.processBatch();
+
+        // ASSERT
+        verify(syncRepository).failClaim(eq(20L), anyString(), eq("Calendário indisponível"),
+                eq(NOW.plus(IntegrationOutboxWorker.BACKOFF.getInitialDelay())));
+        verify(syncRepository, never()).completeClaim(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar individualmente a tarefa de um card já entregue")
+    void processBatch_shouldUpdateDeliveredTaskIndividually() throws Exception {
+        // ARRANGE
+        IntegrationSyncStatus status = status(40L, IntegrationType.GOOGLE_TASKS);
+        status.setLastSyncDate(NOW.minusDays(1));
+        when(syncRepository.claimBatch(anyString(), anyInt(), any(), any())).thenReturn(List.of(status));
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card(NOW.plusDays(1))));
+        when(syncRepository.completeClaim(eq(40L), anyString(), eq(NOW))).thenReturn(true);
+
+        // ACT
+        worker.processBatch();
+
+        // ASSERT
+        verify(googleTasksSyncObserver).handleScheduledEvent(argThat(event -> !event.isFirstScheduling()));
+        verify(googleTasksSyncObserver, never()).createGoogleTasks(any());
+    }
+
+    @Test
+    @DisplayName("Deve remover a tarefa de um card desagendado e liberar a reserva se o card mudou")
+    void processBatch_shouldDeliverUnscheduledCardAndReleaseStaleClaim() throws Exception {
+        // ARRANGE
+        IntegrationSyncStatus status = status(30L, IntegrationType.GOOGLE_TASKS);
+        status.setLastSyncDate(NOW.minusDays(1));
+        when(syncRepository.claimBatch(anyString(), anyInt(), any(), any())).thenReturn(List.of(status));
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card(null)));
+        when(syncRepository.completeClaim(eq(30L), anyString(), eq(NOW))).thenReturn(false);
+
+        // ACT
+        worker.processBatch();
+
+        // ASSERT
+        verify(googleTasksSyncObserver).handleUnscheduledEvent(any(CardUnscheduledEvent.class));
+        verify(googleTasksSyncObserver, never()).handleScheduledEvent(any());
+        verify(syncRepository).releaseClaim(30L);
+    }
+
+    private static IntegrationSyncStatus status(Long id, IntegrationType integrationType) {
+        return IntegrationSyncStatus.builder()
+                .id(id)
+                .cardId(1L)
+                .integrationType(integrationType)
+                .syncStatus(SyncStatus.PENDING)
+                .nextAttemptAt(NOW)
+                .build();
+    }
+
+    private static Card card(LocalDateTime scheduledDate) {
+        Card card = new Card();
+        card.setId(1L);
+        card.setTitle("Card de Exemplo");
+        card.setScheduledDate(scheduledDate);
+        return card;
+    }
+}
@@ -0,0 +1,132 @@
+package org.desviante.integration.sync;
+
+import org.desviante.config.TestDataConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da fila de integração no IntegrationSyncRepository.
+ *
+ * <p>Verificam o enfileiramento, a reserva em lotes e a conclusão das
+ * entregas sobre a tabela integration_sync_status.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IntegrationSyncRepository
+ */
+@SpringJUnitConfig(classes = TestDataConfig.class)
+@Sql(scripts = "/test-schema.sql")
+@Transactional
+class IntegrationSyncRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 10, 12, 0);
+    private static final LocalDateTime STALE_BEFORE = NOW.minusMinutes(5);
+
+    @Autowired
+    private DataSource dataSource;
+
+    private IntegrationSyncRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new IntegrationSyncRepository(dataSource);
+    }
+
+    @Test
+    @DisplayName("Deve acumular enfileiramentos do mesmo card em um único registro pendente")
+    void enqueue_shouldCoalesceIntoSinglePendingRow() {
+        // ACT
+        boolean first = repository.enqueue(1L, IntegrationType.GOOGLE_TASKS, NOW);
+        boolean second = repository.enqueue(1L, IntegrationType.GOOGLE_TASKS, NOW.plusMinutes(1));
+        boolean missingCard = repository.enqueue(9999L, IntegrationType.GOOGLE_TASKS, NOW);
+
+        // ASSERT
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(missingCard);
+        List<IntegrationSyncStatus> statuses = repository.findByCardId(1L);
+        assertEquals(1, statuses.size());
+        assertEquals(SyncStatus.PENDING, statuses.get(0).getSyncStatus());
+        assertEquals(NOW.plusMinutes(1), statuses.get(0).getNextAttemptAt());
+    }
+
+    @Test
+    @DisplayName("Deve reservar cada registro uma vez e liberar reservas abandonadas")
+    void claimBatch_shouldClaimDueRowsOnce() {
+        // ARRANGE
+        repository.enqueue(1L, IntegrationType.GOOGLE_TASKS, NOW);
+        repository.enqueue(1L, IntegrationType.CALENDAR, NOW.plusHours(1));
+
+        // ACT
+        List<IntegrationSyncStatus> claimed = repository.claimBatch("lote-1", 10, NOW, STALE_BEFORE);
+        List<IntegrationSyncStatus> claimedAgain = repository.claimBatch("lote-2", 10, NOW, STALE_BEFORE);
+        List<IntegrationSyncStatus> afterTimeout = repository.claimBatch("lote-3", 10, NOW.plusHours(2), NOW.plusHours(1));
+
+        // ASSERT
+        assertEquals(1, claimed.size());
+        assertEquals(IntegrationType.GOOGLE_TASKS, claimed.get(0).getIntegrationType());
+        assertTrue(claimedAgain.isEmpty());
+        // A reserva abandonada do Google Tasks volta junto com o calendário, que ficou pronto
+        assertEquals(2, afterTimeout.size());
+    }
+
+    @Test
+    @DisplayName("Deve reagendar entregas com falha e marcar erro ao atingir o máximo de tentativas")
+    void failClaim_shouldRetryUntilMaxRetries() {
+        // ARRANGE
+        repository.enqueue(1L, IntegrationType.GOOGLE_TASKS, NOW);
+        LocalDateTime now = NOW;
+
+        // ACT
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            List<IntegrationSyncStatus> claimed = repository.claimBatch("lote-" + attempt, 10, now, now.minusMinutes(5));
+            assertEquals(1, claimed.size());
+            assertTrue(repository.failClaim(claimed.get(0).getId(), "lote-" + attempt, "Erro " + attempt, now.plusMinutes(1)));
+            assertTrue(repository.claimBatch("cedo", 10, now, now.minusMinutes(5)).isEmpty());
+            now = now.plusMinutes(1);
+        }
+
+        // ASSERT
+        IntegrationSyncStatus status = repository.findByCardIdAndType(1L, IntegrationType.GOOGLE_TASKS).orElseThrow();
+        assertEquals(SyncStatus.ERROR, status.getSyncStatus());
+        assertEquals(3, status.getRetryCount());
+        assertEquals("Erro 3", status.getErrorMessage());
+        assertTrue(repository.claimBatch("depois", 10, now.plusHours(1), now).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve concluir entrega de um card enfileirado de novo durante a entrega")
+    void completeClaim_shouldKeepRowEnqueuedDuringDelivery() {
+        // ARRANGE
+        repository.enqueue(1L, IntegrationType.CALENDAR, NOW);
+        Long id = repository.claimBatch("lote-1", 10, NOW, STALE_BEFORE).get(0).getId();
+        repository.enqueue(1L, IntegrationType.CALENDAR, NOW);
+
+        // ACT
+        boolean completed = repository.completeClaim(id, "lote-1", NOW);
+        repository.releaseClaim(id);
+        List<IntegrationSyncStatus> redelivered = repository.claimBatch("lote-2", 10, NOW, STALE_BEFORE);
+        boolean completedAgain = repository.completeClaim(id, "lote-2", NOW);
+
+        // ASSERT
+        assertFalse(completed);
+        assertEquals(1, redelivered.size());
+        assertTrue(completedAgain);
+        IntegrationSyncStatus status = repository.findById(id).orElseThrow();
+        assertEquals(SyncStatus.SYNCED, status.getSyncStatus());
+        assertEquals(NOW, status.getLastSyncDate());
+        assertNull(status.getNextAttemptAt());
+    }
+}
@@ -0,0 +1,140 @@
+package org.desviante.repository;
+
+import org.desviante.calendar.CalendarEvent;
+import org.desviante.calendar.CalendarEventPriority;
+import org.desviante.calendar.CalendarEventType;
+import org.desviante.config.TestDataConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o CalendarEventRepository.
+ *
+ * <p>Verificam a busca de eventos por faixa de data de início, que é
+ * usada pela navegação mensal do calendário, e a reconciliação por
+ * conjunto dos eventos de cards feita na inicialização.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see CalendarEventRepository
+ * @see CalendarEvent
+ */
+@SpringJUnitConfig(classes = TestDataConfig.class)
+@Sql(scripts = "/test-schema.sql")
+@Transactional
+class CalendarEventRepositoryTest {
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas eventos ativos com início no período")
+    void findByDateRange_shouldReturnActiveEventsStartingInRange() {
+        // ARRANGE
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime end = LocalDate.of(2025, 3, 31).atTime(LocalTime.MAX);
+        calendarEventRepository.save(event("Antes do período", start.minusSeconds(1), true));
+        calendarEventRepository.save(event("Início do período", start, true));
+        calendarEventRepository.save(event("Fim do mês", LocalDateTime.of(2025, 3, 31, 23, 59), true));
+        calendarEventRepository.save(event("Inativo", start.plusDays(10), false));
+        calendarEventRepository.save(event("Próximo mês", LocalDateTime.of(2025, 4, 1, 0, 0), true));
+
+        // ACT
+        List<CalendarEvent> result = calendarEventRepository.findByDateRange(start, end);
+
+        // ASSERT
+        assertEquals(List.of("Início do período", "Fim do mês"),
+                result.stream().map(CalendarEvent::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar eventos de cards com um DELETE e um INSERT por conjunto")
+    void reconcileCardEvents_shouldDeleteOrphansAndInsertMissingEvents() {
+        // ARRANGE
+        LocalDate today = LocalDate.of(2025, 3, 10);
+        Long columnId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM board_columns", Long.class);
+        Long withEvent = insertCard(columnId, "Com evento", LocalDateTime.of(2025, 3, 12, 9, 0), null);
+        Long overdue = insertCard(columnId, "Vencido", LocalDateTime.of(2025, 3, 1, 14, 0), LocalDateTime.of(2025, 3, 9, 18, 0));
+        Long allDay = insertCard(columnId, "Dia inteiro", LocalDateTime.of(2025, 3, 15, 0, 0), null);
+        Long unscheduled = insertCard(columnId, "Desagendado", null, null);
+        CalendarEvent existing = calendarEventRepository.save(cardEvent("Com evento", withEvent, "CARD"));
+        calendarEventRepository.save(cardEvent("Desagendado", unscheduled, "Card"));
+
+        // ACT
+        int deleted = calendarEventRepository.deleteOrphanedCardEvents();
+        int created = calendarEventRepository.insertMissingCardEvents(today, today.atTime(8, 0));
+
+        // ASSERT
+        assertEquals(1, deleted);
+        assertEquals(2, created);
+        assertEquals(List.of(existing.getId()), calendarEventRepository.findByRelatedEntity(withEvent, "CARD")
+                .stream().map(CalendarEvent::getId).toList());
+        assertTrue(calendarEventRepository.findByRelatedEntity(unscheduled, "Card").isEmpty());
+
+        CalendarEvent overdueEvent = calendarEventRepository.findByRelatedEntity(overdue, "CARD").get(0);
+        assertEquals(CalendarEventPriority.URGENT, overdueEvent.getPriority());
+        assertEquals("#FF0000", overdueEvent.getColor());
+        assertEquals(LocalDateTime.of(2025, 3, 9, 18, 0), overdueEvent.getEndDateTime());
+        assertFalse(overdueEvent.isAllDay());
+
+        CalendarEvent allDayEvent = calendarEventRepository.findByRelatedEntity(allDay, "CARD").get(0);
+        assertTrue(allDayEvent.isAllDay());
+        assertEquals(CalendarEventPriority.LOW, allDayEvent.getPriority());
+        assertEquals(LocalDateTime.of(2025, 3, 15, 1, 0), allDayEvent.getEndDateTime());
+
+        // Uma segunda reconciliação não encontra nada a fazer
+        assertEquals(0, calendarEventRepository.deleteOrphanedCardEvents());
+        assertEquals(0, calendarEventRepository.insertMissingCardEvents(today, today.atTime(8, 0)));
+    }
+
+    private Long insertCard(Long columnId, String title, LocalDateTime scheduledDate, LocalDateTime dueDate) {
+        jdbcTemplate.update("""
+                INSERT INTO cards (title, creation_date, last_update_date, scheduled_date, due_date, board_column_id, order_index)
+                VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, ?, ?, 0)
+                """, title, scheduledDate, dueDate, columnId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM cards", Long.class);
+    }
+
+    private CalendarEvent cardEvent(String title, Long cardId, String relatedEntityType) {
+        CalendarEvent event = event(title, LocalDateTime.of(2025, 3, 12, 9, 0), true);
+        event.setType(CalendarEventType.CARD);
+        event.setRelatedEntityId(cardId);
+        event.setRelatedEntityType(relatedEntityType);
+        return event;
+    }
+
+    private CalendarEvent event(String title, LocalDateTime startDateTime, boolean active) {
+        return CalendarEvent.builder()
+                .title(title)
+                .startDateTime(startDateTime)
+                .endDateTime(startDateTime.plusHours(1))
+                .type(CalendarEventType.CUSTOM)
+                .active(active)
+                .build();
+    }
+}
@@ -4,19 +4,25 @@ import org.desviante.config.TestDataConfig;
 import org.desviante.model.Board;
 import org.desviante.model.BoardColumn;
 import org.desviante.model.Card;
+import org.desviante.model.CardPosition;
+import org.desviante.model.CardUrgencyCounts;
 import org.desviante.model.enums.BoardColumnKindEnum;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -58,6 +64,9 @@ public class CardRepositoryTest {
     @Autowired
     private BoardColumnRepository columnRepository;
 
+    @Autowired
+    private DataSource dataSource;
+
     private BoardColumn testColumn;
     private Board testBoard;
 
@@ -190,4 +199,242 @@ public class CardRepositoryTest {
         assertNotNull(foundCards);
         assertEquals(2, foundCards.size());
     }
+
+    @Test
+    @DisplayName("Deve contar cards por quadro e tipo de coluna sem carregar os cards")
+    void countByBoardIdInGroupedByColumnKind_shouldAggregatePerBoardAndKind() {
+        // ARRANGE
+        LocalDateTime now = LocalDateTime.now();
+        BoardColumn finalColumn = columnRepository.save(new BoardColumn(null, "Coluna Final", 1, BoardColumnKindEnum.FINAL, testBoard.getId()));
+        Board emptyBoard = boardRepository.save(new Board(null, "Board Vazio", now, null, null));
+        for (int i = 1; i <= 2; i++) {
+            cardRepository.save(Card.builder()
+                    .title("Card Inicial " + i)
+                    .creationDate(now)
+                    .lastUpdateDate(now)
+                    .boardColumnId(testColumn.getId())
+                    .orderIndex(i)
+                    .build());
+        }
+        cardRepository.save(Card.builder()
+                .title("Card Final")
+                .creationDate(now)
+                .lastUpdateDate(now)
+                .boardColumnId(finalColumn.getId())
+                .orderIndex(1)
+                .build());
+
+        // ACT
+        Map<Long, Map<BoardColumnKindEnum, Long>> counts =
+                cardRepository.countByBoardIdInGroupedByColumnKind(List.of(testBoard.getId(), emptyBoard.getId()));
+
+        // ASSERT
+        assertEquals(1, counts.size(), "Quadros sem cards não devem aparecer no resultado.");
+        Map<BoardColumnKindEnum, Long> boardCounts = counts.get(testBoard.getId());
+        assertEquals(2L, boardCounts.get(BoardColumnKindEnum.INITIAL));
+        assertEquals(1L, boardCounts.get(BoardColumnKindEnum.FINAL));
+        assertNull(boardCounts.get(BoardColumnKindEnum.PENDING));
+        assertTrue(cardRepository.countByBoardIdInGroupedByColumnKind(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve buscar a posição e os vizinhos sem carregar a descrição")
+    void positionProjections_shouldReturnOnlyProjectedFields() {
+        // ARRANGE
+        LocalDateTime now = LocalDateTime.now();
+        Card first = cardRepository.save(Card.builder()
+                .title("Primeiro")
+                .description("Descrição longa")
+                .creationDate(now)
+                .lastUpdateDate(now)
+                .boardColumnId(testColumn.getId())
+                .orderIndex(1)
+                .build());
+        Card second = cardRepository.save(Card.builder()
+                .title("Segundo")
+                .description("Outra descrição")
+                .creationDate(now)
+                .lastUpdateDate(now)
+                .boardColumnId(testColumn.getId())
+                .orderIndex(2)
+                .build());
+
+        // ACT
+        Optional<CardPosition> position = cardRepository.findPositionById(first.getId());
+        Optional<CardPosition> next = cardRepository.findNextCardPosition(testColumn.getId(), 1);
+        Optional<CardPosition> previous = cardRepository.findPreviousCardPosition(testColumn.getId(), 1);
+
+        // ASSERT
+        assertEquals(new CardPosition(first.getId(), testColumn.getId(), 1), position.orElseThrow());
+        assertEquals(second.getId(), next.orElseThrow().id());
+        assertTrue(previous.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve trocar posições, achar o vizinho anterior e renumerar a coluna com intervalos")
+    void orderingOperations_shouldKeepColumnOrder() {
+        // ARRANGE
+        Card a = saveCard("A", 1);
+        Card b = saveCard("B", 2);
+        Card c = saveCard("C", 2);
+
+        // ACT
+        cardRepository.swapCardPositions(a.getId(), 2, b.getId(), 1);
+        Optional<CardPosition> beforeC = cardRepository.findPositionBefore(
+                testColumn.getId(), cardRepository.findPositionById(c.getId()).orElseThrow(), b.getId());
+        int renumbered = cardRepository.rebalanceColumnOrder(testColumn.getId(), 1024);
+
+        // ASSERT
+        // "A" empata com "C": não há intervalo livre entre eles
+        assertEquals(new CardPosition(a.getId(), testColumn.getId(), 2), beforeC.orElseThrow());
+        assertEquals(3, renumbered);
+        assertEquals(List.of(1024, 2048, 3072), cardRepository.findByBoardColumnId(testColumn.getId()).stream()
+                .map(Card::getOrderIndex).toList());
+        assertEquals(List.of("B", "A", "C"), cardRepository.findByBoardColumnId(testColumn.getId()).stream()
+                .map(Card::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar a data de alteração dos cards reposicionados, para o backup incremental")
+    void orderingOperations_shouldBumpLastUpdateDate() {
+        // ARRANGE
+        Card a = saveCard("A", 1);
+        Card b = saveCard("B", 2);
+        LocalDateTime old = LocalDateTime.of(2020, 1, 1, 0, 0);
+        new NamedParameterJdbcTemplate(dataSource).update(
+                "UPDATE cards SET last_update_date = :old WHERE board_column_id = :columnId",
+                Map.of("old", old, "columnId", testColumn.getId()));
+
+        // ACT
+        cardRepository.updateOrderIndex(a.getId(), 3);
+        LocalDateTime afterMove = cardRepository.findById(a.getId()).orElseThrow().getLastUpdateDate();
+        LocalDateTime beforeRebalance = cardRepository.findById(b.getId()).orElseThrow().getLastUpdateDate();
+        cardRepository.rebalanceColumnOrder(testColumn.getId(), 1024);
+
+        // ASSERT
+        assertTrue(afterMove.isAfter(old));
+        assertEquals(old, beforeRebalance);
+        assertTrue(cardRepository.findById(b.getId()).orElseThrow().getLastUpdateDate().isAfter(old));
+    }
+
+    @Test
+    @DisplayName("Deve contar todas as faixas de urgência em uma consulta e indicar quando recalcular")
+    void countUrgency_shouldCountAllBucketsAndNextChange() {
+        // ARRANGE
+        LocalDateTime now = LocalDateTime.of(2025, 6, 10, 10, 0);
+        saveCardDue("Vencido", now.minusHours(1), null);
+        saveCardDue("Hoje", now.withHour(18), null);
+        saveCardDue("Amanhã cedo", now.plusDays(1).withHour(8), null);
+        saveCardDue("Em dois dias", now.plusDays(2).withHour(12), null);
+        saveCardDue("Em cinco dias", now.plusDays(5), null);
+        saveCardDue("Concluído e vencido", now.minusDays(1), now.minusDays(2));
+        long modificationsBefore = cardRepository.getModificationCount();
+
+        // ACT
+        CardUrgencyCounts counts = cardRepository.countUrgency(now, 3);
+
+        // ASSERT
+        assertEquals(1, counts.overdue());
+        assertEquals(3, counts.nearDue());
+        assertEquals(1, counts.highUrgency());
+        assertEquals(1, counts.mediumUrgency());
+        assertEquals(1, counts.lowUrgency());
+        // O card de hoje às 18h é o primeiro a mudar de faixa, antes da virada do dia
+        assertEquals(now.withHour(18), counts.nextChange());
+        assertEquals(modificationsBefore, cardRepository.getModificationCount());
+    }
+
+    @Test
+    @DisplayName("Deve incrementar o contador de gravações ao salvar e remover cards")
+    void modificationCount_shouldChangeOnSaveAndDelete() {
+        // ARRANGE
+        long before = cardRepository.getModificationCount();
+
+        // ACT
+        Card card = saveCard("Contado", 1);
+        long afterSave = cardRepository.getModificationCount();
+        cardRepository.deleteById(card.getId());
+
+        // ASSERT
+        assertTrue(afterSave > before);
+        assertTrue(cardRepository.getModificationCount() > afterSave);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por dia e por período incluindo o fim do último dia e excluindo o dia seguinte")
+    void dateRangeQueries_shouldCoverWholeDays() {
+        // ARRANGE
+        LocalDate day = LocalDate.of(2025, 6, 10);
+        Card startOfDay = saveCardScheduled("Início do dia", day.atStartOfDay());
+        Card endOfDay = saveCardScheduled("Fim do dia", day.atTime(23, 59, 59));
+        saveCardScheduled("Dia seguinte", day.plusDays(1).atStartOfDay());
+        saveCardScheduled("Dia anterior", day.minusDays(1).atTime(23, 59, 59));
+        saveCardDue("Vence no período", day.plusDays(2).atTime(23, 59, 59), null);
+        saveCardDue("Vence depois", day.plusDays(3).atStartOfDay(), null);
+
+        // ACT
+        List<Card> scheduledOnDay = cardRepository.findByScheduledDate(day);
+        List<Card> scheduledBetween = cardRepository.findByScheduledDateBetween(day, day.plusDays(1));
+        List<Card> dueBetween = cardRepository.findByDueDateBetween(day, day.plusDays(2));
+
+        // ASSERT
+        assertEquals(List.of(startOfDay.getId(), endOfDay.getId()), scheduledOnDay.stream().map(Card::getId).toList());
+        assertEquals(List.of("Início do dia", "Fim do dia", "Dia seguinte"),
+                scheduledBetween.stream().map(Card::getTitle).toList());
+        assertEquals(List.of("Vence no período"), dueBetween.stream().map(Card::getTitle).toList());
+        assertTrue(cardRepository.findByScheduledDate(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve usar os índices de agendamento e vencimento nas consultas por data")
+    void dateRangeQueries_shouldUseDateIndexes() {
+        // ARRANGE
+        var jdbc = new NamedParameterJdbcTemplate(dataSource);
+        var params = CardRepository.dayRangeParams(LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 12));
+
+        // ACT
+        String scheduledPlan = jdbc.queryForObject("EXPLAIN " + CardRepository.SCHEDULED_DATE_RANGE_SQL, params, String.class);
+        String duePlan = jdbc.queryForObject("EXPLAIN " + CardRepository.DUE_DATE_RANGE_SQL, params, String.class);
+
+        // ASSERT
+        assertTrue(scheduledPlan.toUpperCase().contains("IDX_CARDS_SCHEDULED_DATE"), scheduledPlan);
+        assertTrue(duePlan.toUpperCase().contains("IDX_CARDS_DUE_DATE"), duePlan);
+        assertFalse(scheduledPlan.toUpperCase().contains("TABLESCAN"), scheduledPlan);
+        assertFalse(duePlan.toUpperCase().contains("TABLESCAN"), duePlan);
+    }
+
+    private Card saveCardScheduled(String title, LocalDateTime scheduledDate) {
+        return cardRepository.save(Card.builder()
+                .title(title)
+                .creationDate(scheduledDate.minusDays(10))
+                .lastUpdateDate(scheduledDate.minusDays(10))
+                .scheduledDate(scheduledDate)
+                .boardColumnId(testColumn.getId())
+                .orderIndex(1)
+                .build());
+    }
+
+    private void saveCardDue(String title, LocalDateTime dueDate, LocalDateTime completionDate) {
+        LocalDateTime created = dueDate.minusDays(10);
+        cardRepository.save(Card.builder()
+                .title(title)
+                .creationDate(created)
+                .lastUpdateDate(created)
+                .dueDate(dueDate)
+                .completionDate(completionDate)
+                .boardColumnId(testColumn.getId())
+                .orderIndex(1)
+                .build());
+    }
+
+    private Card saveCard(String title, int orderIndex) {
+        LocalDateTime now = LocalDateTime.now();
+        return cardRepository.save(Card.builder()
+                .title(title)
+                .creationDate(now)
+                .lastUpdateDate(now)
+                .boardColumnId(testColumn.getId())
+                .orderIndex(orderIndex)
+                .build());
+    }
 }
@@ -0,0 +1,112 @@
+package org.desviante.repository;
+
+import org.desviante.config.TestDataConfig;
+import org.desviante.model.CheckListItem;
+import org.desviante.model.ChecklistProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o CheckListItemRepository.
+ *
+ * <p>Verificam a carga dos itens de todos os cards de um board em uma
+ * única consulta e as contagens agregadas de progresso do checklist.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see CheckListItemRepository
+ */
+@SpringJUnitConfig(classes = TestDataConfig.class)
+@Sql(scripts = "/test-schema.sql")
+@Transactional
+class CheckListItemRepositoryTest {
+
+    @Autowired
+    private CheckListItemRepository checklistItemRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os itens de todos os cards do board, ordenados por card e posição")
+    void findByBoardIdOrderByCardIdAndOrderIndex_shouldReturnOnlyItemsOfBoard() {
+        // ARRANGE
+        Long boardId = insertBoard("Board A");
+        Long otherBoardId = insertBoard("Board B");
+        Long firstCardId = insertCard(insertColumn(boardId, 0), "Card 1");
+        Long secondCardId = insertCard(insertColumn(boardId, 1), "Card 2");
+        Long otherCardId = insertCard(insertColumn(otherBoardId, 0), "Outro card");
+        checklistItemRepository.save(new CheckListItem(null, secondCardId, "c2-a", false, 0));
+        checklistItemRepository.save(new CheckListItem(null, firstCardId, "c1-b", false, 1));
+        checklistItemRepository.save(new CheckListItem(null, firstCardId, "c1-a", true, 0));
+        checklistItemRepository.save(new CheckListItem(null, otherCardId, "outro", false, 0));
+
+        // ACT
+        List<CheckListItem> result = checklistItemRepository.findByBoardIdOrderByCardIdAndOrderIndex(boardId);
+
+        // ASSERT
+        assertEquals(List.of("c1-a", "c1-b", "c2-a"), result.stream().map(CheckListItem::getText).toList());
+    }
+
+    @Test
+    @DisplayName("Deve contar itens totais e concluídos do card em uma única consulta")
+    void countProgress_shouldAggregateTotalAndCompleted() {
+        // ARRANGE
+        Long columnId = insertColumn(insertBoard("Board"), 0);
+        Long cardId = insertCard(columnId, "Com itens");
+        Long emptyCardId = insertCard(columnId, "Sem itens");
+        checklistItemRepository.save(new CheckListItem(null, cardId, "a", true, 0));
+        checklistItemRepository.save(new CheckListItem(null, cardId, "b", false, 1));
+        checklistItemRepository.save(new CheckListItem(null, cardId, "c", true, 2));
+
+        // ACT
+        ChecklistProgress progress = checklistItemRepository.countProgressByCardId(cardId);
+        ChecklistProgress emptyProgress = checklistItemRepository.countProgressByCardId(emptyCardId);
+
+        // ASSERT
+        assertEquals(new ChecklistProgress(3, 2), progress);
+        assertEquals(ChecklistProgress.EMPTY, emptyProgress);
+    }
+
+    private Long insertBoard(String name) {
+        jdbcTemplate.update("INSERT INTO boards (name, creation_date) VALUES (?, CURRENT_TIMESTAMP)", name);
+        return lastId("boards");
+    }
+
+    private Long insertColumn(Long boardId, int orderIndex) {
+        jdbcTemplate.update("INSERT INTO board_columns (name, order_index, kind, board_id) VALUES (?, ?, 'INITIAL', ?)",
+                "Coluna " + orderIndex, orderIndex, boardId);
+        return lastId("board_columns");
+    }
+
+    private Long insertCard(Long columnId, String title) {
+        jdbcTemplate.update("""
+                INSERT INTO cards (title, progress_type, creation_date, last_update_date, board_column_id)
+                VALUES (?, 'CHECKLIST', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?)
+                """, title, columnId);
+        return lastId("cards");
+    }
+
+    private Long lastId(String table) {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+    }
+}
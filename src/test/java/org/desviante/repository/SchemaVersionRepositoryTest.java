@@ -0,0 +1,70 @@
+package org.desviante.repository;
+
+import org.desviante.config.TestDataConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o SchemaVersionRepository.
+ *
+ * <p>Verificam que as migrações de esquema rodam uma única vez por versão
+ * e que uma migração com falha é tentada de novo.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see SchemaVersionRepository
+ */
+@SpringJUnitConfig(classes = TestDataConfig.class)
+@Sql(scripts = "/test-schema.sql")
+@Transactional
+class SchemaVersionRepositoryTest {
+
+    @Autowired
+    private SchemaVersionRepository schemaVersionRepository;
+
+    @Test
+    @DisplayName("Deve executar a migração apenas uma vez por versão")
+    void runOnce_shouldSkipAppliedVersion() {
+        // ARRANGE
+        AtomicInteger runs = new AtomicInteger();
+
+        // ACT
+        boolean first = schemaVersionRepository.runOnce("teste.componente", 1, () -> runs.incrementAndGet() > 0);
+        boolean repeated = schemaVersionRepository.runOnce("teste.componente", 1, () -> runs.incrementAndGet() > 0);
+        boolean upgraded = schemaVersionRepository.runOnce("teste.componente", 2, () -> runs.incrementAndGet() > 0);
+
+        // ASSERT
+        assertTrue(first);
+        assertFalse(repeated);
+        assertTrue(upgraded);
+        assertEquals(2, runs.get());
+        assertEquals(Optional.of(2), schemaVersionRepository.findVersion("teste.componente"));
+    }
+
+    @Test
+    @DisplayName("Não deve registrar a versão quando a migração falha")
+    void runOnce_shouldRetryFailedMigration() {
+        // ARRANGE
+        AtomicInteger runs = new AtomicInteger();
+
+        // ACT
+        schemaVersionRepository.runOnce("teste.falha", 1, () -> runs.incrementAndGet() > 1);
+        schemaVersionRepository.runOnce("teste.falha", 1, () -> runs.incrementAndGet() > 1);
+        boolean third = schemaVersionRepository.runOnce("teste.falha", 1, () -> runs.incrementAndGet() > 1);
+
+        // ASSERT
+        assertFalse(third);
+        assertEquals(2, runs.get());
+        assertEquals(Optional.of(1), schemaVersionRepository.findVersion("teste.falha"));
+    }
+}
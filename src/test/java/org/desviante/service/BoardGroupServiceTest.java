@@ -3,9 +3,7 @@ package org.desviante.service;
 import org.desviante.config.AppMetadataConfig;
 import org.desviante.exception.ResourceNotFoundException;
 import org.desviante.model.Board;
-import org.desviante.model.BoardColumn;
 import org.desviante.model.BoardGroup;
-import org.desviante.model.Card;
 import org.desviante.model.enums.BoardColumnKindEnum;
 import org.desviante.repository.BoardGroupRepository;
 import org.desviante.repository.BoardRepository;
@@ -21,7 +19,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,9 +38,6 @@ class BoardGroupServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
-    @Mock
-    private BoardColumnService columnService;
-
     @Mock
     private CardService cardService;
     
@@ -256,33 +253,10 @@ class BoardGroupServiceTest {
         Board board1 = new Board(1L, "Board 1", LocalDateTime.now(), groupId, null);
         Board board2 = new Board(2L, "Board 2", LocalDateTime.now(), groupId, null);
         
-        BoardColumn column1 = new BoardColumn(1L, "A Fazer", 0, BoardColumnKindEnum.INITIAL, 1L);
-        BoardColumn column2 = new BoardColumn(2L, "Em Andamento", 1, BoardColumnKindEnum.PENDING, 1L);
-        BoardColumn column3 = new BoardColumn(3L, "Concluído", 2, BoardColumnKindEnum.FINAL, 1L);
-        
-        Card card1 = Card.builder()
-                .id(1L)
-                .title("Card 1")
-                .description("Descrição 1")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(1)
-                .build();
-        Card card2 = Card.builder()
-                .id(2L)
-                .title("Card 2")
-                .description("Descrição 2")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(2L)
-                .orderIndex(1)
-                .build();
-        
         when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board1, board2));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(column1, column2, column3));
-        when(cardService.getCardsForColumns(Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(card1, card2));
+        when(cardService.countCardsByBoardAndColumnKind(Arrays.asList(1L, 2L)))
+                .thenReturn(Map.of(1L, counts(1, 1, 0)));
 
         // Act
         List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
@@ -291,13 +265,15 @@ class BoardGroupServiceTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("Board 1", result.get(0).name());
+        assertEquals("Em andamento", result.get(0).status());
         assertEquals("Board 2", result.get(1).name());
+        assertEquals("Vazio", result.get(1).status());
         
         // Verify
         verify(boardGroupRepository).findById(groupId);
         verify(boardRepository).findByGroupId(groupId);
-        verify(columnService).getColumnsForBoards(Arrays.asList(1L, 2L));
-        verify(cardService).getCardsForColumns(Arrays.asList(1L, 2L, 3L));
+        verify(cardService).countCardsByBoardAndColumnKind(Arrays.asList(1L, 2L));
+        verify(cardService, never()).getCardsForColumns(any());
     }
 
     @Test
@@ -320,7 +296,7 @@ class BoardGroupServiceTest {
         // Verify
         verify(boardGroupRepository).findById(groupId);
         verify(boardRepository).findByGroupId(groupId);
-        verifyNoInteractions(columnService, cardService);
+        verifyNoInteractions(cardService);
     }
 
     @Test
@@ -338,7 +314,7 @@ class BoardGroupServiceTest {
         
         // Verify
         verify(boardGroupRepository).findById(groupId);
-        verifyNoInteractions(boardRepository, columnService, cardService);
+        verifyNoInteractions(boardRepository, cardService);
     }
 
     @Test
@@ -348,12 +324,10 @@ class BoardGroupServiceTest {
         Long groupId = 1L;
         BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
         Board board = new Board(1L, "Board Vazio", LocalDateTime.now(), groupId, null);
-        BoardColumn column = new BoardColumn(1L, "A Fazer", 0, BoardColumnKindEnum.INITIAL, 1L);
         
         when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Arrays.asList(column));
-        when(cardService.getCardsForColumns(Arrays.asList(1L))).thenReturn(Collections.emptyList());
+        when(cardService.countCardsByBoardAndColumnKind(Arrays.asList(1L))).thenReturn(Collections.emptyMap());
 
         // Act
         List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
@@ -376,31 +350,10 @@ class BoardGroupServiceTest {
         Long groupId = 1L;
         BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
         Board board = new Board(1L, "Board Concluído", LocalDateTime.now(), groupId, null);
-        BoardColumn column = new BoardColumn(1L, "Concluído", 0, BoardColumnKindEnum.FINAL, 1L);
-        
-        Card card1 = Card.builder()
-                .id(1L)
-                .title("Card 1")
-                .description("Descrição 1")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(1)
-                .build();
-        Card card2 = Card.builder()
-                .id(2L)
-                .title("Card 2")
-                .description("Descrição 2")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(2)
-                .build();
         
         when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Arrays.asList(column));
-        when(cardService.getCardsForColumns(Arrays.asList(1L))).thenReturn(Arrays.asList(card1, card2));
+        when(cardService.countCardsByBoardAndColumnKind(Arrays.asList(1L))).thenReturn(Map.of(1L, counts(0, 0, 2)));
 
         // Act
         List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
@@ -423,31 +376,10 @@ class BoardGroupServiceTest {
         Long groupId = 1L;
         BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
         Board board = new Board(1L, "Board Não Iniciado", LocalDateTime.now(), groupId, null);
-        BoardColumn column = new BoardColumn(1L, "A Fazer", 0, BoardColumnKindEnum.INITIAL, 1L);
-        
-        Card card1 = Card.builder()
-                .id(1L)
-                .title("Card 1")
-                .description("Descrição 1")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(1)
-                .build();
-        Card card2 = Card.builder()
-                .id(2L)
-                .title("Card 2")
-                .description("Descrição 2")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(2)
-                .build();
         
         when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Arrays.asList(column));
-        when(cardService.getCardsForColumns(Arrays.asList(1L))).thenReturn(Arrays.asList(card1, card2));
+        when(cardService.countCardsByBoardAndColumnKind(Arrays.asList(1L))).thenReturn(Map.of(1L, counts(2, 0, 0)));
 
         // Act
         List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
@@ -471,42 +403,9 @@ class BoardGroupServiceTest {
         BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
         Board board = new Board(1L, "Board Em Andamento", LocalDateTime.now(), groupId, null);
         
-        BoardColumn column1 = new BoardColumn(1L, "A Fazer", 0, BoardColumnKindEnum.INITIAL, 1L);
-        BoardColumn column2 = new BoardColumn(2L, "Em Andamento", 1, BoardColumnKindEnum.PENDING, 1L);
-        BoardColumn column3 = new BoardColumn(3L, "Concluído", 2, BoardColumnKindEnum.FINAL, 1L);
-        
-        Card card1 = Card.builder()
-                .id(1L)
-                .title("Card 1")
-                .description("Descrição 1")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(1)
-                .build();
-        Card card2 = Card.builder()
-                .id(2L)
-                .title("Card 2")
-                .description("Descrição 2")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(2L)
-                .orderIndex(1)
-                .build();
-        Card card3 = Card.builder()
-                .id(3L)
-                .title("Card 3")
-                .description("Descrição 3")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(3L)
-                .orderIndex(1)
-                .build();
-        
         when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Arrays.asList(column1, column2, column3));
-        when(cardService.getCardsForColumns(Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(card1, card2, card3));
+        when(cardService.countCardsByBoardAndColumnKind(Arrays.asList(1L))).thenReturn(Map.of(1L, counts(1, 1, 1)));
 
         // Act
         List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
@@ -530,78 +429,9 @@ class BoardGroupServiceTest {
         BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
         Board board = new Board(1L, "Board Percentuais", LocalDateTime.now(), groupId, null);
         
-        BoardColumn column1 = new BoardColumn(1L, "A Fazer", 0, BoardColumnKindEnum.INITIAL, 1L);
-        BoardColumn column2 = new BoardColumn(2L, "Em Andamento", 1, BoardColumnKindEnum.PENDING, 1L);
-        BoardColumn column3 = new BoardColumn(3L, "Concluído", 2, BoardColumnKindEnum.FINAL, 1L);
-        
-        Card card1 = Card.builder()
-                .id(1L)
-                .title("Card 1")
-                .description("Descrição 1")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(1)
-                .build();
-        Card card2 = Card.builder()
-                .id(2L)
-                .title("Card 2")
-                .description("Descrição 2")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(1L)
-                .orderIndex(2)
-                .build();
-        Card card3 = Card.builder()
-                .id(3L)
-                .title("Card 3")
-                .description("Descrição 3")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(2L)
-                .orderIndex(1)
-                .build();
-        Card card4 = Card.builder()
-                .id(4L)
-                .title("Card 4")
-                .description("Descrição 4")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(2L)
-                .orderIndex(2)
-                .build();
-        Card card5 = Card.builder()
-                .id(5L)
-                .title("Card 5")
-                .description("Descrição 5")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(2L)
-                .orderIndex(3)
-                .build();
-        Card card6 = Card.builder()
-                .id(6L)
-                .title("Card 6")
-                .description("Descrição 6")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(3L)
-                .orderIndex(1)
-                .build();
-        Card card7 = Card.builder()
-                .id(7L)
-                .title("Card 7")
-                .description("Descrição 7")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(3L)
-                .orderIndex(2)
-                .build();
-        
         when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Arrays.asList(column1, column2, column3));
-        when(cardService.getCardsForColumns(Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(card1, card2, card3, card4, card5, card6, card7));
+        when(cardService.countCardsByBoardAndColumnKind(Arrays.asList(1L))).thenReturn(Map.of(1L, counts(2, 3, 2)));
 
         // Act
         List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
@@ -617,69 +447,15 @@ class BoardGroupServiceTest {
         assertEquals(28, boardSummary.percentFinal()); // 2/7 = 28%
     }
 
-    @Test
-    @DisplayName("Deve lidar corretamente quando board não tem colunas")
-    void shouldHandleBoardWithNoColumns() {
-        // Arrange
-        Long groupId = 1L;
-        BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
-        Board board = new Board(1L, "Board Sem Colunas", LocalDateTime.now(), groupId, null);
-        
-        when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
-        when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Collections.emptyList());
-        when(cardService.getCardsForColumns(Collections.emptyList())).thenReturn(Collections.emptyList());
-
-        // Act
-        List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        BoardSummaryDTO boardSummary = result.get(0);
-        assertEquals("Board Sem Colunas", boardSummary.name());
-        assertEquals("Vazio", boardSummary.status());
-        assertEquals(0, boardSummary.percentInitial());
-        assertEquals(0, boardSummary.percentPending());
-        assertEquals(0, boardSummary.percentFinal());
-    }
-
-    @Test
-    @DisplayName("Deve lidar corretamente quando card não tem coluna associada")
-    void shouldHandleCardWithNoAssociatedColumn() {
-        // Arrange
-        Long groupId = 1L;
-        BoardGroup group = new BoardGroup(groupId, "Trabalho", "Grupo de trabalho", "#FF5733", "💼", LocalDateTime.now());
-        Board board = new Board(1L, "Board Card Órfão", LocalDateTime.now(), groupId, null);
-        BoardColumn column = new BoardColumn(1L, "A Fazer", 0, BoardColumnKindEnum.INITIAL, 1L);
-        
-        Card card = Card.builder()
-                .id(1L)
-                .title("Card Órfão")
-                .description("Descrição")
-                .creationDate(LocalDateTime.now())
-                .lastUpdateDate(LocalDateTime.now())
-                .boardColumnId(999L) // ID de coluna inexistente
-                .orderIndex(1)
-                .build();
-        
-        when(boardGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
-        when(boardRepository.findByGroupId(groupId)).thenReturn(Arrays.asList(board));
-        when(columnService.getColumnsForBoards(Arrays.asList(1L))).thenReturn(Arrays.asList(column));
-        when(cardService.getCardsForColumns(Arrays.asList(1L))).thenReturn(Arrays.asList(card));
-
-        // Act
-        List<BoardSummaryDTO> result = boardGroupService.getBoardsByGroup(groupId);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        BoardSummaryDTO boardSummary = result.get(0);
-        assertEquals("Board Card Órfão", boardSummary.name());
-        assertEquals("Vazio", boardSummary.status()); // Como o card não tem coluna válida, é considerado vazio
-        assertEquals(0, boardSummary.percentInitial());
-        assertEquals(0, boardSummary.percentPending());
-        assertEquals(0, boardSummary.percentFinal());
+    /**
+     * Monta o mapa de contagens por tipo de coluna retornado pelo CardService.
+     */
+    private static Map<BoardColumnKindEnum, Long> counts(long initial, long pending, long fin) {
+        Map<BoardColumnKindEnum, Long> counts = new EnumMap<>(BoardColumnKindEnum.class);
+        counts.put(BoardColumnKindEnum.INITIAL, initial);
+        counts.put(BoardColumnKindEnum.PENDING, pending);
+        counts.put(BoardColumnKindEnum.FINAL, fin);
+        return counts;
     }
 
     // Testes para updateBoardGroup
@@ -2,6 +2,7 @@ package org.desviante.service;
 
 import org.desviante.model.Card;
 import org.desviante.model.CardType;
+import org.desviante.model.CardUrgencyCounts;
 import org.desviante.model.enums.ProgressType;
 import org.desviante.repository.CardRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -419,17 +420,8 @@ class CardDueDateServiceTest {
     @DisplayName("Deve calcular estatísticas de urgência baseadas em data de vencimento")
     void deveCalcularEstatisticasDeUrgenciaBaseadasEmDataVencimento() {
         // Arrange
-        Card overdueCard = createCardWithDueDate(LocalDateTime.now().minusDays(1), 1L);
-        Card nearDueCard = createCardWithDueDate(LocalDateTime.now().plusDays(1), 2L);
-        Card highUrgencyCard = createCardWithDueDate(LocalDateTime.now().withHour(23).withMinute(59), 3L);
-        Card mediumUrgencyCard = createCardWithDueDate(LocalDateTime.now().plusDays(1), 4L);
-        Card lowUrgencyCard = createCardWithDueDate(LocalDateTime.now().plusDays(3), 5L);
-        
-        when(cardRepository.findOverdue()).thenReturn(Arrays.asList(overdueCard));
-        when(cardRepository.findNearDue(3)).thenReturn(Arrays.asList(nearDueCard));
-        when(cardRepository.findByUrgencyLevel(1)).thenReturn(Arrays.asList(lowUrgencyCard));
-        when(cardRepository.findByUrgencyLevel(2)).thenReturn(Arrays.asList(mediumUrgencyCard));
-        when(cardRepository.findByUrgencyLevel(3)).thenReturn(Arrays.asList(highUrgencyCard));
+        when(cardRepository.countUrgency(any(LocalDateTime.class), eq(3)))
+                .thenReturn(new CardUrgencyCounts(1, 1, 1, 1, 1, LocalDateTime.now().plusHours(1)));
 
         // Act
         CardService.UrgencyStats stats = cardService.getUrgencyStats();
@@ -442,11 +434,7 @@ class CardDueDateServiceTest {
         assertThat(stats.getLowUrgencyCount()).isEqualTo(1);
         assertThat(stats.getTotalUrgentCards()).isEqualTo(3);
         
-        verify(cardRepository).findOverdue();
-        verify(cardRepository).findNearDue(3);
-        verify(cardRepository).findByUrgencyLevel(1);
-        verify(cardRepository).findByUrgencyLevel(2);
-        verify(cardRepository).findByUrgencyLevel(3);
+        verify(cardRepository).countUrgency(any(LocalDateTime.class), eq(3));
     }
 
     @Test
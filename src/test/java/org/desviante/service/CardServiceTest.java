@@ -4,7 +4,9 @@ import org.desviante.calendar.CalendarEventManager;
 import org.desviante.exception.ResourceNotFoundException;
 import org.desviante.model.BoardColumn;
 import org.desviante.model.Card;
+import org.desviante.model.CardPosition;
 import org.desviante.model.CardType;
+import org.desviante.model.enums.BoardColumnKindEnum;
 import org.desviante.model.enums.ProgressType;
 import org.desviante.repository.BoardColumnRepository;
 import org.desviante.repository.CardRepository;
@@ -22,6 +24,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -578,4 +581,127 @@ class CardServiceTest {
         verify(cardRepository, times(1)).findById(cardId);
         verify(cardRepository, times(1)).save(any(Card.class));
     }
+
+    @Test
+    @DisplayName("Deve mover o card para o meio do intervalo entre os vizinhos com um único UPDATE")
+    void shouldMoveCardToPositionUsingGapBetweenNeighbours() {
+        // Arrange
+        Long columnId = 10L;
+        Card card = Card.builder().id(1L).boardColumnId(columnId).orderIndex(3072).build();
+        CardPosition before = new CardPosition(2L, columnId, 2048);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(cardRepository.findPositionById(2L)).thenReturn(Optional.of(before));
+        when(cardRepository.findPositionBefore(columnId, before, 1L))
+                .thenReturn(Optional.of(new CardPosition(3L, columnId, 1024)));
+
+        // Act
+        Card result = cardService.moveCardToPosition(1L, columnId, 2L);
+
+        // Assert
+        assertEquals(1536, result.getOrderIndex());
+        verify(cardRepository).updateOrderIndex(1L, 1536);
+        verify(cardRepository, never()).rebalanceColumnOrder(any(), anyInt());
+        verify(cardRepository, never()).save(any(Card.class));
+    }
+
+    @Test
+    @DisplayName("Deve renumerar a coluna quando não há intervalo livre entre os vizinhos")
+    void shouldRebalanceColumnWhenGapIsExhausted() {
+        // Arrange
+        Long columnId = 10L;
+        Card card = Card.builder().id(1L).boardColumnId(columnId).orderIndex(9).build();
+        CardPosition crowded = new CardPosition(2L, columnId, 5);
+        CardPosition rebalanced = new CardPosition(2L, columnId, 2 * CardService.ORDER_GAP);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(cardRepository.findPositionById(2L))
+                .thenReturn(Optional.of(crowded))
+                .thenReturn(Optional.of(rebalanced));
+        when(cardRepository.findPositionBefore(columnId, crowded, 1L))
+                .thenReturn(Optional.of(new CardPosition(3L, columnId, 4)));
+        when(cardRepository.findPositionBefore(columnId, rebalanced, 1L))
+                .thenReturn(Optional.of(new CardPosition(3L, columnId, CardService.ORDER_GAP)));
+
+        // Act
+        Card result = cardService.moveCardToPosition(1L, columnId, 2L);
+
+        // Assert
+        verify(cardRepository).rebalanceColumnOrder(columnId, CardService.ORDER_GAP);
+        assertEquals(CardService.ORDER_GAP + CardService.ORDER_GAP / 2, result.getOrderIndex());
+    }
+
+    @Test
+    @DisplayName("Deve inserir no topo usando o meio do intervalo entre 0 e o primeiro card")
+    void shouldMoveCardToTopWithoutNegativeOrderIndex() {
+        // Arrange
+        Long columnId = 10L;
+        Card card = Card.builder().id(1L).boardColumnId(columnId).orderIndex(3072).build();
+        CardPosition first = new CardPosition(2L, columnId, CardService.ORDER_GAP);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(cardRepository.findPositionById(2L)).thenReturn(Optional.of(first));
+        when(cardRepository.findPositionBefore(columnId, first, 1L)).thenReturn(Optional.empty());
+
+        // Act
+        Card result = cardService.moveCardToPosition(1L, columnId, 2L);
+
+        // Assert
+        assertEquals(CardService.ORDER_GAP / 2, result.getOrderIndex());
+        verify(cardRepository).updateOrderIndex(1L, CardService.ORDER_GAP / 2);
+        verify(cardRepository, never()).rebalanceColumnOrder(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve renumerar a coluna quando não há espaço antes do primeiro card")
+    void shouldRebalanceColumnWhenTopGapIsExhausted() {
+        // Arrange
+        Long columnId = 10L;
+        Card card = Card.builder().id(1L).boardColumnId(columnId).orderIndex(3072).build();
+        CardPosition crowded = new CardPosition(2L, columnId, 1);
+        CardPosition rebalanced = new CardPosition(2L, columnId, CardService.ORDER_GAP);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(cardRepository.findPositionById(2L))
+                .thenReturn(Optional.of(crowded))
+                .thenReturn(Optional.of(rebalanced));
+        when(cardRepository.findPositionBefore(eq(columnId), any(CardPosition.class), eq(1L)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        Card result = cardService.moveCardToPosition(1L, columnId, 2L);
+
+        // Assert
+        verify(cardRepository).rebalanceColumnOrder(columnId, CardService.ORDER_GAP);
+        assertEquals(CardService.ORDER_GAP / 2, result.getOrderIndex());
+    }
+
+    @Test
+    @DisplayName("Deve mover o card para o fim de outra coluna aplicando a regra de conclusão")
+    void shouldMoveCardToEndOfAnotherColumn() {
+        // Arrange
+        Card card = Card.builder().id(1L).boardColumnId(10L).orderIndex(1024).build();
+        BoardColumn finalColumn = new BoardColumn(20L, "Concluído", 2, BoardColumnKindEnum.FINAL, 1L);
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(columnRepository.findById(20L)).thenReturn(Optional.of(finalColumn));
+        when(cardRepository.findMaxOrderIndexByColumnId(20L)).thenReturn(4096);
+        when(cardRepository.save(any(Card.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Card result = cardService.moveCardToPosition(1L, 20L, null);
+
+        // Assert
+        assertEquals(20L, result.getBoardColumnId());
+        assertEquals(4096 + CardService.ORDER_GAP, result.getOrderIndex());
+        assertNotNull(result.getCompletionDate());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar card de referência que não está na coluna de destino")
+    void shouldRejectReferenceCardFromAnotherColumn() {
+        // Arrange
+        Card card = Card.builder().id(1L).boardColumnId(10L).orderIndex(1024).build();
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(cardRepository.findPositionById(2L)).thenReturn(Optional.of(new CardPosition(2L, 99L, 2048)));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> cardService.moveCardToPosition(1L, 10L, 2L));
+        verify(cardRepository, never()).updateOrderIndex(any(), anyInt());
+    }
 }
@@ -14,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -144,7 +146,7 @@ class CardTypeServiceTest {
         when(cardTypeRepository.findById(1L)).thenReturn(Optional.of(testCardType));
         when(cardRepository.existsByCardTypeId(1L)).thenReturn(true);
         when(cardRepository.countByCardTypeId(1L)).thenReturn(1);
-        when(cardRepository.findByCardTypeId(1L)).thenReturn(Arrays.asList(testCard));
+        when(cardRepository.findTitlesByCardTypeId(1L)).thenReturn(Arrays.asList("Test Card"));
 
         // Act & Assert
         CardTypeInUseException exception = assertThrows(CardTypeInUseException.class, () -> {
@@ -158,7 +160,8 @@ class CardTypeServiceTest {
 
         verify(cardRepository).existsByCardTypeId(1L);
         verify(cardRepository).countByCardTypeId(1L);
-        verify(cardRepository).findByCardTypeId(1L);
+        verify(cardRepository).findTitlesByCardTypeId(1L);
+        verify(cardRepository, never()).findByCardTypeId(any());
         verify(cardTypeRepository, never()).deleteById(any());
     }
 
@@ -180,20 +183,20 @@ class CardTypeServiceTest {
     @DisplayName("Deve limitar a exibição de cards afetados na mensagem de erro")
     void shouldLimitAffectedCardsDisplayInErrorMessage() {
         // Arrange
-        List<Card> manyCards = Arrays.asList(
-                createCard("Card 1"),
-                createCard("Card 2"),
-                createCard("Card 3"),
-                createCard("Card 4"),
-                createCard("Card 5"),
-                createCard("Card 6"),
-                createCard("Card 7")
+        List<String> manyCards = Arrays.asList(
+                "Card 1",
+                "Card 2",
+                "Card 3",
+                "Card 4",
+                "Card 5",
+                "Card 6",
+                "Card 7"
         );
 
         when(cardTypeRepository.findById(1L)).thenReturn(Optional.of(testCardType));
         when(cardRepository.existsByCardTypeId(1L)).thenReturn(true);
         when(cardRepository.countByCardTypeId(1L)).thenReturn(7);
-        when(cardRepository.findByCardTypeId(1L)).thenReturn(manyCards);
+        when(cardRepository.findTitlesByCardTypeId(1L)).thenReturn(manyCards);
 
         // Act & Assert
         CardTypeInUseException exception = assertThrows(CardTypeInUseException.class, () -> {
@@ -207,15 +210,6 @@ class CardTypeServiceTest {
         assertTrue(message.contains("Remova ou migre todos os cards para outro tipo antes de remover este tipo"));
     }
 
-    private Card createCard(String title) {
-        Card card = new Card();
-        card.setId((long) title.hashCode());
-        card.setTitle(title);
-        card.setDescription("Description for " + title);
-        card.setCardTypeId(1L);
-        return card;
-    }
-    
     @Test
     @DisplayName("Deve impedir exclusão de tipo de card configurado como padrão")
     void shouldPreventDeletionOfDefaultCardType() {
@@ -328,4 +322,94 @@ class CardTypeServiceTest {
         verifyNoMoreInteractions(cardTypeRepository);
         verifyNoInteractions(cardRepository);
     }
+
+    @Test
+    @DisplayName("Deve reutilizar o tipo em cache nas consultas repetidas por ID")
+    void getCardTypeById_shouldServeRepeatedLookupsFromCache() {
+        // Arrange
+        when(cardTypeRepository.findById(1L)).thenReturn(Optional.of(testCardType));
+
+        // Act
+        CardType first = cardTypeService.getCardTypeById(1L);
+        CardType second = cardTypeService.getCardTypeById(1L);
+        CardType third = cardTypeService.getCardTypeById(1L);
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(first, third);
+        assertNotSame(second, third);
+        verify(cardTypeRepository, times(1)).findById(1L);
+
+        CardTypeService.CacheStats stats = cardTypeService.getCacheStats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao atualizar um tipo de card")
+    void updateCardType_shouldInvalidateCache() {
+        // Arrange
+        CardType renamed = CardType.builder()
+                .id(1L)
+                .name("Renamed Type")
+                .unitLabel("test")
+                .build();
+        when(cardTypeRepository.findById(1L))
+                .thenReturn(Optional.of(testCardType))
+                .thenReturn(Optional.of(testCardType))
+                .thenReturn(Optional.of(renamed));
+        when(cardTypeRepository.findByName("Renamed Type")).thenReturn(Optional.empty());
+        when(cardTypeRepository.update(any(CardType.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        cardTypeService.getCardTypeById(1L);
+
+        // Act
+        cardTypeService.updateCardType(1L, "Renamed Type", "test");
+        CardType afterUpdate = cardTypeService.getCardTypeById(1L);
+
+        // Assert
+        assertSame(renamed, afterUpdate);
+        verify(cardTypeRepository, times(3)).findById(1L);
+        assertEquals(1, cardTypeService.getCacheStats().size());
+    }
+
+    @Test
+    @DisplayName("Não deve expor ao chamador a instância guardada no cache")
+    void getCardTypeById_shouldNotLetCallersChangeCachedType() {
+        // Arrange
+        when(cardTypeRepository.findById(1L)).thenReturn(Optional.of(testCardType));
+        cardTypeService.getCardTypeById(1L);
+
+        // Act
+        cardTypeService.getCardTypeById(1L).setName("Editado sem salvar");
+        testCardType.setUnitLabel("alterado no repositório");
+        CardType cached = cardTypeService.getCardTypeById(1L);
+
+        // Assert
+        assertEquals("Test Type", cached.getName());
+        assertEquals("test", cached.getUnitLabel());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache de novo ao fim da transação de escrita")
+    void invalidateCache_shouldClearAgainAfterTransactionCompletes() {
+        // Arrange
+        when(cardTypeRepository.findById(1L)).thenReturn(Optional.of(testCardType));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cardTypeService.invalidateCache();
+            // Leitura concorrente antes do commit coloca o tipo antigo de volta no cache
+            cardTypeService.getCardTypeById(1L);
+            assertEquals(1, cardTypeService.getCacheStats().size());
+
+            // Act
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Assert
+            assertEquals(0, cardTypeService.getCacheStats().size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
\ No newline at end of file
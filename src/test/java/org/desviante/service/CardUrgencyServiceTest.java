@@ -2,6 +2,7 @@ package org.desviante.service;
 
 import org.desviante.model.Card;
 import org.desviante.model.CardType;
+import org.desviante.model.CardUrgencyCounts;
 import org.desviante.model.enums.ProgressType;
 import org.desviante.repository.CardRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +13,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 
@@ -243,16 +246,8 @@ class CardUrgencyServiceTest {
     @DisplayName("Deve calcular estatísticas de urgência corretamente")
     void deveCalcularEstatisticasDeUrgenciaCorretamente() {
         // Arrange
-        Card card1 = createCardWithDueDate(LocalDateTime.now().withHour(23).withMinute(59), 1L); // ALTA
-        Card card2 = createCardWithDueDate(LocalDateTime.now().plusDays(1), 2L); // MÉDIA
-        Card card3 = createCardWithDueDate(LocalDateTime.now().plusDays(3), 3L); // BAIXA
-        Card card4 = createCardWithDueDate(LocalDateTime.now().minusDays(1), 4L); // CRÍTICA
-        
-        when(cardRepository.findOverdue()).thenReturn(Arrays.asList(card4));
-        when(cardRepository.findNearDue(3)).thenReturn(Arrays.asList(card2));
-        when(cardRepository.findByUrgencyLevel(1)).thenReturn(Arrays.asList(card3));
-        when(cardRepository.findByUrgencyLevel(2)).thenReturn(Arrays.asList(card2));
-        when(cardRepository.findByUrgencyLevel(3)).thenReturn(Arrays.asList(card1));
+        when(cardRepository.countUrgency(any(LocalDateTime.class), eq(3)))
+                .thenReturn(new CardUrgencyCounts(1, 1, 1, 1, 1, LocalDateTime.now().plusHours(1)));
 
         // Act
         CardService.UrgencyStats stats = cardService.getUrgencyStats();
@@ -265,11 +260,70 @@ class CardUrgencyServiceTest {
         assertThat(stats.getLowUrgencyCount()).isEqualTo(1);
         assertThat(stats.getTotalUrgentCards()).isEqualTo(3);
         
-        verify(cardRepository).findOverdue();
-        verify(cardRepository).findNearDue(3);
-        verify(cardRepository).findByUrgencyLevel(1);
-        verify(cardRepository).findByUrgencyLevel(2);
-        verify(cardRepository).findByUrgencyLevel(3);
+        verify(cardRepository).countUrgency(any(LocalDateTime.class), eq(3));
+        verify(cardRepository, never()).findOverdue();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar as estatísticas em cache até uma gravação de card")
+    void deveReutilizarEstatisticasAteGravacaoDeCard() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 6, 10, 10, 0);
+        cardService.setClock(Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        when(cardRepository.getModificationCount()).thenReturn(5L, 5L, 6L);
+        when(cardRepository.countUrgency(now, 3))
+                .thenReturn(new CardUrgencyCounts(1, 0, 0, 0, 0, now.plusHours(2)))
+                .thenReturn(new CardUrgencyCounts(2, 0, 0, 0, 0, now.plusHours(2)));
+
+        // Act
+        CardService.UrgencyStats first = cardService.getUrgencyStats();
+        CardService.UrgencyStats cached = cardService.getUrgencyStats();
+        CardService.UrgencyStats afterWrite = cardService.getUrgencyStats();
+
+        // Assert
+        assertThat(first.getOverdueCount()).isEqualTo(1);
+        assertThat(cached.getOverdueCount()).isEqualTo(1);
+        assertThat(afterWrite.getOverdueCount()).isEqualTo(2);
+        verify(cardRepository, times(2)).countUrgency(now, 3);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular as estatísticas quando o relógio passa do instante de mudança de faixa")
+    void deveRecalcularEstatisticasAposMudancaDeFaixa() {
+        // Arrange
+        LocalDateTime beforeMidnight = LocalDateTime.of(2025, 6, 10, 23, 59);
+        LocalDateTime afterMidnight = LocalDateTime.of(2025, 6, 11, 0, 1);
+        cardService.setClock(Clock.fixed(beforeMidnight.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        when(cardRepository.countUrgency(any(LocalDateTime.class), eq(3)))
+                .thenReturn(new CardUrgencyCounts(0, 1, 0, 1, 0, LocalDateTime.of(2025, 6, 11, 0, 0)))
+                .thenReturn(new CardUrgencyCounts(0, 1, 1, 0, 0, LocalDateTime.of(2025, 6, 12, 0, 0)));
+        cardService.getUrgencyStats();
+
+        // Act
+        cardService.setClock(Clock.fixed(afterMidnight.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+        CardService.UrgencyStats stats = cardService.getUrgencyStats();
+
+        // Assert
+        assertThat(stats.getHighUrgencyCount()).isEqualTo(1);
+        assertThat(stats.getMediumUrgencyCount()).isZero();
+        verify(cardRepository).countUrgency(beforeMidnight, 3);
+        verify(cardRepository).countUrgency(afterMidnight, 3);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular as estatísticas após invalidação explícita")
+    void deveRecalcularEstatisticasAposInvalidacao() {
+        // Arrange
+        when(cardRepository.countUrgency(any(LocalDateTime.class), eq(3)))
+                .thenReturn(new CardUrgencyCounts(1, 0, 0, 0, 0, LocalDateTime.now().plusHours(1)));
+        cardService.getUrgencyStats();
+
+        // Act
+        cardService.invalidateUrgencyStats();
+        cardService.getUrgencyStats();
+
+        // Assert
+        verify(cardRepository, times(2)).countUrgency(any(LocalDateTime.class), eq(3));
     }
 
     private Card createCardWithDueDate(LocalDateTime dueDate, Long id) {
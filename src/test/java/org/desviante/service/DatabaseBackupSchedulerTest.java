@@ -0,0 +1,119 @@
+package org.desviante.service;
+
+import org.desviante.config.AppMetadata;
+import org.desviante.config.AppMetadataConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o DatabaseBackupScheduler.
+ *
+ * <p>Verificam a escolha entre backup completo e incremental a partir dos
+ * backups existentes e das configurações dos metadados.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see DatabaseBackupScheduler
+ */
+@ExtendWith(MockitoExtension.class)
+class DatabaseBackupSchedulerTest {
+
+    private static final Path DIRECTORY = Path.of("backups-teste");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 10, 12, 0);
+
+    @Mock
+    private DatabaseBackupService backupService;
+
+    @Mock
+    private AppMetadataConfig appMetadataConfig;
+
+    @InjectMocks
+    private DatabaseBackupScheduler scheduler;
+
+    private AppMetadata metadata;
+
+    @BeforeEach
+    void setUp() {
+        metadata = new AppMetadata();
+        metadata.setAutoBackupIntervalHours(24);
+        metadata.setAutoBackupDirectory(DIRECTORY.toString());
+        when(appMetadataConfig.getCurrentMetadata()).thenReturn(metadata);
+    }
+
+    @Test
+    @DisplayName("Não deve fazer backup quando o backup automático está desativado")
+    void runBackupCycle_shouldSkipWhenDisabled() {
+        // ARRANGE
+        metadata.setAutoBackupDatabase(false);
+
+        // ACT
+        Duration next = scheduler.runBackupCycle(NOW);
+
+        // ASSERT
+        assertEquals(DatabaseBackupScheduler.RECHECK_DELAY, next);
+        verifyNoInteractions(backupService);
+    }
+
+    @Test
+    @DisplayName("Deve fazer backup completo quando não há backup completo no diretório")
+    void runBackupCycle_shouldCreateFullBackupWhenNoneExists() {
+        // ARRANGE
+        when(backupService.listBackups(DIRECTORY)).thenReturn(List.of("backup_incremental_20250601_120000.sql.gz"));
+
+        // ACT
+        Duration next = scheduler.runBackupCycle(NOW);
+
+        // ASSERT
+        assertEquals(Duration.ofHours(24), next);
+        verify(backupService).createBackup(DIRECTORY, DatabaseBackupScheduler.FULL_BACKUP_REASON);
+        verify(backupService, never()).createIncrementalBackup(any(), any());
+        verify(backupService).cleanupOldBackups(DIRECTORY, DatabaseBackupScheduler.KEEP_FULL_BACKUPS);
+    }
+
+    @Test
+    @DisplayName("Deve fazer backup incremental desde o último backup quando o completo é recente")
+    void runBackupCycle_shouldCreateIncrementalSinceLastBackup() {
+        // ARRANGE
+        when(backupService.listBackups(DIRECTORY)).thenReturn(List.of(
+                "backup_auto_20250607_120000.sql.gz",
+                "backup_incremental_20250608_120000.sql.gz",
+                "backup_before_migration_20250609_083000.sql.gz"));
+
+        // ACT
+        scheduler.runBackupCycle(NOW);
+
+        // ASSERT
+        verify(backupService).createIncrementalBackup(DIRECTORY, LocalDateTime.of(2025, 6, 9, 8, 30));
+        verify(backupService, never()).createBackup(any(Path.class), any());
+    }
+
+    @Test
+    @DisplayName("Deve aguardar o fim do intervalo desde o último backup")
+    void runBackupCycle_shouldWaitForInterval() {
+        // ARRANGE
+        when(backupService.listBackups(DIRECTORY)).thenReturn(List.of("backup_auto_20250610_080000.sql.gz"));
+
+        // ACT
+        Duration next = scheduler.runBackupCycle(NOW);
+
+        // ASSERT
+        assertEquals(Duration.ofHours(20), next);
+        verify(backupService, never()).createBackup(any(Path.class), any());
+        verify(backupService, never()).createIncrementalBackup(any(), any());
+    }
+}
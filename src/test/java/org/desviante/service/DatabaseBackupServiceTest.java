@@ -0,0 +1,226 @@
+package org.desviante.service;
+
+import org.desviante.config.TestDataConfig;
+import org.desviante.repository.CardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para o DatabaseBackupService.
+ *
+ * <p>Verificam que o backup compactado inclui todas as tabelas e colunas,
+ * agrupa as linhas em comandos INSERT de várias linhas e pode ser
+ * restaurado com o RUNSCRIPT do H2.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see DatabaseBackupService
+ */
+@SpringJUnitConfig(classes = TestDataConfig.class)
+@Sql(scripts = "/test-schema.sql")
+@Transactional
+class DatabaseBackupServiceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private DatabaseBackupService backupService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        backupService = new DatabaseBackupService(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve gravar todas as tabelas e colunas em INSERTs de várias linhas compactados")
+    void writeBackup_shouldCoverAllTablesAndColumns() throws IOException {
+        // ARRANGE
+        Long cardId = insertBoardWithCards(3);
+        jdbcTemplate.update("INSERT INTO checklist_items (card_id, text, completed, order_index) VALUES (?, ?, TRUE, 0)",
+                cardId, "Item com 'aspas'");
+        Path file = tempDir.resolve("backup.sql.gz");
+
+        // ACT
+        DatabaseBackupService.BackupSummary summary = backupService.writeBackup(file, "teste");
+
+        // ASSERT
+        String content = readGzip(file);
+        assertEquals(countRows("cards"), summary.rowsByTable().get("CARDS"));
+        assertEquals(1L, summary.rowsByTable().get("CHECKLIST_ITEMS"));
+        assertTrue(summary.rowsByTable().containsKey("CALENDAR_EVENTS"));
+        assertTrue(summary.rowsByTable().containsKey("INTEGRATION_SYNC_STATUS"));
+        // Tabelas referenciadas vêm antes das que as referenciam
+        List<String> order = List.copyOf(summary.rowsByTable().keySet());
+        assertTrue(order.indexOf("BOARDS") < order.indexOf("BOARD_COLUMNS"));
+        assertTrue(order.indexOf("BOARD_COLUMNS") < order.indexOf("CARDS"));
+        assertTrue(order.indexOf("CARDS") < order.indexOf("CHECKLIST_ITEMS"));
+        // Um único INSERT para todas as linhas de cards, com as datas de agendamento
+        assertEquals(1, content.split("INSERT INTO cards ", -1).length - 1);
+        assertTrue(content.contains("scheduled_date"));
+        assertTrue(content.contains("due_date"));
+        assertTrue(content.contains("'Item com ''aspas'''"));
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o backup com RUNSCRIPT, recuperando os mesmos dados")
+    void writeBackup_shouldBeRestorableWithRunscript() throws IOException {
+        // ARRANGE
+        insertBoardWithCards(1200);
+        Path file = tempDir.resolve("restore.sql.gz");
+        DatabaseBackupService.BackupSummary summary = backupService.writeBackup(file, "teste");
+        List<String> titlesBefore = jdbcTemplate.queryForList("SELECT title FROM cards ORDER BY id", String.class);
+        List<String> tables = new ArrayList<>(summary.rowsByTable().keySet());
+        Collections.reverse(tables);
+        tables.forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+
+        // ACT
+        jdbcTemplate.execute("RUNSCRIPT FROM '" + file.toAbsolutePath() + "' COMPRESSION GZIP");
+
+        // ASSERT
+        List<String> titlesAfter = jdbcTemplate.queryForList("SELECT title FROM cards ORDER BY id", String.class);
+        assertEquals(1200, titlesAfter.stream().filter(title -> title.matches("Card \\d+")).count());
+        assertEquals(titlesBefore, titlesAfter);
+        assertEquals(summary.rowsByTable().get("BOARD_GROUPS"), countRows("board_groups"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cards WHERE scheduled_date IS NOT NULL AND title = 'Card 0'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar no incremental apenas os cards alterados, restauráveis com MERGE")
+    void writeBackup_incrementalShouldContainOnlyChangedRows() throws IOException {
+        // ARRANGE
+        insertBoardWithCards(3);
+        jdbcTemplate.update("UPDATE cards SET last_update_date = TIMESTAMP '2020-01-01 00:00:00'");
+        jdbcTemplate.update("UPDATE cards SET title = 'Alterado', last_update_date = TIMESTAMP '2025-01-01 00:00:00' WHERE title = 'Card 1'");
+        Path file = tempDir.resolve("incremental.sql.gz");
+
+        // ACT
+        DatabaseBackupService.BackupSummary summary = backupService.writeBackup(
+                file, DatabaseBackupService.INCREMENTAL_REASON, LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // ASSERT
+        String content = readGzip(file);
+        assertEquals(1L, summary.rowsByTable().get("CARDS"));
+        assertTrue(content.contains("MERGE INTO cards ("));
+        assertTrue(content.contains("KEY (id)"));
+        assertTrue(content.contains("'Alterado'"));
+        assertFalse(content.contains("'Card 0'"));
+        // Tabelas sem coluna de alteração são copiadas por inteiro
+        assertEquals(countRows("boards"), summary.rowsByTable().get("BOARDS"));
+
+        jdbcTemplate.update("UPDATE cards SET title = 'Perdido' WHERE title = 'Alterado'");
+        jdbcTemplate.execute("RUNSCRIPT FROM '" + file.toAbsolutePath() + "' COMPRESSION GZIP");
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cards WHERE title = 'Alterado'", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cards WHERE title = 'Perdido'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar no incremental os cards reordenados e restaurar a nova ordem")
+    void writeBackup_incrementalShouldContainReorderedCards() throws IOException {
+        // ARRANGE
+        insertBoardWithCards(3);
+        jdbcTemplate.update("UPDATE cards SET last_update_date = TIMESTAMP '2020-01-01 00:00:00'");
+        Long firstCardId = cardIdByTitle("Card 0");
+        Long secondCardId = cardIdByTitle("Card 1");
+        cardRepository.swapCardPositions(firstCardId, 1, secondCardId, 0);
+        Path file = tempDir.resolve("reorder.sql.gz");
+
+        // ACT
+        DatabaseBackupService.BackupSummary summary = backupService.writeBackup(
+                file, DatabaseBackupService.INCREMENTAL_REASON, LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // ASSERT
+        assertEquals(2L, summary.rowsByTable().get("CARDS"));
+
+        cardRepository.swapCardPositions(firstCardId, 0, secondCardId, 1);
+        jdbcTemplate.execute("RUNSCRIPT FROM '" + file.toAbsolutePath() + "' COMPRESSION GZIP");
+        assertEquals(List.of("Card 1", "Card 0", "Card 2"), jdbcTemplate.queryForList(
+                "SELECT title FROM cards WHERE title LIKE 'Card _' ORDER BY order_index", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve manter os backups completos mais recentes e os incrementais que dependem deles")
+    void cleanupOldBackups_shouldKeepRecentFullBackupsAndTheirIncrementals() throws IOException {
+        // ARRANGE
+        List<String> names = List.of(
+                "backup_auto_20250101_120000.sql.gz",
+                "backup_incremental_20250102_120000.sql.gz",
+                "backup_before_migration_20250103_120000.sql",
+                "backup_incremental_20250104_120000.sql.gz",
+                "backup_auto_20250105_120000.sql.gz",
+                "backup_incremental_20250106_120000.sql.gz",
+                "notas.txt");
+        for (String name : names) {
+            Files.createFile(tempDir.resolve(name));
+        }
+
+        // ACT
+        backupService.cleanupOldBackups(tempDir, 2);
+
+        // ASSERT
+        assertEquals(List.of(
+                "backup_before_migration_20250103_120000.sql",
+                "backup_incremental_20250104_120000.sql.gz",
+                "backup_auto_20250105_120000.sql.gz",
+                "backup_incremental_20250106_120000.sql.gz"), backupService.listBackups(tempDir));
+        assertTrue(Files.exists(tempDir.resolve("notas.txt")));
+    }
+
+    private Long insertBoardWithCards(int cardCount) {
+        jdbcTemplate.update("INSERT INTO boards (name, creation_date) VALUES ('Board', CURRENT_TIMESTAMP)");
+        Long boardId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards", Long.class);
+        jdbcTemplate.update("INSERT INTO board_columns (name, order_index, kind, board_id) VALUES ('A fazer', 0, 'INITIAL', ?)", boardId);
+        Long columnId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM board_columns", Long.class);
+        for (int i = 0; i < cardCount; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO cards (title, creation_date, last_update_date, scheduled_date, due_date, board_column_id, order_index)
+                    VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, TIMESTAMP '2025-05-01 09:00:00', NULL, ?, ?)
+                    """, "Card " + i, columnId, i);
+        }
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM cards", Long.class);
+    }
+
+    private Long cardIdByTitle(String title) {
+        return jdbcTemplate.queryForObject("SELECT id FROM cards WHERE title = ?", Long.class, title);
+    }
+
+    private Long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private static String readGzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
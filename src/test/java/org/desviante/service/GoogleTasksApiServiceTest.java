@@ -0,0 +1,280 @@
+package org.desviante.service;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.tasks.Tasks;
+import com.google.api.services.tasks.model.Task;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.desviante.service.dto.CreateTaskRequest;
+import org.desviante.service.dto.TaskBatchOperation;
+import org.desviante.service.dto.TaskBatchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do GoogleTasksApiService contra um servidor HTTP local que simula
+ * a API do Google Tasks.
+ *
+ * <p>Verificam o cache de listas de tarefas, a busca da lista na remoção de
+ * tarefas e o envio de operações em requisições em lote (multipart/mixed).</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see GoogleTasksApiService
+ */
+class GoogleTasksApiServiceTest {
+
+    private static final String LISTS_PATH = "/tasks/v1/users/@me/lists";
+    private static final String TASKS_PATH = "/tasks/v1/lists/L1/tasks";
+    private static final Pattern TASK_PATH = Pattern.compile("/tasks/v1/lists/([^/]+)/tasks/([^/]+)");
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> requestsByPath = new ConcurrentHashMap<>();
+    private final List<String> batchedRequests = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger taskIds = new AtomicInteger();
+    private final AtomicReference<String> taskListsJson =
+            new AtomicReference<>("{\"items\":[{\"id\":\"L1\",\"title\":\"MyBoards\"}]}");
+    private final Map<String, String> listIdByTaskId = new ConcurrentHashMap<>();
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-06-10T12:00:00Z"));
+
+    private GoogleTasksApiService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        Tasks tasks = new Tasks.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), null)
+                .setRootUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/")
+                .setApplicationName("teste")
+                .build();
+        service = new GoogleTasksApiService(tasks, null, null, new MutableClock());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve consultar as listas uma vez e reutilizá-las até o cache expirar")
+    void createTaskInList_shouldCacheTaskListsUntilTtl() {
+        // ARRANGE
+        CreateTaskRequest request = new CreateTaskRequest("myboards", "Tarefa", "Notas", LocalDateTime.of(2025, 6, 20, 14, 30));
+
+        // ACT
+        Task first = service.createTaskInList(request);
+        service.createTaskInList(request);
+        int listRequestsBeforeExpiry = requests("GET " + LISTS_PATH);
+        now.set(now.get().plus(GoogleTasksApiService.TASK_LIST_CACHE_TTL));
+        service.createTaskInList(request);
+
+        // ASSERT
+        assertEquals("T1", first.getId());
+        assertEquals(1, listRequestsBeforeExpiry);
+        assertEquals(2, requests("GET " + LISTS_PATH));
+        assertEquals(3, requests("POST " + TASKS_PATH));
+    }
+
+    @Test
+    @DisplayName("Deve enviar as operações em lotes de até 50 por requisição HTTP")
+    void submitBatch_shouldGroupOperationsIntoBatchRequests() {
+        // ARRANGE
+        List<TaskBatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 110; i++) {
+            operations.add(TaskBatchOperation.create(new CreateTaskRequest("MyBoards", "Card " + i, null, null)));
+        }
+        operations.add(TaskBatchOperation.update("T-existente", new CreateTaskRequest("MyBoards", "Atualizado", null, null)));
+        operations.add(TaskBatchOperation.delete("MyBoards", "ausente"));
+        operations.add(TaskBatchOperation.delete("MyBoards", "erro"));
+
+        // ACT
+        List<TaskBatchResult> results = service.submitBatch(operations);
+
+        // ASSERT
+        assertEquals(3, requests("POST /batch"));
+        assertEquals(1, requests("GET " + LISTS_PATH));
+        assertEquals(0, requests("POST " + TASKS_PATH));
+        assertEquals(113, batchedRequests.size());
+        assertEquals(113, results.size());
+        assertEquals("T1", results.get(0).task().getId());
+        assertEquals("T110", results.get(109).task().getId());
+        assertEquals("Atualizado", results.get(110).task().getTitle());
+        // Remover uma tarefa inexistente é sucesso; um erro do servidor não
+        assertTrue(results.get(111).isSuccess());
+        assertFalse(results.get(112).isSuccess());
+        assertEquals(112, results.stream().filter(TaskBatchResult::isSuccess).count());
+    }
+
+    @Test
+    @DisplayName("Deve procurar a tarefa também nas listas com título repetido")
+    void deleteTask_shouldSearchListsWithDuplicateTitles() throws IOException {
+        // ARRANGE
+        taskListsJson.set("{\"items\":[{\"id\":\"L1\",\"title\":\"MyBoards\"},{\"id\":\"L2\",\"title\":\"myboards\"}]}");
+        listIdByTaskId.put("T-L2", "L2");
+
+        // ACT
+        service.deleteTask("T-L2");
+
+        // ASSERT
+        assertEquals(1, requests("GET /tasks/v1/lists/L1/tasks/T-L2"));
+        assertEquals(1, requests("DELETE /tasks/v1/lists/L2/tasks/T-L2"));
+        assertEquals(1, requests("GET " + LISTS_PATH));
+    }
+
+    @Test
+    @DisplayName("Deve recarregar as listas quando a tarefa não está nas listas em cache")
+    void deleteTask_shouldReloadTaskListsWhenCachedListsMiss() throws IOException {
+        // ARRANGE
+        service.createTaskInList(new CreateTaskRequest("MyBoards", "Tarefa", null, null));
+        taskListsJson.set("{\"items\":[{\"id\":\"L1\",\"title\":\"MyBoards\"},{\"id\":\"L3\",\"title\":\"Outra\"}]}");
+        listIdByTaskId.put("T-L3", "L3");
+
+        // ACT
+        service.deleteTask("T-L3");
+
+        // ASSERT
+        assertEquals(2, requests("GET " + LISTS_PATH));
+        // A lista já consultada não é consultada de novo após a recarga
+        assertEquals(1, requests("GET /tasks/v1/lists/L1/tasks/T-L3"));
+        assertEquals(1, requests("DELETE /tasks/v1/lists/L3/tasks/T-L3"));
+    }
+
+    private int requests(String key) {
+        AtomicInteger count = requestsByPath.get(key);
+        return count == null ? 0 : count.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        requestsByPath.computeIfAbsent(method + " " + path, key -> new AtomicInteger()).incrementAndGet();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        if ("/batch".equals(path)) {
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+            respond(exchange, 200, "multipart/mixed; boundary=batch_resposta", batchResponse(body, boundary));
+            return;
+        }
+        if ("GET".equals(method) && LISTS_PATH.equals(path)) {
+            respond(exchange, 200, "application/json", taskListsJson.get());
+            return;
+        }
+        Matcher taskPath = TASK_PATH.matcher(path);
+        if (taskPath.matches() && taskPath.group(1).equals(listIdByTaskId.get(taskPath.group(2)))) {
+            if ("DELETE".equals(method)) {
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+            } else {
+                respond(exchange, 200, "application/json", "{\"id\":\"" + taskPath.group(2) + "\"}");
+            }
+            return;
+        }
+        if ("POST".equals(method) && TASKS_PATH.equals(path)) {
+            respond(exchange, 200, "application/json", "{\"id\":\"T" + taskIds.incrementAndGet() + "\"}");
+            return;
+        }
+        respond(exchange, 404, "application/json", "{\"error\":{\"code\":404,\"message\":\"Not Found\"}}");
+    }
+
+    /**
+     * Responde a cada parte do lote como a API responderia à requisição individual.
+     */
+    private String batchResponse(String body, String boundary) {
+        StringBuilder response = new StringBuilder();
+        for (String part : body.split("--" + boundary)) {
+            String requestLine = part.lines()
+                    .filter(line -> line.matches("^(GET|POST|PATCH|PUT|DELETE) .*"))
+                    .findFirst()
+                    .orElse(null);
+            if (requestLine == null) {
+                continue;
+            }
+            String[] tokens = requestLine.split(" ");
+            String path = URI.create(tokens[1]).getPath();
+            batchedRequests.add(tokens[0] + " " + path);
+
+            String status;
+            String json;
+            if ("POST".equals(tokens[0]) && TASKS_PATH.equals(path)) {
+                status = "200 OK";
+                json = "{\"id\":\"T" + taskIds.incrementAndGet() + "\"}";
+            } else if (path.endsWith("/T-existente")) {
+                // PATCH chega como POST com X-HTTP-Method-Override no transporte padrão
+                status = "200 OK";
+                json = "{\"id\":\"T-existente\",\"title\":\"Atualizado\"}";
+            } else if (path.endsWith("/erro")) {
+                status = "500 Internal Server Error";
+                json = "{\"error\":{\"code\":500,\"message\":\"Erro interno\"}}";
+            } else {
+                status = "404 Not Found";
+                json = "{\"error\":{\"code\":404,\"message\":\"Not Found\"}}";
+            }
+            response.append("--batch_resposta\r\n")
+                    .append("Content-Type: application/http\r\n\r\n")
+                    .append("HTTP/1.1 ").append(status).append("\r\n")
+                    .append("Content-Type: application/json; charset=UTF-8\r\n")
+                    .append("Content-Length: ").append(json.getBytes(StandardCharsets.UTF_8).length).append("\r\n\r\n")
+                    .append(json).append("\r\n");
+        }
+        return response.append("--batch_resposta--\r\n").toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Relógio controlado pelo teste, para simular a expiração do cache.
+     */
+    private class MutableClock extends Clock {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
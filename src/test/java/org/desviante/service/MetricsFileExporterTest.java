@@ -0,0 +1,87 @@
+package org.desviante.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o MetricsFileExporter.
+ *
+ * <p>Verificam os formatos de texto do Prometheus e JSON gerados a partir de
+ * um registro de métricas em memória.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see MetricsFileExporter
+ */
+class MetricsFileExporterTest {
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Timer timer = Timer.builder("repository.calls")
+                .tag("class", "CardRepository")
+                .tag("method", "findById")
+                .serviceLevelObjectives(Duration.ofMillis(1), Duration.ofMillis(10))
+                .register(registry);
+        timer.record(Duration.ofMillis(2));
+        timer.record(Duration.ofMillis(20));
+        registry.counter("retry.attempts", "outcome", "failure").increment(3);
+    }
+
+    @Test
+    @DisplayName("Deve formatar timers como histograma e contadores com sufixo _total no texto do Prometheus")
+    void toPrometheusText_shouldFormatTimersAndCounters() {
+        // ACT
+        String text = MetricsFileExporter.toPrometheusText(registry);
+
+        // ASSERT
+        String labels = "class=\"CardRepository\",method=\"findById\"";
+        assertTrue(text.contains("# TYPE repository_calls_seconds histogram\n"));
+        assertTrue(text.contains("repository_calls_seconds_bucket{" + labels + ",le=\"0.001\"} 0\n"));
+        assertTrue(text.contains("repository_calls_seconds_bucket{" + labels + ",le=\"0.01\"} 1\n"));
+        assertTrue(text.contains("repository_calls_seconds_bucket{" + labels + ",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("repository_calls_seconds_count{" + labels + "} 2\n"));
+        assertTrue(text.contains("repository_calls_seconds_sum{" + labels + "} 0.022\n"));
+        assertTrue(text.contains("repository_calls_seconds_max{" + labels + "} 0.02\n"));
+        assertTrue(text.contains("# TYPE retry_attempts_total counter\nretry_attempts_total{outcome=\"failure\"} 3\n"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar as métricas em JSON quando o arquivo tem extensão .json")
+    void export_shouldWriteJsonForJsonFiles(@TempDir Path directory) throws Exception {
+        // ARRANGE
+        Path file = directory.resolve("metricas").resolve("app.json");
+        MetricsFileExporter exporter = new MetricsFileExporter(registry);
+
+        // ACT
+        exporter.export(file);
+
+        // ASSERT
+        JsonNode meters = new ObjectMapper().readTree(Files.readString(file)).get("meters");
+        assertEquals(2, meters.size());
+        JsonNode timer = meters.get(0);
+        assertEquals("repository.calls", timer.get("name").asText());
+        assertEquals("timer", timer.get("type").asText());
+        assertEquals("findById", timer.get("tags").get("method").asText());
+        assertEquals(2, timer.get("count").asLong());
+        assertEquals(1.0, timer.get("bucketsSeconds").get("0.01").asDouble());
+        assertEquals(3.0, meters.get(1).get("measurements").get("count").asDouble());
+        assertFalse(Files.exists(directory.resolve("metricas").resolve("app.json.tmp")));
+    }
+}
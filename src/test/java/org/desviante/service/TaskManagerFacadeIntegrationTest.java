@@ -115,8 +115,8 @@ class TaskManagerFacadeIntegrationTest {
         
         @Bean
         public BoardGroupService boardGroupService(BoardGroupRepository boardGroupRepository, BoardRepository boardRepository,
-                                                   BoardColumnService boardColumnService, CardService cardService) {
-            return new BoardGroupService(boardGroupRepository, boardRepository, boardColumnService, cardService, mock(AppMetadataConfig.class));
+                                                   CardService cardService) {
+            return new BoardGroupService(boardGroupRepository, boardRepository, cardService, mock(AppMetadataConfig.class));
         }
         
         @Bean
@@ -144,7 +144,7 @@ class TaskManagerFacadeIntegrationTest {
                                                    CardService cardService, EnhancedCardService enhancedCardService, TaskService taskService, 
                                                    BoardGroupService boardGroupService, CardTypeService cardTypeService,
                                                    CheckListItemRepository checkListItemRepository) {
-            return new TaskManagerFacade(boardService, boardColumnService, cardService, enhancedCardService, taskService, boardGroupService, cardTypeService, checkListItemRepository, mock(AppMetadataConfig.class), mock(CalendarEventService.class), mock(GoogleTaskCreationService.class));
+            return new TaskManagerFacade(boardService, boardColumnService, cardService, enhancedCardService, taskService, boardGroupService, cardTypeService, checkListItemRepository, mock(AppMetadataConfig.class), mock(CalendarEventService.class), mock(GoogleTaskCreationService.class), new ChecklistItemService(checkListItemRepository));
         }
         
         @Bean
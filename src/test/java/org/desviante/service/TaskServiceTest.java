@@ -6,6 +6,8 @@ import org.desviante.model.Task;
 import org.desviante.repository.CardRepository;
 import org.desviante.repository.TaskRepository;
 import org.desviante.service.dto.CreateTaskRequest;
+import org.desviante.service.dto.TaskBatchOperation;
+import org.desviante.service.dto.TaskBatchResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +17,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -120,4 +125,30 @@ class TaskServiceTest {
         verify(googleApiService, never()).createTaskInList(any());
         verify(taskRepository, never()).save(any());
     }
+
+    @Test
+    void createTasks_shouldSaveOnlyTasksCreatedInBatch() {
+        // Arrange
+        CreateTaskRequest first = new CreateTaskRequest("My Board", "First", "Notes", LocalDateTime.now());
+        CreateTaskRequest second = new CreateTaskRequest("My Board", "Second", "Notes", LocalDateTime.now());
+        Map<Long, CreateTaskRequest> requests = new LinkedHashMap<>();
+        requests.put(1L, first);
+        requests.put(2L, second);
+        when(googleApiService.submitBatch(List.of(TaskBatchOperation.create(first), TaskBatchOperation.create(second))))
+                .thenReturn(List.of(
+                        new TaskBatchResult(TaskBatchOperation.create(first), mockGoogleTask, null),
+                        new TaskBatchResult(TaskBatchOperation.create(second), null, "Quota excedida")));
+
+        // Act
+        Map<Long, String> errors = taskService.createTasks(requests);
+
+        // Assert
+        assertEquals(Map.of(2L, "Quota excedida"), errors);
+        ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepository).save(taskCaptor.capture());
+        assertEquals(1L, taskCaptor.getValue().getCardId());
+        assertEquals("First", taskCaptor.getValue().getTitle());
+        assertEquals("google-task-123", taskCaptor.getValue().getGoogleTaskId());
+        assertTrue(taskCaptor.getValue().isSent());
+    }
 }
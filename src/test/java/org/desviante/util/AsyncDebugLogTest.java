@@ -0,0 +1,92 @@
+package org.desviante.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o AsyncDebugLog.
+ *
+ * <p>Verificam a gravação assíncrona das mensagens, o filtro por nível
+ * e a rotação do arquivo por tamanho.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see AsyncDebugLog
+ */
+class AsyncDebugLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve gravar todas as mensagens enfileiradas na ordem de chegada")
+    void shouldWriteQueuedMessagesInOrder() throws IOException {
+        // ARRANGE
+        Path file = tempDir.resolve("debug.log");
+        AsyncDebugLog debugLog = new AsyncDebugLog(file, 1024 * 1024, 1, AsyncDebugLog.Level.DEBUG);
+
+        // ACT
+        for (int i = 0; i < 1000; i++) {
+            debugLog.debug("mensagem " + i);
+        }
+        assertTrue(debugLog.flush(5, TimeUnit.SECONDS));
+
+        // ASSERT
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1000, lines.size());
+        assertTrue(lines.get(0).endsWith("] mensagem 0"));
+        assertTrue(lines.get(999).endsWith("] mensagem 999"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagens abaixo do nível configurado e nada gravar com OFF")
+    void shouldFilterMessagesByLevel() throws IOException {
+        // ARRANGE
+        Path file = tempDir.resolve("level.log");
+        AsyncDebugLog debugLog = new AsyncDebugLog(file, 1024 * 1024, 1, AsyncDebugLog.Level.WARN);
+
+        // ACT
+        debugLog.debug("debug");
+        debugLog.info("info");
+        debugLog.error("erro");
+        debugLog.setLevel(AsyncDebugLog.Level.OFF);
+        debugLog.error("erro desligado");
+        assertTrue(debugLog.flush(5, TimeUnit.SECONDS));
+
+        // ASSERT
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("] erro"));
+        assertFalse(debugLog.isEnabled(AsyncDebugLog.Level.ERROR));
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar o arquivo ao atingir o tamanho máximo")
+    void shouldRotateWhenFileExceedsMaxSize() throws IOException {
+        // ARRANGE
+        Path file = tempDir.resolve("rotate.log");
+        AsyncDebugLog debugLog = new AsyncDebugLog(file, 200, 2, AsyncDebugLog.Level.DEBUG);
+
+        // ACT
+        for (int i = 0; i < 50; i++) {
+            debugLog.debug("linha de teste para rotação " + i);
+            assertTrue(debugLog.flush(5, TimeUnit.SECONDS));
+        }
+
+        // ASSERT
+        assertTrue(Files.exists(tempDir.resolve("rotate.log.1")));
+        assertTrue(Files.exists(tempDir.resolve("rotate.log.2")));
+        assertFalse(Files.exists(tempDir.resolve("rotate.log.3")));
+        assertTrue(Files.size(tempDir.resolve("rotate.log.1")) >= 200);
+    }
+}
@@ -0,0 +1,69 @@
+package org.desviante.util;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o IconAtlas.
+ *
+ * <p>Verificam a leitura do índice gerado no build e a extração da
+ * região de um ícone a partir da imagem do atlas.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconAtlas
+ */
+class IconAtlasTest {
+
+    @Test
+    @DisplayName("Deve ler as regiões do índice ignorando comentários e linhas vazias")
+    void parseIndex_shouldReadRegions() throws IOException {
+        // ARRANGE
+        String index = "# codigo x y largura altura\n1f004 0 0 32 32\n\n1f0cf 32 0 32 32\n";
+
+        // ACT
+        Map<String, Rectangle2D> regions = IconAtlas.parseIndex(new StringReader(index));
+
+        // ASSERT
+        assertEquals(2, regions.size());
+        assertEquals(new Rectangle2D(32, 0, 32, 32), regions.get("1f0cf"));
+        assertThrows(IllegalArgumentException.class,
+                () -> IconAtlas.parseIndex(new StringReader("1f004 0 0")));
+    }
+
+    @Test
+    @DisplayName("Deve decodificar o atlas uma única vez e extrair a região do ícone")
+    void extract_shouldCopyRegionFromSharedImage() {
+        // ARRANGE
+        WritableImage atlasImage = new WritableImage(4, 2);
+        atlasImage.getPixelWriter().setArgb(2, 0, 0xFF00FF00);
+        AtomicInteger decodes = new AtomicInteger();
+        IconAtlas atlas = new IconAtlas(
+                Map.of("a", new Rectangle2D(0, 0, 2, 2), "b", new Rectangle2D(2, 0, 2, 2)),
+                () -> {
+                    decodes.incrementAndGet();
+                    return atlasImage;
+                });
+
+        // ACT
+        Image b = atlas.extract("b");
+        atlas.extract("a");
+
+        // ASSERT
+        assertEquals(2, b.getWidth());
+        assertEquals(0xFF00FF00, b.getPixelReader().getArgb(0, 0));
+        assertNull(atlas.extract("inexistente"));
+        assertEquals(1, decodes.get());
+    }
+}
@@ -0,0 +1,92 @@
+package org.desviante.util;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o IconImageCache.
+ *
+ * <p>Verificam o compartilhamento das imagens por variante, o limite de
+ * entradas e a remoção do fundo branco usada pelos ícones do checklist.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconImageCache
+ */
+class IconImageCacheTest {
+
+    @Test
+    @DisplayName("Deve carregar cada variante uma única vez e diferenciar tamanho e remoção de fundo")
+    void get_shouldLoadEachVariantOnce() {
+        // ARRANGE
+        IconImageCache cache = new IconImageCache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // ACT
+        Image first = cache.get(IconImageCache.Key.original("1f600", 0), () -> image(loads));
+        Image second = cache.get(IconImageCache.Key.original("1f600", 0), () -> image(loads));
+        Image resized = cache.get(IconImageCache.Key.original("1f600", 32), () -> image(loads));
+        Image stripped = cache.get(IconImageCache.Key.withoutBackground("1f600", 0, 0.15), () -> image(loads));
+
+        // ASSERT
+        assertSame(first, second);
+        assertNotSame(first, resized);
+        assertNotSame(first, stripped);
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada usada há mais tempo e não guardar ícones inexistentes")
+    void get_shouldEvictLeastRecentlyUsedAndSkipMissingIcons() {
+        // ARRANGE
+        IconImageCache cache = new IconImageCache(2);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(IconImageCache.Key.original("a", 0), () -> image(loads));
+        cache.get(IconImageCache.Key.original("b", 0), () -> image(loads));
+        cache.get(IconImageCache.Key.original("a", 0), () -> image(loads));
+
+        // ACT
+        cache.get(IconImageCache.Key.original("c", 0), () -> image(loads));
+        Image missing = cache.get(IconImageCache.Key.original("inexistente", 0), () -> null);
+        cache.get(IconImageCache.Key.original("a", 0), () -> image(loads));
+        cache.get(IconImageCache.Key.original("b", 0), () -> image(loads));
+
+        // ASSERT
+        assertNull(missing);
+        assertEquals(2, cache.size());
+        // "a" continuou no cache; "b" foi descartado e precisou ser recarregado
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve tornar transparentes apenas os pixels próximos ao branco")
+    void removeWhiteBackground_shouldClearNearWhitePixels() {
+        // ARRANGE
+        WritableImage source = new WritableImage(3, 1);
+        source.getPixelWriter().setArgb(0, 0, 0xFFFFFFFF);
+        source.getPixelWriter().setArgb(1, 0, 0xFFF0F0F0);
+        source.getPixelWriter().setArgb(2, 0, 0xFFFF0000);
+
+        // ACT
+        Image result = IconManager.removeWhiteBackground(source, 0.15);
+
+        // ASSERT
+        assertEquals(0, result.getPixelReader().getArgb(0, 0) >>> 24);
+        assertEquals(0, result.getPixelReader().getArgb(1, 0) >>> 24);
+        assertEquals(0xFFFF0000, result.getPixelReader().getArgb(2, 0));
+    }
+
+    private static Image image(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new WritableImage(1, 1);
+    }
+}
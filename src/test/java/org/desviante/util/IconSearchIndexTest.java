@@ -0,0 +1,84 @@
+package org.desviante.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o IconSearchIndex.
+ *
+ * <p>Verificam a ordenação por relevância, a comparação sem acentos e
+ * o refinamento incremental da busca.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see IconSearchIndex
+ */
+class IconSearchIndexTest {
+
+    private final IconSearchIndex index = new IconSearchIndex(
+            List.of("1f3e0", "1f4da", "1f4bc", "1f3e0-1f4da"),
+            Map.of(
+                    "1f4da", List.of("livros", "educação"),
+                    "1f3e0", List.of("casa", "lar"),
+                    "1f4bc", List.of("trabalho", "casaco")
+            ));
+
+    @Test
+    @DisplayName("Deve ordenar por correspondência exata, prefixo e trecho")
+    void search_shouldRankExactThenPrefixThenContains() {
+        // ACT
+        IconSearchIndex.Result byKeyword = index.search("casa");
+        IconSearchIndex.Result byCode = index.search("1f4da");
+
+        // ASSERT
+        assertEquals(List.of("1f3e0", "1f4bc"), byKeyword.icons());
+        assertEquals(List.of("1f4da", "1f3e0-1f4da"), byCode.icons());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar maiúsculas, acentos e termos vazios")
+    void search_shouldIgnoreCaseAndAccents() {
+        // ACT & ASSERT
+        assertEquals(List.of("1f4da"), index.search("EDUCACAO").icons());
+        assertEquals(List.of("1f4da"), index.search("ção").icons());
+        assertTrue(index.search("   ").icons().isEmpty());
+        assertTrue(index.search(null).icons().isEmpty());
+        assertTrue(index.search("inexistente").icons().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve refinar a busca anterior quando o termo cresce e refazer quando muda")
+    void refine_shouldNarrowPreviousResults() {
+        // ARRANGE
+        IconSearchIndex.Result first = index.search("ca");
+
+        // ACT
+        IconSearchIndex.Result narrowed = index.refine(first, "casac");
+        IconSearchIndex.Result changed = index.refine(narrowed, "livro");
+
+        // ASSERT
+        assertEquals(List.of("1f3e0", "1f4bc", "1f4da"), first.icons());
+        assertEquals(List.of("1f4bc"), narrowed.icons());
+        assertEquals(List.of("1f4da"), changed.icons());
+        assertEquals(index.search("casac").icons(), narrowed.icons());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelos códigos de todos os ícones e pelas palavras-chave do mapeador")
+    void iconSearchMapper_shouldSearchAvailableIconsAndKeywords() {
+        // ACT
+        List<String> byKeyword = IconSearchMapper.searchIcons("casa");
+        List<String> byCode = IconSearchMapper.searchIcons("1f004");
+
+        // ASSERT
+        assertFalse(byKeyword.isEmpty());
+        assertTrue(IconSearchMapper.getIconKeywords(byKeyword.get(0)).contains("casa"));
+        assertEquals("1f004", byCode.get(0));
+    }
+}
@@ -0,0 +1,72 @@
+package org.desviante.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o StartupTimeline.
+ *
+ * <p>Verificam o registro dos marcos de inicialização e a gravação do
+ * histórico usado para comparar o tempo até a primeira exibição.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see StartupTimeline
+ */
+class StartupTimelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve registrar os marcos na ordem com o tempo do relógio")
+    void mark_shouldRecordPhasesInOrder() {
+        // ARRANGE
+        AtomicLong clock = new AtomicLong(120);
+        StartupTimeline timeline = new StartupTimeline(clock::get);
+
+        // ACT
+        timeline.mark(StartupTimeline.MAIN_STARTED);
+        clock.set(450);
+        timeline.mark(StartupTimeline.SPLASH_SHOWN);
+        clock.set(1800);
+        timeline.mark(StartupTimeline.MAIN_WINDOW_SHOWN);
+
+        // ASSERT
+        List<StartupTimeline.Mark> marks = timeline.getMarks();
+        assertEquals(3, marks.size());
+        assertEquals(StartupTimeline.SPLASH_SHOWN, marks.get(1).phase());
+        assertEquals(Optional.of(1800L), timeline.elapsedUntil(StartupTimeline.MAIN_WINDOW_SHOWN));
+        assertTrue(timeline.elapsedUntil(StartupTimeline.CONTEXT_READY).isEmpty());
+        assertEquals("main=120, splash-shown=450, main-window-shown=1800", timeline.format());
+    }
+
+    @Test
+    @DisplayName("Deve acrescentar uma linha por inicialização no arquivo de histórico")
+    void appendTo_shouldAppendOneLinePerStartup() throws IOException {
+        // ARRANGE
+        StartupTimeline timeline = new StartupTimeline(() -> 300);
+        timeline.mark(StartupTimeline.MAIN_STARTED);
+        Path file = tempDir.resolve("historico").resolve("startup.csv");
+
+        // ACT
+        timeline.appendTo(file);
+        timeline.appendTo(file);
+
+        // ASSERT
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(";main=300"));
+    }
+}
@@ -0,0 +1,127 @@
+package org.desviante.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o SyntheticWorkloadGenerator.
+ *
+ * <p>Cada teste gera a carga em bancos H2 em memória novos, criados a partir
+ * do {@code schema.sql} da aplicação, e verifica as quantidades e o
+ * determinismo pela semente.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see SyntheticWorkloadGenerator
+ */
+class SyntheticWorkloadGeneratorTest {
+
+    private static final WorkloadProfile PROFILE = WorkloadProfile.builder()
+            .boardGroups(3)
+            .boards(12)
+            .cards(600)
+            .checklistRatio(0.3)
+            .build();
+
+    private final List<JdbcTemplate> databases = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(jdbc -> jdbc.execute("SHUTDOWN"));
+    }
+
+    @Test
+    @DisplayName("Deve inserir as quantidades do perfil com colunas, checklists e eventos consistentes")
+    void generate_shouldInsertProfileQuantities() {
+        // ARRANGE
+        DataSource dataSource = newDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        int cardsBefore = count(jdbc, "SELECT COUNT(*) FROM cards");
+
+        // ACT
+        SyntheticWorkloadGenerator.WorkloadSummary summary = new SyntheticWorkloadGenerator(dataSource).generate(PROFILE);
+
+        // ASSERT
+        assertEquals(3, summary.boardGroups());
+        assertEquals(12, summary.boards());
+        assertEquals(36, summary.columns());
+        assertEquals(600, summary.cards());
+        assertEquals(cardsBefore + 600, count(jdbc, "SELECT COUNT(*) FROM cards"));
+        assertTrue(summary.checklistItems() > 0);
+        assertEquals(summary.checklistItems(), count(jdbc, "SELECT COUNT(*) FROM checklist_items"));
+        assertTrue(summary.calendarEvents() > 0);
+        assertEquals(0, count(jdbc, """
+                SELECT COUNT(*) FROM calendar_events e JOIN cards c ON c.id = e.related_entity_id
+                WHERE c.scheduled_date IS NULL OR e.start_date_time <> c.scheduled_date
+                """));
+        assertEquals(0, count(jdbc, """
+                SELECT COUNT(*) FROM cards c JOIN board_columns bc ON bc.id = c.board_column_id
+                WHERE (bc.kind = 'FINAL') <> (c.completion_date IS NOT NULL) AND c.id > 1
+                """));
+        assertEquals(0, count(jdbc, """
+                SELECT COUNT(*) FROM (SELECT board_column_id, order_index FROM cards
+                                      GROUP BY board_column_id, order_index HAVING COUNT(*) > 1)
+                """));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo conteúdo para a mesma semente e conteúdo diferente para outra semente")
+    void generate_shouldBeDeterministicForSeed() {
+        // ARRANGE
+        DataSource first = newDatabase();
+        DataSource second = newDatabase();
+        DataSource other = newDatabase();
+
+        // ACT
+        new SyntheticWorkloadGenerator(first).generate(PROFILE);
+        new SyntheticWorkloadGenerator(second).generate(PROFILE);
+        new SyntheticWorkloadGenerator(other).generate(PROFILE.toBuilder().seed(7L).build());
+
+        // ASSERT
+        assertEquals(snapshot(first), snapshot(second));
+        assertNotEquals(snapshot(first), snapshot(other));
+    }
+
+    private DataSource newDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:workload-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        databases.add(new JdbcTemplate(dataSource));
+        return dataSource;
+    }
+
+    /**
+     * Conteúdo gerado, sem o card de exemplo do schema (criado com a data atual).
+     */
+    private static List<Map<String, Object>> snapshot(DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        List<Map<String, Object>> rows = new ArrayList<>(jdbc.queryForList("""
+                SELECT c.title, c.progress_type, c.creation_date, c.completion_date, c.scheduled_date, c.due_date,
+                       c.order_index, bc.kind, b.name AS board, b.group_id
+                FROM cards c JOIN board_columns bc ON bc.id = c.board_column_id JOIN boards b ON b.id = bc.board_id
+                WHERE c.id > 1
+                ORDER BY c.id
+                """));
+        rows.addAll(jdbc.queryForList("SELECT card_id, text, completed, completed_at FROM checklist_items ORDER BY id"));
+        rows.addAll(jdbc.queryForList("SELECT related_entity_id, start_date_time, priority FROM calendar_events ORDER BY id"));
+        return rows;
+    }
+
+    private static int count(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,62 @@
+package org.desviante.view.component;
+
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o CardNodePool.
+ *
+ * <p>Verificam que nós devolvidos são reaproveitados em vez de recriados
+ * e que o pool respeita o limite de nós ociosos.</p>
+ *
+ * @author Aú Desviante - Lucas Godoy <a href="https://github.com/lgjor">GitHub</a>
+ * @version 1.0
+ * @since 1.0
+ * @see CardNodePool
+ */
+class CardNodePoolTest {
+
+    @Test
+    @DisplayName("Deve reutilizar nós devolvidos sem carregar novos")
+    void shouldReuseReleasedNodes() {
+        // ARRANGE
+        CardNodePool pool = new CardNodePool(Pane::new, 10);
+        VBox column = new VBox();
+        Parent first = pool.acquire();
+        column.getChildren().add(first);
+
+        // ACT
+        pool.release(first);
+        Parent reused = pool.acquire();
+
+        // ASSERT
+        assertSame(first, reused);
+        assertEquals(1, pool.getCreatedCount());
+        assertTrue(column.getChildren().isEmpty(), "O nó devolvido deve sair da coluna");
+    }
+
+    @Test
+    @DisplayName("Deve descartar nós excedentes ao limite de ociosos")
+    void shouldDiscardNodesBeyondMaxIdle() {
+        // ARRANGE
+        CardNodePool pool = new CardNodePool(Pane::new, 2);
+        Parent first = pool.acquire();
+        Parent second = pool.acquire();
+        Parent third = pool.acquire();
+
+        // ACT
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        pool.release(third);
+
+        // ASSERT
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(3, pool.getCreatedCount());
+    }
+}
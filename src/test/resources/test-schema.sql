@@ -132,6 +132,9 @@ CREATE TABLE integration_sync_status (
     error_message       TEXT,
     retry_count         INTEGER DEFAULT 0,
     max_retries         INTEGER DEFAULT 3,
+    next_attempt_at     TIMESTAMP,          -- Próxima entrega pela fila de integração (outbox)
+    claimed_at          TIMESTAMP,          -- Momento em que um worker reservou a linha
+    claim_token         VARCHAR(36),        -- Identifica o lote que reservou a linha
     created_at          TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at          TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     
@@ -155,6 +158,7 @@ CREATE INDEX idx_integration_sync_card_id ON integration_sync_status(card_id);
 CREATE INDEX idx_integration_sync_type ON integration_sync_status(integration_type);
 CREATE INDEX idx_integration_sync_status ON integration_sync_status(sync_status);
 CREATE INDEX idx_integration_sync_last_sync ON integration_sync_status(last_sync_date);
+CREATE INDEX idx_integration_sync_outbox ON integration_sync_status(sync_status, next_attempt_at);
 
 -- Dados de exemplo para testes
 -- Inserir um board de exemplo